@@ -0,0 +1,67 @@
+package seedu.tarence.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+import seedu.tarence.storage.JsonAdaptedModule;
+
+/**
+ * Benchmarks the Json round trip of a module holding a single large tutorial, as done for every changed module when
+ * saving the data file and the undo states.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonUtilBenchmark {
+
+    @Param({"200", "2000"})
+    public int studentCount;
+
+    private Module module;
+    private String json;
+
+    /**
+     * Builds the module, and the Json it is read back from.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        module = new SyntheticDataGenerator().withModules(1).withTutorialsPerModule(1)
+                .withStudentsPerTutorial(studentCount).generate().getModuleList().get(0);
+        json = JsonUtil.toJsonString(new JsonAdaptedModule(module));
+    }
+
+    @Benchmark
+    public String toJsonString() throws Exception {
+        return JsonUtil.toJsonString(new JsonAdaptedModule(module));
+    }
+
+    @Benchmark
+    public Module fromJsonString() throws Exception {
+        return JsonUtil.fromJsonString(json, JsonAdaptedModule.class).toModelTypeWithoutSemesterStart();
+    }
+
+    /**
+     * Writes the module as Json and reads it back into the model.
+     */
+    @Benchmark
+    public Module roundTrip() throws Exception {
+        String moduleJson = JsonUtil.toJsonString(new JsonAdaptedModule(module));
+        return JsonUtil.fromJsonString(moduleJson, JsonAdaptedModule.class).toModelTypeWithoutSemesterStart();
+    }
+}
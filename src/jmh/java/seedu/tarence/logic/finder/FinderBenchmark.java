@@ -0,0 +1,85 @@
+package seedu.tarence.logic.finder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.UserPrefs;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks the searches behind autocorrect and autocomplete, which run over every student, tutorial or module of
+ * the application on each use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FinderBenchmark {
+
+    @Param({"5", "50"})
+    public int moduleCount;
+
+    private Finder finder;
+    private Name misspeltName;
+
+    /**
+     * Builds the application the finder searches.
+     */
+    @Setup
+    public void setUp() {
+        finder = new Finder(new ModelManager(new SyntheticDataGenerator().withModules(moduleCount).generate(),
+                new UserPrefs()));
+        misspeltName = new Name("Bernise Yu");
+    }
+
+    @Benchmark
+    public List<Name> findSimilarNames() throws Exception {
+        return finder.findSimilarNames(misspeltName);
+    }
+
+    @Benchmark
+    public List<String> autocompleteEmail() {
+        return finder.autocompleteEmail("e00001");
+    }
+
+    @Benchmark
+    public List<String> autocompleteMatNo() {
+        return finder.autocompleteMatNo("A00001");
+    }
+
+    @Benchmark
+    public List<String> autocompleteModCode() {
+        return finder.autocompleteModCode("CS1");
+    }
+
+    @Benchmark
+    public List<String> autocompleteName() {
+        return finder.autocompleteName("Ber");
+    }
+
+    @Benchmark
+    public List<String> autocompleteNusId() {
+        return finder.autocompleteNusId("e00001");
+    }
+
+    @Benchmark
+    public List<String> autocompleteTutName() {
+        return finder.autocompleteTutName("T0");
+    }
+}
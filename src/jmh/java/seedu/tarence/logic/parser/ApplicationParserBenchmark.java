@@ -0,0 +1,54 @@
+package seedu.tarence.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.logic.commands.Command;
+
+/**
+ * Benchmarks parsing the commands that are entered most often.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApplicationParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.of(
+            "addStudent", "addStudent tn/Lab 1 m/CS1010 n/John Doe e/johnd@example.com mat/A1234567A nusid/e0123456",
+            "addTutorial", "addTutorial tn/Lab 01 m/PC1431 d/MONDAY st/1200 w/7,10,12 dur/120",
+            "markAttendance", "markAttendance n/John Doe tn/Lab 1 m/CS1010 w/5",
+            "markAttendanceByIndex", "markAttendance i/1 w/5",
+            "find", "find alice bob charlie");
+
+    @Param({"addStudent", "addTutorial", "markAttendance", "markAttendanceByIndex", "find"})
+    public String command;
+
+    private ApplicationParser parser;
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        parser = new ApplicationParser();
+        userInput = COMMANDS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws Exception {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.tarence.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.module.UniqueModuleList;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.UniqueTutorialList;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Compares resolving modules and tutorials through the indexes of {@code UniqueModuleList} and
+ * {@code UniqueTutorialList} with scanning their lists, as was done before the indexes were added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListLookupBenchmark {
+
+    private static final int TUTORIALS_PER_MODULE = 10;
+
+    @Param({"50", "500", "5000"})
+    public int tutorialCount;
+
+    private List<Module> moduleList;
+    private List<Tutorial> tutorialList;
+    private UniqueModuleList modules;
+    private UniqueTutorialList tutorials;
+
+    /**
+     * Builds the modules and tutorials, without students as the lookups do not depend on them.
+     */
+    @Setup
+    public void setUp() {
+        Application application = new SyntheticDataGenerator()
+                .withModules((tutorialCount + TUTORIALS_PER_MODULE - 1) / TUTORIALS_PER_MODULE)
+                .withTutorialsPerModule(TUTORIALS_PER_MODULE)
+                .withStudentsPerTutorial(0).generate();
+        moduleList = new ArrayList<>(application.getModuleList());
+        tutorialList = new ArrayList<>(application.getTutorialList());
+        modules = new UniqueModuleList();
+        modules.setModules(moduleList);
+        tutorials = new UniqueTutorialList();
+        tutorials.setTutorials(tutorialList);
+    }
+
+    /**
+     * Loads the modules and tutorials into their indexed lists, which checks them for duplicates.
+     */
+    @Benchmark
+    public UniqueTutorialList loadIndexed() {
+        UniqueModuleList loadedModules = new UniqueModuleList();
+        loadedModules.setModules(moduleList);
+        UniqueTutorialList loadedTutorials = new UniqueTutorialList();
+        loadedTutorials.setTutorials(tutorialList);
+        return loadedTutorials;
+    }
+
+    /**
+     * Checks the modules and tutorials for duplicates by comparing every pair of them.
+     */
+    @Benchmark
+    public boolean loadScanned() {
+        return scanForDuplicateModules(moduleList) | scanForDuplicateTutorials(tutorialList);
+    }
+
+    /**
+     * Resolves every tutorial and its module by their codes and names through the indexes, as a command would.
+     */
+    @Benchmark
+    public int resolveIndexed() {
+        int resolved = 0;
+        for (Tutorial tutorial : tutorialList) {
+            modules.getModuleByCode(tutorial.getModCode()).get();
+            tutorials.getTutorial(tutorial.getModCode(), tutorial.getTutName()).get();
+            resolved++;
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves every tutorial and its module by their codes and names by scanning the lists.
+     */
+    @Benchmark
+    public int resolveScanned() {
+        int resolved = 0;
+        for (Tutorial tutorial : tutorialList) {
+            scanForModule(modules, tutorial.getModCode()).get();
+            scanForTutorial(tutorials, tutorial.getModCode(), tutorial.getTutName()).get();
+            resolved++;
+        }
+        return resolved;
+    }
+
+    private static Optional<Module> scanForModule(UniqueModuleList modules, ModCode modCode) {
+        return modules.asUnmodifiableObservableList().stream()
+                .filter(module -> module.getModCode().equals(modCode)).findFirst();
+    }
+
+    private static Optional<Tutorial> scanForTutorial(UniqueTutorialList tutorials, ModCode modCode,
+            TutName tutName) {
+        return tutorials.asUnmodifiableObservableList().stream()
+                .filter(tutorial -> tutorial.getModCode().equals(modCode) && tutorial.getTutName().equals(tutName))
+                .findFirst();
+    }
+
+    private static boolean scanForDuplicateModules(List<Module> modules) {
+        for (int i = 0; i < modules.size() - 1; i++) {
+            for (int j = i + 1; j < modules.size(); j++) {
+                if (modules.get(i).isSameModule(modules.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean scanForDuplicateTutorials(List<Tutorial> tutorials) {
+        for (int i = 0; i < tutorials.size() - 1; i++) {
+            for (int j = i + 1; j < tutorials.size(); j++) {
+                if (tutorials.get(i).isSameTutorial(tutorials.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
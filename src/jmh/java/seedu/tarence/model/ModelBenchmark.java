@@ -0,0 +1,115 @@
+package seedu.tarence.model;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.Event;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks the model operations that commands run on every student of an application or a tutorial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelBenchmark {
+
+    private static final long WEEK_IN_MILLIS = 7L * 24 * 60 * 60 * 1000;
+
+    @Param({"5", "50"})
+    public int moduleCount;
+
+    @Param({"20", "200"})
+    public int studentsPerTutorial;
+
+    private Application application;
+    private List<Student> students;
+    private Tutorial tutorial;
+    private Week week;
+    private Assignment assignment;
+    private boolean isPresent;
+
+    /**
+     * Builds the application, and picks the tutorial the tutorial benchmarks run on.
+     */
+    @Setup
+    public void setUp() {
+        application = new SyntheticDataGenerator().withModules(moduleCount)
+                .withStudentsPerTutorial(studentsPerTutorial).generate();
+        students = List.copyOf(application.getStudentList());
+        tutorial = application.getTutorialList().get(0);
+        week = tutorial.getTimeTable().getWeeks().iterator().next();
+        Date assignmentStart = new Date(SyntheticDataGenerator.SEMESTER_START.getTime() + 12 * WEEK_IN_MILLIS);
+        assignment = new Assignment("Benchmark assignment", 10, assignmentStart,
+                new Date(assignmentStart.getTime() + WEEK_IN_MILLIS));
+        Module.setSemStart(SyntheticDataGenerator.SEMESTER_START);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Module.setSemStart(null);
+    }
+
+    /**
+     * Replaces all the students of the application with the same students.
+     */
+    @Benchmark
+    public Application setStudents() {
+        application.setStudents(students);
+        return application;
+    }
+
+    /**
+     * Marks every student of a tutorial for a week, alternating between present and absent on each invocation.
+     */
+    @Benchmark
+    public Attendance setAttendance() {
+        isPresent = !isPresent;
+        Attendance attendance = tutorial.getAttendance();
+        for (Student student : tutorial.getStudents()) {
+            attendance.setAttendance(week, student, isPresent);
+        }
+        return attendance;
+    }
+
+    /**
+     * Adds an assignment to a tutorial. The assignment is deleted again in the same invocation, so that it can be
+     * added on the next one.
+     */
+    @Benchmark
+    public boolean addAssignment() {
+        tutorial.addAssignment(assignment);
+        return tutorial.deleteAssignment(assignment);
+    }
+
+    /**
+     * Returns the event log of a tutorial, which checks it for the tutorial sessions of the semester.
+     */
+    @Benchmark
+    public List<Event> getEventLog() {
+        return tutorial.getEventLog();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.tarence.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Compares writing and reading an application in Json, as saved by {@code JsonUtil.saveJsonFile}, and in the binary
+ * format of {@code BinaryApplicationCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BinaryFormatBenchmark {
+
+    private static final int TUTORIALS_PER_MODULE = 10;
+
+    @Param({"50", "500", "5000"})
+    public int tutorialCount;
+
+    private Path dataFolder;
+    private Path jsonPath;
+    private Path binaryPath;
+    private Application application;
+
+    /**
+     * Builds the application, and saves it in both formats, in a folder of its own, for the read benchmarks.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = Files.createTempDirectory("binary-format-benchmark");
+        jsonPath = dataFolder.resolve("application.json");
+        binaryPath = dataFolder.resolve("application.bin");
+        application = new SyntheticDataGenerator()
+                .withModules((tutorialCount + TUTORIALS_PER_MODULE - 1) / TUTORIALS_PER_MODULE)
+                .withTutorialsPerModule(TUTORIALS_PER_MODULE).generate();
+        writeJson();
+        writeBinary();
+    }
+
+    /**
+     * Deletes the folder of the saved files.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(dataFolder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Saves the application in Json.
+     */
+    @Benchmark
+    public Path writeJson() throws Exception {
+        JsonUtil.saveJsonFile(new JsonSerializableApplication(application), jsonPath);
+        return jsonPath;
+    }
+
+    /**
+     * Saves the application in the binary format.
+     */
+    @Benchmark
+    public Path writeBinary() throws Exception {
+        return Files.write(binaryPath, BinaryApplicationCodec.writeApplication(application));
+    }
+
+    /**
+     * Reads the application from Json.
+     */
+    @Benchmark
+    public Application readJson() throws Exception {
+        return JsonUtil.readJsonFile(jsonPath, JsonSerializableApplication.class).get().toModelType();
+    }
+
+    /**
+     * Reads the application from the binary format.
+     */
+    @Benchmark
+    public Application readBinary() throws Exception {
+        return BinaryApplicationCodec.readApplication(Files.readAllBytes(binaryPath));
+    }
+}
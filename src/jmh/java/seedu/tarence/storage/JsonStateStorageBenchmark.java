@@ -0,0 +1,99 @@
+package seedu.tarence.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.Application;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks saving the undo state after a command has changed a single tutorial of the application, as is done
+ * after every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonStateStorageBenchmark {
+
+    @Param({"5", "50"})
+    public int moduleCount;
+
+    @Param({"true", "false"})
+    public boolean useBinarySnapshots;
+
+    private Path dataFolder;
+    private Application application;
+    private JsonStateStorage stateStorage;
+    private int invocation;
+
+    /**
+     * Builds the application and the state storage, in a folder of its own.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = Files.createTempDirectory("state-storage-benchmark");
+        application = new SyntheticDataGenerator().withModules(moduleCount).generate();
+        stateStorage = new JsonStateStorage(dataFolder.toString(), "states", JsonStateStorage.DEFAULT_MEMORY_LIMIT,
+                useBinarySnapshots);
+    }
+
+    /**
+     * Starts every iteration from the first state, so that each iteration saves the same number of states.
+     */
+    @Setup(Level.Iteration)
+    public void saveFirstState() throws Exception {
+        stateStorage.saveFirstState(application);
+    }
+
+    @TearDown(Level.Iteration)
+    public void waitForPendingSpills() {
+        stateStorage.waitForPendingSpills();
+    }
+
+    /**
+     * Deletes the folder of the state storage.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(dataFolder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Toggles the attendance of a student in one tutorial, and saves the state of the application.
+     * Each invocation changes the next tutorial, so that the saved states differ in a different module each time.
+     */
+    @Benchmark
+    public JsonStateStorage saveApplicationState() {
+        Tutorial tutorial = application.getTutorialList().get(invocation++ % application.getTutorialList().size());
+        Student student = tutorial.getStudents().get(0);
+        Week week = tutorial.getTimeTable().getWeeks().iterator().next();
+        tutorial.setAttendance(week, student);
+        stateStorage.saveApplicationState(application);
+        return stateStorage;
+    }
+}
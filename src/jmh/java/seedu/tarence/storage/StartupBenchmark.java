@@ -0,0 +1,102 @@
+package seedu.tarence.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.UserPrefs;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks starting up from a data file, from reading the file until the {@code ModelManager} is ready. The
+ * conversion of the modules into the model is also benchmarked on its own, both one module after another and in
+ * parallel as at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StartupBenchmark {
+
+    private static final int TUTORIALS_PER_MODULE = 10;
+
+    @Param({"50", "500", "5000"})
+    public int tutorialCount;
+
+    private Path dataFolder;
+    private JsonApplicationStorage storage;
+    private JsonSerializableApplication data;
+
+    /**
+     * Saves the application to a data file in a folder of its own, and reads it back for the conversion benchmarks.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = Files.createTempDirectory("startup-benchmark");
+        storage = new JsonApplicationStorage(dataFolder.resolve("application.json"));
+        storage.saveApplication(new SyntheticDataGenerator()
+                .withModules((tutorialCount + TUTORIALS_PER_MODULE - 1) / TUTORIALS_PER_MODULE)
+                .withTutorialsPerModule(TUTORIALS_PER_MODULE).generate());
+        data = new JsonSerializableApplication(storage.readApplication().get());
+    }
+
+    /**
+     * Deletes the folder of the data file.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(dataFolder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Reads the data file and builds the model from it, as at startup.
+     */
+    @Benchmark
+    public ModelManager startup() throws Exception {
+        return new ModelManager(storage.readApplication().get(), new UserPrefs());
+    }
+
+    /**
+     * Converts the modules of the data file into the model one after another.
+     */
+    @Benchmark
+    public List<Module> convertSequentially() throws Exception {
+        List<Module> modules = new ArrayList<>();
+        for (JsonAdaptedModule module : data.getJsonAdaptedModules()) {
+            modules.add(module.toModelType());
+        }
+        return modules;
+    }
+
+    /**
+     * Converts the modules of the data file into the model in parallel, and merges them into an application.
+     */
+    @Benchmark
+    public Application convertInParallel() throws Exception {
+        return data.toModelType();
+    }
+}
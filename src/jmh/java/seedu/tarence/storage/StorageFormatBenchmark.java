@@ -0,0 +1,114 @@
+package seedu.tarence.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+
+/**
+ * Compares writing and reading the tutorials of every module in the legacy string-encoded format and in the format
+ * of {@code JsonTutorialCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StorageFormatBenchmark {
+
+    private static final int TUTORIALS_PER_MODULE = 10;
+
+    @Param({"50", "500", "5000"})
+    public int tutorialCount;
+
+    private List<Module> modules;
+    private List<LinkedHashMap<String, LinkedHashMap<String, String>>> legacyModules;
+    private List<String> currentModules;
+
+    /**
+     * Builds the application, and encodes its modules in both formats for the read benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        Application application = new SyntheticDataGenerator()
+                .withModules((tutorialCount + TUTORIALS_PER_MODULE - 1) / TUTORIALS_PER_MODULE)
+                .withTutorialsPerModule(TUTORIALS_PER_MODULE).generate();
+        modules = new ArrayList<>(application.getModuleList());
+        legacyModules = new ArrayList<>();
+        currentModules = new ArrayList<>();
+        for (Module module : modules) {
+            legacyModules.add(JsonUtil.moduleToHashMap(module));
+            currentModules.add(JsonTutorialCodec.writeTutorials(module.getTutorials()));
+        }
+    }
+
+    /**
+     * Encodes the tutorials of every module in the legacy format.
+     */
+    @Benchmark
+    public List<LinkedHashMap<String, LinkedHashMap<String, String>>> writeLegacy() {
+        List<LinkedHashMap<String, LinkedHashMap<String, String>>> encoded = new ArrayList<>();
+        for (Module module : modules) {
+            encoded.add(JsonUtil.moduleToHashMap(module));
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes the tutorials of every module with {@code JsonTutorialCodec}.
+     */
+    @Benchmark
+    public List<String> writeCurrent() {
+        List<String> encoded = new ArrayList<>();
+        for (Module module : modules) {
+            encoded.add(JsonTutorialCodec.writeTutorials(module.getTutorials()));
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes the tutorials of every module from the legacy format.
+     */
+    @Benchmark
+    public List<Tutorial> readLegacy() throws IllegalValueException {
+        List<Tutorial> tutorials = new ArrayList<>();
+        for (LinkedHashMap<String, LinkedHashMap<String, String>> tutorialMap : legacyModules) {
+            for (LinkedHashMap<String, String> singleTutorialMap : tutorialMap.values()) {
+                tutorials.add(JsonUtil.tutorialMapToTutorial(singleTutorialMap));
+            }
+        }
+        return tutorials;
+    }
+
+    /**
+     * Decodes the tutorials of every module with {@code JsonTutorialCodec}.
+     */
+    @Benchmark
+    public List<Tutorial> readCurrent() throws IllegalValueException {
+        List<Tutorial> tutorials = new ArrayList<>();
+        for (String tutorialsJson : currentModules) {
+            tutorials.addAll(JsonTutorialCodec.readTutorials(tutorialsJson));
+        }
+        return tutorials;
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.tarence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.tarence.commons.core.Config;
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.commons.exceptions.DataConversionException;
+import seedu.tarence.commons.util.ConfigUtil;
+import seedu.tarence.commons.util.StringUtil;
+import seedu.tarence.logic.Logic;
+import seedu.tarence.logic.LogicManager;
+import seedu.tarence.logic.commands.ExportAllAttendanceCommand;
+import seedu.tarence.logic.parser.NusModsParser;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.ReadOnlyUserPrefs;
+import seedu.tarence.model.UserPrefs;
+import seedu.tarence.model.util.SampleDataUtil;
+import seedu.tarence.storage.ApplicationStorage;
+import seedu.tarence.storage.BinaryApplicationCache;
+import seedu.tarence.storage.JsonApplicationStorage;
+import seedu.tarence.storage.JsonStateStorage;
+import seedu.tarence.storage.JsonUserPrefsStorage;
+import seedu.tarence.storage.Storage;
+import seedu.tarence.storage.StorageManager;
+import seedu.tarence.storage.UserPrefsStorage;
+import seedu.tarence.storage.WriteBehindApplicationSaver;
+
+/**
+ * The config, storage, model and logic of the application, which are shared by the GUI and the headless script
+ * runner. Nothing here loads the JavaFX toolkit, so that scripts can be run where there is no display.
+ */
+public class AppCore {
+
+    private static final String DATA_FOLDER_NAME = "data";
+    private static final String STATE_FOLDER_NAME = "state";
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final WriteBehindApplicationSaver applicationSaver;
+    private final BinaryApplicationCache applicationCache;
+
+    /**
+     * Reads the config, the user prefs and the data file, and creates the logic that runs commands on them.
+     *
+     * @param configFilePath Path of the config file, or null to use the default one.
+     * @param isSavingDeferred Whether the data file is only saved when the logic flushes its saves or the core is
+     *     stopped, instead of once no command has changed it for the configured delay.
+     */
+    public AppCore(Path configFilePath, boolean isSavingDeferred) {
+        NusModsParser.startLoading();
+
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        ApplicationStorage applicationStorage = new JsonApplicationStorage(userPrefs.getApplicationFilePath());
+        // Creates a JsonStateStorage class for Undo.
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(DATA_FOLDER_NAME, STATE_FOLDER_NAME,
+                config.getUndoMemoryLimitInMegabytes() * 1024L * 1024L);
+
+        storage = new StorageManager(applicationStorage, userPrefsStorage, jsonStateStorage);
+
+        initLogging(config);
+
+        applicationCache = new BinaryApplicationCache(storage.getApplicationFilePath());
+        model = initModelManager(storage, userPrefs);
+
+        // Saves the data file in the background, once no command has changed it for the configured delay
+        long saveDelayInMilliseconds = isSavingDeferred ? Long.MAX_VALUE : config.getSaveDelayInMilliseconds();
+        applicationSaver = new WriteBehindApplicationSaver(storage.getApplicationFilePath(), saveDelayInMilliseconds);
+        logic = new LogicManager(model, storage, applicationSaver);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s class list and {@code userPrefs}. <br>
+     * The class list is read from its binary cache if the cache is up to date with the data file. Otherwise, it is
+     * read from its latest checkpoint, with the changes logged since replayed on top of it. <br>
+     * The data from the sample class list will be used instead if {@code storage}'s class list is not found,
+     * or an empty class list will be used instead if errors occur when reading {@code storage}'s class list.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<Application> cachedApplication = applicationCache.read();
+        if (cachedApplication.isPresent()) {
+            logger.info("Read class list from cache " + applicationCache.getCachePath());
+            // Recorded as the first undo state, as storage does when the class list is read from the data file
+            try {
+                storage.saveFirstState(cachedApplication.get());
+            } catch (IOException e) {
+                logger.warning("Problem while recording the first undo state " + StringUtil.getDetails(e));
+            }
+            return new ModelManager(cachedApplication.get(), userPrefs);
+        }
+
+        Optional<ReadOnlyApplication> applicationOptional;
+        ReadOnlyApplication initialData;
+        try {
+            applicationOptional = storage.readApplication();
+            if (!applicationOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting the application with sample data");
+            }
+            initialData = applicationOptional.orElseGet(SampleDataUtil::getSampleApplication);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty module list");
+            initialData = new Application();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty module list");
+            initialData = new Application();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty class list");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Waits for any attendance being exported, saves the data file and the user prefs, caches the class list and
+     * clears the undo states.
+     *
+     * @return true if the data file was saved.
+     */
+    public boolean stop() {
+        ExportAllAttendanceCommand.waitForPendingExports();
+        boolean isDataFileSaved = false;
+        try {
+            applicationSaver.close();
+            isDataFileSaved = true;
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+        // Only cached once the data file is up to date, as the cache is checked against it on the next start
+        if (isDataFileSaved) {
+            try {
+                applicationCache.write(model.getApplication());
+            } catch (IOException e) {
+                logger.warning("Failed to write cache of data file " + StringUtil.getDetails(e));
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+            storage.clearStateFolder();
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        return isDataFileSaved;
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.tarence;
 
+import static seedu.tarence.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +12,27 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.tarence.commons.core.LogsCenter;
 import seedu.tarence.commons.util.FileUtil;
+import seedu.tarence.model.util.SyntheticDataGenerator;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ * Besides the config path, the undocumented {@code --generate-data=FILE} parameter asks for a data file of synthetic
+ * data to be written for load testing, sized by {@code --modules}, {@code --tutorials} (per module),
+ * {@code --students} (per tutorial) and generated from {@code --seed}.
+ * The {@code --script=FILE} parameter asks for the commands in the file, or in the standard input if the file is
+ * {@code -}, to be run without the GUI, saving the data file every {@code --checkpoint} commands or only at the end.
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path generatedDataPath;
+    private Path scriptPath;
+    private int checkpointInterval;
+    private long generatedDataSeed = SyntheticDataGenerator.DEFAULT_SEED;
+    private int generatedModuleCount = SyntheticDataGenerator.DEFAULT_MODULE_COUNT;
+    private int generatedTutorialsPerModule = SyntheticDataGenerator.DEFAULT_TUTORIALS_PER_MODULE;
+    private int generatedStudentsPerTutorial = SyntheticDataGenerator.DEFAULT_STUDENTS_PER_TUTORIAL;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +42,74 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getGeneratedDataPath() {
+        return generatedDataPath;
+    }
+
+    public void setGeneratedDataPath(Path generatedDataPath) {
+        this.generatedDataPath = generatedDataPath;
+    }
+
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns a generator of the synthetic data asked for by the parameters.
+     */
+    public SyntheticDataGenerator getDataGenerator() {
+        return new SyntheticDataGenerator().withSeed(generatedDataSeed)
+                .withModules(generatedModuleCount)
+                .withTutorialsPerModule(generatedTutorialsPerModule)
+                .withStudentsPerTutorial(generatedStudentsPerTutorial);
+    }
+
+    public void setGeneratedDataSeed(long generatedDataSeed) {
+        this.generatedDataSeed = generatedDataSeed;
+    }
+
+    public void setGeneratedDataSizes(int moduleCount, int tutorialsPerModule, int studentsPerTutorial) {
+        this.generatedModuleCount = moduleCount;
+        this.generatedTutorialsPerModule = tutorialsPerModule;
+        this.generatedStudentsPerTutorial = studentsPerTutorial;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before the application is launched.
+     * Named parameters are given in the form {@code --name=value}, as for {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +118,50 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String generatedDataPathParameter = namedParameters.get("generate-data");
+        if (generatedDataPathParameter != null && !FileUtil.isValidPath(generatedDataPathParameter)) {
+            logger.warning("Invalid path " + generatedDataPathParameter + " to generate data to. No data generated.");
+            generatedDataPathParameter = null;
+        }
+        appParameters.setGeneratedDataPath(generatedDataPathParameter != null
+                ? Paths.get(generatedDataPathParameter)
+                : null);
+        appParameters.setGeneratedDataSeed(parseCount(namedParameters, "seed", SyntheticDataGenerator.DEFAULT_SEED));
+        appParameters.setGeneratedDataSizes(
+                (int) parseCount(namedParameters, "modules", SyntheticDataGenerator.DEFAULT_MODULE_COUNT),
+                (int) parseCount(namedParameters, "tutorials", SyntheticDataGenerator.DEFAULT_TUTORIALS_PER_MODULE),
+                (int) parseCount(namedParameters, "students", SyntheticDataGenerator.DEFAULT_STUDENTS_PER_TUTORIAL));
+
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setCheckpointInterval((int) parseCount(namedParameters, "checkpoint", 0));
+
         return appParameters;
     }
 
+    /**
+     * Returns the non-negative number given as the named parameter, or {@code defaultValue} if it is not given or is
+     * not such a number.
+     */
+    private static long parseCount(Map<String, String> namedParameters, String name, long defaultValue) {
+        String parameter = namedParameters.get(name);
+        if (parameter == null) {
+            return defaultValue;
+        }
+        try {
+            long value = Long.parseLong(parameter.trim());
+            checkArgument(value >= 0 && value <= Integer.MAX_VALUE);
+            return value;
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid " + name + " " + parameter + ". Using " + defaultValue + " instead.");
+            return defaultValue;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,7 +173,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getGeneratedDataPath(), otherAppParameters.getGeneratedDataPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && checkpointInterval == otherAppParameters.checkpointInterval
+                && generatedDataSeed == otherAppParameters.generatedDataSeed
+                && generatedModuleCount == otherAppParameters.generatedModuleCount
+                && generatedTutorialsPerModule == otherAppParameters.generatedTutorialsPerModule
+                && generatedStudentsPerTutorial == otherAppParameters.generatedStudentsPerTutorial;
     }
 
     @Override
@@ -0,0 +1,65 @@
+package seedu.tarence;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.logic.ScriptRunner;
+
+/**
+ * Runs a script of commands on the data file without the GUI, e.g. to load data in bulk or to time commands on a
+ * large data file. The JavaFX toolkit is never started, so scripts can be run where there is no display.
+ *
+ * Usage: {@code java -cp TArence.jar seedu.tarence.HeadlessMain [--script=FILE] [--checkpoint=N] [--config=FILE]},
+ * or {@code java -jar TArence.jar --script=FILE ...}. The script is read from the standard input if no file or
+ * {@code -} is given. The data file is saved once all the commands have been run, and also every {@code N} commands
+ * if a checkpoint interval is given. The result of each command is printed to the standard output, followed by a
+ * summary of the latencies of the commands.
+ */
+public class HeadlessMain {
+
+    public static final String STANDARD_INPUT = "-";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        System.exit(runScript(AppParameters.parse(args)));
+    }
+
+    /**
+     * Runs the script given by the parameters, and saves the data file once it ends, even if it ends with an error.
+     *
+     * @return the exit status of the application, which is 0 only if every command succeeded and the data file
+     *     was saved.
+     */
+    public static int runScript(AppParameters appParameters) {
+        logger.info("=============================[ Running T.A.rence script ]==========================");
+        AppCore core = new AppCore(appParameters.getConfigPath(), true);
+        ScriptRunner scriptRunner = new ScriptRunner(core.getLogic(), appParameters.getCheckpointInterval());
+
+        boolean isSuccessful = false;
+        try (BufferedReader script = openScript(appParameters.getScriptPath())) {
+            isSuccessful = scriptRunner.run(script, System.out);
+        } catch (IOException e) {
+            logger.severe("Unable to read script " + appParameters.getScriptPath() + ": " + e.getMessage());
+        } finally {
+            // Saving is deferred until the core is stopped, so it is stopped even if the script ends with an error
+            logger.info("============================ [ Stopping T.A.rence ] =============================");
+            isSuccessful &= core.stop();
+            System.out.println(scriptRunner.getLatencySummary());
+        }
+        return isSuccessful ? 0 : 1;
+    }
+
+    private static BufferedReader openScript(Path scriptPath) throws IOException {
+        if (scriptPath == null || scriptPath.toString().equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,16 @@
 package seedu.tarence;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
 import javafx.application.Application;
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.util.SyntheticDataGenerator;
+import seedu.tarence.storage.JsonApplicationStorage;
 
 /**
  * The main entry point to the application.
@@ -19,7 +29,41 @@ import javafx.application.Application;
  * to be the entry point of the application, we avoid this issue.
  */
 public class Main {
+    private static final Logger logger = LogsCenter.getLogger(Main.class);
+
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getGeneratedDataPath() != null) {
+            System.exit(generateDataFile(appParameters.getGeneratedDataPath(), appParameters.getDataGenerator()));
+        }
+        if (appParameters.getScriptPath() != null) {
+            System.exit(HeadlessMain.runScript(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Writes a data file of synthetic data to the given path, without launching the application.
+     * An existing file is never overwritten, so that real data cannot be lost.
+     *
+     * @return the exit status of the application.
+     */
+    private static int generateDataFile(Path filePath, SyntheticDataGenerator generator) {
+        if (Files.exists(filePath)) {
+            logger.severe("Data file " + filePath + " already exists. No data generated.");
+            return 1;
+        }
+        ReadOnlyApplication application = generator.generate();
+        Module.setSemStart(SyntheticDataGenerator.SEMESTER_START);
+        try {
+            new JsonApplicationStorage(filePath).saveApplication(application);
+        } catch (IOException e) {
+            logger.severe("Unable to write data file " + filePath + ": " + e.getMessage());
+            return 1;
+        }
+        logger.info(String.format("Generated %d modules, %d tutorials and %d students in data file %s",
+                application.getModuleList().size(), application.getTutorialList().size(),
+                application.getStudentList().size(), filePath));
+        return 0;
+    }
 }
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoMemoryLimitInMegabytes = 64;
+    private long saveDelayInMilliseconds = 200;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoMemoryLimitInMegabytes() {
+        return undoMemoryLimitInMegabytes;
+    }
+
+    public void setUndoMemoryLimitInMegabytes(int undoMemoryLimitInMegabytes) {
+        this.undoMemoryLimitInMegabytes = undoMemoryLimitInMegabytes;
+    }
+
+    public long getSaveDelayInMilliseconds() {
+        return saveDelayInMilliseconds;
+    }
+
+    public void setSaveDelayInMilliseconds(long saveDelayInMilliseconds) {
+        this.saveDelayInMilliseconds = saveDelayInMilliseconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoMemoryLimitInMegabytes == o.undoMemoryLimitInMegabytes
+                && saveDelayInMilliseconds == o.saveDelayInMilliseconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoMemoryLimitInMegabytes, saveDelayInMilliseconds);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package seedu.tarence.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.tarence.commons.core.GuiSettings;
@@ -76,4 +77,16 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Blocks until every change to the data has been saved to the data file.
+     * @throws CommandException If the data file could not be saved.
+     */
+    void flushSaves() throws CommandException;
+
+    /**
+     * Sets the handler that is given the error message whenever saving the data file, or writing the files of a
+     * command, in the background fails. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
 }
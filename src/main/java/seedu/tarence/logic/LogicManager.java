@@ -2,9 +2,16 @@ package seedu.tarence.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -25,9 +32,13 @@ import seedu.tarence.model.student.Student;
 import seedu.tarence.model.tutorial.Assignment;
 import seedu.tarence.model.tutorial.Tutorial;
 import seedu.tarence.storage.Storage;
+import seedu.tarence.storage.WriteBehindApplicationSaver;
 
 /**
  * The main LogicManager of the app.
+ * The commands chained with {@code +} in one input are executed as a single transaction: the undo state is recorded
+ * and the data file saved once after all of them have been executed, and if any of them fails, the commands executed
+ * before it are rolled back to the latest undo state.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
@@ -35,11 +46,29 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final Optional<WriteBehindApplicationSaver> applicationSaver;
     private final ApplicationParser applicationParser;
+    private volatile Consumer<String> failureHandler = message -> { };
 
+    /**
+     * Creates a {@code LogicManager} that saves the data file through {@code storage} before returning the result of
+     * each input.
+     */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.applicationSaver = Optional.empty();
+        applicationParser = new ApplicationParser();
+    }
+
+    /**
+     * Creates a {@code LogicManager} that saves the data file in the background through {@code applicationSaver},
+     * and only waits for the data file to be saved when exiting.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindApplicationSaver applicationSaver) {
+        this.model = model;
+        this.storage = storage;
+        this.applicationSaver = Optional.of(applicationSaver);
         applicationParser = new ApplicationParser();
     }
 
@@ -59,72 +88,90 @@ public class LogicManager implements Logic {
         Optional<DisplayFormat> displayFormat = Optional.empty();
         Optional<List<Assignment>> assignmentsToDisplay = Optional.empty();
 
-        // processes multiple commands in user input if they exist
-        String[] commandStrings = commandText.split("\\+");
+        // processes multiple commands in user input if they exist, parsing all of them before executing any
+        List<Command> chainedCommands = new ArrayList<>();
+        for (String commandString : commandText.split("\\+")) {
+            chainedCommands.add(applicationParser.parseCommand(commandString));
+        }
         // pushes commands from back to front on top of the pending commands stack
-        for (int i = commandStrings.length - 1; i >= 0; i--) {
-            Command tempCommand = applicationParser.parseCommand(commandStrings[i]);
-            model.storePendingCommand(tempCommand);
+        for (int i = chainedCommands.size() - 1; i >= 0; i--) {
+            model.storePendingCommand(chainedCommands.get(i));
         }
 
         StringBuffer combinedFeedback = new StringBuffer();
-        // clears log of pending commands until it meets a command that requires further user input
-        while (model.hasPendingCommand() && !model.peekPendingCommand().needsInput()) {
-            command = model.getPendingCommand(); // first user-inputted command
-
-            // if next command requires user input, checks if current command is relevant
-            if (model.hasPendingCommand()
-                    && model.peekPendingCommand().needsInput()
-                    && !model.peekPendingCommand().needsCommand(command)) {
-                model.getPendingCommand(); // clear any pending commands if user has entered a different command
-            }
-
-            // Undo command needs to be handled separately as involves calling Storage object.
-            CommandResult currCommandResult = null;
-            if (isUndoCommand(command)) {
-                currCommandResult = command.execute(model, storage);
-            } else {
-                currCommandResult = command.execute(model);
-            }
-
-            // concatenate all results into a single result
-            combinedFeedback.append(currCommandResult.getFeedbackToUser() + "\n");
-
-            // check for exit/help condition
-            if (currCommandResult.isExit() || currCommandResult.isShowHelp()) {
-                // this means that previous commands won't be shown if help is inside pending commands
-                // but will be executed
-                return currCommandResult;
-            }
-
-            // If attendance is to be displayed, it will be passed into the commandResult
-            if (currCommandResult.isShowAttendance()) {
-                tutorialToStore = Optional.of(currCommandResult.getTutorialAttendance());
-            }
-
-            // If tab is to be displayed, it will be passed into the commandResult
-            if (currCommandResult.isChangeTabs()) {
-                tabToDisplay = Optional.of(currCommandResult.getTabToDisplay());
-            }
-
-            // If assignment is to be displayed, it will be passed into the commandResult
-            if (currCommandResult.isAssignmentDisplay()) {
-                assignmentToDisplay = Optional.of(currCommandResult.getAssignmentToDisplay());
-                studentsScoreToDisplay = Optional.of(currCommandResult.getStudentScores());
-                displayFormat = Optional.of(currCommandResult.getAssignmentDisplayFormat());
-            }
-
-            if (currCommandResult.isAssignmentsDisplay()) {
-                logger.info("----------------[COMMAND RESULT][Displaying Assignments]");
-                assignmentsToDisplay = Optional.of(currCommandResult.getAssignmentsToDisplay());
+        CommandResult exitOrHelpResult = null;
+        long committedModificationStamp = model.getApplication().getLastModified();
+        try {
+            // clears log of pending commands until it meets a command that requires further user input
+            while (model.hasPendingCommand() && !model.peekPendingCommand().needsInput()) {
+                command = model.getPendingCommand(); // first user-inputted command
+                command.setBackgroundFailureHandler(failureHandler);
+
+                // if next command requires user input, checks if current command is relevant
+                if (model.hasPendingCommand()
+                        && model.peekPendingCommand().needsInput()
+                        && !model.peekPendingCommand().needsCommand(command)) {
+                    model.getPendingCommand(); // clear any pending commands if user has entered a different command
+                }
+
+                // Undo command needs to be handled separately as involves calling Storage object.
+                CommandResult currCommandResult = null;
+                if (isUndoCommand(command)) {
+                    // the commands before an undo in the same input are recorded as a state of their own, which the
+                    // undo can then revert to or past
+                    storage.saveApplicationState(model.getApplication());
+                    currCommandResult = command.execute(model, storage);
+                    committedModificationStamp = model.getApplication().getLastModified();
+                } else {
+                    currCommandResult = command.execute(model);
+                }
+
+                // concatenate all results into a single result
+                combinedFeedback.append(currCommandResult.getFeedbackToUser() + "\n");
+
+                // check for exit/help condition
+                if (currCommandResult.isExit() || currCommandResult.isShowHelp()) {
+                    // this means that previous commands won't be shown if help is inside pending commands
+                    // but will be executed
+                    exitOrHelpResult = currCommandResult;
+                    break;
+                }
+
+                // If attendance is to be displayed, it will be passed into the commandResult
+                if (currCommandResult.isShowAttendance()) {
+                    tutorialToStore = Optional.of(currCommandResult.getTutorialAttendance());
+                }
+
+                // If tab is to be displayed, it will be passed into the commandResult
+                if (currCommandResult.isChangeTabs()) {
+                    tabToDisplay = Optional.of(currCommandResult.getTabToDisplay());
+                }
+
+                // If assignment is to be displayed, it will be passed into the commandResult
+                if (currCommandResult.isAssignmentDisplay()) {
+                    assignmentToDisplay = Optional.of(currCommandResult.getAssignmentToDisplay());
+                    studentsScoreToDisplay = Optional.of(currCommandResult.getStudentScores());
+                    displayFormat = Optional.of(currCommandResult.getAssignmentDisplayFormat());
+                }
+
+                if (currCommandResult.isAssignmentsDisplay()) {
+                    logger.info("----------------[COMMAND RESULT][Displaying Assignments]");
+                    assignmentsToDisplay = Optional.of(currCommandResult.getAssignmentsToDisplay());
+                }
             }
+        } catch (CommandException | RuntimeException e) {
+            rollBack(chainedCommands, committedModificationStamp, e);
+            throw e;
+        }
 
-            try {
-                storage.saveApplication(model.getApplication());
-            } catch (IOException ioe) {
-                logger.info("IOException during saving - " + ioe);
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // records a single state for all the commands of the input, so that they are undone together
+        storage.saveApplicationState(model.getApplication());
+        saveApplication();
+        if (exitOrHelpResult != null) {
+            if (exitOrHelpResult.isExit()) {
+                flushSaves();
             }
+            return exitOrHelpResult;
         }
 
         // creates a new command concatenating all command result messages into a single result
@@ -144,6 +191,90 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Rolls back the commands of a failed input by reverting the model to the latest undo state, which the model was
+     * in before the input, and discards the commands of the input that have not been executed.
+     * If the model cannot be reverted, the commands executed before the failure are kept and saved instead, and a
+     * failure to save them is added to {@code failure}.
+     *
+     * @param committedModificationStamp Modification stamp of the model when it was last in the latest undo state.
+     */
+    private void rollBack(List<Command> chainedCommands, long committedModificationStamp, Exception failure) {
+        discardPendingCommands(chainedCommands);
+        if (model.getApplication().getLastModified() == committedModificationStamp) {
+            return;
+        }
+
+        try {
+            model.setModel(storage.getSpecifiedState(storage.getLatestStateIndex()));
+            logger.info("----------------[ROLLED BACK][" + chainedCommands.size() + " command(s)]");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Unable to roll back the failed input, keeping the commands executed so far: " + e);
+            try {
+                storage.saveApplicationState(model.getApplication());
+                saveApplication();
+            } catch (CommandException saveFailure) {
+                failure.addSuppressed(saveFailure);
+            }
+        }
+    }
+
+    /**
+     * Removes the given commands from the pending commands, leaving those stored above or below them, such as the
+     * suggestions stored by a failed command.
+     */
+    private void discardPendingCommands(List<Command> commands) {
+        Set<Command> commandsToDiscard = Collections.newSetFromMap(new IdentityHashMap<>());
+        commandsToDiscard.addAll(commands);
+
+        Deque<Command> commandsToKeep = new ArrayDeque<>();
+        while (model.hasPendingCommand() && !commandsToDiscard.contains(model.peekPendingCommand())) {
+            commandsToKeep.push(model.getPendingCommand());
+        }
+        while (model.hasPendingCommand() && commandsToDiscard.contains(model.peekPendingCommand())) {
+            model.getPendingCommand();
+        }
+        while (!commandsToKeep.isEmpty()) {
+            model.storePendingCommand(commandsToKeep.pop());
+        }
+    }
+
+    /**
+     * Saves the data file, or schedules it to be saved in the background if there is an {@code applicationSaver}.
+     */
+    private void saveApplication() throws CommandException {
+        if (applicationSaver.isPresent()) {
+            applicationSaver.get().save(model.getApplication());
+            return;
+        }
+        try {
+            storage.saveApplication(model.getApplication());
+        } catch (IOException ioe) {
+            logger.info("IOException during saving - " + ioe);
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    @Override
+    public void flushSaves() throws CommandException {
+        if (applicationSaver.isEmpty()) {
+            return;
+        }
+        try {
+            applicationSaver.get().flush();
+        } catch (IOException ioe) {
+            logger.info("IOException during saving - " + ioe);
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        this.failureHandler = failureHandler;
+        applicationSaver.ifPresent(saver -> saver.setFailureHandler(ioe -> failureHandler.accept(
+                FILE_OPS_ERROR_MESSAGE + ioe)));
+    }
+
     /**
      * Checks if an undo command is created. Can be expanded to include other commands that involves the Storage object.
      * @param command Command parsed from user String.
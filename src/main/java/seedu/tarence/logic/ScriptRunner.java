@@ -0,0 +1,193 @@
+package seedu.tarence.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through a {@code Logic}, one input per line, and times each of them.
+ * Blank lines and lines starting with {@code #} are skipped, and a failed input, including one that fails with an
+ * unexpected error, is reported without stopping the script. The script ends at its last line or at the first
+ * input that exits the application.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_CONSTRAINTS_CHECKPOINT = "The checkpoint interval must not be negative.";
+
+    private static final String SUMMARY_ROW_FORMAT = "%-24s %7s %7s %12s %10s %10s %10s %10s";
+    private static final String TOTAL_ROW_LABEL = "(all)";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final int checkpointInterval;
+
+    // Latencies in nanoseconds of the inputs run, by the command word the input starts with
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+    private final Map<String, Integer> failures = new LinkedHashMap<>();
+    private int inputCount;
+    private int failureCount;
+
+    /**
+     * Creates a runner that waits for the data file to be saved after every {@code checkpointInterval} inputs, or
+     * leaves saving to the {@code logic} if {@code checkpointInterval} is 0.
+     */
+    public ScriptRunner(Logic logic, int checkpointInterval) {
+        requireNonNull(logic);
+        checkArgument(checkpointInterval >= 0, MESSAGE_CONSTRAINTS_CHECKPOINT);
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs each input of the script, and prints its result or the reason it failed to {@code out}.
+     *
+     * @return true if every input succeeded.
+     * @throws IOException if the script cannot be read.
+     */
+    public boolean run(BufferedReader script, PrintStream out) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+        boolean isSuccessful = true;
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String input = line.trim();
+            if (input.isEmpty() || input.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            String commandWord = getCommandWord(input);
+            boolean isExit = false;
+            long start = System.nanoTime();
+            try {
+                CommandResult result = logic.execute(input);
+                recordLatency(commandWord, System.nanoTime() - start, false);
+                out.println(result.getFeedbackToUser().trim());
+                isExit = result.isExit();
+            } catch (CommandException | ParseException e) {
+                recordLatency(commandWord, System.nanoTime() - start, true);
+                out.println("Line " + lineNumber + ": " + e.getMessage());
+                isSuccessful = false;
+            } catch (RuntimeException e) {
+                recordLatency(commandWord, System.nanoTime() - start, true);
+                logger.warning("Unexpected error on line " + lineNumber + ": " + e);
+                out.println("Line " + lineNumber + ": Unexpected error: " + e);
+                isSuccessful = false;
+            }
+
+            if (isExit) {
+                break;
+            }
+            if (checkpointInterval > 0 && inputCount % checkpointInterval == 0) {
+                isSuccessful &= checkpoint(out);
+            }
+        }
+        return isSuccessful;
+    }
+
+    /**
+     * Waits for the inputs run so far to be saved to the data file.
+     *
+     * @return true if they were saved.
+     */
+    private boolean checkpoint(PrintStream out) {
+        try {
+            logic.flushSaves();
+            logger.fine("Saved the data file after " + inputCount + " inputs");
+            return true;
+        } catch (CommandException e) {
+            out.println("Checkpoint after " + inputCount + " inputs: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void recordLatency(String commandWord, long latencyInNanos, boolean isFailure) {
+        latencies.computeIfAbsent(commandWord, word -> new ArrayList<>()).add(latencyInNanos);
+        inputCount++;
+        if (isFailure) {
+            failures.merge(commandWord, 1, Integer::sum);
+            failureCount++;
+        }
+    }
+
+    /**
+     * Returns the command word an input starts with, which chained inputs are also counted under.
+     */
+    private static String getCommandWord(String input) {
+        return input.split("[\\s+]", 2)[0].toLowerCase();
+    }
+
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns a table of the number of inputs run and failed for each command word, with the total, mean, median,
+     * 95th percentile and maximum of their latencies, followed by the same figures for all the inputs.
+     */
+    public String getLatencySummary() {
+        StringBuilder summary = new StringBuilder(String.format(SUMMARY_ROW_FORMAT, "Command", "Count", "Failed",
+                "Total (ms)", "Mean (ms)", "p50 (ms)", "p95 (ms)", "Max (ms)"));
+        List<Long> allLatencies = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            summary.append(System.lineSeparator())
+                    .append(formatSummaryRow(entry.getKey(), entry.getValue(),
+                            failures.getOrDefault(entry.getKey(), 0)));
+            allLatencies.addAll(entry.getValue());
+        }
+        summary.append(System.lineSeparator())
+                .append(formatSummaryRow(TOTAL_ROW_LABEL, allLatencies, failureCount));
+        return summary.toString();
+    }
+
+    private static String formatSummaryRow(String label, List<Long> latenciesInNanos, int failureCount) {
+        List<Long> sortedLatencies = new ArrayList<>(latenciesInNanos);
+        Collections.sort(sortedLatencies);
+        long total = 0;
+        for (long latency : sortedLatencies) {
+            total += latency;
+        }
+        double mean = sortedLatencies.isEmpty() ? 0 : (double) total / sortedLatencies.size();
+        return String.format(SUMMARY_ROW_FORMAT, label, sortedLatencies.size(), failureCount,
+                formatMillis(total), formatMillis(mean), formatMillis(getPercentile(sortedLatencies, 50)),
+                formatMillis(getPercentile(sortedLatencies, 95)), formatMillis(getPercentile(sortedLatencies, 100)));
+    }
+
+    /**
+     * Returns the smallest of the sorted latencies that is at least as large as the given percentage of them, or 0
+     * if there are none.
+     */
+    static long getPercentile(List<Long> sortedLatencies, int percentage) {
+        if (sortedLatencies.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentage / 100.0 * sortedLatencies.size());
+        return sortedLatencies.get(Math.max(rank, 1) - 1);
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.tarence.logic.commands;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.opencsv.CSVWriter;
+
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+/**
+ * The attendance of a tutorial at the time the snapshot was taken, which can be written to a file on a background
+ * thread while the tutorial goes on being changed. The attendance of each student is copied as the week bits of a
+ * single long.
+ */
+class AttendanceSnapshot {
+    private final ModCode modCode;
+    private final TutName tutName;
+    private final List<Week> weeks;
+    private final List<Student> students;
+    private final long[] presentWeeks;
+
+    AttendanceSnapshot(Tutorial tutorial) {
+        Attendance attendance = tutorial.getAttendance();
+        modCode = tutorial.getModCode();
+        tutName = tutorial.getTutName();
+        weeks = Collections.unmodifiableList(new ArrayList<>(attendance.getWeeks()));
+        students = Collections.unmodifiableList(new ArrayList<>(tutorial.getStudents()));
+        presentWeeks = attendance.getPresentWeeks(students);
+    }
+
+    ModCode getModCode() {
+        return modCode;
+    }
+
+    TutName getTutName() {
+        return tutName;
+    }
+
+    List<Week> getWeeks() {
+        return weeks;
+    }
+
+    List<Student> getStudents() {
+        return students;
+    }
+
+    /**
+     * Returns true if the student at the given position of the roster was present in the week.
+     */
+    boolean isPresent(int studentIndex, Week week) {
+        return (presentWeeks[studentIndex] & (1L << week.week)) != 0;
+    }
+
+    /**
+     * Writes the attendance to a csv file, with a row for each student of the tutorial and a column for each week.
+     */
+    void write(Path filePath) throws IOException {
+        // try-with-resources
+        try (
+            Writer writer = Files.newBufferedWriter(filePath);
+
+            CSVWriter csvWriter = new CSVWriter(writer,
+                    CSVWriter.DEFAULT_SEPARATOR,
+                    CSVWriter.NO_QUOTE_CHARACTER,
+                    CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                    CSVWriter.DEFAULT_LINE_END);
+        ) {
+            String[] row = new String[weeks.size() + 1];
+            row[0] = "Name";
+            for (int i = 0; i < weeks.size(); i++) {
+                row[i + 1] = "Week " + weeks.get(i).toString();
+            }
+            csvWriter.writeNext(row);
+
+            for (int studentIndex = 0; studentIndex < students.size(); studentIndex++) {
+                row[0] = students.get(studentIndex).getName().toString();
+                for (int i = 0; i < weeks.size(); i++) {
+                    row[i + 1] = String.valueOf(isPresent(studentIndex, weeks.get(i)));
+                }
+                csvWriter.writeNext(row);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.tarence.logic.commands;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import seedu.tarence.logic.commands.exceptions.CommandException;
@@ -51,6 +52,14 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Sets the handler that is given the error message if work the command left running in the background fails.
+     * Only needed for commands that return before all of their work is done. The handler may be called from a
+     * background thread.
+     */
+    public void setBackgroundFailureHandler(Consumer<String> failureHandler) {
+    }
+
     /**
      * Returns a list of {@code ModCode}s similar to the given one, and corresponding to a module containing a
      * target tutorial. Used for generating suggested corrections to modcode input errors by the user.
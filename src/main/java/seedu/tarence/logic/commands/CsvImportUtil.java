@@ -0,0 +1,91 @@
+package seedu.tarence.logic.commands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Helper functions for commands that import the rows of a csv file, each row on its own.
+ */
+public class CsvImportUtil {
+
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows skipped:\n%2$s";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "... and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MISSING_VALUE = "No %1$s given";
+
+    /** The number of skipped rows reported in full, so that a badly formatted file does not flood the result. */
+    public static final int MAX_REPORTED_ROWS = 20;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Returns the position of each column, by its trimmed, lowercase name in the header row. The byte order mark
+     * that spreadsheet programs may write before the header is ignored. If a name is repeated, its first column is
+     * kept.
+     *
+     * @param header the header row, or null if the file is empty.
+     */
+    public static Map<String, Integer> readHeader(String[] header) {
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.length; i++) {
+                columns.putIfAbsent(header[i].replace(BYTE_ORDER_MARK, "").trim().toLowerCase(), i);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Returns true if the row has no values, as the csv reader returns a blank line as a single empty value.
+     */
+    public static boolean isBlankRow(String[] row) {
+        return row.length == 1 && row[0].isBlank();
+    }
+
+    /**
+     * Returns the trimmed value of the given column in the row, or {@code Optional.empty()} if there is no such
+     * column, or it is blank in this row.
+     */
+    public static Optional<String> getValue(String[] row, Map<String, Integer> columns, String column) {
+        return getValue(row, columns.get(column));
+    }
+
+    /**
+     * Returns the trimmed value at the given position in the row, or {@code Optional.empty()} if the position is
+     * null or beyond the row, or the value is blank.
+     */
+    public static Optional<String> getValue(String[] row, Integer position) {
+        if (position == null || position >= row.length || row[position].isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(row[position].trim());
+    }
+
+    /**
+     * Returns the report of the rows skipped, listing at most {@link #MAX_REPORTED_ROWS} of them, or an empty string
+     * if none were skipped.
+     */
+    public static String getRowErrorsReport(List<String> rowErrors) {
+        return getReport(MESSAGE_ROWS_SKIPPED, rowErrors);
+    }
+
+    /**
+     * Returns a report listing at most {@link #MAX_REPORTED_ROWS} of the given lines, or an empty string if there are
+     * none.
+     *
+     * @param reportFormat the format of the report, given the number of lines and the lines listed.
+     */
+    public static String getReport(String reportFormat, List<String> lines) {
+        if (lines.isEmpty()) {
+            return "";
+        }
+        List<String> reportedLines = new ArrayList<>(lines.subList(0, Math.min(lines.size(), MAX_REPORTED_ROWS)));
+        if (lines.size() > MAX_REPORTED_ROWS) {
+            reportedLines.add(String.format(MESSAGE_MORE_ROWS_SKIPPED, lines.size() - MAX_REPORTED_ROWS));
+        }
+        return String.format(reportFormat, lines.size(), String.join("\n", reportedLines));
+    }
+}
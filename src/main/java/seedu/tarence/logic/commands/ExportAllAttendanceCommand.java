@@ -0,0 +1,289 @@
+package seedu.tarence.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.opencsv.CSVWriter;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Exports the attendance of every tutorial of a module, or of every tutorial, either in a csv file for each tutorial or
+ * in a single csv file with a row for each student and week.
+ * The attendance is copied when the command is executed, and the files are written on a background pool of threads
+ * after it returns. Files that cannot be written are reported through the background failure handler.
+ */
+public class ExportAllAttendanceCommand extends Command {
+    public static final String MESSAGE_EXPORT_ALL_ATTENDANCE_SUCCESS =
+            "Exporting attendance of %1$d tutorials to /data";
+    public static final String MESSAGE_EXPORT_COMBINED_ATTENDANCE_SUCCESS =
+            "Exporting attendance of %1$d tutorials to /data/%2$s.csv";
+    public static final String MESSAGE_EXPORT_ATTENDANCE_FAILED = "Attendance of %1$s could not be exported";
+    public static final String MESSAGE_EXPORT_COMBINED_ATTENDANCE_FAILED =
+            "Attendance could not be exported to /data/%1$s.csv";
+    public static final String MESSAGE_NO_TUTORIALS = "There are no tutorials to export!";
+    public static final String COMMAND_WORD = "exportAllAttendance";
+
+    static final String[] COMBINED_HEADER = {"Module", "Tutorial", "Name", "Week", "Present"};
+
+    private static final Path EXPORT_DIRECTORY = Paths.get("data");
+    private static final String TUTORIAL_FILE_NAME = "Attendance_%1$s_%2$s.csv";
+    private static final String COMBINED_FILE_NAME = "%s.csv";
+    private static final int MAX_EXPORT_THREADS = 4;
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "exportall", "exportalla",
+        "exportallatt"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the attendance of every tutorial of a module, "
+            + "or of every tutorial if no module is given, in a csv file for each tutorial.\n"
+            + "If a file name is given, the attendance is instead exported in a single csv file, with a row for each "
+            + "student and week.\n"
+            + "The files are written in the background, and any that cannot be written are reported once they fail.\n"
+            + "Parameters:\n"
+            + "[" + PREFIX_MODULE + "MODULE CODE] "
+            + "[" + PREFIX_FILE + "FILE NAME]\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_MODULE + "CS1010\n"
+            + COMMAND_WORD + " "
+            + PREFIX_FILE + "allAttendance\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private static final Logger logger = LogsCenter.getLogger(ExportAllAttendanceCommand.class);
+
+    // Shared by every export, so that at most MAX_EXPORT_THREADS files are written at once
+    private static final ThreadPoolExecutor exportExecutor = createExportExecutor();
+
+    // Completes once every export started so far has finished writing its files. Guarded by the class.
+    private static CompletableFuture<Void> pendingExports = CompletableFuture.completedFuture(null);
+
+    private final Optional<ModCode> targetModCode;
+    private final Optional<String> fileName;
+    private final Path exportDirectory;
+    private Consumer<String> failureHandler = message -> { };
+
+    public ExportAllAttendanceCommand(ModCode modCode, String fileName) {
+        this(modCode, fileName, EXPORT_DIRECTORY);
+    }
+
+    /**
+     * Creates an ExportAllAttendanceCommand that exports to {@code exportDirectory} instead of the data directory.
+     */
+    ExportAllAttendanceCommand(ModCode modCode, String fileName, Path exportDirectory) {
+        requireNonNull(exportDirectory);
+        this.targetModCode = Optional.ofNullable(modCode);
+        this.fileName = Optional.ofNullable(fileName);
+        this.exportDirectory = exportDirectory;
+    }
+
+    @Override
+    public void setBackgroundFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (targetModCode.isPresent() && !model.hasModuleOfCode(targetModCode.get())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MODULE_IN_APPLICATION);
+        }
+
+        List<AttendanceSnapshot> snapshots = model.getFilteredTutorialList().stream()
+                .filter(tutorial -> targetModCode.isEmpty() || tutorial.getModCode().equals(targetModCode.get()))
+                .map(AttendanceSnapshot::new)
+                .collect(Collectors.toList());
+        if (snapshots.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_TUTORIALS);
+        }
+        try {
+            Files.createDirectories(exportDirectory);
+        } catch (IOException e) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+        }
+
+        if (fileName.isPresent()) {
+            Path filePath;
+            try {
+                filePath = exportDirectory.resolve(String.format(COMBINED_FILE_NAME, fileName.get()));
+            } catch (InvalidPathException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+            }
+            exportCombinedAttendance(snapshots, filePath);
+            return new CommandResult(String.format(MESSAGE_EXPORT_COMBINED_ATTENDANCE_SUCCESS, snapshots.size(),
+                    fileName.get()));
+        }
+
+        exportEachAttendance(snapshots);
+        return new CommandResult(String.format(MESSAGE_EXPORT_ALL_ATTENDANCE_SUCCESS, snapshots.size()));
+    }
+
+    /**
+     * Starts exporting the attendance of each tutorial to a file of its own, each on a thread of the export pool.
+     * Once every file has been written, the tutorials that could not be exported are reported to the failure handler.
+     */
+    private void exportEachAttendance(List<AttendanceSnapshot> snapshots) {
+        Consumer<String> exportFailureHandler = failureHandler;
+        // Each export only sets its own element, which is read once all of them are done
+        String[] failedTutorials = new String[snapshots.size()];
+        CompletableFuture<?>[] exports = new CompletableFuture<?>[snapshots.size()];
+        for (int i = 0; i < snapshots.size(); i++) {
+            AttendanceSnapshot snapshot = snapshots.get(i);
+            int index = i;
+            exports[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    snapshot.write(exportDirectory.resolve(
+                            String.format(TUTORIAL_FILE_NAME, snapshot.getTutName(), snapshot.getModCode())));
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Could not export attendance of " + snapshot.getTutName() + ": " + e);
+                    failedTutorials[index] = snapshot.getTutName() + " (" + snapshot.getModCode() + ")";
+                }
+            }, exportExecutor);
+        }
+
+        addPendingExport(CompletableFuture.allOf(exports).thenRun(() -> {
+            List<String> failures = new ArrayList<>();
+            for (String failedTutorial : failedTutorials) {
+                if (failedTutorial != null) {
+                    failures.add(failedTutorial);
+                }
+            }
+            if (!failures.isEmpty()) {
+                exportFailureHandler.accept(String.format(MESSAGE_EXPORT_ATTENDANCE_FAILED,
+                        String.join(", ", failures)));
+            }
+        }));
+    }
+
+    /**
+     * Starts exporting the attendance of every tutorial to a single file on a thread of the export pool, and reports
+     * to the failure handler if the file cannot be written.
+     */
+    private void exportCombinedAttendance(List<AttendanceSnapshot> snapshots, Path filePath) {
+        Consumer<String> exportFailureHandler = failureHandler;
+        String exportFileName = fileName.get();
+        addPendingExport(CompletableFuture.runAsync(() -> {
+            try {
+                writeCombinedAttendance(snapshots, filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not export attendance to " + filePath + ": " + e);
+                exportFailureHandler.accept(String.format(MESSAGE_EXPORT_COMBINED_ATTENDANCE_FAILED, exportFileName));
+            }
+        }, exportExecutor));
+    }
+
+    /**
+     * Writes the attendance of every tutorial to a single csv file, with a row for each student and week, streaming
+     * the rows of one tutorial after another.
+     */
+    private static void writeCombinedAttendance(List<AttendanceSnapshot> snapshots, Path filePath)
+            throws IOException {
+        try (
+            Writer writer = Files.newBufferedWriter(filePath);
+            CSVWriter csvWriter = new CSVWriter(writer);
+        ) {
+            csvWriter.writeNext(COMBINED_HEADER);
+
+            String[] row = new String[COMBINED_HEADER.length];
+            for (AttendanceSnapshot snapshot : snapshots) {
+                List<Week> weeks = snapshot.getWeeks();
+                List<Student> students = snapshot.getStudents();
+                row[0] = snapshot.getModCode().toString();
+                row[1] = snapshot.getTutName().toString();
+                for (int studentIndex = 0; studentIndex < students.size(); studentIndex++) {
+                    row[2] = students.get(studentIndex).getName().toString();
+                    for (Week week : weeks) {
+                        row[3] = week.toString();
+                        row[4] = String.valueOf(snapshot.isPresent(studentIndex, week));
+                        csvWriter.writeNext(row);
+                    }
+                }
+            }
+        }
+    }
+
+    private static synchronized void addPendingExport(CompletableFuture<Void> export) {
+        pendingExports = pendingExports.isDone() ? export : CompletableFuture.allOf(pendingExports, export);
+    }
+
+    /**
+     * Blocks until every export started so far has finished writing its files, e.g. before the application exits.
+     */
+    public static void waitForPendingExports() {
+        CompletableFuture<Void> exports;
+        synchronized (ExportAllAttendanceCommand.class) {
+            exports = pendingExports;
+        }
+        try {
+            exports.join();
+        } catch (RuntimeException e) {
+            logger.warning("Error in waiting for attendance to be exported: " + e);
+        }
+    }
+
+    private static ThreadPoolExecutor createExportExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_EXPORT_THREADS, MAX_EXPORT_THREADS, 1,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "attendance-export");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportAllAttendanceCommand // instanceof handles nulls
+                && targetModCode.equals(((ExportAllAttendanceCommand) other).targetModCode)
+                && fileName.equals(((ExportAllAttendanceCommand) other).fileName)
+                && exportDirectory.equals(((ExportAllAttendanceCommand) other).exportDirectory)); // state check
+    }
+}
@@ -7,28 +7,19 @@ import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
 import java.io.IOException;
-import java.io.Writer;
-import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import com.opencsv.CSVWriter;
 
 import seedu.tarence.commons.core.Messages;
 import seedu.tarence.commons.core.index.Index;
 import seedu.tarence.logic.commands.exceptions.CommandException;
 import seedu.tarence.model.Model;
 import seedu.tarence.model.module.ModCode;
-import seedu.tarence.model.student.Student;
-import seedu.tarence.model.tutorial.Attendance;
 import seedu.tarence.model.tutorial.TutName;
 import seedu.tarence.model.tutorial.Tutorial;
-import seedu.tarence.model.tutorial.Week;
 import seedu.tarence.storage.Storage;
 
 /**
@@ -108,38 +99,8 @@ public class ExportAttendanceCommand extends Command {
                     targetTutorial.getModCode()));
         }
 
-        List<Student> students = targetTutorial.getStudents();
-        Set<Week> weeks = targetTutorial.getTimeTable().getWeeks();
-        Attendance attendance = targetTutorial.getAttendance();
-
-        // try-with-resources
-        try (
-            Writer writer = Files.newBufferedWriter(Paths.get(String.format(EXPORT_PATH, fileName.get())));
-
-            CSVWriter csvWriter = new CSVWriter(writer,
-                    CSVWriter.DEFAULT_SEPARATOR,
-                    CSVWriter.NO_QUOTE_CHARACTER,
-                    CSVWriter.DEFAULT_ESCAPE_CHARACTER,
-                    CSVWriter.DEFAULT_LINE_END);
-        ) {
-            List<String> headerList = weeks.stream()
-                    .map(week -> "Week " + week.toString())
-                    .collect(Collectors.toList());
-            headerList.add(0, "Name");
-            String[] header = new String[weeks.size() + 1];
-            header = headerList.toArray(header);
-            csvWriter.writeNext(header);
-
-            for (Student student : students) {
-                List<String> rowList = new ArrayList<>();
-                rowList.add(student.getName().toString());
-                for (Week week : weeks) {
-                    rowList.add(attendance.isPresent(week, student) + "");
-                }
-                String[] row = new String[weeks.size() + 1];
-                row = rowList.toArray(row);
-                csvWriter.writeNext(row);
-            }
+        try {
+            writeAttendance(targetTutorial, Paths.get(String.format(EXPORT_PATH, fileName.get())));
         } catch (IOException | InvalidPathException e) {
             throw new CommandException(Messages.MESSAGE_INVALID_FILE);
         }
@@ -147,6 +108,14 @@ public class ExportAttendanceCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EXPORT_ATTENDANCE_SUCCESS, targetTutorial.getTutName()));
     }
 
+    /**
+     * Writes the attendance of the tutorial to a csv file, with a row for each student of the tutorial and a column for
+     * each week. Each row is streamed from the week bits of the student.
+     */
+    static void writeAttendance(Tutorial tutorial, Path filePath) throws IOException {
+        new AttendanceSnapshot(tutorial).write(filePath);
+    }
+
     @Override
     public CommandResult execute(Model model, Storage storage) throws CommandException {
         return execute(model);
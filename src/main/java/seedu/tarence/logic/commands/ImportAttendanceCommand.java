@@ -0,0 +1,351 @@
+package seedu.tarence.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.CsvImportUtil.getReport;
+import static seedu.tarence.logic.commands.CsvImportUtil.getRowErrorsReport;
+import static seedu.tarence.logic.commands.CsvImportUtil.getValue;
+import static seedu.tarence.logic.commands.CsvImportUtil.isBlankRow;
+import static seedu.tarence.logic.commands.CsvImportUtil.readHeader;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_EMAIL;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_MATRIC_NUM;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NAME;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NUSNET_ID;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.opencsv.CSVReader;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Sets the attendance of the students of a tutorial from a csv file, instead of marking each student with a
+ * {@code markAttendance} command. The file is either in the layout written by {@code exportAttendance}, with a row for
+ * each student and a column for each week, or has a row for each student and week. Rows with errors are skipped and
+ * reported, and the rest are set at once.
+ */
+public class ImportAttendanceCommand extends Command {
+
+    public static final String COLUMN_WEEK = "week";
+    public static final String COLUMN_PRESENT = "present";
+
+    public static final String MESSAGE_IMPORT_ATTENDANCE_SUCCESS = "%1$d attendance marks of %2$d students imported "
+            + "to %3$s from %4$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The attendance sheet must begin with a header row naming a "
+            + "student column (%1$s, %2$s, %3$s or %4$s), and either a column for each week (Week 1, Week 2, ...) or "
+            + "a %5$s column with an optional %6$s column.";
+    public static final String MESSAGE_UNKNOWN_WEEKS = "No such weeks in this tutorial: %1$s";
+    public static final String MESSAGE_INVALID_ATTENDANCE = "Invalid attendance %1$s. Attendance should be true or "
+            + "false, yes or no, present or absent, or 1 or 0.";
+    public static final String MESSAGE_STUDENT_IN_EARLIER_ROW = "The attendance of %1$s is already given in row %2$d";
+    public static final String MESSAGE_CONFLICTING_ATTENDANCE = "The attendance of %1$s in week %2$s is given "
+            + "differently in row %3$d";
+    public static final String MESSAGE_PRESENT_STUDENT_MARKED_ABSENT = "%1$s was marked present in week %2$s, and is "
+            + "now marked absent";
+    public static final String MESSAGE_CONFLICTS = "\n%1$d attendance marks changed from present to absent:\n%2$s";
+
+    public static final String COMMAND_WORD = "importAttendance";
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "importa", "importatt"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the attendance of the students of a tutorial "
+            + "from a csv file.\n"
+            + "The file begins with a header row naming a column that identifies each student, "
+            + COLUMN_NUSNET_ID + ", " + COLUMN_MATRIC_NUM + ", " + COLUMN_EMAIL + " or " + COLUMN_NAME + ", and either "
+            + "a column for each week, as written by exportAttendance, or a " + COLUMN_WEEK + " column and an optional "
+            + COLUMN_PRESENT + " column, with a row for each student and week. Blank attendance is left unchanged, "
+            + "and rows with errors are skipped and reported.\n"
+            + "Parameters:\n"
+            + PREFIX_TUTORIAL_NAME + "TUTORIAL NAME "
+            + PREFIX_MODULE + "MODULE CODE "
+            + PREFIX_FILE + "FILE PATH\n"
+            + PREFIX_INDEX + "TUTORIAL INDEX "
+            + PREFIX_FILE + "FILE PATH\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_TUTORIAL_NAME + "Lab 1 "
+            + PREFIX_MODULE + "CS1010 "
+            + PREFIX_FILE + "data/attendance.csv\n"
+            + COMMAND_WORD + " "
+            + PREFIX_INDEX + "1 "
+            + PREFIX_FILE + "data/attendance.csv\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private static final Pattern WEEK_COLUMN_FORMAT = Pattern.compile("week\\s*\\d+");
+    private static final Pattern WEEK_FORMAT = Pattern.compile("(?:week\\s*)?(\\d{1,2})");
+    private static final Set<String> PRESENT_VALUES = Set.of("true", "yes", "y", "present", "p", "1");
+    private static final Set<String> ABSENT_VALUES = Set.of("false", "no", "n", "absent", "a", "0");
+
+    private final Optional<ModCode> targetModCode;
+    private final Optional<TutName> targetTutName;
+    private final Optional<Index> targetIndex;
+    private final Path filePath;
+
+    /**
+     * Creates a command importing attendance to the tutorial given by either its module code and name, or its index.
+     */
+    public ImportAttendanceCommand(ModCode modCode, TutName tutName, Index index, Path filePath) {
+        requireNonNull(filePath);
+        this.targetModCode = Optional.ofNullable(modCode);
+        this.targetTutName = Optional.ofNullable(tutName);
+        this.targetIndex = Optional.ofNullable(index);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutorial> lastShownList = model.getFilteredTutorialList();
+
+        Tutorial targetTutorial;
+        if (targetModCode.isPresent() && targetTutName.isPresent()) {
+            targetTutorial = lastShownList.stream()
+                    .filter(tut -> tut.getTutName().equals(targetTutName.get())
+                    && tut.getModCode().equals(targetModCode.get()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE));
+        } else {
+            try {
+                targetTutorial = lastShownList.get(targetIndex.get().getZeroBased());
+            } catch (IndexOutOfBoundsException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX);
+            }
+        }
+
+        AttendanceSheet sheet = new AttendanceSheet(targetTutorial);
+        try (Reader reader = Files.newBufferedReader(filePath); CSVReader csvReader = new CSVReader(reader)) {
+            sheet.readHeader(readHeader(csvReader.readNext()));
+            int rowNumber = 1;
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                rowNumber++;
+                if (isBlankRow(row)) {
+                    continue;
+                }
+                try {
+                    sheet.readRow(row, rowNumber);
+                } catch (ParseException e) {
+                    sheet.rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+        }
+
+        // every mark has been validated, so the whole sheet is set in one pass
+        targetTutorial.setAttendance(sheet.newAttendance);
+        model.storePendingCommand(
+                new DisplayAttendanceCommand(targetTutorial.getModCode(), targetTutorial.getTutName()));
+        return new CommandResult(String.format(MESSAGE_IMPORT_ATTENDANCE_SUCCESS, sheet.markCount,
+                sheet.markedStudents.size(), targetTutorial.getTutName(), filePath.getFileName())
+                + getReport(MESSAGE_CONFLICTS, sheet.conflicts) + getRowErrorsReport(sheet.rowErrors));
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns true if the given value marks a student present, and false if it marks the student absent.
+     *
+     * @throws ParseException if the value does not mark a student either present or absent.
+     */
+    private static boolean parseAttendance(String value) throws ParseException {
+        String attendance = value.toLowerCase();
+        if (PRESENT_VALUES.contains(attendance)) {
+            return true;
+        } else if (ABSENT_VALUES.contains(attendance)) {
+            return false;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_ATTENDANCE, value));
+    }
+
+    /**
+     * Returns the week given by a week column name or value, such as {@code week 3} or {@code 3}, or
+     * {@code Optional.empty()} if it does not give a valid week.
+     */
+    private static Optional<Week> parseWeek(String value) {
+        Matcher matcher = WEEK_FORMAT.matcher(value.trim().toLowerCase());
+        if (!matcher.matches() || !Week.isValidWeek(Integer.parseInt(matcher.group(1)))) {
+            return Optional.empty();
+        }
+        return Optional.of(new Week(Integer.parseInt(matcher.group(1))));
+    }
+
+    /**
+     * The attendance read from the rows of an attendance sheet so far, checked against the tutorial it is imported to.
+     */
+    private static class AttendanceSheet {
+        private final Attendance attendance;
+        private final Set<Week> weeks;
+        private final StudentLookup studentLookup;
+
+        // The column of each week, if the sheet has a column for each week
+        private final Map<Week, Integer> weekColumns = new TreeMap<>();
+        private Map<String, Integer> columns;
+
+        private final Map<Week, Map<Student, Boolean>> newAttendance = new TreeMap<>();
+        private final Map<Week, Map<Student, Integer>> rowsOfMarks = new HashMap<>();
+        private final Map<Student, Integer> rowsOfStudents = new HashMap<>();
+        private final Set<Student> markedStudents = new HashSet<>();
+        private final List<String> conflicts = new ArrayList<>();
+        private final List<String> rowErrors = new ArrayList<>();
+        private int markCount = 0;
+
+        AttendanceSheet(Tutorial tutorial) {
+            attendance = tutorial.getAttendance();
+            weeks = attendance.getWeeks();
+            studentLookup = new StudentLookup(tutorial.getStudents());
+        }
+
+        /**
+         * Reads the columns of the sheet from its header.
+         *
+         * @throws CommandException if there is no student column, or neither a column for each week nor a week
+         *     column, or a week column names a week the tutorial does not have.
+         */
+        void readHeader(Map<String, Integer> columns) throws CommandException {
+            this.columns = columns;
+            List<String> unknownWeeks = new ArrayList<>();
+            for (Map.Entry<String, Integer> column : columns.entrySet()) {
+                if (!WEEK_COLUMN_FORMAT.matcher(column.getKey()).matches()) {
+                    continue;
+                }
+                Optional<Week> week = parseWeek(column.getKey());
+                if (week.isPresent() && weeks.contains(week.get())) {
+                    weekColumns.put(week.get(), column.getValue());
+                } else {
+                    unknownWeeks.add(column.getKey());
+                }
+            }
+
+            if (!StudentLookup.hasStudentColumn(columns)
+                    || (weekColumns.isEmpty() && unknownWeeks.isEmpty() && !columns.containsKey(COLUMN_WEEK))) {
+                throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, COLUMN_NUSNET_ID,
+                        COLUMN_MATRIC_NUM, COLUMN_EMAIL, COLUMN_NAME, COLUMN_WEEK, COLUMN_PRESENT));
+            }
+            if (!unknownWeeks.isEmpty()) {
+                unknownWeeks.sort(null);
+                throw new CommandException(String.format(MESSAGE_UNKNOWN_WEEKS, String.join(", ", unknownWeeks)));
+            }
+        }
+
+        /**
+         * Reads the attendance given in a row of the sheet. Nothing in a row is read if any of it is invalid.
+         *
+         * @throws ParseException if the row names no student of the tutorial, gives an invalid week or attendance, or
+         *     gives attendance already given differently in an earlier row.
+         */
+        void readRow(String[] row, int rowNumber) throws ParseException {
+            Student student = studentLookup.find(row, columns);
+            Map<Week, Boolean> rowAttendance = new TreeMap<>();
+            if (weekColumns.isEmpty()) {
+                Week week = parseWeek(getValue(row, columns, COLUMN_WEEK).orElseThrow(() ->
+                        new ParseException(String.format(MESSAGE_MISSING_VALUE, COLUMN_WEEK))))
+                        .filter(weeks::contains)
+                        .orElseThrow(() -> new ParseException(Messages.MESSAGE_INVALID_WEEK_IN_TUTORIAL));
+                // without an attendance column, each row marks a student present
+                boolean isPresent = true;
+                if (columns.containsKey(COLUMN_PRESENT)) {
+                    isPresent = parseAttendance(getValue(row, columns, COLUMN_PRESENT).orElseThrow(() ->
+                            new ParseException(String.format(MESSAGE_MISSING_VALUE, COLUMN_PRESENT))));
+                }
+                rowAttendance.put(week, isPresent);
+            } else {
+                for (Map.Entry<Week, Integer> weekColumn : weekColumns.entrySet()) {
+                    Optional<String> value = getValue(row, weekColumn.getValue());
+                    if (value.isPresent()) {
+                        rowAttendance.put(weekColumn.getKey(), parseAttendance(value.get()));
+                    }
+                }
+                Integer earlierRow = rowsOfStudents.putIfAbsent(student, rowNumber);
+                if (earlierRow != null) {
+                    throw new ParseException(String.format(MESSAGE_STUDENT_IN_EARLIER_ROW, student.getName(),
+                            earlierRow));
+                }
+            }
+
+            for (Map.Entry<Week, Boolean> mark : rowAttendance.entrySet()) {
+                Boolean earlierMark = newAttendance.getOrDefault(mark.getKey(), Map.of()).get(student);
+                if (earlierMark != null && !earlierMark.equals(mark.getValue())) {
+                    throw new ParseException(String.format(MESSAGE_CONFLICTING_ATTENDANCE, student.getName(),
+                            mark.getKey(), rowsOfMarks.get(mark.getKey()).get(student)));
+                }
+            }
+            for (Map.Entry<Week, Boolean> mark : rowAttendance.entrySet()) {
+                Week week = mark.getKey();
+                if (newAttendance.computeIfAbsent(week, k -> new HashMap<>()).put(student, mark.getValue()) != null) {
+                    // the same attendance given again is left as it is
+                    continue;
+                }
+                rowsOfMarks.computeIfAbsent(week, k -> new HashMap<>()).put(student, rowNumber);
+                markedStudents.add(student);
+                markCount++;
+                if (!mark.getValue() && attendance.isPresent(week, student)) {
+                    conflicts.add(String.format(MESSAGE_ROW_ERROR, rowNumber,
+                            String.format(MESSAGE_PRESENT_STUDENT_MARKED_ABSENT, student.getName(), week)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImportAttendanceCommand)) {
+            return false;
+        }
+        ImportAttendanceCommand otherCommand = (ImportAttendanceCommand) other;
+        return targetModCode.equals(otherCommand.targetModCode)
+                && targetTutName.equals(otherCommand.targetTutName)
+                && targetIndex.equals(otherCommand.targetIndex)
+                && filePath.equals(otherCommand.filePath);
+    }
+}
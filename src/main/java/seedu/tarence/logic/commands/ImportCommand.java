@@ -25,8 +25,6 @@ public class ImportCommand extends Command {
         "importmods", "importtutorial", "importtuts"};
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports tutorials via an NUSMods shared url.\n"
-            + "Note:\n"
-            + "Expect a slow response the first time this command is inputted.\n"
             + "Parameters:\n"
             + "NUSMODS URL\n"
             + "Example:\n"
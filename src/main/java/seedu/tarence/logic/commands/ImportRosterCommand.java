@@ -0,0 +1,203 @@
+package seedu.tarence.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.CsvImportUtil.getRowErrorsReport;
+import static seedu.tarence.logic.commands.CsvImportUtil.getValue;
+import static seedu.tarence.logic.commands.CsvImportUtil.isBlankRow;
+import static seedu.tarence.logic.commands.CsvImportUtil.readHeader;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.opencsv.CSVReader;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.logic.parser.ParserUtil;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.person.Email;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.MatricNum;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.student.StudentIndex;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Adds every student listed in a roster csv file to their tutorial, instead of adding each with an
+ * {@code addStudent} command. Rows that are invalid, name a tutorial that does not exist, or duplicate another student
+ * are skipped and reported, and the rest are added in a single batch.
+ */
+public class ImportRosterCommand extends Command {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_MATRIC_NUM = "matric";
+    public static final String COLUMN_NUSNET_ID = "nusnet";
+    public static final String COLUMN_MODULE = "module";
+    public static final String COLUMN_TUTORIAL = "tutorial";
+
+    public static final String MESSAGE_IMPORT_ROSTER_SUCCESS = "%1$d students imported from %2$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The roster must begin with a header row naming the columns "
+            + "%1$s, %2$s, %3$s and %4$s, and optionally %5$s and %6$s.";
+
+    public static final String COMMAND_WORD = "importRoster";
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "importstudents", "importclass"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students listed in a csv file to their "
+            + "tutorials.\n"
+            + "The file begins with a header row naming its columns: " + COLUMN_NAME + ", " + COLUMN_EMAIL + ", "
+            + COLUMN_MODULE + ", " + COLUMN_TUTORIAL + ", and optionally " + COLUMN_MATRIC_NUM + " and "
+            + COLUMN_NUSNET_ID + ". Rows with errors are skipped and reported.\n"
+            + "Parameters:\n"
+            + PREFIX_FILE + "FILE PATH\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_FILE + "data/roster.csv\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private final Path filePath;
+
+    public ImportRosterCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // tutorials are looked up once for the whole roster, rather than through every module for each row
+        Set<List<Object>> classes = new HashSet<>();
+        for (Module module : model.getApplication().getModuleList()) {
+            for (Tutorial tutorial : module.getTutorials()) {
+                classes.add(List.of(module.getModCode(), tutorial.getTutName()));
+            }
+        }
+
+        // students of earlier rows are indexed too, so that the roster is checked against itself
+        StudentIndex importedStudentIndex = new StudentIndex();
+        List<Student> importedStudents = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+
+        try (Reader reader = Files.newBufferedReader(filePath); CSVReader csvReader = new CSVReader(reader)) {
+            Map<String, Integer> columns = readRosterHeader(csvReader.readNext());
+            int rowNumber = 1;
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                rowNumber++;
+                if (isBlankRow(row)) {
+                    continue;
+                }
+                try {
+                    Student student = parseStudent(row, columns);
+                    if (!classes.contains(List.of(student.getModCode(), student.getTutName()))) {
+                        throw new ParseException(AddStudentCommand.MESSAGE_INVALID_CLASS);
+                    }
+                    if (model.hasDuplicateStudent(student) || importedStudentIndex.hasDuplicate(student)) {
+                        throw new ParseException(AddStudentCommand.MESSAGE_DUPLICATE_STUDENT);
+                    }
+                    importedStudentIndex.add(student);
+                    importedStudents.add(student);
+                } catch (ParseException e) {
+                    rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+        }
+
+        if (!importedStudents.isEmpty()) {
+            model.addStudentsToTutorials(importedStudents);
+        }
+        return new CommandResult(String.format(MESSAGE_IMPORT_ROSTER_SUCCESS, importedStudents.size(),
+                filePath.getFileName()) + getRowErrorsReport(rowErrors));
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns the position of each column of the roster, by the lowercase name in its header.
+     *
+     * @throws CommandException if the header is missing, or does not name every required column.
+     */
+    private static Map<String, Integer> readRosterHeader(String[] header) throws CommandException {
+        Map<String, Integer> columns = readHeader(header);
+        if (!columns.keySet().containsAll(List.of(COLUMN_NAME, COLUMN_EMAIL, COLUMN_MODULE, COLUMN_TUTORIAL))) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, COLUMN_NAME, COLUMN_EMAIL,
+                    COLUMN_MODULE, COLUMN_TUTORIAL, COLUMN_MATRIC_NUM, COLUMN_NUSNET_ID));
+        }
+        return columns;
+    }
+
+    /**
+     * Parses a row of the roster into a student.
+     *
+     * @throws ParseException if a required value is missing, or any value is invalid.
+     */
+    private static Student parseStudent(String[] row, Map<String, Integer> columns) throws ParseException {
+        Name name = ParserUtil.parseName(getRequiredValue(row, columns, COLUMN_NAME));
+        Email email = ParserUtil.parseEmail(getRequiredValue(row, columns, COLUMN_EMAIL));
+        ModCode modCode = ParserUtil.parseModCode(getRequiredValue(row, columns, COLUMN_MODULE));
+        TutName tutName = ParserUtil.parseTutorialName(getRequiredValue(row, columns, COLUMN_TUTORIAL));
+
+        Optional<String> matricNum = getValue(row, columns, COLUMN_MATRIC_NUM);
+        Optional<MatricNum> parsedMatricNum = matricNum.isPresent()
+                ? Optional.of(ParserUtil.parseMatricNum(matricNum.get()))
+                : Optional.empty();
+        Optional<String> nusnetId = getValue(row, columns, COLUMN_NUSNET_ID);
+        Optional<NusnetId> parsedNusnetId = nusnetId.isPresent()
+                ? Optional.of(ParserUtil.parseNusnetId(nusnetId.get()))
+                : Optional.empty();
+
+        return new Student(name, email, parsedMatricNum, parsedNusnetId, modCode, tutName);
+    }
+
+    private static String getRequiredValue(String[] row, Map<String, Integer> columns, String column)
+            throws ParseException {
+        return getValue(row, columns, column)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_VALUE, column)));
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportRosterCommand // instanceof handles nulls
+                && filePath.equals(((ImportRosterCommand) other).filePath)); // state check
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.tarence.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_NUSID;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_WEEKS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Marks the attendance of every student of a tutorial in a week at once, instead of confirming each student in turn.
+ * The students listed are marked present and the rest absent, or, with {@code except/}, the students listed are
+ * marked absent and the rest present. Students are listed by name, NUSNET id or index in the attendance table.
+ */
+public class MarkAllAttendanceCommand extends Command {
+
+    public static final String MESSAGE_MARK_ALL_ATTENDANCE_SUCCESS = "Attendance of %1$s in week %2$s marked: "
+            + "%3$d present, %4$d absent";
+    public static final String MESSAGE_STUDENTS_NOT_IN_TUTORIAL = "No such students in this tutorial: %1$s";
+    public static final String MESSAGE_MULTIPLE_STUDENTS_OF_NAME = "There are multiple students named %1$s in this "
+            + "tutorial. Specify them by NUSNET id or index instead.";
+
+    public static final String COMMAND_WORD = "markAll";
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "markallattendance", "markclass"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks the attendance of a whole tutorial in a week. "
+            + "The students listed are marked present and the rest absent, or with " + PREFIX_EXCEPT
+            + ", the students listed are marked absent and the rest present.\n"
+            + "Parameters:\n"
+            + PREFIX_TUTORIAL_NAME + "TUTORIAL NAME "
+            + PREFIX_MODULE + "MODULE CODE "
+            + PREFIX_TUTORIAL_WEEKS + "WEEK "
+            + "[" + PREFIX_EXCEPT + "] "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_NUSID + "NUSNET ID]... "
+            + "[" + PREFIX_STUDENT_INDEX + "STUDENT INDEX]...\n"
+            + PREFIX_INDEX + "TUTORIAL INDEX "
+            + PREFIX_TUTORIAL_WEEKS + "WEEK "
+            + "[" + PREFIX_EXCEPT + "] "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_NUSID + "NUSNET ID]... "
+            + "[" + PREFIX_STUDENT_INDEX + "STUDENT INDEX]...\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_TUTORIAL_NAME + "Lab 1 "
+            + PREFIX_MODULE + "CS1010 "
+            + PREFIX_TUTORIAL_WEEKS + "5 "
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_NUSID + "E0123456 "
+            + PREFIX_STUDENT_INDEX + "3\n"
+            + COMMAND_WORD + " "
+            + PREFIX_INDEX + "1 "
+            + PREFIX_TUTORIAL_WEEKS + "5 "
+            + PREFIX_EXCEPT + " "
+            + PREFIX_STUDENT_INDEX + "2\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private final Optional<ModCode> targetModCode;
+    private final Optional<TutName> targetTutName;
+    private final Optional<Index> targetIndex;
+    private final Week week;
+    private final List<Name> studNames;
+    private final List<NusnetId> nusnetIds;
+    private final List<Index> studIndexes;
+    private final boolean areListedStudentsAbsent;
+
+    /**
+     * Creates a command marking the attendance of the tutorial given by either its module code and name, or its
+     * index.
+     *
+     * @param areListedStudentsAbsent Whether the students listed are marked absent and the rest present, instead of
+     *     the other way round.
+     */
+    public MarkAllAttendanceCommand(ModCode modCode, TutName tutName, Index index, Week week, List<Name> studNames,
+            List<NusnetId> nusnetIds, List<Index> studIndexes, boolean areListedStudentsAbsent) {
+        requireNonNull(week);
+        requireNonNull(studNames);
+        requireNonNull(nusnetIds);
+        requireNonNull(studIndexes);
+        this.targetModCode = Optional.ofNullable(modCode);
+        this.targetTutName = Optional.ofNullable(tutName);
+        this.targetIndex = Optional.ofNullable(index);
+        this.week = week;
+        this.studNames = List.copyOf(studNames);
+        this.nusnetIds = List.copyOf(nusnetIds);
+        this.studIndexes = List.copyOf(studIndexes);
+        this.areListedStudentsAbsent = areListedStudentsAbsent;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutorial> lastShownList = model.getFilteredTutorialList();
+
+        Tutorial targetTutorial;
+        if (targetModCode.isPresent() && targetTutName.isPresent()) {
+            targetTutorial = lastShownList.stream()
+                    .filter(tut -> tut.getTutName().equals(targetTutName.get())
+                    && tut.getModCode().equals(targetModCode.get()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE));
+        } else {
+            try {
+                targetTutorial = lastShownList.get(targetIndex.get().getZeroBased());
+            } catch (IndexOutOfBoundsException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX);
+            }
+        }
+
+        if (!targetTutorial.getTimeTable().getWeeks().contains(week)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_WEEK_IN_TUTORIAL);
+        }
+
+        List<Student> students = targetTutorial.getStudents();
+        Set<Student> listedStudents = getListedStudents(students);
+        Set<Student> presentStudents;
+        if (areListedStudentsAbsent) {
+            presentStudents = new HashSet<>(students);
+            presentStudents.removeAll(listedStudents);
+        } else {
+            presentStudents = listedStudents;
+        }
+
+        // marks the whole week in one pass, so that the tutorial is saved and its attendance displayed only once
+        targetTutorial.setAttendance(week, presentStudents);
+        model.storePendingCommand(
+                new DisplayAttendanceCommand(targetTutorial.getModCode(), targetTutorial.getTutName()));
+        return new CommandResult(String.format(MESSAGE_MARK_ALL_ATTENDANCE_SUCCESS, targetTutorial.getTutName(),
+                week, presentStudents.size(), students.size() - presentStudents.size()));
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns the students of the tutorial that are listed by name, NUSNET id or index.
+     *
+     * @param students The students of the tutorial, in the order of its attendance table.
+     * @throws CommandException if any listed student is not in the tutorial, or a name is shared by several of its
+     *     students.
+     */
+    private Set<Student> getListedStudents(List<Student> students) throws CommandException {
+        Set<Student> listedStudents = new LinkedHashSet<>();
+        List<String> missingStudents = new ArrayList<>();
+
+        for (Name studName : studNames) {
+            List<Student> matchingStudents = students.stream()
+                    .filter(student -> student.getName().equals(studName))
+                    .collect(Collectors.toList());
+            if (matchingStudents.size() > 1) {
+                throw new CommandException(String.format(MESSAGE_MULTIPLE_STUDENTS_OF_NAME, studName));
+            } else if (matchingStudents.isEmpty()) {
+                missingStudents.add(studName.toString());
+            } else {
+                listedStudents.add(matchingStudents.get(0));
+            }
+        }
+
+        for (NusnetId nusnetId : nusnetIds) {
+            Optional<Student> matchingStudent = students.stream()
+                    .filter(student -> student.getNusnetId().map(nusnetId::equals).orElse(false))
+                    .findFirst();
+            if (matchingStudent.isPresent()) {
+                listedStudents.add(matchingStudent.get());
+            } else {
+                missingStudents.add(nusnetId.toString());
+            }
+        }
+
+        for (Index studIndex : studIndexes) {
+            if (studIndex.getZeroBased() < students.size()) {
+                listedStudents.add(students.get(studIndex.getZeroBased()));
+            } else {
+                missingStudents.add(PREFIX_STUDENT_INDEX + Integer.toString(studIndex.getOneBased()));
+            }
+        }
+
+        if (!missingStudents.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENTS_NOT_IN_TUTORIAL,
+                    String.join(", ", missingStudents)));
+        }
+        return listedStudents;
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MarkAllAttendanceCommand)) {
+            return false;
+        }
+        MarkAllAttendanceCommand otherCommand = (MarkAllAttendanceCommand) other;
+        return targetModCode.equals(otherCommand.targetModCode)
+                && targetTutName.equals(otherCommand.targetTutName)
+                && targetIndex.equals(otherCommand.targetIndex)
+                && week.equals(otherCommand.week)
+                && studNames.equals(otherCommand.studNames)
+                && nusnetIds.equals(otherCommand.nusnetIds)
+                && studIndexes.equals(otherCommand.studIndexes)
+                && areListedStudentsAbsent == otherCommand.areListedStudentsAbsent;
+    }
+}
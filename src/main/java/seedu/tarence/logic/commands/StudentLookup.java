@@ -0,0 +1,101 @@
+package seedu.tarence.logic.commands;
+
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.getValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.tarence.logic.parser.ParserUtil;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.student.Student;
+
+/**
+ * Finds the students of a tutorial named in the rows of a csv file by NUSNET id, matric number, email or name, through
+ * maps built once for the whole file.
+ */
+public class StudentLookup {
+
+    public static final String COLUMN_NUSNET_ID = "nusnet";
+    public static final String COLUMN_MATRIC_NUM = "matric";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_NAME = "name";
+
+    /** The columns that identify a student, in the order they are tried in each row. */
+    public static final List<String> STUDENT_COLUMNS = List.of(COLUMN_NUSNET_ID, COLUMN_MATRIC_NUM, COLUMN_EMAIL,
+            COLUMN_NAME);
+
+    public static final String MESSAGE_STUDENT_NOT_IN_TUTORIAL = "No student %1$s in this tutorial";
+    public static final String MESSAGE_MULTIPLE_STUDENTS_OF_NAME = "There are multiple students named %1$s in this "
+            + "tutorial. Identify them by NUSNET id, matric number or email instead.";
+
+    private final Map<Object, List<Student>> studentsByNusnetId;
+    private final Map<Object, List<Student>> studentsByMatricNum;
+    private final Map<Object, List<Student>> studentsByEmail;
+    private final Map<Object, List<Student>> studentsByName;
+
+    public StudentLookup(List<Student> students) {
+        studentsByNusnetId = index(students, student -> student.getNusnetId().orElse(null));
+        studentsByMatricNum = index(students, student -> student.getMatricNum().orElse(null));
+        studentsByEmail = index(students, Student::getEmail);
+        studentsByName = index(students, Student::getName);
+    }
+
+    /**
+     * Returns true if any of the columns identifies a student.
+     */
+    public static boolean hasStudentColumn(Map<String, Integer> columns) {
+        return STUDENT_COLUMNS.stream().anyMatch(columns::containsKey);
+    }
+
+    /**
+     * Returns the student identified by the first student column with a value in the row.
+     *
+     * @throws ParseException if no student column has a value, the value is invalid, or it identifies no student
+     *     or several students of the tutorial.
+     */
+    public Student find(String[] row, Map<String, Integer> columns) throws ParseException {
+        for (String column : STUDENT_COLUMNS) {
+            Optional<String> value = getValue(row, columns, column);
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (column) {
+            case COLUMN_NUSNET_ID:
+                return find(studentsByNusnetId, ParserUtil.parseNusnetId(value.get()));
+            case COLUMN_MATRIC_NUM:
+                return find(studentsByMatricNum, ParserUtil.parseMatricNum(value.get()));
+            case COLUMN_EMAIL:
+                return find(studentsByEmail, ParserUtil.parseEmail(value.get()));
+            default:
+                return find(studentsByName, ParserUtil.parseName(value.get()));
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_MISSING_VALUE, "student"));
+    }
+
+    private static Student find(Map<Object, List<Student>> studentsByKey, Object key) throws ParseException {
+        List<Student> students = studentsByKey.getOrDefault(key, List.of());
+        if (students.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_STUDENT_NOT_IN_TUTORIAL, key));
+        } else if (students.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_MULTIPLE_STUDENTS_OF_NAME, key));
+        }
+        return students.get(0);
+    }
+
+    private static Map<Object, List<Student>> index(List<Student> students, Function<Student, Object> getKey) {
+        Map<Object, List<Student>> studentsByKey = new HashMap<>();
+        for (Student student : students) {
+            Object key = getKey.apply(student);
+            if (key != null) {
+                studentsByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(student);
+            }
+        }
+        return studentsByKey;
+    }
+}
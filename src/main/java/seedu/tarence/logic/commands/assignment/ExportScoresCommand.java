@@ -0,0 +1,263 @@
+package seedu.tarence.logic.commands.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_EMAIL;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_MATRIC_NUM;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NAME;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NUSNET_ID;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.opencsv.CSVWriter;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.Command;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.ScoreTable;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Exports the scores of the students of a tutorial, or of every tutorial of a module, to a csv gradebook with a row
+ * for each student and a column for each assignment. Scores that have not been submitted are left blank.
+ */
+public class ExportScoresCommand extends Command {
+
+    public static final String COLUMN_TUTORIAL = "tutorial";
+
+    public static final String MESSAGE_EXPORT_SCORES_SUCCESS = "Scores of %1$s exported successfully to /data/%2$s.csv";
+    public static final String MESSAGE_NO_TUTORIALS = "There are no tutorials to export!";
+
+    public static final String COMMAND_WORD = "exportScores";
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "exportscore", "exportgrades",
+        "exportgradebook"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the scores of the students of a tutorial, or "
+            + "of every tutorial of a module, in a csv file with a column for each assignment.\n"
+            + "Parameters:\n"
+            + PREFIX_TUTORIAL_NAME + "TUTORIAL NAME "
+            + PREFIX_MODULE + "MODULE CODE "
+            + PREFIX_FILE + "FILE NAME (OPTIONAL)\n"
+            + PREFIX_INDEX + "TUTORIAL INDEX "
+            + PREFIX_FILE + "FILE NAME (OPTIONAL)\n"
+            + PREFIX_MODULE + "MODULE CODE "
+            + PREFIX_FILE + "FILE NAME (OPTIONAL)\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_TUTORIAL_NAME + "Lab 1 "
+            + PREFIX_MODULE + "CS1010 "
+            + PREFIX_FILE + "lab1Scores\n"
+            + COMMAND_WORD + " "
+            + PREFIX_MODULE + "CS1010\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private static final Path EXPORT_DIRECTORY = Paths.get("data");
+    private static final String EXPORT_FILE_NAME = "%s.csv";
+    private static final String[] STUDENT_COLUMNS = {COLUMN_NAME, COLUMN_NUSNET_ID, COLUMN_MATRIC_NUM, COLUMN_EMAIL};
+
+    private final Optional<ModCode> targetModCode;
+    private final Optional<TutName> targetTutName;
+    private final Optional<Index> targetIndex;
+    private final Optional<String> fileName;
+    private final Path exportDirectory;
+
+    /**
+     * Creates a command exporting the scores of the tutorial given by either its module code and name, or its index,
+     * or of every tutorial of the module if only a module code is given.
+     */
+    public ExportScoresCommand(ModCode modCode, TutName tutName, Index index, String fileName) {
+        this(modCode, tutName, index, fileName, EXPORT_DIRECTORY);
+    }
+
+    /**
+     * Creates an ExportScoresCommand that exports to {@code exportDirectory} instead of the data directory.
+     */
+    ExportScoresCommand(ModCode modCode, TutName tutName, Index index, String fileName, Path exportDirectory) {
+        requireNonNull(exportDirectory);
+        this.targetModCode = Optional.ofNullable(modCode);
+        this.targetTutName = Optional.ofNullable(tutName);
+        this.targetIndex = Optional.ofNullable(index);
+        this.fileName = Optional.ofNullable(fileName);
+        this.exportDirectory = exportDirectory;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutorial> lastShownList = model.getFilteredTutorialList();
+
+        List<Tutorial> tutorials;
+        if (targetModCode.isPresent() && targetTutName.isPresent()) {
+            Tutorial targetTutorial = lastShownList.stream()
+                    .filter(tut -> tut.getTutName().equals(targetTutName.get())
+                    && tut.getModCode().equals(targetModCode.get()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE));
+            tutorials = List.of(targetTutorial);
+        } else if (targetIndex.isPresent()) {
+            try {
+                tutorials = List.of(lastShownList.get(targetIndex.get().getZeroBased()));
+            } catch (IndexOutOfBoundsException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX);
+            }
+        } else {
+            if (!model.hasModuleOfCode(targetModCode.get())) {
+                throw new CommandException(Messages.MESSAGE_INVALID_MODULE_IN_APPLICATION);
+            }
+            tutorials = lastShownList.stream()
+                    .filter(tut -> tut.getModCode().equals(targetModCode.get()))
+                    .collect(Collectors.toList());
+            if (tutorials.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_TUTORIALS);
+            }
+        }
+
+        boolean isModuleExport = targetTutName.isEmpty() && targetIndex.isEmpty();
+        String exportedName;
+        String defaultFileName;
+        if (isModuleExport) {
+            exportedName = targetModCode.get().toString();
+            defaultFileName = String.format("Scores_%1$s", exportedName);
+        } else {
+            Tutorial targetTutorial = tutorials.get(0);
+            exportedName = targetTutorial.getTutName().toString();
+            defaultFileName = String.format("Scores_%1$s_%2$s", targetTutorial.getTutName(),
+                    targetTutorial.getModCode());
+        }
+        String exportFileName = fileName.orElse(defaultFileName);
+
+        try {
+            Files.createDirectories(exportDirectory);
+            writeScores(tutorials, isModuleExport,
+                    exportDirectory.resolve(String.format(EXPORT_FILE_NAME, exportFileName)));
+        } catch (IOException | InvalidPathException e) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+        }
+
+        return new CommandResult(String.format(MESSAGE_EXPORT_SCORES_SUCCESS, exportedName, exportFileName));
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Writes the scores of the tutorials to a csv file, with a row for each student and a column for each assignment.
+     * Assignments that are equal across tutorials share a column, and the columns are in order of the assignments.
+     * The rows are streamed from the score table of each tutorial, through a single row that is reused for every
+     * student.
+     *
+     * @param hasTutorialColumn whether each row begins with the name of the tutorial of the student.
+     */
+    private static void writeScores(List<Tutorial> tutorials, boolean hasTutorialColumn, Path filePath)
+            throws IOException {
+        TreeMap<Assignment, Integer> assignmentColumns = new TreeMap<>();
+        for (Tutorial tutorial : tutorials) {
+            for (Assignment assignment : tutorial.getAssignments()) {
+                assignmentColumns.putIfAbsent(assignment, 0);
+            }
+        }
+        int firstScoreColumn = STUDENT_COLUMNS.length + (hasTutorialColumn ? 1 : 0);
+        int column = firstScoreColumn;
+        for (Assignment assignment : assignmentColumns.keySet()) {
+            assignmentColumns.put(assignment, column++);
+        }
+
+        try (
+            Writer writer = Files.newBufferedWriter(filePath);
+            CSVWriter csvWriter = new CSVWriter(writer);
+        ) {
+            String[] row = new String[firstScoreColumn + assignmentColumns.size()];
+            int studentColumn = 0;
+            if (hasTutorialColumn) {
+                row[studentColumn++] = COLUMN_TUTORIAL;
+            }
+            System.arraycopy(STUDENT_COLUMNS, 0, row, studentColumn, STUDENT_COLUMNS.length);
+            for (Assignment assignment : assignmentColumns.keySet()) {
+                row[assignmentColumns.get(assignment)] = assignment.getAssignName();
+            }
+            csvWriter.writeNext(row, false);
+
+            for (Tutorial tutorial : tutorials) {
+                ScoreTable scoreTable = tutorial.getScoreTable();
+                List<Assignment> assignments = scoreTable.getAssignments();
+                int[] columnsOfAssignments = new int[assignments.size()];
+                for (int i = 0; i < assignments.size(); i++) {
+                    columnsOfAssignments[i] = assignmentColumns.get(assignments.get(i));
+                }
+
+                for (Student student : tutorial.getStudents()) {
+                    if (hasTutorialColumn) {
+                        row[0] = tutorial.getTutName().toString();
+                    }
+                    row[studentColumn] = student.getName().toString();
+                    row[studentColumn + 1] = student.getNusnetId().map(Object::toString).orElse("");
+                    row[studentColumn + 2] = student.getMatricNum().map(Object::toString).orElse("");
+                    row[studentColumn + 3] = student.getEmail().toString();
+                    Arrays.fill(row, firstScoreColumn, row.length, "");
+                    int[] scores = scoreTable.getScores(student);
+                    for (int i = 0; i < scores.length; i++) {
+                        if (scores[i] != Tutorial.NOT_SUBMITTED) {
+                            row[columnsOfAssignments[i]] = String.valueOf(scores[i]);
+                        }
+                    }
+                    csvWriter.writeNext(row, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportScoresCommand)) {
+            return false;
+        }
+        ExportScoresCommand otherCommand = (ExportScoresCommand) other;
+        return targetModCode.equals(otherCommand.targetModCode)
+                && targetTutName.equals(otherCommand.targetTutName)
+                && targetIndex.equals(otherCommand.targetIndex)
+                && fileName.equals(otherCommand.fileName)
+                && exportDirectory.equals(otherCommand.exportDirectory);
+    }
+}
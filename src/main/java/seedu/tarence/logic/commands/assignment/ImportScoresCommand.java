@@ -0,0 +1,283 @@
+package seedu.tarence.logic.commands.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.CsvImportUtil.getRowErrorsReport;
+import static seedu.tarence.logic.commands.CsvImportUtil.getValue;
+import static seedu.tarence.logic.commands.CsvImportUtil.isBlankRow;
+import static seedu.tarence.logic.commands.CsvImportUtil.readHeader;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_EMAIL;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_MATRIC_NUM;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NAME;
+import static seedu.tarence.logic.commands.StudentLookup.COLUMN_NUSNET_ID;
+import static seedu.tarence.logic.commands.StudentLookup.STUDENT_COLUMNS;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.opencsv.CSVReader;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.Command;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.DisplayFormat;
+import seedu.tarence.logic.commands.StudentLookup;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.storage.Storage;
+
+/**
+ * Sets the scores of the students of a tutorial for one or more of its assignments from a csv score sheet, instead of
+ * setting each score with a {@code setAssignmentScore} command. Rows that are invalid or name a student who is not in
+ * the tutorial are skipped and reported, and the rest are set at once.
+ */
+public class ImportScoresCommand extends Command {
+
+    public static final String MESSAGE_IMPORT_SCORES_SUCCESS = "%1$d scores of %2$d students imported to %3$s from "
+            + "%4$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The score sheet must begin with a header row naming a "
+            + "student column (%1$s, %2$s, %3$s or %4$s) and a column for each assignment.";
+    public static final String MESSAGE_UNKNOWN_ASSIGNMENTS = "No such assignments in this tutorial: %1$s";
+    public static final String MESSAGE_MULTIPLE_ASSIGNMENTS_OF_NAME = "There are multiple assignments named %1$s in "
+            + "this tutorial.";
+    public static final String MESSAGE_STUDENT_IN_EARLIER_ROW = "The scores of %1$s are already given in row %2$d";
+    public static final String MESSAGE_INVALID_SCORE = "Invalid score for %1$s. "
+            + Assignment.MESSAGE_CONSTRAINTS_SCORE;
+
+    public static final String COMMAND_WORD = "importScores";
+    private static final String[] COMMAND_SYNONYMS = {COMMAND_WORD.toLowerCase(), "importscore", "importgrades",
+        "importgradebook"};
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the scores of the students of a tutorial for "
+            + "its assignments from a csv file.\n"
+            + "The file begins with a header row naming a column that identifies each student, "
+            + COLUMN_NUSNET_ID + ", " + COLUMN_MATRIC_NUM + ", " + COLUMN_EMAIL + " or " + COLUMN_NAME + ", "
+            + "and a column for each assignment, named after it. Blank scores are left unchanged, and rows with errors "
+            + "are skipped and reported.\n"
+            + "Parameters:\n"
+            + PREFIX_TUTORIAL_NAME + "TUTORIAL NAME "
+            + PREFIX_MODULE + "MODULE CODE "
+            + PREFIX_FILE + "FILE PATH\n"
+            + PREFIX_INDEX + "TUTORIAL INDEX "
+            + PREFIX_FILE + "FILE PATH\n"
+            + "Example:\n"
+            + COMMAND_WORD + " "
+            + PREFIX_TUTORIAL_NAME + "Lab 1 "
+            + PREFIX_MODULE + "CS1010 "
+            + PREFIX_FILE + "data/lab1scores.csv\n"
+            + COMMAND_WORD + " "
+            + PREFIX_INDEX + "1 "
+            + PREFIX_FILE + "data/lab1scores.csv\n"
+            + "Synonyms:\n"
+            + String.join("\n", COMMAND_SYNONYMS);
+
+    private final Optional<ModCode> targetModCode;
+    private final Optional<TutName> targetTutName;
+    private final Optional<Index> targetIndex;
+    private final Path filePath;
+
+    /**
+     * Creates a command importing scores to the tutorial given by either its module code and name, or its index.
+     */
+    public ImportScoresCommand(ModCode modCode, TutName tutName, Index index, Path filePath) {
+        requireNonNull(filePath);
+        this.targetModCode = Optional.ofNullable(modCode);
+        this.targetTutName = Optional.ofNullable(tutName);
+        this.targetIndex = Optional.ofNullable(index);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutorial> lastShownList = model.getFilteredTutorialList();
+
+        Tutorial targetTutorial;
+        if (targetModCode.isPresent() && targetTutName.isPresent()) {
+            targetTutorial = lastShownList.stream()
+                    .filter(tut -> tut.getTutName().equals(targetTutName.get())
+                    && tut.getModCode().equals(targetModCode.get()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE));
+        } else {
+            try {
+                targetTutorial = lastShownList.get(targetIndex.get().getZeroBased());
+            } catch (IndexOutOfBoundsException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX);
+            }
+        }
+
+        StudentLookup studentLookup = new StudentLookup(targetTutorial.getStudents());
+        Map<Assignment, Map<Student, Integer>> newScores = new LinkedHashMap<>();
+        Map<Student, Integer> rowsOfStudents = new HashMap<>();
+        List<String> rowErrors = new ArrayList<>();
+        int scoreCount = 0;
+
+        try (Reader reader = Files.newBufferedReader(filePath); CSVReader csvReader = new CSVReader(reader)) {
+            Map<String, Integer> columns = readHeader(csvReader.readNext());
+            Map<Assignment, Integer> assignmentColumns = getAssignmentColumns(columns, targetTutorial);
+            for (Assignment assignment : assignmentColumns.keySet()) {
+                newScores.put(assignment, new HashMap<>());
+            }
+
+            int rowNumber = 1;
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                rowNumber++;
+                if (isBlankRow(row)) {
+                    continue;
+                }
+                try {
+                    Student student = studentLookup.find(row, columns);
+                    Map<Assignment, Integer> rowScores = parseScores(row, assignmentColumns);
+                    Integer earlierRow = rowsOfStudents.putIfAbsent(student, rowNumber);
+                    if (earlierRow != null) {
+                        throw new ParseException(String.format(MESSAGE_STUDENT_IN_EARLIER_ROW, student.getName(),
+                                earlierRow));
+                    }
+                    rowScores.forEach((assignment, score) -> newScores.get(assignment).put(student, score));
+                    scoreCount += rowScores.size();
+                } catch (ParseException e) {
+                    rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FILE);
+        }
+
+        // every score has been validated, so the whole sheet is set in one pass
+        targetTutorial.setScores(newScores);
+
+        String feedback = String.format(MESSAGE_IMPORT_SCORES_SUCCESS, scoreCount, rowsOfStudents.size(),
+                targetTutorial.getTutName(), filePath.getFileName()) + getRowErrorsReport(rowErrors);
+        if (newScores.size() == 1) {
+            Assignment assignment = newScores.keySet().iterator().next();
+            return new CommandResult(feedback, assignment, targetTutorial.getAssignmentScores(assignment),
+                    DisplayFormat.GRAPH);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns the column of each assignment in the score sheet, in the order of the columns.
+     *
+     * @throws CommandException if there is no student or assignment column, or a column names no assignment or
+     *     several of the tutorial's assignments.
+     */
+    private static Map<Assignment, Integer> getAssignmentColumns(Map<String, Integer> columns, Tutorial tutorial)
+            throws CommandException {
+        Map<String, List<Assignment>> assignmentsByName = new HashMap<>();
+        for (Assignment assignment : tutorial.getAssignments()) {
+            assignmentsByName.computeIfAbsent(assignment.getAssignName().trim().toLowerCase(), k -> new ArrayList<>())
+                    .add(assignment);
+        }
+
+        List<Map.Entry<String, Integer>> scoreColumns = new ArrayList<>(columns.entrySet());
+        scoreColumns.removeIf(column -> column.getKey().isEmpty() || STUDENT_COLUMNS.contains(column.getKey()));
+        scoreColumns.sort(Map.Entry.comparingByValue());
+        if (scoreColumns.isEmpty() || !StudentLookup.hasStudentColumn(columns)) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, COLUMN_NUSNET_ID, COLUMN_MATRIC_NUM,
+                    COLUMN_EMAIL, COLUMN_NAME));
+        }
+
+        Map<Assignment, Integer> assignmentColumns = new LinkedHashMap<>();
+        List<String> unknownAssignments = new ArrayList<>();
+        for (Map.Entry<String, Integer> column : scoreColumns) {
+            List<Assignment> assignments = assignmentsByName.get(column.getKey());
+            if (assignments == null) {
+                unknownAssignments.add(column.getKey());
+            } else if (assignments.size() > 1) {
+                throw new CommandException(String.format(MESSAGE_MULTIPLE_ASSIGNMENTS_OF_NAME, column.getKey()));
+            } else {
+                assignmentColumns.put(assignments.get(0), column.getValue());
+            }
+        }
+        if (!unknownAssignments.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_ASSIGNMENTS,
+                    String.join(", ", unknownAssignments)));
+        }
+        return assignmentColumns;
+    }
+
+    /**
+     * Returns the scores given in a row of the score sheet, by assignment. Blank scores are left out.
+     *
+     * @throws ParseException if any score is not an integer between 0 and the maximum score of its assignment.
+     */
+    private static Map<Assignment, Integer> parseScores(String[] row, Map<Assignment, Integer> assignmentColumns)
+            throws ParseException {
+        Map<Assignment, Integer> rowScores = new HashMap<>();
+        for (Map.Entry<Assignment, Integer> column : assignmentColumns.entrySet()) {
+            Assignment assignment = column.getKey();
+            Optional<String> value = getValue(row, column.getValue());
+            if (value.isEmpty()) {
+                continue;
+            }
+            int score;
+            try {
+                score = Integer.parseInt(value.get());
+            } catch (NumberFormatException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCORE, assignment.getAssignName()));
+            }
+            if (score < 0 || score > assignment.getMaxScore()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCORE, assignment.getAssignName()));
+            }
+            rowScores.put(assignment, score);
+        }
+        return rowScores;
+    }
+
+    /**
+     * Returns true if user command matches command word or any defined synonyms, and false otherwise.
+     *
+     * @param userCommand command word from user.
+     * @return whether user command matches specified command word or synonyms.
+     */
+    public static boolean isMatchingCommandWord(String userCommand) {
+        for (String synonym : COMMAND_SYNONYMS) {
+            if (synonym.equals(userCommand.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImportScoresCommand)) {
+            return false;
+        }
+        ImportScoresCommand otherCommand = (ImportScoresCommand) other;
+        return targetModCode.equals(otherCommand.targetModCode)
+                && targetTutName.equals(otherCommand.targetTutName)
+                && targetIndex.equals(otherCommand.targetIndex)
+                && filePath.equals(otherCommand.filePath);
+    }
+}
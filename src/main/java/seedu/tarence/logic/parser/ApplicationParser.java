@@ -22,17 +22,23 @@ import seedu.tarence.logic.commands.DisplayAssignmentScoreCommand;
 import seedu.tarence.logic.commands.DisplayAttendanceCommand;
 import seedu.tarence.logic.commands.EditCommand;
 import seedu.tarence.logic.commands.ExitCommand;
+import seedu.tarence.logic.commands.ExportAllAttendanceCommand;
 import seedu.tarence.logic.commands.ExportAttendanceCommand;
 import seedu.tarence.logic.commands.FindCommand;
 import seedu.tarence.logic.commands.HelpCommand;
+import seedu.tarence.logic.commands.ImportAttendanceCommand;
 import seedu.tarence.logic.commands.ImportCommand;
+import seedu.tarence.logic.commands.ImportRosterCommand;
 import seedu.tarence.logic.commands.ListCommand;
+import seedu.tarence.logic.commands.MarkAllAttendanceCommand;
 import seedu.tarence.logic.commands.MarkAttendanceCommand;
 import seedu.tarence.logic.commands.SelectSuggestionCommand;
 import seedu.tarence.logic.commands.SetSemStartCommand;
 import seedu.tarence.logic.commands.UndoCommand;
 import seedu.tarence.logic.commands.assignment.AddAssignmentCommand;
 import seedu.tarence.logic.commands.assignment.DeleteAssignmentCommand;
+import seedu.tarence.logic.commands.assignment.ExportScoresCommand;
+import seedu.tarence.logic.commands.assignment.ImportScoresCommand;
 import seedu.tarence.logic.commands.assignment.SetAssignmentScoreCommand;
 import seedu.tarence.logic.commands.event.AddEventCommand;
 import seedu.tarence.logic.commands.event.DeleteEventCommand;
@@ -40,6 +46,8 @@ import seedu.tarence.logic.commands.event.EditEventCommand;
 import seedu.tarence.logic.commands.event.ListEventsCommand;
 import seedu.tarence.logic.parser.assignment.AddAssignmentCommandParser;
 import seedu.tarence.logic.parser.assignment.DeleteAssignmentCommandParser;
+import seedu.tarence.logic.parser.assignment.ExportScoresCommandParser;
+import seedu.tarence.logic.parser.assignment.ImportScoresCommandParser;
 import seedu.tarence.logic.parser.assignment.SetAssignmentScoreCommandParser;
 import seedu.tarence.logic.parser.event.AddEventCommandParser;
 import seedu.tarence.logic.parser.event.DeleteEventCommandParser;
@@ -97,6 +105,8 @@ public class ApplicationParser {
             return new AddTutorialCommandParser().parse(arguments);
         } else if (MarkAttendanceCommand.isMatchingCommandWord(commandWord)) {
             return new MarkAttendanceCommandParser().parse(arguments);
+        } else if (MarkAllAttendanceCommand.isMatchingCommandWord(commandWord)) {
+            return new MarkAllAttendanceCommandParser().parse(arguments);
         } else if (ConfirmNoCommand.isMatchingCommandWord(commandWord)) {
             return new ConfirmNoCommand();
         } else if (ConfirmYesCommand.isMatchingCommandWord(commandWord)) {
@@ -105,6 +115,10 @@ public class ApplicationParser {
             return new SelectSuggestionCommandParser().parse(commandWord);
         } else if (ExportAttendanceCommand.isMatchingCommandWord(commandWord)) {
             return new ExportAttendanceCommandParser().parse(arguments);
+        } else if (ExportAllAttendanceCommand.isMatchingCommandWord(commandWord)) {
+            return new ExportAllAttendanceCommandParser().parse(arguments);
+        } else if (ImportAttendanceCommand.isMatchingCommandWord(commandWord)) {
+            return new ImportAttendanceCommandParser().parse(arguments);
         } else if (DisplayAttendanceCommand.isMatchingCommandWord(commandWord)) {
             return new DisplayAttendanceCommandParser().parse(arguments);
         } else if (AddAssignmentCommand.isMatchingCommandWord(commandWord)) {
@@ -113,6 +127,10 @@ public class ApplicationParser {
             return new DeleteAssignmentCommandParser().parse(arguments);
         } else if (SetAssignmentScoreCommand.isMatchingCommandWord(commandWord)) {
             return new SetAssignmentScoreCommandParser().parse(arguments);
+        } else if (ImportScoresCommand.isMatchingCommandWord(commandWord)) {
+            return new ImportScoresCommandParser().parse(arguments);
+        } else if (ExportScoresCommand.isMatchingCommandWord(commandWord)) {
+            return new ExportScoresCommandParser().parse(arguments);
         } else if (AddEventCommand.isMatchingCommandWord(commandWord)) {
             return new AddEventCommandParser().parse(arguments);
         } else if (DeleteEventCommand.isMatchingCommandWord(commandWord)) {
@@ -131,6 +149,8 @@ public class ApplicationParser {
             return new DisplayAssignmentScoreCommandParser().parse(arguments);
         } else if (ImportCommand.isMatchingCommandWord(commandWord)) {
             return new ImportCommandParser().parse(arguments);
+        } else if (ImportRosterCommand.isMatchingCommandWord(commandWord)) {
+            return new ImportRosterCommandParser().parse(arguments);
         } else if (DisplayAssignmentListCommand.isMatchingCommandWord(commandWord)) {
             return new DisplayAssignmentListCommandParser().parse(arguments);
         } else if (ClearCommand.isMatchingCommandWord(commandWord) && arguments.isEmpty()) {
@@ -9,6 +9,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_END_DATE = new Prefix("ed/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("except/");
     public static final Prefix PREFIX_FILE = new Prefix("f/");
     public static final Prefix PREFIX_INDEX = new Prefix("i/");
     public static final Prefix PREFIX_FORMAT = new Prefix("f/");
@@ -17,6 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_SCORE = new Prefix("score/");
     public static final Prefix PREFIX_MODULE = new Prefix("m/");
     public static final Prefix PREFIX_START_DATE = new Prefix("sd/");
+    public static final Prefix PREFIX_STUDENT_INDEX = new Prefix("si/");
     public static final Prefix PREFIX_TUTORIAL_NAME = new Prefix("tn/");
     public static final Prefix PREFIX_TUTORIAL_DAY = new Prefix("d/");
     public static final Prefix PREFIX_TUTORIAL_START_TIME = new Prefix("st/");
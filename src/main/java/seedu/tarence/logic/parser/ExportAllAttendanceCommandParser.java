@@ -0,0 +1,38 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+
+import java.util.Optional;
+
+import seedu.tarence.logic.commands.ExportAllAttendanceCommand;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.module.ModCode;
+
+/**
+ * Parses input arguments and creates a new ExportAllAttendanceCommand object
+ */
+public class ExportAllAttendanceCommandParser implements Parser<ExportAllAttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportAllAttendanceCommand
+     * and returns an ExportAllAttendanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportAllAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_FILE);
+
+        Optional<String> fileName = argMultimap.getValue(PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty() || (fileName.isPresent() && fileName.get().isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportAllAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        ModCode modCode = null;
+        if (argMultimap.getValue(PREFIX_MODULE).isPresent()) {
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+        }
+        return new ExportAllAttendanceCommand(modCode, fileName.orElse(null));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.ImportAttendanceCommand;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+/**
+ * Parses input arguments and creates a new ImportAttendanceCommand object
+ */
+public class ImportAttendanceCommandParser implements Parser<ImportAttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportAttendanceCommand
+     * and returns an ImportAttendanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_INDEX, PREFIX_FILE);
+
+        ModCode modCode = null;
+        TutName tutName = null;
+        Index tutIndex = null;
+        if (ExportAttendanceCommandParser.validateModCodeTutNameFormat(argMultimap)) {
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+            tutName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
+        } else if (ExportAttendanceCommandParser.validateIndexFormat(argMultimap)) {
+            tutIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> filePath = argMultimap.getValue(PREFIX_FILE);
+        if (filePath.isEmpty() || filePath.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportAttendanceCommand.MESSAGE_USAGE));
+        }
+        Path parsedFilePath;
+        try {
+            parsedFilePath = Paths.get(filePath.get());
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportAttendanceCommand.MESSAGE_USAGE));
+        }
+        return new ImportAttendanceCommand(modCode, tutName, tutIndex, parsedFilePath);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.tarence.logic.commands.ImportRosterCommand;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportRosterCommand object
+ */
+public class ImportRosterCommandParser implements Parser<ImportRosterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportRosterCommand
+     * and returns an ImportRosterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportRosterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        Optional<String> filePath = argMultimap.getValue(PREFIX_FILE);
+        if (filePath.isEmpty() || filePath.get().isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportRosterCommand.MESSAGE_USAGE));
+        }
+
+        Path parsedFilePath;
+        try {
+            parsedFilePath = Paths.get(filePath.get());
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportRosterCommand.MESSAGE_USAGE));
+        }
+        return new ImportRosterCommand(parsedFilePath);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_NUSID;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_WEEKS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.MarkAllAttendanceCommand;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Week;
+
+/**
+ * Parses input arguments and creates a new MarkAllAttendanceCommand object
+ */
+public class MarkAllAttendanceCommandParser implements Parser<MarkAllAttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkAllAttendanceCommand
+     * and returns a MarkAllAttendanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MarkAllAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_TUTORIAL_NAME,
+                PREFIX_INDEX, PREFIX_TUTORIAL_WEEKS, PREFIX_EXCEPT, PREFIX_NAME, PREFIX_NUSID, PREFIX_STUDENT_INDEX);
+
+        ModCode modCode = null;
+        TutName tutName = null;
+        Index tutIndex = null;
+        if (MarkAttendanceCommandParser.validateModCodeTutNameFormat(argMultimap)) {
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+            tutName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
+        } else if (MarkAttendanceCommandParser.validateIndexFormat(argMultimap)) {
+            tutIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MarkAllAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        // except/ only marks the students listed as the absent ones, and takes no value of its own
+        Optional<String> except = argMultimap.getValue(PREFIX_EXCEPT);
+        if (except.isPresent() && !except.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MarkAllAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        Week week = ParserUtil.parseWeek(argMultimap.getValue(PREFIX_TUTORIAL_WEEKS).get());
+        List<Name> studNames = new ArrayList<>();
+        for (String studName : argMultimap.getAllValues(PREFIX_NAME)) {
+            studNames.add(ParserUtil.parseName(studName));
+        }
+        List<NusnetId> nusnetIds = new ArrayList<>();
+        for (String nusnetId : argMultimap.getAllValues(PREFIX_NUSID)) {
+            nusnetIds.add(ParserUtil.parseNusnetId(nusnetId));
+        }
+        List<Index> studIndexes = new ArrayList<>();
+        for (String studIndex : argMultimap.getAllValues(PREFIX_STUDENT_INDEX)) {
+            studIndexes.add(ParserUtil.parseIndex(studIndex));
+        }
+
+        return new MarkAllAttendanceCommand(modCode, tutName, tutIndex, week, studNames, nusnetIds, studIndexes,
+                except.isPresent());
+    }
+}
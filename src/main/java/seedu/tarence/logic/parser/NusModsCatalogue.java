@@ -0,0 +1,129 @@
+package seedu.tarence.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.tarence.commons.core.LogsCenter;
+
+/**
+ * Catalogue of the modules in a NUSMods lessons file, which is a JSON array with an object for each module.
+ * Loading the catalogue only records where the object of each module starts and ends in the file, so that the
+ * lessons of a module can be parsed when they are first needed instead of parsing every module up front.
+ * Loading starts on a background thread at the first call to {@code startLoading} or {@code getModuleJson}.
+ */
+class NusModsCatalogue {
+    private static final Logger logger = LogsCenter.getLogger(NusModsCatalogue.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String MODULE_CODE_FIELD = "moduleCode";
+
+    private final String resourcePath;
+    private CompletableFuture<Index> index;
+
+    NusModsCatalogue(String resourcePath) {
+        requireNonNull(resourcePath);
+        this.resourcePath = resourcePath;
+    }
+
+    /**
+     * Starts loading the catalogue on a background thread, if it has not started already.
+     */
+    synchronized void startLoading() {
+        if (index == null) {
+            index = CompletableFuture.supplyAsync(this::loadIndex);
+        }
+    }
+
+    /**
+     * Returns the JSON object of the module of the given code, waiting for the catalogue to load if needed.
+     */
+    Optional<String> getModuleJson(String moduleCode) {
+        requireNonNull(moduleCode);
+        startLoading();
+        Index loadedIndex = index.join();
+        int[] span = loadedIndex.moduleSpans.get(moduleCode);
+        if (span == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(loadedIndex.json, span[0], span[1] - span[0], StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the lessons file and records the span of bytes taken up by each module.
+     * The catalogue is left empty if the file cannot be read.
+     */
+    private Index loadIndex() {
+        long start = System.nanoTime();
+        try (InputStream stream = NusModsCatalogue.class.getResourceAsStream(resourcePath)) {
+            if (stream == null) {
+                throw new IOException("Missing resource " + resourcePath);
+            }
+            byte[] json = stream.readAllBytes();
+            Index loadedIndex = new Index(json, indexModules(json));
+            logger.fine(String.format("Indexed %d NUSMods modules in %d ms", loadedIndex.moduleSpans.size(),
+                    (System.nanoTime() - start) / 1_000_000));
+            return loadedIndex;
+        } catch (IOException e) {
+            logger.warning("Unable to load NUSMods lessons: " + e);
+            return new Index(new byte[0], new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the start and end byte offsets of the object of each module in the given JSON array, by module code.
+     * Only the module codes are read; the lessons are skipped over.
+     */
+    static Map<String, int[]> indexModules(byte[] json) throws IOException {
+        Map<String, int[]> moduleSpans = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected an array of modules");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int start = (int) parser.getTokenLocation().getByteOffset();
+                String moduleCode = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (MODULE_CODE_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                        moduleCode = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                int end = (int) parser.getCurrentLocation().getByteOffset();
+                if (moduleCode == null) {
+                    continue;
+                }
+                if (moduleSpans.put(moduleCode, new int[] {start, end}) != null) {
+                    logger.warning("Duplicate NUSMods module " + moduleCode);
+                }
+            }
+        }
+        return moduleSpans;
+    }
+
+    /**
+     * The contents of the lessons file, and the span of bytes taken up by each module in it.
+     */
+    private static class Index {
+        private final byte[] json;
+        private final Map<String, int[]> moduleSpans;
+
+        private Index(byte[] json, Map<String, int[]> moduleSpans) {
+            this.json = json;
+            this.moduleSpans = moduleSpans;
+        }
+    }
+}
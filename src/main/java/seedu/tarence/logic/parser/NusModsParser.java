@@ -1,27 +1,24 @@
 package seedu.tarence.logic.parser;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.stream.JsonReader;
 
-import seedu.tarence.MainApp;
 import seedu.tarence.logic.parser.exceptions.ParseException;
 import seedu.tarence.model.module.ModCode;
 import seedu.tarence.model.student.Student;
@@ -31,37 +28,43 @@ import seedu.tarence.model.tutorial.Week;
 
 /**
  * Handles parsing of NUSMods urls.
+ * The lessons of a module are only parsed the first time the module is looked up.
  */
 public class NusModsParser {
     private static final String LESSONS_JSON_URL = "/nusmods/lessons.json";
-    private static Map<String, Map<String, Map<String, Map<String, Tutorial>>>> lessonMap = NusModsParser.load();
+    private static final NusModsCatalogue catalogue = new NusModsCatalogue(LESSONS_JSON_URL);
+    // Lessons of each module that has been looked up, as a Map(semester > lessonType > classNo)
+    private static final Map<String, Map<String, Map<String, Map<String, Tutorial>>>> lessonMap =
+            new ConcurrentHashMap<>();
 
     /**
-     * Loads lesson json data into a Map(moduleCode > semester > lessonType > classNo).
+     * Starts loading the NUSMods catalogue in the background, so that the first import does not wait for it.
      */
-    public static Map<String, Map<String, Map<String, Map<String, Tutorial>>>> load() {
-        Map<String, Map<String, Map<String, Map<String, Tutorial>>>> lessonMap = new HashMap<>();
-        try (
-            InputStream stream = MainApp.class.getResourceAsStream(LESSONS_JSON_URL);
-            JsonReader reader = new JsonReader(new InputStreamReader(stream, "UTF-8"));
-        ) {
-            Gson gson = new GsonBuilder().create();
+    public static void startLoading() {
+        catalogue.startLoading();
+    }
 
-            reader.beginArray();
-            while (reader.hasNext()) {
-                ModObject modObject = gson.fromJson(reader, ModObject.class);
+    /**
+     * Returns the lessons of a module as a Map(semester > lessonType > classNo), or an empty map if the module
+     * cannot be found.
+     */
+    private static Map<String, Map<String, Map<String, Tutorial>>> getLessons(String moduleCode) {
+        return lessonMap.computeIfAbsent(moduleCode, code -> catalogue.getModuleJson(code)
+                .map(NusModsParser::loadModJson)
+                .orElse(Collections.emptyMap()));
+    }
 
-                if (lessonMap.containsKey(modObject.moduleCode)) {
-                    System.out.println("Duplicate " + modObject.moduleCode);
-                }
-                lessonMap.put(modObject.moduleCode, loadModObject(modObject));
-            }
-        } catch (IOException e) {
-            System.out.println(e);
+    /**
+     * Loads the json object of a module into a Map(semester > lessonType > classNo).
+     */
+    private static Map<String, Map<String, Map<String, Tutorial>>> loadModJson(String modJson) {
+        try {
+            Gson gson = new GsonBuilder().create();
+            return loadModObject(gson.fromJson(modJson, ModObject.class));
         } catch (JsonSyntaxException e) {
             System.out.println(e);
+            return Collections.emptyMap();
         }
-        return lessonMap;
     }
 
     /**
@@ -114,7 +117,7 @@ public class NusModsParser {
                     }
                     String classNo = lessonQuery.split(":")[1];
                     try {
-                        tutorials.add(lessonMap.get(module).get(semester).get(lessonType).get(classNo));
+                        tutorials.add(getLessons(module).get(semester).get(lessonType).get(classNo));
                     } catch (NullPointerException e) {
                         System.out.println(lessonQuery + " could not be found.");
                     }
@@ -112,7 +112,7 @@ public class ParserUtil {
         requireNonNull(nusnetId);
         String trimmedNusnetId = nusnetId.trim();
         if (!NusnetId.isValidNusnetId(trimmedNusnetId)) {
-            throw new ParseException(MatricNum.MESSAGE_CONSTRAINTS);
+            throw new ParseException(NusnetId.MESSAGE_CONSTRAINTS);
         }
         return new NusnetId(trimmedNusnetId);
     }
@@ -0,0 +1,59 @@
+package seedu.tarence.logic.parser.assignment;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.util.Optional;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.assignment.ExportScoresCommand;
+import seedu.tarence.logic.parser.ArgumentMultimap;
+import seedu.tarence.logic.parser.ArgumentTokenizer;
+import seedu.tarence.logic.parser.ExportAttendanceCommandParser;
+import seedu.tarence.logic.parser.Parser;
+import seedu.tarence.logic.parser.ParserUtil;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+/**
+ * Parses input arguments and creates a new ExportScoresCommand object
+ */
+public class ExportScoresCommandParser implements Parser<ExportScoresCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportScoresCommand
+     * and returns an ExportScoresCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportScoresCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_INDEX, PREFIX_FILE);
+
+        ModCode modCode = null;
+        TutName tutName = null;
+        Index tutIndex = null;
+        if (ExportAttendanceCommandParser.validateModCodeTutNameFormat(argMultimap)) {
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+            tutName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
+        } else if (ExportAttendanceCommandParser.validateIndexFormat(argMultimap)) {
+            tutIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        } else if (argMultimap.getValue(PREFIX_MODULE).isPresent()
+                && argMultimap.getValue(PREFIX_TUTORIAL_NAME).isEmpty()
+                && argMultimap.getValue(PREFIX_INDEX).isEmpty()) {
+            // module code alone - every tutorial of the module
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScoresCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> fileName = argMultimap.getValue(PREFIX_FILE);
+        if (fileName.isPresent() && fileName.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScoresCommand.MESSAGE_USAGE));
+        }
+        return new ExportScoresCommand(modCode, tutName, tutIndex, fileName.orElse(null));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.tarence.logic.parser.assignment;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.assignment.ImportScoresCommand;
+import seedu.tarence.logic.parser.ArgumentMultimap;
+import seedu.tarence.logic.parser.ArgumentTokenizer;
+import seedu.tarence.logic.parser.ExportAttendanceCommandParser;
+import seedu.tarence.logic.parser.Parser;
+import seedu.tarence.logic.parser.ParserUtil;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+/**
+ * Parses input arguments and creates a new ImportScoresCommand object
+ */
+public class ImportScoresCommandParser implements Parser<ImportScoresCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportScoresCommand
+     * and returns an ImportScoresCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportScoresCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_MODULE, PREFIX_TUTORIAL_NAME, PREFIX_INDEX, PREFIX_FILE);
+
+        ModCode modCode = null;
+        TutName tutName = null;
+        Index tutIndex = null;
+        if (ExportAttendanceCommandParser.validateModCodeTutNameFormat(argMultimap)) {
+            modCode = ParserUtil.parseModCode(argMultimap.getValue(PREFIX_MODULE).get());
+            tutName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIAL_NAME).get());
+        } else if (ExportAttendanceCommandParser.validateIndexFormat(argMultimap)) {
+            tutIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportScoresCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> filePath = argMultimap.getValue(PREFIX_FILE);
+        if (filePath.isEmpty() || filePath.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportScoresCommand.MESSAGE_USAGE));
+        }
+        Path parsedFilePath;
+        try {
+            parsedFilePath = Paths.get(filePath.get());
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportScoresCommand.MESSAGE_USAGE));
+        }
+        return new ImportScoresCommand(modCode, tutName, tutIndex, parsedFilePath);
+    }
+}
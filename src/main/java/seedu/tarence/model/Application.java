@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
 
 import javafx.collections.ObservableList;
-import seedu.tarence.commons.util.JsonUtil;
 import seedu.tarence.logic.commands.Command;
 import seedu.tarence.logic.parser.PartialInput;
 import seedu.tarence.model.module.ModCode;
@@ -20,9 +21,11 @@ import seedu.tarence.model.person.Person;
 import seedu.tarence.model.person.UniquePersonList;
 import seedu.tarence.model.person.exceptions.DuplicatePersonException;
 import seedu.tarence.model.student.Student;
+import seedu.tarence.model.student.StudentIndex;
 import seedu.tarence.model.tutorial.TutName;
 import seedu.tarence.model.tutorial.Tutorial;
 import seedu.tarence.model.tutorial.UniqueTutorialList;
+import seedu.tarence.model.util.ModificationCounter;
 
 /**
  * Wraps all data at the application level
@@ -33,6 +36,8 @@ public class Application implements ReadOnlyApplication {
     // application data
     private final UniquePersonList persons;
     private final UniquePersonList students;
+    // Every student in students, updated together with it
+    private final StudentIndex studentIndex;
     private final UniqueModuleList modules;
     private final UniqueTutorialList tutorials;
 
@@ -61,6 +66,7 @@ public class Application implements ReadOnlyApplication {
     {
         persons = new UniquePersonList();
         students = new UniquePersonList();
+        studentIndex = new StudentIndex();
         modules = new UniqueModuleList();
         tutorials = new UniqueTutorialList();
         pendingCommands = new Stack<>();
@@ -89,6 +95,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markModified();
     }
 
     /**
@@ -105,18 +112,16 @@ public class Application implements ReadOnlyApplication {
 
         // Clears unique student list in application
         this.students.setPersons(new UniquePersonList());
+        studentIndex.clear();
 
-        List<Student> studentList = new ArrayList<>(getStudentList());
+        StudentIndex newStudentIndex = new StudentIndex();
         for (Student s : students) {
-            boolean hasDuplicates = studentList.stream()
-                    .filter(stud -> !s.isSameStudent(stud))
-                    .anyMatch(stud -> s.isSamePerson(stud));
-            if (hasDuplicates) {
+            if (newStudentIndex.hasDuplicate(s)) {
                 throw new DuplicatePersonException();
             }
-            studentList.add(s);
+            newStudentIndex.add(s);
         }
-        for (Student student : studentList) {
+        for (Student student : students) {
             addStudentIgnoreDuplicates(student);
         }
     }
@@ -127,6 +132,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        markModified();
     }
 
     /**
@@ -135,6 +141,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void setTutorials(List<Tutorial> tutorials) {
         this.tutorials.setTutorials(tutorials);
+        markModified();
     }
 
     /**
@@ -165,6 +172,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markModified();
     }
 
     /**
@@ -175,6 +183,7 @@ public class Application implements ReadOnlyApplication {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        markModified();
     }
 
     /**
@@ -183,6 +192,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markModified();
     }
 
     /**
@@ -190,13 +200,7 @@ public class Application implements ReadOnlyApplication {
      */
     public void addStudentToTutorial(Student student) {
         requireNonNull(student);
-        Module targetModule = null;
-        for (Module module : modules) {
-            if (module.getModCode().equals(student.getModCode())) {
-                targetModule = module;
-                break;
-            }
-        }
+        Module targetModule = modules.getModuleByCode(student.getModCode()).get();
         for (Tutorial tutorial : targetModule.getTutorials()) {
             if (tutorial.getTutName().equals(student.getTutName())) {
                 tutorial.addStudent(student);
@@ -205,13 +209,44 @@ public class Application implements ReadOnlyApplication {
         }
     }
 
+    /**
+     * Adds the given students to the application, and each of them to its tutorial, even if duplicates exist.
+     * The tutorials are looked up once for the whole batch, and the student list is updated in a single change.
+     * The tutorial of each student must exist in its module.
+     */
+    public void addStudentsToTutorials(List<Student> newStudents) {
+        requireAllNonNull(newStudents);
+        Map<List<Object>, Tutorial> tutorialsByClass = new HashMap<>();
+        for (Module module : modules) {
+            for (Tutorial tutorial : module.getTutorials()) {
+                tutorialsByClass.putIfAbsent(List.of(module.getModCode(), tutorial.getTutName()), tutorial);
+            }
+        }
+
+        students.addAllIgnoreDuplicates(newStudents);
+        for (Student student : newStudents) {
+            studentIndex.add(student);
+            tutorialsByClass.get(List.of(student.getModCode(), student.getTutName())).addStudent(student);
+        }
+        markModified();
+    }
+
     ////=================== student-level operations    ================================================================
     /**
      * Returns true if a student with the same identity as {@code student} exists in the application.
      */
     public boolean hasStudent(Student student) {
         requireNonNull(student);
-        return students.contains(student);
+        return studentIndex.hasSamePerson(student);
+    }
+
+    /**
+     * Returns true if a student that is the same person as {@code student}, but not the same student enrolled in
+     * another class, exists in the application.
+     */
+    public boolean hasDuplicateStudent(Student student) {
+        requireNonNull(student);
+        return studentIndex.hasDuplicate(student);
     }
 
     /**
@@ -219,7 +254,13 @@ public class Application implements ReadOnlyApplication {
      * The student must not already exist in the application.
      */
     public void addStudent(Student s) {
-        students.add(s);
+        requireNonNull(s);
+        if (studentIndex.hasSamePerson(s)) {
+            throw new DuplicatePersonException();
+        }
+        students.addIgnoreDuplicates(s);
+        studentIndex.add(s);
+        markModified();
     }
 
     /**
@@ -227,6 +268,8 @@ public class Application implements ReadOnlyApplication {
      */
     public void addStudentIgnoreDuplicates(Student s) {
         students.addIgnoreDuplicates(s);
+        studentIndex.add(s);
+        markModified();
     }
 
     /**
@@ -237,14 +280,7 @@ public class Application implements ReadOnlyApplication {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         if (!target.equals(editedStudent)) {
-            Tutorial targetTutorial = null;
-            for (Tutorial tutorial : tutorials) {
-                if (tutorial.getTutName().equals(target.getTutName())) {
-                    targetTutorial = tutorial;
-                    break;
-                }
-            }
-
+            Tutorial targetTutorial = tutorials.getTutorial(target.getModCode(), target.getTutName()).get();
             targetTutorial.setStudent(target, editedStudent);
             removeStudent(target);
             addStudent(editedStudent);
@@ -259,14 +295,7 @@ public class Application implements ReadOnlyApplication {
     public void setStudentIgnoreDuplicates(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         if (!target.equals(editedStudent)) {
-            Tutorial targetTutorial = null;
-            for (Tutorial tutorial : tutorials) {
-                if (tutorial.getTutName().equals(target.getTutName())) {
-                    targetTutorial = tutorial;
-                    break;
-                }
-            }
-
+            Tutorial targetTutorial = tutorials.getTutorial(target.getModCode(), target.getTutName()).get();
             targetTutorial.setStudent(target, editedStudent);
             removeStudent(target);
             addStudentIgnoreDuplicates(editedStudent);
@@ -280,36 +309,23 @@ public class Application implements ReadOnlyApplication {
     public void removeStudent(Student key) {
         // Delete students from the main list
         students.remove(key);
+        studentIndex.remove(key);
+        markModified();
 
 
         // Delete students from existing tutorials
-        for (Tutorial tutorial : tutorials) {
-            if (tutorial.getTutName().equals(key.getTutName())) {
-                tutorial.deleteStudent(key);
-            }
-        }
+        tutorials.getTutorial(key.getModCode(), key.getTutName())
+                .ifPresent(tutorial -> tutorial.deleteStudent(key));
     }
 
     /**
      * Checks whether a combination of the given student name, tutorial name, and module code exists in the application.
+     * The tutorial is checked as well, as its students may outlive it if it is removed on its own.
      */
     public boolean hasStudentInTutorialAndModule(Name studName, TutName tutName, ModCode modCode) {
-        for (Module module : modules) {
-            if (!module.getModCode().equals(modCode)) {
-                continue;
-            }
-            for (Tutorial tutorial : module.getTutorials()) {
-                if (!tutorial.getTutName().equals(tutName)) {
-                    continue;
-                }
-                for (Student student : tutorial.getStudents()) {
-                    if (student.getName().equals(studName)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        requireAllNonNull(studName, tutName, modCode);
+        return studentIndex.hasStudentInTutorialAndModule(studName, tutName, modCode)
+                && hasTutorialInModule(modCode, tutName);
     }
 
     ////=================== module-level operations    =================================================================
@@ -322,6 +338,7 @@ public class Application implements ReadOnlyApplication {
     public void addModule(Module newModule) {
         requireNonNull(newModule);
         modules.add(newModule);
+        markModified();
     }
 
     /**
@@ -347,6 +364,7 @@ public class Application implements ReadOnlyApplication {
     public void removeModule(Module module) {
         requireNonNull(module);
         modules.remove(module);
+        markModified();
     }
 
     /**
@@ -357,6 +375,7 @@ public class Application implements ReadOnlyApplication {
             removeStudentsFromTutorial(tutorial);
             tutorials.remove(tutorial);
         }
+        markModified();
     }
 
     // TODO: Can merge with addTutorial()?
@@ -377,6 +396,7 @@ public class Application implements ReadOnlyApplication {
     public void addTutorial(Tutorial newTutorial) {
         requireNonNull(newTutorial);
         tutorials.add(newTutorial);
+        markModified();
     }
 
     /**
@@ -427,13 +447,10 @@ public class Application implements ReadOnlyApplication {
     public void removeTutorial(Tutorial tutorial) {
         requireNonNull(tutorial);
         tutorials.remove(tutorial);
+        markModified();
 
         // Delete from existing modules
-        for (Module module : modules) {
-            if (module.getModCode().equals(tutorial.getModCode())) {
-                module.deleteTutorial(tutorial);
-            }
-        }
+        modules.getModuleByCode(tutorial.getModCode()).ifPresent(module -> module.deleteTutorial(tutorial));
     }
 
     //// util methods
@@ -445,7 +462,9 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(tutorial);
         for (Student student : tutorial.getStudents()) {
             students.remove(student);
+            studentIndex.remove(student);
         }
+        markModified();
     }
 
     //// util methods
@@ -608,27 +627,18 @@ public class Application implements ReadOnlyApplication {
         return persons.hashCode();
     }
 
+    /**
+     * Returns the latest modification stamp of the model. Only increases when some part of the model is modified.
+     */
     @Override
-    public String toStringForComparison() {
-        String applicationString = "";
-
-        for (Module m : this.getModuleList()) {
-            applicationString += m.getModCode().toString() + ": " + JsonUtil.moduleToHashMap(m).toString() + "\n";
-        }
-
-        return applicationString;
+    public long getLastModified() {
+        return ModificationCounter.get();
     }
 
-    @Override
     /**
-     * Compares this application with another application, based on "toStringForComparison()" method.
-     *
-     * @param newApp Application to compare to.
-     * @return Boolean.
+     * Records that the data of this application has been modified.
      */
-    public Boolean equalsUsingStringComparison(ReadOnlyApplication newApp) {
-
-        return newApp.toStringForComparison().equals(this.toStringForComparison());
-
+    private void markModified() {
+        ModificationCounter.increment();
     }
 }
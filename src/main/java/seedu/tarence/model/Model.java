@@ -98,6 +98,12 @@ public interface Model {
      */
     boolean hasStudent(Student student);
 
+    /**
+     * Returns true if a student that is the same person as {@code student}, but not the same student enrolled in
+     * another class, exists in the application.
+     */
+    boolean hasDuplicateStudent(Student student);
+
     /**
      * Removes the student from the studentList
      * {@code student} must already exist in the application.
@@ -131,6 +137,12 @@ public interface Model {
      */
     void addStudentIgnoreDuplicates(Student student);
 
+    /**
+     * Adds the given students, and each of them to its tutorial, even if they already exist in the application.
+     * The tutorial of each student must exist in its module.
+     */
+    void addStudentsToTutorials(List<Student> students);
+
     /**
      * Checks if the combination of a given student name, tutorial name, and module code exists in the model.
      */
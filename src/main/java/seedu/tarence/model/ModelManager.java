@@ -151,6 +151,12 @@ public class ModelManager implements Model {
         return application.hasStudent(student);
     }
 
+    @Override
+    public boolean hasDuplicateStudent(Student student) {
+        requireNonNull(student);
+        return application.hasDuplicateStudent(student);
+    }
+
     @Override
     public void addStudent(Student student) {
         application.addStudent(student);
@@ -163,6 +169,14 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudentsToTutorials(List<Student> students) {
+        requireNonNull(students);
+        application.addStudentsToTutorials(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
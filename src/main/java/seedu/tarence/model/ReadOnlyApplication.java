@@ -36,15 +36,9 @@ public interface ReadOnlyApplication {
     ObservableList<Tutorial> getTutorialList();
 
     /**
-     * Returns the string representation of all Modules in the application.
-     * @return String.
+     * Returns a stamp of the latest modification of this application.
+     * If it is unchanged between two calls, the application has not been modified in between.
      */
-    String toStringForComparison();
-
-    /**
-     * Compares this application with the new application based on the toStringForComparison method.
-     *
-     */
-    Boolean equalsUsingStringComparison(ReadOnlyApplication newApp);
+    long getLastModified();
 
 }
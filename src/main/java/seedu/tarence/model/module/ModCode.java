@@ -53,7 +53,8 @@ public class ModCode {
 
     @Override
     public int hashCode() {
-        return modCode.hashCode();
+        // Consistent with equals, which ignores case
+        return modCode.toUpperCase().hashCode();
     }
 
 }
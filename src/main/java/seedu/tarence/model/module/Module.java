@@ -9,6 +9,7 @@ import java.util.Objects;
 import seedu.tarence.model.module.exceptions.InvalidTutorialModCodeException;
 import seedu.tarence.model.student.Student;
 import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.util.ModificationCounter;
 
 /**
  * Represents a Module.
@@ -23,6 +24,9 @@ public class Module {
     protected final ModCode modCode;
     protected List<Tutorial> tutorials;
 
+    // Stamp of the latest change to the tutorials in this module, excluding changes within the tutorials themselves.
+    private long lastModified = ModificationCounter.increment();
+
     /**
      * Every field must be present and not null.
      */
@@ -52,6 +56,7 @@ public class Module {
      */
     public static void setSemStart(Date semStart) {
         Module.semStart = semStart;
+        ModificationCounter.increment();
     }
 
     //============================ Tutorial operations =================================================================
@@ -65,6 +70,7 @@ public class Module {
      */
     public void deleteTutorial(Tutorial tutorial) {
         this.tutorials.remove(tutorial);
+        lastModified = ModificationCounter.increment();
     }
 
     /**
@@ -73,6 +79,7 @@ public class Module {
     public void addTutorial(Tutorial tutorial) throws InvalidTutorialModCodeException {
         if (tutorial.getModCode().equals(modCode)) {
             tutorials.add(tutorial);
+            lastModified = ModificationCounter.increment();
         } else {
             throw new InvalidTutorialModCodeException();
         }
@@ -94,6 +101,18 @@ public class Module {
 
     //============================ Module operations ===================================================================
 
+    /**
+     * Returns the stamp of the latest change to this module or any of its tutorials.
+     * If it is unchanged between two calls, the module has not been modified in between.
+     */
+    public long getLastModified() {
+        long moduleLastModified = lastModified;
+        for (Tutorial tutorial : tutorials) {
+            moduleLastModified = Math.max(moduleLastModified, tutorial.getLastModified());
+        }
+        return moduleLastModified;
+    }
+
 
     /**
      * Returns true if both modules have the same module code.
@@ -3,9 +3,13 @@ package seedu.tarence.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,19 +18,22 @@ import seedu.tarence.model.module.exceptions.ModuleNotFoundException;
 
 /**
  * Represents a list of modules.
+ * Modules are also indexed by their code, so that they can be looked up without scanning the list.
  */
 public class UniqueModuleList implements Iterable<Module> {
 
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Every module in internalList by its code, updated together with internalList
+    private final Map<ModCode, Module> modulesByCode = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return modulesByCode.containsKey(toCheck.getModCode());
     }
 
     /**
@@ -34,7 +41,7 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public boolean containsModCode(ModCode modCode) {
         requireNonNull(modCode);
-        return internalList.stream().anyMatch(module -> module.getModCode().equals(modCode));
+        return modulesByCode.containsKey(modCode);
     }
 
     /**
@@ -47,6 +54,7 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(newModule);
+        modulesByCode.put(newModule.getModCode(), newModule);
     }
 
     /**
@@ -67,6 +75,8 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        modulesByCode.remove(target.getModCode());
+        modulesByCode.put(editedModule.getModCode(), editedModule);
     }
 
     /**
@@ -78,6 +88,7 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(toRemove)) {
             throw new ModuleNotFoundException();
         }
+        modulesByCode.remove(toRemove.getModCode());
     }
 
     /**
@@ -87,6 +98,8 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modulesByCode.clear();
+        modulesByCode.putAll(replacement.modulesByCode);
     }
 
     /**
@@ -100,6 +113,10 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.setAll(modules);
+        modulesByCode.clear();
+        for (Module module : modules) {
+            modulesByCode.put(module.getModCode(), module);
+        }
     }
 
     /**
@@ -107,12 +124,7 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public Optional<Module> getModuleByCode(ModCode modCode) {
         requireNonNull(modCode);
-        for (Module module : internalList) {
-            if (module.getModCode().equals(modCode)) {
-                return Optional.of(module);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(modulesByCode.get(modCode));
     }
 
     /**
@@ -138,11 +150,10 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+        Set<ModCode> modCodes = new HashSet<>();
+        for (Module module : modules) {
+            if (!modCodes.add(module.getModCode())) {
+                return false;
             }
         }
         return true;
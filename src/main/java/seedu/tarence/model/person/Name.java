@@ -53,7 +53,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // Consistent with equals, which ignores case
+        return fullName.toLowerCase().hashCode();
     }
 
 }
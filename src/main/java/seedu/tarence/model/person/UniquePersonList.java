@@ -56,6 +56,14 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all the given persons to the list at once, even if there exists duplicates.
+     */
+    public void addAllIgnoreDuplicates(List<? extends Person> toAdd) {
+        requireAllNonNull(toAdd);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
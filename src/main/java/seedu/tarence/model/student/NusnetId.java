@@ -51,6 +51,7 @@ public class NusnetId {
 
     @Override
     public int hashCode() {
-        return nusnetId.hashCode();
+        // Consistent with equals, which ignores case
+        return nusnetId.toLowerCase().hashCode();
     }
 }
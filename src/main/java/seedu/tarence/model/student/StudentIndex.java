@@ -0,0 +1,125 @@
+package seedu.tarence.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Email;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.tutorial.TutName;
+
+/**
+ * Indexes students by their email, matric number, NUSNET id, and by their module, tutorial and name.
+ * As two students can only be the same person if they share an email, matric number or NUSNET id, identity checks
+ * only need to compare a student with the few students that share one of these with it.
+ * The same student may be added more than once, and is then kept until it is removed as many times.
+ */
+public class StudentIndex {
+    private final Map<Email, List<Student>> studentsByEmail = new HashMap<>();
+    private final Map<MatricNum, List<Student>> studentsByMatricNum = new HashMap<>();
+    private final Map<NusnetId, List<Student>> studentsByNusnetId = new HashMap<>();
+    private final Map<List<Object>, List<Student>> studentsByClassAndName = new HashMap<>();
+
+    /**
+     * Adds a student to the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        addTo(studentsByEmail, student.getEmail(), student);
+        student.getMatricNum().ifPresent(matricNum -> addTo(studentsByMatricNum, matricNum, student));
+        student.getNusnetId().ifPresent(nusnetId -> addTo(studentsByNusnetId, nusnetId, student));
+        addTo(studentsByClassAndName, toKey(student.getModCode(), student.getTutName(), student.getName()), student);
+    }
+
+    /**
+     * Removes a student that is equal to the given student from the index, if there is one.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        removeFrom(studentsByEmail, student.getEmail(), student);
+        student.getMatricNum().ifPresent(matricNum -> removeFrom(studentsByMatricNum, matricNum, student));
+        student.getNusnetId().ifPresent(nusnetId -> removeFrom(studentsByNusnetId, nusnetId, student));
+        removeFrom(studentsByClassAndName, toKey(student.getModCode(), student.getTutName(), student.getName()),
+                student);
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    public void clear() {
+        studentsByEmail.clear();
+        studentsByMatricNum.clear();
+        studentsByNusnetId.clear();
+        studentsByClassAndName.clear();
+    }
+
+    /**
+     * Returns true if the index contains a student that is the same person as the given student.
+     *
+     * @see Student#isSamePerson(seedu.tarence.model.person.Person)
+     */
+    public boolean hasSamePerson(Student student) {
+        requireNonNull(student);
+        return anyMatchingIdentity(student, student::isSamePerson);
+    }
+
+    /**
+     * Returns true if the index contains a student that is the same person as the given student, but which is not
+     * the same student enrolled in another class.
+     *
+     * @see Student#isSameStudent(Student)
+     */
+    public boolean hasDuplicate(Student student) {
+        requireNonNull(student);
+        return anyMatchingIdentity(student, other -> !student.isSameStudent(other) && student.isSamePerson(other));
+    }
+
+    /**
+     * Returns true if the index contains a student of the given name in the given tutorial of the given module.
+     */
+    public boolean hasStudentInTutorialAndModule(Name studName, TutName tutName, ModCode modCode) {
+        requireAllNonNull(studName, tutName, modCode);
+        return studentsByClassAndName.containsKey(toKey(modCode, tutName, studName));
+    }
+
+    /**
+     * Returns true if any student sharing an email, matric number or NUSNET id with the given student satisfies the
+     * given predicate.
+     */
+    private boolean anyMatchingIdentity(Student student, Predicate<Student> predicate) {
+        if (studentsByEmail.getOrDefault(student.getEmail(), List.of()).stream().anyMatch(predicate)) {
+            return true;
+        }
+        if (student.getMatricNum().isPresent() && studentsByMatricNum
+                .getOrDefault(student.getMatricNum().get(), List.of()).stream().anyMatch(predicate)) {
+            return true;
+        }
+        return student.getNusnetId().isPresent() && studentsByNusnetId
+                .getOrDefault(student.getNusnetId().get(), List.of()).stream().anyMatch(predicate);
+    }
+
+    private static List<Object> toKey(ModCode modCode, TutName tutName, Name name) {
+        return List.of(modCode, tutName, name);
+    }
+
+    private static <K> void addTo(Map<K, List<Student>> index, K key, Student student) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(student);
+    }
+
+    private static <K> void removeFrom(Map<K, List<Student>> index, K key, Student student) {
+        List<Student> students = index.get(key);
+        if (students == null) {
+            return;
+        }
+        students.remove(student);
+        if (students.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -2,12 +2,15 @@ package seedu.tarence.model.tutorial;
 
 import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import seedu.tarence.model.student.Student;
 import seedu.tarence.model.tutorial.exceptions.StudentNotFoundException;
@@ -15,47 +18,84 @@ import seedu.tarence.model.tutorial.exceptions.WeekNotFoundException;
 
 /**
  * Represents an Attendance for a Tutorial.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Each student is given an ordinal, and the weeks a student is present for are stored as bits of a single long,
+ * where bit {@code w} is set if the student is present in week {@code w}.
+ * Guarantees: details are present and not null, field values are validated.
  */
 public class Attendance {
-    private final Map<Week, Map<Student, Boolean>> attendance;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Bit w is set if week w is one of the weeks of the tutorial
+    private long weeks;
+    private final List<Student> students = new ArrayList<>();
+    private final Map<Student, Integer> ordinals = new HashMap<>();
+    private long[] presentWeeks = new long[INITIAL_CAPACITY];
+
     /**
      * Every field must be present and not null.
      */
     public Attendance(Set<Week> weeks, List<Student> students) {
         requireAllNonNull(weeks, students);
-        attendance = new TreeMap<>();
-
         for (Week week : weeks) {
-            attendance.put(week, new HashMap<>());
-            for (Student student: students) {
-                attendance.get(week).put(student, false);
-            }
+            this.weeks |= toBit(week);
+        }
+        for (Student student : students) {
+            getOrAddOrdinal(student);
         }
     }
 
     /**
      * Constructor for creating an Attendance from Json string.
+     * A student that appears in any week is taken to be absent in the weeks it does not appear in.
      * @param attendance
      */
     public Attendance(Map<Week, Map<Student, Boolean>> attendance) {
-        this.attendance = attendance;
+        for (Map.Entry<Week, Map<Student, Boolean>> week : attendance.entrySet()) {
+            long weekBit = toBit(week.getKey());
+            weeks |= weekBit;
+            for (Map.Entry<Student, Boolean> studentAttendance : week.getValue().entrySet()) {
+                int ordinal = getOrAddOrdinal(studentAttendance.getKey());
+                if (studentAttendance.getValue()) {
+                    presentWeeks[ordinal] |= weekBit;
+                }
+            }
+        }
     }
 
+    /**
+     * Returns a copy of the attendance of every student, by week.
+     */
     public Map<Week, Map<Student, Boolean>> getAttendance() {
-
+        Map<Week, Map<Student, Boolean>> attendance = new TreeMap<>();
+        for (Week week : getWeeks()) {
+            attendance.put(week, getWeek(week));
+        }
         return attendance;
     }
 
     /**
-     * Returns attendance for that week if it exists, else throws an error.
+     * Returns the weeks that attendance is taken for.
      */
-    public Map<Student, Boolean> getWeek(Week week) throws WeekNotFoundException {
+    public Set<Week> getWeeks() {
+        Set<Week> weekSet = new TreeSet<>();
+        for (int w = 1; w < Long.SIZE; w++) {
+            if ((weeks & (1L << w)) != 0) {
+                weekSet.add(new Week(w));
+            }
+        }
+        return weekSet;
+    }
 
-        if (!attendance.containsKey(week)) {
-            throw new WeekNotFoundException();
+    /**
+     * Returns a copy of the attendance for that week if it exists, else throws an error.
+     */
+    public Map<Student, Boolean> getWeek(Week week) throws WeekNotFoundException {
+        long weekBit = getWeekBit(week);
+        Map<Student, Boolean> attendance = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+            attendance.put(students.get(ordinal), (presentWeeks[ordinal] & weekBit) != 0);
         }
-        return attendance.get(week);
+        return attendance;
     }
 
     /**
@@ -63,11 +103,46 @@ public class Attendance {
      * Throws error if Student or week does not exist.
      */
     public boolean isPresent(Week week, Student student) throws StudentNotFoundException, WeekNotFoundException {
-        if (!this.getWeek(week).containsKey(student)) {
+        long weekBit = getWeekBit(week);
+        Integer ordinal = ordinals.get(student);
+        if (ordinal == null) {
             throw new StudentNotFoundException();
         }
+        return (presentWeeks[ordinal] & weekBit) != 0;
+    }
 
-        return attendance.get(week).get(student);
+    /**
+     * Returns whether the Student is present for each of the weeks that attendance is taken for, in order.
+     * Throws error if Student does not exist.
+     */
+    public boolean[] getPresence(Student student) throws StudentNotFoundException {
+        Integer ordinal = ordinals.get(student);
+        if (ordinal == null) {
+            throw new StudentNotFoundException();
+        }
+        boolean[] presence = new boolean[Long.bitCount(weeks)];
+        int index = 0;
+        for (int w = 1; w < Long.SIZE; w++) {
+            if ((weeks & (1L << w)) != 0) {
+                presence[index++] = (presentWeeks[ordinal] & (1L << w)) != 0;
+            }
+        }
+        return presence;
+    }
+
+    /**
+     * Returns the weeks each of the given Students is present for, in the same order, as bits where bit {@code w} is
+     * set if the Student is present in week {@code w}. Students that are not in the Attendance are absent every week.
+     */
+    public long[] getPresentWeeks(List<Student> roster) {
+        long[] rosterPresentWeeks = new long[roster.size()];
+        for (int i = 0; i < roster.size(); i++) {
+            Integer ordinal = ordinals.get(roster.get(i));
+            if (ordinal != null) {
+                rosterPresentWeeks[i] = presentWeeks[ordinal] & weeks;
+            }
+        }
+        return rosterPresentWeeks;
     }
 
     /**
@@ -76,11 +151,28 @@ public class Attendance {
      */
     public void setAttendance(Week week,
             Student student, boolean isPresent) throws WeekNotFoundException {
-        try {
-            this.isPresent(week, student);
-            getWeek(week).replace(student, isPresent);
-        } catch (StudentNotFoundException e) {
-            getWeek(week).put(student, isPresent);
+        long weekBit = getWeekBit(week);
+        int ordinal = getOrAddOrdinal(student);
+        if (isPresent) {
+            presentWeeks[ordinal] |= weekBit;
+        } else {
+            presentWeeks[ordinal] &= ~weekBit;
+        }
+    }
+
+    /**
+     * Sets attendance of every Student in specified Week, marking those in {@code presentStudents} present and the
+     * rest absent.
+     * Throws error if Week does not exist.
+     */
+    public void setWeek(Week week, Set<Student> presentStudents) throws WeekNotFoundException {
+        long weekBit = getWeekBit(week);
+        for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+            if (presentStudents.contains(students.get(ordinal))) {
+                presentWeeks[ordinal] |= weekBit;
+            } else {
+                presentWeeks[ordinal] &= ~weekBit;
+            }
         }
     }
 
@@ -90,10 +182,12 @@ public class Attendance {
      */
     public void setAttendance(Week week,
             Student student) throws WeekNotFoundException {
-        try {
-            setAttendance(week, student, !isPresent(week, student));
-        } catch (StudentNotFoundException e) {
+        long weekBit = getWeekBit(week);
+        Integer ordinal = ordinals.get(student);
+        if (ordinal == null) {
             setAttendance(week, student, true);
+        } else {
+            presentWeeks[ordinal] ^= weekBit;
         }
     }
 
@@ -101,20 +195,58 @@ public class Attendance {
      * Adds Student to Attendance, used when adding a Student to a Tutorial.
      */
     public void addStudent(Student student) {
-        Set<Week> weeks = attendance.keySet();
-        for (Week week : weeks) {
-            setAttendance(week, student, false);
-        }
+        // The ordinal is taken first, as adding the student may replace presentWeeks with a larger array
+        int ordinal = getOrAddOrdinal(student);
+        presentWeeks[ordinal] = 0;
     }
 
     /**
      * Deletes Student from Attendance, used when deleting a Student from a Tutorial.
+     * The last student takes the ordinal of the deleted student, so that ordinals stay contiguous.
      */
     public void deleteStudent(Student student) {
-        Set<Week> weeks = attendance.keySet();
-        for (Week week : weeks) {
-            getWeek(week).remove(student);
+        Integer ordinal = ordinals.remove(student);
+        if (ordinal == null) {
+            return;
+        }
+        int lastOrdinal = students.size() - 1;
+        Student lastStudent = students.remove(lastOrdinal);
+        if (ordinal != lastOrdinal) {
+            students.set(ordinal, lastStudent);
+            ordinals.put(lastStudent, ordinal);
+            presentWeeks[ordinal] = presentWeeks[lastOrdinal];
+        }
+        presentWeeks[lastOrdinal] = 0;
+    }
+
+    /**
+     * Returns the ordinal of the given student, adding the student as absent for every week if it is not yet present.
+     */
+    private int getOrAddOrdinal(Student student) {
+        Integer ordinal = ordinals.get(student);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int newOrdinal = students.size();
+        if (newOrdinal == presentWeeks.length) {
+            presentWeeks = Arrays.copyOf(presentWeeks, newOrdinal * 2);
+        }
+        students.add(student);
+        ordinals.put(student, newOrdinal);
+        presentWeeks[newOrdinal] = 0;
+        return newOrdinal;
+    }
+
+    private long getWeekBit(Week week) throws WeekNotFoundException {
+        long weekBit = toBit(week);
+        if ((weeks & weekBit) == 0) {
+            throw new WeekNotFoundException();
         }
+        return weekBit;
+    }
+
+    private static long toBit(Week week) {
+        return 1L << week.week;
     }
 
     /**
@@ -131,22 +263,36 @@ public class Attendance {
         }
 
         Attendance otherAttendance = (Attendance) other;
-        return otherAttendance.getAttendance().equals(this.getAttendance());
+        if (weeks != otherAttendance.weeks || students.size() != otherAttendance.students.size()) {
+            return false;
+        }
+        for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+            Integer otherOrdinal = otherAttendance.ordinals.get(students.get(ordinal));
+            if (otherOrdinal == null
+                    || (presentWeeks[ordinal] & weeks) != (otherAttendance.presentWeeks[otherOrdinal] & weeks)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(attendance);
+        // Independent of the order of the students, as equals is
+        int hash = Long.hashCode(weeks);
+        for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+            hash += students.get(ordinal).hashCode() ^ Long.hashCode(presentWeeks[ordinal] & weeks);
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
-        return attendance.toString();
+        return getAttendance().toString();
     }
 
     public String toSaveString() {
-        return attendance.toString();
+        return getAttendance().toString();
     }
 
 }
@@ -0,0 +1,375 @@
+package seedu.tarence.model.tutorial;
+
+import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
+
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.exceptions.AssignmentNotFoundException;
+import seedu.tarence.model.tutorial.exceptions.StudentNotFoundException;
+
+/**
+ * Stores the scores of the students of a tutorial for each of its assignments.
+ * Each student is given an ordinal, and the scores for an assignment are stored as a column of ints indexed by it.
+ */
+public class ScoreTable {
+    // Marks a student who has no score for an assignment, as opposed to a score of NOT_SUBMITTED
+    private static final int NO_SCORE = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Student> students = new ArrayList<>();
+    private final Map<Student, Integer> ordinals = new HashMap<>();
+    private final TreeMap<Assignment, int[]> columns = new TreeMap<>();
+    private int capacity = INITIAL_CAPACITY;
+
+    // Assignments in order, rebuilt only after an assignment is added or deleted
+    private List<Assignment> assignmentIndex;
+
+    /**
+     * Creates a table with the given students and no assignments.
+     */
+    public ScoreTable(List<Student> students) {
+        requireAllNonNull(students);
+        for (Student student : students) {
+            addOrdinal(student);
+        }
+    }
+
+    /**
+     * Creates a table with the given students and scores. Scores of students that are not in {@code students} are
+     * left out.
+     */
+    public ScoreTable(List<Student> students, Map<Assignment, Map<Student, Integer>> scores) {
+        this(students);
+        for (Map.Entry<Assignment, Map<Student, Integer>> assignment : scores.entrySet()) {
+            int[] column = newColumn(NO_SCORE);
+            for (Map.Entry<Student, Integer> score : assignment.getValue().entrySet()) {
+                Integer ordinal = ordinals.get(score.getKey());
+                if (ordinal != null) {
+                    column[ordinal] = score.getValue();
+                }
+            }
+            columns.put(assignment.getKey(), column);
+        }
+    }
+
+    public boolean hasStudent(Student student) {
+        return ordinals.containsKey(student);
+    }
+
+    /**
+     * Adds a student with a score of {@code NOT_SUBMITTED} for every assignment.
+     * If the student is already in the table, its scores are reset to {@code NOT_SUBMITTED}.
+     */
+    public void addStudent(Student student) {
+        Integer ordinal = ordinals.get(student);
+        int studentOrdinal = ordinal == null ? addOrdinal(student) : ordinal;
+        for (int[] column : columns.values()) {
+            column[studentOrdinal] = Tutorial.NOT_SUBMITTED;
+        }
+    }
+
+    /**
+     * Removes a student and its scores. The last student takes the ordinal of the removed student, so that
+     * ordinals stay contiguous.
+     */
+    public void deleteStudent(Student student) {
+        Integer ordinal = ordinals.remove(student);
+        if (ordinal == null) {
+            return;
+        }
+        int lastOrdinal = students.size() - 1;
+        Student lastStudent = students.remove(lastOrdinal);
+        if (ordinal != lastOrdinal) {
+            students.set(ordinal, lastStudent);
+            ordinals.put(lastStudent, ordinal);
+        }
+        for (int[] column : columns.values()) {
+            column[ordinal] = column[lastOrdinal];
+            column[lastOrdinal] = NO_SCORE;
+        }
+    }
+
+    public boolean hasAssignment(Assignment assignment) {
+        return columns.containsKey(assignment);
+    }
+
+    /**
+     * Adds an assignment, with a score of {@code NOT_SUBMITTED} for every student.
+     */
+    public void addAssignment(Assignment assignment) {
+        columns.put(assignment, newColumn(Tutorial.NOT_SUBMITTED));
+        assignmentIndex = null;
+    }
+
+    /**
+     * Removes an assignment and its scores. Returns true if the assignment was in the table.
+     */
+    public boolean deleteAssignment(Assignment assignment) {
+        boolean isDeleted = columns.remove(assignment) != null;
+        assignmentIndex = null;
+        return isDeleted;
+    }
+
+    /**
+     * Returns the assignments in order, as an unmodifiable list.
+     */
+    public List<Assignment> getAssignments() {
+        if (assignmentIndex == null) {
+            assignmentIndex = Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+        }
+        return assignmentIndex;
+    }
+
+    /**
+     * Returns the score of a student for an assignment.
+     *
+     * @throws AssignmentNotFoundException if the assignment is not in the table.
+     * @throws StudentNotFoundException if the student has no score for the assignment.
+     */
+    public int getScore(Assignment assignment, Student student) {
+        int score = getColumn(assignment)[getOrdinal(student)];
+        if (score == NO_SCORE) {
+            throw new StudentNotFoundException();
+        }
+        return score;
+    }
+
+    /**
+     * Returns the scores of a student for every assignment, in order of the assignments, with {@code NOT_SUBMITTED}
+     * for any assignment the student has no score for.
+     *
+     * @throws StudentNotFoundException if the student is not in the table.
+     */
+    public int[] getScores(Student student) {
+        int ordinal = getOrdinal(student);
+        int[] scores = new int[columns.size()];
+        int index = 0;
+        for (int[] column : columns.values()) {
+            scores[index++] = column[ordinal] == NO_SCORE ? Tutorial.NOT_SUBMITTED : column[ordinal];
+        }
+        return scores;
+    }
+
+    /**
+     * Sets the score of a student for an assignment. The score is not validated.
+     *
+     * @throws AssignmentNotFoundException if the assignment is not in the table.
+     * @throws StudentNotFoundException if the student is not in the table.
+     */
+    public void setScore(Assignment assignment, Student student, int score) {
+        getColumn(assignment)[getOrdinal(student)] = score;
+    }
+
+    /**
+     * Returns a view of the scores for an assignment, which reflects later changes to the table.
+     */
+    public AssignmentScores getAssignmentScores(Assignment assignment) {
+        getColumn(assignment);
+        return new AssignmentScores(assignment);
+    }
+
+    /**
+     * Returns a view of the scores for every assignment, in order of the assignments.
+     */
+    public Map<Assignment, Map<Student, Integer>> toMap() {
+        Map<Assignment, Map<Student, Integer>> scores = new TreeMap<>();
+        for (Assignment assignment : columns.keySet()) {
+            scores.put(assignment, new AssignmentScores(assignment));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the scores in the given map that are not {@code NOT_SUBMITTED}, without boxing them if the map is a
+     * view of a {@code ScoreTable}.
+     */
+    public static int[] getSubmittedScores(Map<Student, Integer> scores) {
+        if (scores instanceof AssignmentScores) {
+            return ((AssignmentScores) scores).getSubmittedScores();
+        }
+        return scores.values().stream().mapToInt(Integer::intValue)
+                .filter(score -> score != Tutorial.NOT_SUBMITTED).toArray();
+    }
+
+    private int addOrdinal(Student student) {
+        int ordinal = students.size();
+        if (ordinal == capacity) {
+            capacity *= 2;
+            for (Map.Entry<Assignment, int[]> column : columns.entrySet()) {
+                int[] grownColumn = Arrays.copyOf(column.getValue(), capacity);
+                Arrays.fill(grownColumn, ordinal, capacity, NO_SCORE);
+                column.setValue(grownColumn);
+            }
+        }
+        students.add(student);
+        ordinals.put(student, ordinal);
+        return ordinal;
+    }
+
+    private int[] newColumn(int initialScore) {
+        int[] column = new int[capacity];
+        Arrays.fill(column, NO_SCORE);
+        Arrays.fill(column, 0, students.size(), initialScore);
+        return column;
+    }
+
+    private int[] getColumn(Assignment assignment) {
+        int[] column = columns.get(assignment);
+        if (column == null) {
+            throw new AssignmentNotFoundException();
+        }
+        return column;
+    }
+
+    private int getOrdinal(Student student) {
+        Integer ordinal = ordinals.get(student);
+        if (ordinal == null) {
+            throw new StudentNotFoundException();
+        }
+        return ordinal;
+    }
+
+    /**
+     * A view of the scores of the students for a single assignment.
+     * Changes made through {@code put} are written to the table without validation.
+     */
+    public class AssignmentScores extends AbstractMap<Student, Integer> {
+        private final Assignment assignment;
+
+        private AssignmentScores(Assignment assignment) {
+            this.assignment = assignment;
+        }
+
+        /**
+         * Returns the column of scores, or an empty column if the assignment has since been deleted.
+         */
+        private int[] getColumn() {
+            return columns.getOrDefault(assignment, new int[0]);
+        }
+
+        /**
+         * Performs the given action on each student that has a score, with its score.
+         */
+        public void forEachScore(ObjIntConsumer<Student> action) {
+            int[] column = getColumn();
+            for (int ordinal = 0; ordinal < column.length && ordinal < students.size(); ordinal++) {
+                if (column[ordinal] != NO_SCORE) {
+                    action.accept(students.get(ordinal), column[ordinal]);
+                }
+            }
+        }
+
+        /**
+         * Returns the scores that are not {@code NOT_SUBMITTED}.
+         */
+        public int[] getSubmittedScores() {
+            int[] column = getColumn();
+            int[] submittedScores = new int[students.size()];
+            int count = 0;
+            for (int ordinal = 0; ordinal < column.length && ordinal < students.size(); ordinal++) {
+                if (column[ordinal] != NO_SCORE && column[ordinal] != Tutorial.NOT_SUBMITTED) {
+                    submittedScores[count++] = column[ordinal];
+                }
+            }
+            return Arrays.copyOf(submittedScores, count);
+        }
+
+        @Override
+        public Integer get(Object student) {
+            Integer ordinal = ordinals.get(student);
+            int[] column = getColumn();
+            if (ordinal == null || ordinal >= column.length || column[ordinal] == NO_SCORE) {
+                return null;
+            }
+            return column[ordinal];
+        }
+
+        @Override
+        public boolean containsKey(Object student) {
+            return get(student) != null;
+        }
+
+        @Override
+        public Integer put(Student student, Integer score) {
+            Integer previousScore = get(student);
+            setScore(assignment, student, score);
+            return previousScore;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            int[] column = getColumn();
+            for (int ordinal = 0; ordinal < column.length && ordinal < students.size(); ordinal++) {
+                if (column[ordinal] != NO_SCORE) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<Student, Integer>> entrySet() {
+            return new AbstractSet<Entry<Student, Integer>>() {
+                @Override
+                public Iterator<Entry<Student, Integer>> iterator() {
+                    return new ScoreIterator(getColumn());
+                }
+
+                @Override
+                public int size() {
+                    return AssignmentScores.this.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates over the students that have a score in a column, with their scores.
+     */
+    private class ScoreIterator implements Iterator<Map.Entry<Student, Integer>> {
+        private final int[] column;
+        private int nextOrdinal;
+
+        private ScoreIterator(int[] column) {
+            this.column = column;
+            advance();
+        }
+
+        private void advance() {
+            while (nextOrdinal < column.length && nextOrdinal < students.size() && column[nextOrdinal] == NO_SCORE) {
+                nextOrdinal++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextOrdinal < column.length && nextOrdinal < students.size();
+        }
+
+        @Override
+        public Map.Entry<Student, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Student, Integer> entry =
+                    new AbstractMap.SimpleImmutableEntry<>(students.get(nextOrdinal), column[nextOrdinal]);
+            nextOrdinal++;
+            advance();
+            return entry;
+        }
+    }
+}
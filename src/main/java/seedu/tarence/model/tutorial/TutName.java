@@ -52,7 +52,8 @@ public class TutName {
 
     @Override
     public int hashCode() {
-        return tutName.hashCode();
+        // Consistent with equals, which ignores case
+        return tutName.toUpperCase().hashCode();
     }
 
 }
@@ -8,12 +8,10 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 import seedu.tarence.commons.core.index.Index;
@@ -25,6 +23,8 @@ import seedu.tarence.model.tutorial.exceptions.DuplicateAssignmentException;
 import seedu.tarence.model.tutorial.exceptions.DuplicateEventException;
 import seedu.tarence.model.tutorial.exceptions.InvalidScoreException;
 import seedu.tarence.model.tutorial.exceptions.StudentNotFoundException;
+import seedu.tarence.model.tutorial.exceptions.WeekNotFoundException;
+import seedu.tarence.model.util.ModificationCounter;
 
 /**
  * Represents a Tutorial.
@@ -40,9 +40,12 @@ public class Tutorial {
     protected List<Student> students;
     protected ModCode modCode;
     protected Attendance attendance;
-    protected Map<Assignment, Map<Student, Integer>> assignments;
+    protected ScoreTable scores;
     protected List<Event> eventLog;
 
+    // Stamp of the latest change to this tutorial
+    private long lastModified = ModificationCounter.increment();
+
     public Tutorial(TutName tutName, DayOfWeek day, LocalTime startTime,
             Set<Week> weeks, Duration duration, List<Student> students,
             ModCode modCode, Attendance attendance,
@@ -58,7 +61,7 @@ public class Tutorial {
         this.eventLog = eventLog == null
                 ? new ArrayList<>()
                 : eventLog;
-        this.assignments = new TreeMap<>();
+        this.scores = new ScoreTable(students);
         if (assignments != null) {
             for (Assignment assignment : assignments) {
                 addAssignment(assignment);
@@ -93,7 +96,22 @@ public class Tutorial {
                     List<Student> students, ModCode modCode, Attendance attendance,
                     Map<Assignment, Map<Student, Integer>> assignments) {
         this(tutName, day, startTime, weeks, duration, students, modCode, attendance, null, null);
-        this.assignments = assignments;
+        this.scores = new ScoreTable(students, assignments);
+    }
+
+    /**
+     * Returns the stamp of the latest change to this tutorial.
+     * If it is unchanged between two calls, the tutorial has not been modified in between.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Records that this tutorial has been modified.
+     */
+    private void markModified() {
+        lastModified = ModificationCounter.increment();
     }
 
     public TutName getTutName() {
@@ -116,9 +134,11 @@ public class Tutorial {
         return attendance;
     }
 
+    /**
+     * Returns the assignments of the tutorial in order, as an unmodifiable list.
+     */
     public List<Assignment> getAssignments() {
-        Set<Assignment> assignmentsSet = ((TreeMap<Assignment, Map<Student, Integer>>) assignments).navigableKeySet();
-        return new ArrayList<>(assignmentsSet);
+        return scores.getAssignments();
     }
 
     public Assignment getAssignment(Index assignIndex) {
@@ -127,25 +147,22 @@ public class Tutorial {
         return assignments.get(index);
     }
 
+    public ScoreTable getScoreTable() {
+        return scores;
+    }
+
     /**
-     * Returns Students' scores for an Assignment.
+     * Returns a view of Students' scores for an Assignment.
      */
     public Map<Student, Integer> getAssignmentScores(Assignment assignment) {
-        if (!assignments.containsKey(assignment)) {
-            throw new AssignmentNotFoundException();
-        }
-        return assignments.get(assignment);
+        return scores.getAssignmentScores(assignment);
     }
 
     /**
      * Returns a Student's score for an Assignment.
      */
     public Integer getAssignmentScore(Assignment assignment, Student student) {
-        Map<Student, Integer> assignmentScores = getAssignmentScores(assignment);
-        if (!assignmentScores.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        return assignmentScores.get(student);
+        return scores.getScore(assignment, student);
     }
 
     public Integer getHours() {
@@ -228,6 +245,7 @@ public class Tutorial {
      */
     public void setEventList(List<Event> eventList) {
         this.eventLog = eventList;
+        markModified();
     }
 
     /**
@@ -235,11 +253,9 @@ public class Tutorial {
      */
     public void addStudent(Student student) {
         students.add(student);
+        markModified();
         attendance.addStudent(student);
-        List<Assignment> assignments = getAssignments();
-        for (Assignment assignment : assignments) {
-            setScore(assignment, student, NOT_SUBMITTED);
-        }
+        scores.addStudent(student);
     }
 
     /**
@@ -265,11 +281,9 @@ public class Tutorial {
      */
     public void deleteStudent(Student student) {
         students.remove(student);
+        markModified();
         attendance.deleteStudent(student);
-        List<Assignment> assignments = getAssignments();
-        for (Assignment assignment : assignments) {
-            getAssignmentScores(assignment).remove(student);
-        }
+        scores.deleteStudent(student);
     }
 
     /**
@@ -277,6 +291,7 @@ public class Tutorial {
      */
     public void setAttendance(Week week, Student student) {
         attendance.setAttendance(week, student);
+        markModified();
     }
 
     /**
@@ -284,6 +299,32 @@ public class Tutorial {
      */
     public void setAttendance(Week week, Student student, boolean isPresent) {
         attendance.setAttendance(week, student, isPresent);
+        markModified();
+    }
+
+    /**
+     * Sets the Attendance of every Student in the week, marking those in {@code presentStudents} present and the
+     * rest absent.
+     */
+    public void setAttendance(Week week, Set<Student> presentStudents) {
+        attendance.setWeek(week, presentStudents);
+        markModified();
+    }
+
+    /**
+     * Sets the Attendance of Students in several weeks at once, given by week, marking the tutorial modified once.
+     * Throws error before setting any Attendance if any week does not exist.
+     */
+    public void setAttendance(Map<Week, Map<Student, Boolean>> newAttendance) {
+        if (!attendance.getWeeks().containsAll(newAttendance.keySet())) {
+            throw new WeekNotFoundException();
+        }
+        for (Map.Entry<Week, Map<Student, Boolean>> week : newAttendance.entrySet()) {
+            for (Map.Entry<Student, Boolean> studentAttendance : week.getValue().entrySet()) {
+                attendance.setAttendance(week.getKey(), studentAttendance.getKey(), studentAttendance.getValue());
+            }
+        }
+        markModified();
     }
 
     /**
@@ -294,13 +335,11 @@ public class Tutorial {
             throw new DuplicateAssignmentException();
         }
 
-        if (assignments.containsKey(assignment)) {
+        if (scores.hasAssignment(assignment)) {
             throw new DuplicateAssignmentException();
         }
-        assignments.put(assignment, new HashMap<>());
-        for (Student student : students) {
-            getAssignmentScores(assignment).put(student, NOT_SUBMITTED);
-        }
+        scores.addAssignment(assignment);
+        markModified();
         addEvent(new Event(assignment.getAssignName(),
                 assignment.getStartDate(),
                 assignment.getEndDate()));
@@ -320,7 +359,7 @@ public class Tutorial {
         String startDateString = assignment.getStartDate().toString();
         String endDateString = assignment.getEndDate().toString();
 
-        for (Assignment key : assignments.keySet()) {
+        for (Assignment key : getAssignments()) {
             if (assignmentName.equals(key.getAssignmentName())
                     && maxScore.equals(Integer.toString(key.getMaxScore()))
                     && startDateString.equals(key.getStartDate().toString())
@@ -338,7 +377,8 @@ public class Tutorial {
         deleteEvent(new Event(assignment.getAssignName(),
                 assignment.getStartDate(),
                 assignment.getEndDate()));
-        return assignments.remove(assignment) != null;
+        markModified();
+        return scores.deleteAssignment(assignment);
     }
 
     /**
@@ -366,11 +406,35 @@ public class Tutorial {
         if (assignment.getMaxScore() < score || score < NOT_SUBMITTED) {
             throw new InvalidScoreException();
         }
-        Map<Student, Integer> assignmentScores = getAssignmentScores(assignment);
-        if (!students.contains(student)) {
-            throw new StudentNotFoundException();
+        scores.setScore(assignment, student, score);
+        markModified();
+    }
+
+    /**
+     * Sets the scores of Students for Assignments at once. Every score is validated before any is set.
+     *
+     * @param newScores the scores to set, by Assignment and then by Student.
+     */
+    public void setScores(Map<Assignment, Map<Student, Integer>> newScores) {
+        for (Map.Entry<Assignment, Map<Student, Integer>> assignmentScores : newScores.entrySet()) {
+            Assignment assignment = assignmentScores.getKey();
+            if (!scores.hasAssignment(assignment)) {
+                throw new AssignmentNotFoundException();
+            }
+            for (Map.Entry<Student, Integer> score : assignmentScores.getValue().entrySet()) {
+                if (assignment.getMaxScore() < score.getValue() || score.getValue() < NOT_SUBMITTED) {
+                    throw new InvalidScoreException();
+                }
+                if (!scores.hasStudent(score.getKey())) {
+                    throw new StudentNotFoundException();
+                }
+            }
+        }
+        for (Map.Entry<Assignment, Map<Student, Integer>> assignmentScores : newScores.entrySet()) {
+            assignmentScores.getValue().forEach((student, score) ->
+                    scores.setScore(assignmentScores.getKey(), student, score));
         }
-        assignmentScores.put(student, score);
+        markModified();
     }
 
     /**
@@ -382,12 +446,14 @@ public class Tutorial {
         }
         eventLog.add(event);
         eventLog.sort(Event::compareTo);
+        markModified();
     }
 
     /**
      * Remove an event in eventLog.
      */
     public boolean deleteEvent(Event event) {
+        markModified();
         return eventLog.remove(event);
     }
 
@@ -395,6 +461,7 @@ public class Tutorial {
      * Remove an event based on its index in eventLog.
      */
     public Event deleteEvent(int index) {
+        markModified();
         return eventLog.remove(index);
     }
 
@@ -471,8 +538,11 @@ public class Tutorial {
 
      */
 
+    /**
+     * Returns a view of the scores for every assignment, in order of the assignments.
+     */
     public Map<Assignment, Map<Student, Integer>> getAssignmentsForSaving() {
-        return this.assignments;
+        return scores.toMap();
     }
 
 
@@ -3,30 +3,38 @@ package seedu.tarence.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.tarence.model.module.ModCode;
 import seedu.tarence.model.tutorial.exceptions.DuplicateTutorialException;
 import seedu.tarence.model.tutorial.exceptions.TutorialNotFoundException;
 
 /**
  * Represents a list of Tutorials.
+ * Tutorials are also indexed by their module code and name, so that they can be looked up without scanning the list.
  */
 public class UniqueTutorialList implements Iterable<Tutorial> {
 
     private final ObservableList<Tutorial> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutorial> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Every tutorial in internalList by its module code and name, updated together with internalList.
+    // Tutorials of the same module and name but different timetables share a key.
+    private final Map<List<Object>, List<Tutorial>> tutorialsByKey = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tutorial with the given argument.
      */
     public boolean contains(Tutorial toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTutorial);
+        return getTutorialsWithKey(toCheck).stream().anyMatch(toCheck::isSameTutorial);
     }
 
     /**
@@ -47,6 +55,7 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
             throw new DuplicateTutorialException();
         }
         internalList.add(newTutorial);
+        addToIndex(newTutorial);
     }
 
     /**
@@ -66,12 +75,15 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
             throw new DuplicateTutorialException();
         }
 
-        internalList.set(index, editedTutorial);
+        Tutorial replacedTutorial = internalList.set(index, editedTutorial);
+        removeFromIndex(replacedTutorial);
+        addToIndex(editedTutorial);
     }
 
     public void setTutorials(UniqueTutorialList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -85,10 +97,13 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         }
 
         internalList.setAll(tutorials);
+        rebuildIndex();
     }
 
     /**
-     * Returns the {@code Tutorial} of the given {@code TutName}, or {@code Optional<Empty>} if it does not exist.
+     * Returns the first {@code Tutorial} of the given {@code TutName}, or {@code Optional<Empty>} if it does not exist.
+     * As tutorials of different modules may share a name, this scans the list; prefer
+     * {@link #getTutorial(ModCode, TutName)} where the module code is known.
      */
     public Optional<Tutorial> getTutorialByName(TutName tutName) {
         requireNonNull(tutName);
@@ -100,15 +115,27 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         return Optional.empty();
     }
 
+    /**
+     * Returns the {@code Tutorial} of the given {@code ModCode} and {@code TutName}, or {@code Optional<Empty>} if it
+     * does not exist.
+     */
+    public Optional<Tutorial> getTutorial(ModCode modCode, TutName tutName) {
+        requireAllNonNull(modCode, tutName);
+        List<Tutorial> tutorials = tutorialsByKey.get(List.of(modCode, tutName));
+        return tutorials == null ? Optional.empty() : Optional.of(tutorials.get(0));
+    }
+
     /**
      * Removes the equivalent Tutorial from the list.
      * The Tutorial must exist in the list.
      */
     public void remove(Tutorial toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TutorialNotFoundException();
         }
+        removeFromIndex(internalList.remove(index));
     }
 
     /**
@@ -132,15 +159,49 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
 
     /**
      * Returns true if {@code tutorials} contains only unique tutorials.
+     * Only tutorials of the same module and name are compared with each other.
      */
     private boolean tutorialsAreUnique(List<Tutorial> tutorials) {
-        for (int i = 0; i < tutorials.size() - 1; i++) {
-            for (int j = i + 1; j < tutorials.size(); j++) {
-                if (tutorials.get(i).isSameTutorial(tutorials.get(j))) {
-                    return false;
-                }
+        Map<List<Object>, List<Tutorial>> tutorialsWithKey = new HashMap<>();
+        for (Tutorial tutorial : tutorials) {
+            List<Tutorial> sameKeyTutorials =
+                    tutorialsWithKey.computeIfAbsent(getKey(tutorial), key -> new ArrayList<>());
+            if (sameKeyTutorials.stream().anyMatch(tutorial::isSameTutorial)) {
+                return false;
             }
+            sameKeyTutorials.add(tutorial);
         }
         return true;
     }
+
+    private static List<Object> getKey(Tutorial tutorial) {
+        return List.of(tutorial.getModCode(), tutorial.getTutName());
+    }
+
+    private List<Tutorial> getTutorialsWithKey(Tutorial tutorial) {
+        return tutorialsByKey.getOrDefault(getKey(tutorial), List.of());
+    }
+
+    private void addToIndex(Tutorial tutorial) {
+        tutorialsByKey.computeIfAbsent(getKey(tutorial), key -> new ArrayList<>(1)).add(tutorial);
+    }
+
+    /**
+     * Removes the given instance of a tutorial from the index.
+     */
+    private void removeFromIndex(Tutorial tutorial) {
+        List<Object> key = getKey(tutorial);
+        List<Tutorial> tutorials = tutorialsByKey.get(key);
+        tutorials.removeIf(indexedTutorial -> indexedTutorial == tutorial);
+        if (tutorials.isEmpty()) {
+            tutorialsByKey.remove(key);
+        }
+    }
+
+    private void rebuildIndex() {
+        tutorialsByKey.clear();
+        for (Tutorial tutorial : internalList) {
+            addToIndex(tutorial);
+        }
+    }
 }
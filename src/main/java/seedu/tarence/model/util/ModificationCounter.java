@@ -0,0 +1,27 @@
+package seedu.tarence.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues increasing stamps to mark modifications of the model.
+ * Every mutator of {@code Application}, {@code Module} and {@code Tutorial} takes a new stamp, so if the latest stamp
+ * has not changed between two points in time, no part of the model has been modified in between.
+ */
+public class ModificationCounter {
+
+    private static final AtomicLong latestStamp = new AtomicLong();
+
+    /**
+     * Returns a new stamp, larger than every stamp issued before it.
+     */
+    public static long increment() {
+        return latestStamp.incrementAndGet();
+    }
+
+    /**
+     * Returns the latest stamp issued.
+     */
+    public static long get() {
+        return latestStamp.get();
+    }
+}
@@ -0,0 +1,243 @@
+package seedu.tarence.model.util;
+
+import static seedu.tarence.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.tarence.model.Application;
+import seedu.tarence.model.builder.EventBuilder;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TimeTableBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+/**
+ * Generates applications of any size filled with realistic data, to reproduce the workload of a whole faculty.
+ * Every module has the same number of tutorials, and every tutorial the same number of students, with attendance
+ * taken every week, assignments with scores, and events.
+ * The data depends only on the seed and the sizes, so that the same application is generated on every run.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int DEFAULT_MODULE_COUNT = 10;
+    public static final int DEFAULT_TUTORIALS_PER_MODULE = 10;
+    public static final int DEFAULT_STUDENTS_PER_TUTORIAL = 20;
+    public static final int DEFAULT_ASSIGNMENTS_PER_TUTORIAL = 4;
+    public static final int DEFAULT_EVENTS_PER_TUTORIAL = 3;
+    public static final double DEFAULT_ATTENDANCE_RATE = 0.85;
+    public static final double NOT_SUBMITTED_RATE = 0.05;
+    public static final Date SEMESTER_START = new Date(1565539200000L);
+
+    public static final String MESSAGE_CONSTRAINTS_SIZE = "The number of modules, tutorials and students must not be "
+            + "negative.";
+    public static final String MESSAGE_CONSTRAINTS_ATTENDANCE_RATE = "The attendance rate must be between 0 and 1.";
+
+    private static final String[] MODULE_PREFIXES = {"CS", "MA", "ST", "EE", "GEH", "IS"};
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Priya", "Jun Jie", "Hui Min", "Arjun", "Nurul", "Kai Xuan", "Rachel", "Marcus"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Rahman", "Kumar", "Chua", "Goh", "Lee", "Teo"};
+    private static final String[] EVENT_NAMES = {"Consultation", "Makeup tutorial", "Review session"};
+    private static final int[] MAX_SCORES = {10, 20, 50, 100};
+    private static final String MATRIC_NUM_CHECK_LETTERS = "ABEHJLMNRUWXY";
+    private static final int FIRST_TUTORIAL_WEEK = 3;
+    private static final int LAST_TUTORIAL_WEEK = 13;
+    private static final long HOUR_IN_MILLIS = 60L * 60 * 1000;
+    private static final long DAY_IN_MILLIS = 24 * HOUR_IN_MILLIS;
+    private static final long WEEK_IN_MILLIS = 7 * DAY_IN_MILLIS;
+
+    private long seed = DEFAULT_SEED;
+    private int moduleCount = DEFAULT_MODULE_COUNT;
+    private int tutorialsPerModule = DEFAULT_TUTORIALS_PER_MODULE;
+    private int studentsPerTutorial = DEFAULT_STUDENTS_PER_TUTORIAL;
+    private int assignmentsPerTutorial = DEFAULT_ASSIGNMENTS_PER_TUTORIAL;
+    private int eventsPerTutorial = DEFAULT_EVENTS_PER_TUTORIAL;
+    private double attendanceRate = DEFAULT_ATTENDANCE_RATE;
+
+    /**
+     * Sets the seed of the random numbers the data is generated from.
+     */
+    public SyntheticDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of modules to generate.
+     */
+    public SyntheticDataGenerator withModules(int moduleCount) {
+        checkArgument(moduleCount >= 0, MESSAGE_CONSTRAINTS_SIZE);
+        this.moduleCount = moduleCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of tutorials to generate in each module.
+     */
+    public SyntheticDataGenerator withTutorialsPerModule(int tutorialsPerModule) {
+        checkArgument(tutorialsPerModule >= 0, MESSAGE_CONSTRAINTS_SIZE);
+        this.tutorialsPerModule = tutorialsPerModule;
+        return this;
+    }
+
+    /**
+     * Sets the number of students to generate in each tutorial.
+     */
+    public SyntheticDataGenerator withStudentsPerTutorial(int studentsPerTutorial) {
+        checkArgument(studentsPerTutorial >= 0, MESSAGE_CONSTRAINTS_SIZE);
+        this.studentsPerTutorial = studentsPerTutorial;
+        return this;
+    }
+
+    /**
+     * Sets the number of assignments to generate in each tutorial.
+     */
+    public SyntheticDataGenerator withAssignmentsPerTutorial(int assignmentsPerTutorial) {
+        checkArgument(assignmentsPerTutorial >= 0, MESSAGE_CONSTRAINTS_SIZE);
+        this.assignmentsPerTutorial = assignmentsPerTutorial;
+        return this;
+    }
+
+    /**
+     * Sets the number of events, besides those of the assignments, to generate in each tutorial.
+     */
+    public SyntheticDataGenerator withEventsPerTutorial(int eventsPerTutorial) {
+        checkArgument(eventsPerTutorial >= 0, MESSAGE_CONSTRAINTS_SIZE);
+        this.eventsPerTutorial = eventsPerTutorial;
+        return this;
+    }
+
+    /**
+     * Sets the average fraction of the tutorials that students attend.
+     */
+    public SyntheticDataGenerator withAttendanceRate(double attendanceRate) {
+        checkArgument(attendanceRate >= 0 && attendanceRate <= 1, MESSAGE_CONSTRAINTS_ATTENDANCE_RATE);
+        this.attendanceRate = attendanceRate;
+        return this;
+    }
+
+    /**
+     * Returns a new application filled with the generated data.
+     * The dates of the assignments and events fall within the semester starting on {@code SEMESTER_START}, which
+     * is not set as the semester start date of the modules.
+     */
+    public Application generate() {
+        Random random = new Random(seed);
+        Application application = new Application();
+        int studentNumber = 0;
+        for (int m = 0; m < moduleCount; m++) {
+            String moduleCode = MODULE_PREFIXES[m % MODULE_PREFIXES.length] + String.format("%04d", 1000 + m);
+            List<Tutorial> tutorials = new ArrayList<>();
+            for (int t = 0; t < tutorialsPerModule; t++) {
+                tutorials.add(generateTutorial(random, moduleCode, String.format("T%02d", t + 1), studentNumber));
+                studentNumber += studentsPerTutorial;
+            }
+
+            Module module = new ModuleBuilder().withModCode(moduleCode).withTutorials(tutorials).build();
+            application.addModule(module);
+            for (Tutorial tutorial : tutorials) {
+                application.addTutorial(tutorial);
+                for (Student student : tutorial.getStudents()) {
+                    application.addStudentIgnoreDuplicates(student);
+                }
+            }
+        }
+        return application;
+    }
+
+    /**
+     * Returns a tutorial of newly generated students, numbered from {@code firstStudentNumber}.
+     */
+    private Tutorial generateTutorial(Random random, String moduleCode, String tutorialName,
+            int firstStudentNumber) {
+        Set<Week> weeks = new TreeSet<>();
+        boolean isEveryOtherWeek = random.nextInt(5) == 0;
+        for (int w = FIRST_TUTORIAL_WEEK; w <= LAST_TUTORIAL_WEEK; w += isEveryOtherWeek ? 2 : 1) {
+            weeks.add(new Week(w));
+        }
+        Tutorial tutorial = new TutorialBuilder().withModCode(moduleCode).withTutName(tutorialName)
+                .withTimeTable(new TimeTableBuilder()
+                        .withDayOfWeek(DayOfWeek.of(1 + random.nextInt(5)).name())
+                        .withStartTime(String.format("%02d:00:00", 8 + random.nextInt(10)))
+                        .withDuration(60 * (1 + random.nextInt(2)))
+                        .withWeeks(weeks).build())
+                .withStudents(new ArrayList<>()).build();
+
+        for (int s = firstStudentNumber; s < firstStudentNumber + studentsPerTutorial; s++) {
+            tutorial.addStudent(generateStudent(random, moduleCode, tutorialName, s));
+        }
+        generateAttendance(random, tutorial);
+        for (int a = 0; a < assignmentsPerTutorial; a++) {
+            generateAssignment(random, tutorial, a);
+        }
+        for (int e = 0; e < eventsPerTutorial; e++) {
+            long start = SEMESTER_START.getTime() + random.nextInt(LAST_TUTORIAL_WEEK) * WEEK_IN_MILLIS
+                    + random.nextInt(5) * DAY_IN_MILLIS + (9 + random.nextInt(9)) * HOUR_IN_MILLIS;
+            tutorial.addEvent(new EventBuilder()
+                    .withEventName(EVENT_NAMES[e % EVENT_NAMES.length] + " " + (e / EVENT_NAMES.length + 1))
+                    .withStartTime(new Date(start))
+                    .withEndTime(new Date(start + (1 + random.nextInt(2)) * HOUR_IN_MILLIS)).build());
+        }
+        return tutorial;
+    }
+
+    private Student generateStudent(Random random, String moduleCode, String tutorialName, int studentNumber) {
+        String nusnetId = String.format("e%07d", studentNumber);
+        return new StudentBuilder()
+                .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .withEmail(nusnetId + "@u.nus.edu")
+                .withMatricNum(String.format("A%07d%c", studentNumber,
+                        MATRIC_NUM_CHECK_LETTERS.charAt(random.nextInt(MATRIC_NUM_CHECK_LETTERS.length()))))
+                .withNusnetId(nusnetId)
+                .withModCode(moduleCode)
+                .withTutName(tutorialName).build();
+    }
+
+    /**
+     * Marks the attendance of every student of the tutorial in every week. Each student attends at a rate of their
+     * own, spread around the attendance rate, so that some students are absent much more often than others.
+     */
+    private void generateAttendance(Random random, Tutorial tutorial) {
+        for (Student student : tutorial.getStudents()) {
+            double studentRate = Math.min(1, Math.max(0, attendanceRate + random.nextGaussian() * 0.1));
+            for (Week week : tutorial.getTimeTable().getWeeks()) {
+                tutorial.setAttendance(week, student, random.nextDouble() < studentRate);
+            }
+        }
+    }
+
+    /**
+     * Adds an assignment due every other week to the tutorial, and scores every student on it. A few students do
+     * not submit it, and the scores of the others are spread around 70 percent.
+     */
+    private void generateAssignment(Random random, Tutorial tutorial, int assignmentNumber) {
+        int maxScore = MAX_SCORES[random.nextInt(MAX_SCORES.length)];
+        long startWeek = 2 * assignmentNumber % LAST_TUTORIAL_WEEK;
+        Date startDate = new Date(SEMESTER_START.getTime() + startWeek * WEEK_IN_MILLIS);
+        Assignment assignment = new Assignment("Assignment " + (assignmentNumber + 1), maxScore, startDate,
+                new Date(startDate.getTime() + WEEK_IN_MILLIS));
+        tutorial.addAssignment(assignment);
+
+        for (Student student : tutorial.getStudents()) {
+            if (random.nextDouble() < NOT_SUBMITTED_RATE) {
+                tutorial.setScore(assignment, student, Tutorial.NOT_SUBMITTED);
+            } else {
+                double fraction = Math.min(1, Math.max(0, 0.7 + random.nextGaussian() * 0.15));
+                tutorial.setScore(assignment, student, (int) Math.round(fraction * maxScore));
+            }
+        }
+    }
+}
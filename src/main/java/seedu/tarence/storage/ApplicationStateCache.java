@@ -0,0 +1,149 @@
+package seedu.tarence.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A ring buffer of the most recent application states, bounded by an estimate of the memory they take up.
+ * Consecutive states share the {@code JsonAdaptedModule} of every module that did not change between them, so each
+ * state is only charged for the modules that it changed.
+ */
+public class ApplicationStateCache {
+
+    private final long memoryLimit;
+    private final ArrayDeque<CachedState> states = new ArrayDeque<>();
+    private long estimatedSize;
+
+    /**
+     * @param memoryLimit Estimated number of bytes the cached states may take up. The latest state is always kept,
+     *                    even if it alone exceeds the limit.
+     */
+    public ApplicationStateCache(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    public boolean isEmpty() {
+        return states.isEmpty();
+    }
+
+    public CachedState getLatest() {
+        return states.peekLast();
+    }
+
+    public CachedState getOldest() {
+        return states.peekFirst();
+    }
+
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the cached state of the given index, if it is still in the cache.
+     */
+    public Optional<CachedState> get(int index) {
+        if (states.isEmpty() || index < getOldest().getIndex() || index > getLatest().getIndex()) {
+            return Optional.empty();
+        }
+        Iterator<CachedState> iterator = states.descendingIterator();
+        while (iterator.hasNext()) {
+            CachedState state = iterator.next();
+            if (state.getIndex() == index) {
+                return Optional.of(state);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adds a state that directly follows the latest cached state.
+     */
+    public void add(CachedState state) {
+        states.addLast(state);
+        estimatedSize += state.getEstimatedSize();
+    }
+
+    /**
+     * Removes the oldest states until the cache is within its memory limit.
+     *
+     * @return The removed states, oldest first.
+     */
+    public List<CachedState> evictOverflow() {
+        List<CachedState> evictedStates = new ArrayList<>();
+        while (estimatedSize > memoryLimit && states.size() > 1) {
+            CachedState evictedState = states.removeFirst();
+            estimatedSize -= evictedState.getEstimatedSize();
+            evictedStates.add(evictedState);
+        }
+        return evictedStates;
+    }
+
+    /**
+     * Removes all states after the state of the given index.
+     */
+    public void discardAfter(int index) {
+        while (!states.isEmpty() && getLatest().getIndex() > index) {
+            estimatedSize -= states.removeLast().getEstimatedSize();
+        }
+    }
+
+    public void clear() {
+        states.clear();
+        estimatedSize = 0;
+    }
+
+    /**
+     * A single application state held in memory, together with the journal entry that leads to it.
+     */
+    public static class CachedState {
+        private final int index;
+        private final LinkedHashMap<String, JsonAdaptedModule> modules;
+        private final String semesterStart;
+        private final JsonAdaptedStateDelta delta;
+        private final long estimatedSize;
+        private final boolean isPersisted;
+
+        /**
+         * @param delta Journal entry that leads to this state, or null for the first state.
+         * @param estimatedSize Estimated number of bytes taken up by the modules introduced by this state.
+         * @param isPersisted True if the state can already be rebuilt from the files on disk.
+         */
+        public CachedState(int index, LinkedHashMap<String, JsonAdaptedModule> modules, String semesterStart,
+                           JsonAdaptedStateDelta delta, long estimatedSize, boolean isPersisted) {
+            this.index = index;
+            this.modules = modules;
+            this.semesterStart = semesterStart;
+            this.delta = delta;
+            this.estimatedSize = estimatedSize;
+            this.isPersisted = isPersisted;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public LinkedHashMap<String, JsonAdaptedModule> getModules() {
+            return modules;
+        }
+
+        public String getSemesterStart() {
+            return semesterStart;
+        }
+
+        public JsonAdaptedStateDelta getDelta() {
+            return delta;
+        }
+
+        public long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        public boolean isPersisted() {
+            return isPersisted;
+        }
+    }
+}
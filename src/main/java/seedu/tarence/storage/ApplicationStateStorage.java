@@ -19,4 +19,14 @@ public interface ApplicationStateStorage {
 
     void clearStateFolder() throws IOException;
 
+    /**
+     * Records the given application as the first state, discarding all earlier states.
+     */
+    void saveFirstState(ReadOnlyApplication application) throws IOException;
+
+    /**
+     * Records the given application as the latest state, if it has changed since the latest state.
+     */
+    void saveApplicationState(ReadOnlyApplication application);
+
 }
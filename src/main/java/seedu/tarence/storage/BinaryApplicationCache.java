@@ -0,0 +1,124 @@
+package seedu.tarence.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ReadOnlyApplication;
+
+/**
+ * A cache of the application in the Json data file, kept beside it in the binary format of
+ * {@code BinaryApplicationCodec}, which is faster to read than the Json it was written from.
+ * The cache starts with a checksum of the data file, its module files and its mutation log at the time it was
+ * written, and is only read if the checksum still matches them, so that a cache is never used once the data file
+ * has been changed without it.
+ */
+public class BinaryApplicationCache {
+    public static final String CACHE_FILE_SUFFIX = ".cache";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryApplicationCache.class);
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+    private final Path filePath;
+    private final Path cachePath;
+
+    /**
+     * Creates a cache of the data file at the given path.
+     */
+    public BinaryApplicationCache(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.cachePath = filePath.resolveSibling(filePath.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    public Path getCachePath() {
+        return cachePath;
+    }
+
+    /**
+     * Returns the application in the cache, and sets the semester start date saved with it, if the cache was written
+     * from the data file as it is now. Returns an empty {@code Optional} otherwise, or if the cache cannot be read.
+     */
+    public Optional<Application> read() {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] cache = Files.readAllBytes(cachePath);
+            if (cache.length < CHECKSUM_LENGTH || ByteBuffer.wrap(cache).getLong() != computeChecksum()) {
+                logger.info("Cache " + cachePath + " is out of date with the data file");
+                return Optional.empty();
+            }
+            return Optional.of(BinaryApplicationCodec.readApplication(
+                    Arrays.copyOfRange(cache, CHECKSUM_LENGTH, cache.length)));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Unable to read cache " + cachePath + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the given application to the cache, with the checksum of the data file as it is now.
+     * The application must be the one last saved to the data file.
+     */
+    public void write(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+        byte[] data = BinaryApplicationCodec.writeApplication(application);
+        ByteBuffer cache = ByteBuffer.allocate(CHECKSUM_LENGTH + data.length);
+        cache.putLong(computeChecksum());
+        cache.put(data);
+
+        Path tempPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+        Files.write(tempPath, cache.array());
+        Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the cache, if there is one.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(cachePath);
+    }
+
+    /**
+     * Returns a checksum of the names and contents of the data file, its module files and its mutation log.
+     */
+    private long computeChecksum() throws IOException {
+        CRC32 checksum = new CRC32();
+        updateChecksum(checksum, filePath);
+        Path shardFolder = ShardedApplicationWriter.getShardFolder(filePath);
+        if (Files.isDirectory(shardFolder)) {
+            List<Path> shards;
+            try (Stream<Path> shardFiles = Files.list(shardFolder)) {
+                shards = shardFiles.sorted().collect(Collectors.toList());
+            }
+            for (Path shard : shards) {
+                updateChecksum(checksum, shard);
+            }
+        }
+        updateChecksum(checksum, MutationLog.getLogPath(filePath));
+        return checksum.getValue();
+    }
+
+    private static void updateChecksum(CRC32 checksum, Path path) throws IOException {
+        checksum.update(path.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+        if (Files.isRegularFile(path)) {
+            checksum.update(Files.readAllBytes(path));
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package seedu.tarence.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.logic.parser.ParserUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.person.Email;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.MatricNum;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.Event;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+/**
+ * Writes and reads the modules of an application in a compact binary format, which is faster to read than Json.
+ * An encoding starts with a magic number and the format version, followed by a dictionary of every distinct string,
+ * each written once as UTF-8 with its length. Strings are then referred to by their position in the dictionary.
+ * Integers are written as variable-length integers, attendance is packed as one bit per student of the roster for
+ * each week, and the encoding ends with a CRC32 checksum of everything before it.
+ */
+public class BinaryApplicationCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'T', 'A', 'R', 'B'};
+    private static final int CHECKSUM_LENGTH = 4;
+    private static final String MESSAGE_CORRUPTED = "Binary application data is corrupted: ";
+
+    //============================== Writing ===========================================================================
+
+    /**
+     * Returns the modules of the given application, with the current semester start date, in the binary format.
+     */
+    public static byte[] writeApplication(ReadOnlyApplication application) {
+        return writeModules(application.getModuleList(), String.valueOf(Module.getSemStart()));
+    }
+
+    /**
+     * Returns the given modules and semester start date, as saved in Json, in the binary format.
+     */
+    public static byte[] writeModules(List<Module> modules, String semesterStart) {
+        Output body = new Output();
+        body.writeString(semesterStart);
+        body.writeVarLong(modules.size());
+        for (Module module : modules) {
+            body.writeString(module.getModCode().toString());
+            body.writeVarLong(module.getTutorials().size());
+            for (Tutorial tutorial : module.getTutorials()) {
+                writeTutorial(body, tutorial);
+            }
+        }
+
+        Output output = new Output();
+        output.bytes.write(MAGIC, 0, MAGIC.length);
+        output.writeVarLong(FORMAT_VERSION);
+        output.writeVarLong(body.dictionary.size());
+        for (String string : body.dictionary.keySet()) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            output.writeVarLong(utf8.length);
+            output.bytes.write(utf8, 0, utf8.length);
+        }
+        output.bytes.write(body.bytes.toByteArray(), 0, body.bytes.size());
+
+        CRC32 checksum = new CRC32();
+        byte[] encoded = output.bytes.toByteArray();
+        checksum.update(encoded);
+        int crc = (int) checksum.getValue();
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            output.bytes.write(crc >>> shift);
+        }
+        return output.bytes.toByteArray();
+    }
+
+    private static void writeTutorial(Output output, Tutorial tutorial) {
+        output.writeString(tutorial.getTutName().toString());
+        output.writeString(tutorial.getTimeTable().getDay().toString());
+        output.writeString(tutorial.getTimeTable().getStartTime().toString());
+        writeWeeks(output, tutorial.getTimeTable().getWeeks());
+        output.writeString(tutorial.getTimeTable().getDuration().toString());
+        output.writeString(tutorial.getModCode().toString());
+
+        List<Student> students = tutorial.getStudents();
+        output.writeVarLong(students.size());
+        for (Student student : students) {
+            output.writeString(student.getName().toString());
+            output.writeString(student.getEmail().toString());
+            output.writeString(student.getMatricNum().map(MatricNum::toString).orElse(null));
+            output.writeString(student.getNusnetId().map(NusnetId::toString).orElse(null));
+            output.writeString(student.getModCode().toString());
+            output.writeString(student.getTutName().toString());
+        }
+
+        // Each week is a bitset of the students present, in the order of the roster
+        Attendance attendance = tutorial.getAttendance();
+        Set<Week> weeks = attendance.getWeeks();
+        long[] presentWeeks = attendance.getPresentWeeks(students);
+        writeWeeks(output, weeks);
+        byte[] presentStudents = new byte[(students.size() + 7) / 8];
+        for (Week week : weeks) {
+            long weekBit = 1L << week.week;
+            Arrays.fill(presentStudents, (byte) 0);
+            for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+                if ((presentWeeks[ordinal] & weekBit) != 0) {
+                    presentStudents[ordinal / 8] |= 1 << (ordinal % 8);
+                }
+            }
+            output.bytes.write(presentStudents, 0, presentStudents.length);
+        }
+
+        // Scores are listed in the order of the roster, with 0 for students without a score
+        Map<Assignment, Map<Student, Integer>> assignments = tutorial.getAssignmentsForSaving();
+        output.writeVarLong(assignments.size());
+        for (Map.Entry<Assignment, Map<Student, Integer>> assignment : assignments.entrySet()) {
+            output.writeString(assignment.getKey().getAssignmentName());
+            output.writeSignedVarLong(assignment.getKey().getMaxScore());
+            output.writeSignedVarLong(assignment.getKey().getStartDate().getTime());
+            output.writeSignedVarLong(assignment.getKey().getEndDate().getTime());
+            for (Student student : students) {
+                Integer score = assignment.getValue().get(student);
+                output.writeVarLong(score == null ? 0 : zigZag(score) + 1);
+            }
+        }
+
+        List<Event> events = tutorial.getEventListForSaving();
+        output.writeVarLong(events.size());
+        for (Event event : events) {
+            output.writeString(event.eventName);
+            output.writeSignedVarLong(event.startTime.getTime());
+            output.writeSignedVarLong(event.endTime.getTime());
+        }
+    }
+
+    private static void writeWeeks(Output output, Set<Week> weeks) {
+        output.writeVarLong(weeks.size());
+        for (Week week : weeks) {
+            output.writeVarLong(week.week);
+        }
+    }
+
+    //============================== Reading ===========================================================================
+
+    /**
+     * Returns the application in the given binary data, and sets the semester start date saved with it.
+     *
+     * @throws IllegalValueException if the data is corrupted, or any of the fields is invalid.
+     */
+    public static Application readApplication(byte[] data) throws IllegalValueException {
+        Contents contents = read(data);
+        Application application = JsonSerializableApplication.toApplication(contents.getModules());
+        Module.setSemStart(ParserUtil.parseSemesterStartDateFromJson(contents.getSemesterStart()));
+        return application;
+    }
+
+    /**
+     * Returns the modules and semester start date in the given binary data, without setting the semester start date.
+     *
+     * @throws IllegalValueException if the data is corrupted, or any of the fields is invalid.
+     */
+    public static Contents read(byte[] data) throws IllegalValueException {
+        if (data.length < MAGIC.length + CHECKSUM_LENGTH) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED + "too short");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "not in the binary format");
+            }
+        }
+        int end = data.length - CHECKSUM_LENGTH;
+        CRC32 checksum = new CRC32();
+        checksum.update(data, 0, end);
+        int savedChecksum = 0;
+        for (int i = end; i < data.length; i++) {
+            savedChecksum = (savedChecksum << 8) | (data[i] & 0xff);
+        }
+        if ((int) checksum.getValue() != savedChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED + "checksum does not match");
+        }
+
+        Input input = new Input(data, MAGIC.length, end);
+        try {
+            long version = input.readVarLong();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "unknown format version " + version);
+            }
+            int dictionarySize = input.readCount();
+            input.dictionary = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                int length = input.readCount();
+                input.dictionary[i] = new String(data, input.take(length), length, StandardCharsets.UTF_8);
+            }
+
+            String semesterStart = input.readString();
+            int moduleCount = input.readCount();
+            List<Module> modules = new ArrayList<>(moduleCount);
+            for (int m = 0; m < moduleCount; m++) {
+                ModCode modCode = new ModCode(input.readString());
+                int tutorialCount = input.readCount();
+                List<Tutorial> tutorials = new ArrayList<>(tutorialCount);
+                for (int t = 0; t < tutorialCount; t++) {
+                    tutorials.add(readTutorial(input));
+                }
+                modules.add(new Module(modCode, tutorials));
+            }
+            if (input.position != end) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "unexpected data after the modules");
+            }
+            return new Contents(modules, semesterStart);
+        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
+            // Thrown by the constructors of the model objects when a field is invalid or missing.
+            throw new IllegalValueException(JsonAdaptedModule.MISSING_GENERIC_FIELD + e.getMessage());
+        }
+    }
+
+    private static Tutorial readTutorial(Input input) throws IllegalValueException {
+        TutName tutName = new TutName(input.readString());
+        DayOfWeek day = DayOfWeek.valueOf(input.readString());
+        LocalTime startTime = LocalTime.parse(input.readString(), DateTimeFormatter.ISO_TIME);
+        Set<Week> weeks = readWeeks(input);
+        Duration duration = Duration.parse(input.readString());
+        ModCode modCode = new ModCode(input.readString());
+
+        int studentCount = input.readCount();
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int s = 0; s < studentCount; s++) {
+            Name name = new Name(input.readString());
+            Email email = new Email(input.readString());
+            Optional<MatricNum> matricNum = Optional.ofNullable(input.readString()).map(MatricNum::new);
+            Optional<NusnetId> nusnetId = Optional.ofNullable(input.readString()).map(NusnetId::new);
+            students.add(new Student(name, email, matricNum, nusnetId, new ModCode(input.readString()),
+                    new TutName(input.readString())));
+        }
+
+        Map<Week, Map<Student, Boolean>> attendance = new TreeMap<>();
+        for (Week week : readWeeks(input)) {
+            int offset = input.take((studentCount + 7) / 8);
+            Map<Student, Boolean> studentAttendance = new LinkedHashMap<>();
+            for (int ordinal = 0; ordinal < studentCount; ordinal++) {
+                boolean isPresent = (input.data[offset + ordinal / 8] & (1 << (ordinal % 8))) != 0;
+                studentAttendance.put(students.get(ordinal), isPresent);
+            }
+            attendance.put(week, studentAttendance);
+        }
+
+        Map<Assignment, Map<Student, Integer>> assignments = new TreeMap<>();
+        int assignmentCount = input.readCount();
+        for (int a = 0; a < assignmentCount; a++) {
+            String assignmentName = input.readString();
+            int maxScore = (int) input.readSignedVarLong();
+            Date startDate = new Date(input.readSignedVarLong());
+            Date endDate = new Date(input.readSignedVarLong());
+            Map<Student, Integer> scores = new HashMap<>();
+            for (Student student : students) {
+                long score = input.readVarLong();
+                if (score != 0) {
+                    scores.put(student, (int) unZigZag(score - 1));
+                }
+            }
+            assignments.put(new Assignment(assignmentName, maxScore, startDate, endDate), scores);
+        }
+
+        int eventCount = input.readCount();
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int e = 0; e < eventCount; e++) {
+            String eventName = input.readString();
+            events.add(new Event(eventName, new Date(input.readSignedVarLong()), new Date(input.readSignedVarLong())));
+        }
+
+        Tutorial tutorial = new Tutorial(tutName, day, startTime, weeks, duration, students, modCode,
+                new Attendance(attendance), assignments);
+        tutorial.setEventList(events);
+        return tutorial;
+    }
+
+    private static Set<Week> readWeeks(Input input) throws IllegalValueException {
+        int weekCount = input.readCount();
+        Set<Week> weeks = new TreeSet<>();
+        for (int w = 0; w < weekCount; w++) {
+            weeks.add(new Week((int) input.readVarLong()));
+        }
+        return weeks;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * The modules and semester start date read from binary data.
+     */
+    public static class Contents {
+        private final List<Module> modules;
+        private final String semesterStart;
+
+        private Contents(List<Module> modules, String semesterStart) {
+            this.modules = modules;
+            this.semesterStart = semesterStart;
+        }
+
+        public List<Module> getModules() {
+            return modules;
+        }
+
+        /**
+         * Returns the semester start date as saved in Json, which is "null" if none was set.
+         */
+        public String getSemesterStart() {
+            return semesterStart;
+        }
+    }
+
+    /**
+     * Binary data being written, together with the dictionary of the strings written so far.
+     */
+    private static class Output {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7fL) != 0) {
+                bytes.write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            bytes.write((int) value);
+        }
+
+        private void writeSignedVarLong(long value) {
+            writeVarLong(zigZag(value));
+        }
+
+        /**
+         * Writes a reference to the given string, which is 0 for null and one more than its position in the
+         * dictionary otherwise.
+         */
+        private void writeString(String string) {
+            if (string == null) {
+                writeVarLong(0);
+                return;
+            }
+            Integer position = dictionary.get(string);
+            if (position == null) {
+                position = dictionary.size();
+                dictionary.put(string, position);
+            }
+            writeVarLong(position + 1);
+        }
+    }
+
+    /**
+     * Binary data being read, up to the checksum at its end.
+     */
+    private static class Input {
+        private final byte[] data;
+        private final int end;
+        private int position;
+        private String[] dictionary;
+
+        private Input(byte[] data, int position, int end) {
+            this.data = data;
+            this.position = position;
+            this.end = end;
+        }
+
+        private long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= end) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED + "unexpected end of data");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED + "integer too long");
+        }
+
+        private long readSignedVarLong() throws IllegalValueException {
+            return unZigZag(readVarLong());
+        }
+
+        /**
+         * Reads the number of elements that follow, which cannot be more than the bytes left.
+         */
+        private int readCount() throws IllegalValueException {
+            long count = readVarLong();
+            if (count < 0 || count > end - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "invalid count " + count);
+            }
+            return (int) count;
+        }
+
+        /**
+         * Skips the given number of bytes, and returns the position of the first of them.
+         */
+        private int take(int length) throws IllegalValueException {
+            if (length > end - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "unexpected end of data");
+            }
+            int start = position;
+            position += length;
+            return start;
+        }
+
+        private String readString() throws IllegalValueException {
+            long reference = readVarLong();
+            if (reference == 0) {
+                return null;
+            }
+            if (reference < 0 || reference > dictionary.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED + "invalid string reference " + reference);
+            }
+            return dictionary[(int) reference - 1];
+        }
+    }
+}
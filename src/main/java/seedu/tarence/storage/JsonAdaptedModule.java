@@ -6,8 +6,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import seedu.tarence.commons.exceptions.IllegalValueException;
 import seedu.tarence.commons.util.JsonUtil;
@@ -64,16 +67,24 @@ public class JsonAdaptedModule {
     public static final String MISSING_FIELD_FOR_TUTORIAL_MAP = "Json data has missing fields for tutorial map";
 
     // Json fields
+    // Tutorials in the legacy format, with every nested field encoded as a string. Only present in old files.
     // Implemented LinkedHashMap to preserve ordering.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private LinkedHashMap<String, LinkedHashMap<String, String>> tutorialMap;
+    // Tutorials as a compact Json array, kept unconverted until toModelType is called.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(using = JsonTutorialCodec.RawJsonSerializer.class)
+    @JsonDeserialize(using = JsonTutorialCodec.RawJsonDeserializer.class)
+    private String tutorials;
     private String moduleCode;
     private String semesterStartString;
 
     /**
      * Invoked during reading of the Json file.
+     * The tutorials of files in the current format are read into {@code tutorials} after construction.
      *
      * @param moduleName Json string representing the Module Name/Code.
-     * @param tutorialMap Json string representing the Tutorial objects present in the Module.
+     * @param tutorialMap Json string representing the Tutorial objects present in the Module, in the legacy format.
      */
     @JsonCreator
     public JsonAdaptedModule(@JsonProperty("moduleCode") String moduleName,
@@ -91,10 +102,19 @@ public class JsonAdaptedModule {
      * @param source Module object of the application.
      */
     public JsonAdaptedModule(Module source) {
-        moduleCode = source.getModCode().toString();
-        semesterStartString = String.valueOf(Module.getSemStart());
-        tutorialMap = JsonUtil.moduleToHashMap(source);
+        this(source, String.valueOf(Module.getSemStart()));
+    }
 
+    /**
+     * Invoked when converting a module read from elsewhere, which was saved with the given semester start date.
+     *
+     * @param source Module object.
+     * @param semesterStartString Semester start date as saved in Json.
+     */
+    public JsonAdaptedModule(Module source, String semesterStartString) {
+        moduleCode = source.getModCode().toString();
+        this.semesterStartString = semesterStartString;
+        tutorials = JsonTutorialCodec.writeTutorials(source.getTutorials());
     }
 
     /**
@@ -105,6 +125,53 @@ public class JsonAdaptedModule {
      * @throws IllegalValueException when there is an error in reading one of the fields.
      */
     public Module toModelType() throws IllegalValueException {
+        Module module = toModelTypeWithoutSemesterStart();
+        Module.setSemStart(readSemesterStart());
+        return module;
+    }
+
+    /**
+     * Converts JsonAdaptedModule into a Module object, without setting the semester start date shared by every
+     * module. Unlike {@code toModelType}, several modules can be converted on different threads at once.
+     *
+     * @return Module object.
+     * @throws IllegalValueException when there is an error in reading one of the fields.
+     */
+    public Module toModelTypeWithoutSemesterStart() throws IllegalValueException {
+        List<Tutorial> tutorials;
+        if (tutorialMap != null) {
+            tutorials = legacyTutorialMapToTutorials();
+        } else if (this.tutorials != null) {
+            tutorials = JsonTutorialCodec.readTutorials(this.tutorials);
+        } else {
+            throw new IllegalValueException(MISSING_FIELD_FOR_TUTORIAL_MAP);
+        }
+
+        try {
+            ModCode modCodeFromJson = ParserUtil.parseModCode(moduleCode);
+            return new Module(modCodeFromJson, tutorials);
+
+        } catch (ParseException e) {
+            String errorMessage = String.format(INVALID_FIELD, Module.class.getSimpleName()) + " "
+                    + moduleCode + " " + e.getMessage();
+            throw new IllegalValueException(errorMessage);
+        }
+    }
+
+    /**
+     * Reads the semester start date saved with this module.
+     *
+     * @return the semester start date, or null if none was set.
+     * @throws IllegalValueException when the date cannot be parsed.
+     */
+    public Date readSemesterStart() throws IllegalValueException {
+        return ParserUtil.parseSemesterStartDateFromJson(semesterStartString);
+    }
+
+    /**
+     * Converts the tutorials of a file in the legacy format, where every nested field is encoded as a string.
+     */
+    private List<Tutorial> legacyTutorialMapToTutorials() throws IllegalValueException {
         List<Tutorial> tutorials = new ArrayList<Tutorial>();
         try {
             for (String tutorialName : tutorialMap.keySet()) {
@@ -122,17 +189,7 @@ public class JsonAdaptedModule {
             String errorMessage = e.getClass().toString() + " " + e.getMessage() + " from parsing Json file";
             throw new IllegalValueException(errorMessage);
         }
-
-        try {
-            ModCode modCodeFromJson = ParserUtil.parseModCode(moduleCode);
-            Date semesterStartDate = ParserUtil.parseSemesterStartDateFromJson(semesterStartString);
-            return new Module(modCodeFromJson, tutorials, semesterStartDate);
-
-        } catch (ParseException e) {
-            String errorMessage = String.format(INVALID_FIELD, Module.class.getSimpleName()) + " "
-                    + moduleCode + " " + e.getMessage();
-            throw new IllegalValueException(errorMessage);
-        }
+        return tutorials;
     }
 
     /**
@@ -147,12 +204,22 @@ public class JsonAdaptedModule {
     /**
      * Getter function for Linked Hashmap tutorialMap.
      *
-     * @return Tutorial Linked HashMap.
+     * @return Tutorial Linked HashMap, or null if the module is not in the legacy format.
      */
     public LinkedHashMap<String, LinkedHashMap<String, String>> getTutorialMap() {
         return tutorialMap;
     }
 
+    /**
+     * Getter function for the tutorials as a compact Json array.
+     * Used to compare the tutorials of different states.
+     *
+     * @return String of Json, or null if the module is in the legacy format.
+     */
+    public String getTutorialsJson() {
+        return tutorials;
+    }
+
     /**
      * Getter function to get semester start date from a particular json adapted module.
      * Used to compare semester start dates of different states.
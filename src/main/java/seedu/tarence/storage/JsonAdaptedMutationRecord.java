@@ -0,0 +1,64 @@
+package seedu.tarence.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tarence.commons.core.LogsCenter;
+
+/**
+ * Jackson friendly version of a single record in the mutation log of the data file.
+ * Only the modules that were added or changed since the previous record are stored, in their version after the
+ * change, together with the order of every module. A record describes the resulting state rather than the change, so
+ * replaying a record on a state that already contains it leaves the state unchanged.
+ */
+public class JsonAdaptedMutationRecord {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedMutationRecord.class);
+
+    private long sequenceNumber;
+    private List<String> moduleOrder;
+    private LinkedHashMap<String, JsonAdaptedModule> changedModules;
+
+    /**
+     * Invoked during reading of the mutation log.
+     */
+    @JsonCreator
+    public JsonAdaptedMutationRecord(@JsonProperty("sequenceNumber") long sequenceNumber,
+                                     @JsonProperty("moduleOrder") List<String> moduleOrder,
+                                     @JsonProperty("changedModules")
+                                             LinkedHashMap<String, JsonAdaptedModule> changedModules) {
+        this.sequenceNumber = sequenceNumber;
+        this.moduleOrder = moduleOrder == null ? new ArrayList<>() : moduleOrder;
+        this.changedModules = changedModules == null ? new LinkedHashMap<>() : changedModules;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Applies this record on the given state, which must be the state of the previous record or a later one.
+     *
+     * @param modules Module code to JsonAdaptedModule mapping of the earlier state.
+     * @return Module code to JsonAdaptedModule mapping of the state after this record, in its module order.
+     */
+    public LinkedHashMap<String, JsonAdaptedModule> apply(LinkedHashMap<String, JsonAdaptedModule> modules) {
+        LinkedHashMap<String, JsonAdaptedModule> nextModules = new LinkedHashMap<>();
+        for (String moduleCode : moduleOrder) {
+            JsonAdaptedModule module = changedModules.containsKey(moduleCode)
+                    ? changedModules.get(moduleCode)
+                    : modules.get(moduleCode);
+            if (module == null) {
+                logger.warning("Mutation record " + sequenceNumber + " refers to missing module " + moduleCode);
+                continue;
+            }
+            nextModules.put(moduleCode, module);
+        }
+        return nextModules;
+    }
+}
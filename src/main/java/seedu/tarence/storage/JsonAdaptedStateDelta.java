@@ -0,0 +1,85 @@
+package seedu.tarence.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson friendly version of a single entry in the undo journal.
+ * Only the modules that were added, removed or changed by a command are stored, together with their version before
+ * and after the command, so that the entry can be replayed in reverse to restore the previous state.
+ */
+public class JsonAdaptedStateDelta {
+
+    private int stateIndex;
+    private String semesterStartBefore;
+    private String semesterStartAfter;
+    private List<String> moduleOrderBefore;
+    private List<String> moduleOrderAfter;
+
+    // A module code that is absent from one side means the module did not exist in that state.
+    private LinkedHashMap<String, JsonAdaptedModule> modulesBefore;
+    private LinkedHashMap<String, JsonAdaptedModule> modulesAfter;
+
+    /**
+     * Invoked during reading of the journal.
+     */
+    @JsonCreator
+    public JsonAdaptedStateDelta(@JsonProperty("stateIndex") int stateIndex,
+                                 @JsonProperty("semesterStartBefore") String semesterStartBefore,
+                                 @JsonProperty("semesterStartAfter") String semesterStartAfter,
+                                 @JsonProperty("moduleOrderBefore") List<String> moduleOrderBefore,
+                                 @JsonProperty("moduleOrderAfter") List<String> moduleOrderAfter,
+                                 @JsonProperty("modulesBefore") LinkedHashMap<String, JsonAdaptedModule> modulesBefore,
+                                 @JsonProperty("modulesAfter") LinkedHashMap<String, JsonAdaptedModule> modulesAfter) {
+        this.stateIndex = stateIndex;
+        this.semesterStartBefore = semesterStartBefore;
+        this.semesterStartAfter = semesterStartAfter;
+        this.moduleOrderBefore = moduleOrderBefore == null ? new ArrayList<>() : moduleOrderBefore;
+        this.moduleOrderAfter = moduleOrderAfter == null ? new ArrayList<>() : moduleOrderAfter;
+        this.modulesBefore = modulesBefore == null ? new LinkedHashMap<>() : modulesBefore;
+        this.modulesAfter = modulesAfter == null ? new LinkedHashMap<>() : modulesAfter;
+    }
+
+    public int getStateIndex() {
+        return stateIndex;
+    }
+
+    public String getSemesterStartBefore() {
+        return semesterStartBefore;
+    }
+
+    public String getSemesterStartAfter() {
+        return semesterStartAfter;
+    }
+
+    /**
+     * Returns true if the entry does not record any change.
+     */
+    public boolean isEmpty() {
+        return modulesBefore.isEmpty() && modulesAfter.isEmpty()
+                && moduleOrderBefore.equals(moduleOrderAfter)
+                && String.valueOf(semesterStartBefore).equals(String.valueOf(semesterStartAfter));
+    }
+
+    /**
+     * Reverts this entry on the given state, which must be the state right after this entry was recorded.
+     *
+     * @param modules Module code to JsonAdaptedModule mapping of the later state.
+     * @return Module code to JsonAdaptedModule mapping of the earlier state, in the earlier module order.
+     */
+    public LinkedHashMap<String, JsonAdaptedModule> applyInverse(LinkedHashMap<String, JsonAdaptedModule> modules) {
+        LinkedHashMap<String, JsonAdaptedModule> previousModules = new LinkedHashMap<>();
+        for (String moduleCode : moduleOrderBefore) {
+            if (modulesBefore.containsKey(moduleCode)) {
+                previousModules.put(moduleCode, modulesBefore.get(moduleCode));
+            } else {
+                previousModules.put(moduleCode, modules.get(moduleCode));
+            }
+        }
+        return previousModules;
+    }
+}
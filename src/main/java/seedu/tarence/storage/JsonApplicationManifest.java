@@ -0,0 +1,57 @@
+package seedu.tarence.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * Jackson friendly version of the manifest of an application whose modules are each saved in a file of their own.
+ * The manifest lists the file of each module, in the order of the modules, relative to the folder of module files.
+ * Data files in which every module is saved inline have no shards, and are read as a
+ * {@code JsonSerializableApplication} instead.
+ */
+@JsonRootName(value = "application")
+public class JsonApplicationManifest {
+
+    private final int version;
+    private final LinkedHashMap<String, String> shards;
+
+    /**
+     * Constructs a manifest of the given module files, by module code, in the current format.
+     */
+    public JsonApplicationManifest(Map<String, String> shards) {
+        this.version = JsonSerializableApplication.STORAGE_FORMAT_VERSION;
+        this.shards = new LinkedHashMap<>(shards);
+    }
+
+    /**
+     * Invoked during reading of the data file.
+     */
+    @JsonCreator
+    public JsonApplicationManifest(@JsonProperty("version") Integer version,
+                                   @JsonProperty("shards") LinkedHashMap<String, String> shards) {
+        this.version = version == null ? 1 : version;
+        this.shards = shards;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if the modules are saved in files of their own, rather than inline in the data file.
+     */
+    public boolean isSharded() {
+        return shards != null;
+    }
+
+    /**
+     * Returns the file of each module by module code, in the order of the modules.
+     */
+    public LinkedHashMap<String, String> getShards() {
+        return shards;
+    }
+}
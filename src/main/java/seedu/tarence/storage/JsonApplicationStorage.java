@@ -3,9 +3,14 @@ package seedu.tarence.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.tarence.commons.core.LogsCenter;
 import seedu.tarence.commons.exceptions.DataConversionException;
@@ -16,6 +21,9 @@ import seedu.tarence.model.ReadOnlyApplication;
 
 /**
  * A class to access the application data stored as a json file on the hard disk.
+ * The json file is a checkpoint of the application, and changes made since may be recorded in its
+ * {@code MutationLog}, which is replayed on top of the checkpoint when reading. The json file is written as a
+ * {@code JsonApplicationManifest} of the files that each module is saved in, by a {@code ShardedApplicationWriter}.
  */
 public class JsonApplicationStorage implements ApplicationStorage {
 
@@ -45,10 +53,18 @@ public class JsonApplicationStorage implements ApplicationStorage {
     public Optional<ReadOnlyApplication> readApplication(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        // From the Json file, creates an optional JsonSerializableApplication.
-        // Relies on @JsonCreator of JsonSerializableApplication class.
-        Optional<JsonSerializableApplication> jsonApplication = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplication.class);
+        Optional<JsonSerializableApplication> jsonApplication = readCheckpoint(filePath);
+
+        List<JsonAdaptedMutationRecord> records;
+        try {
+            records = new MutationLog(filePath).readRecords();
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+        if (!records.isEmpty()) {
+            logger.info("Replaying " + records.size() + " changes logged since " + filePath + " was written");
+            jsonApplication = Optional.of(replay(jsonApplication, records));
+        }
 
         if (!jsonApplication.isPresent()) {
             return Optional.empty();
@@ -62,6 +78,66 @@ public class JsonApplicationStorage implements ApplicationStorage {
         }
     }
 
+    /**
+     * Reads the application in the data file at the given path, together with its module files if it is a manifest.
+     */
+    private static Optional<JsonSerializableApplication> readCheckpoint(Path filePath)
+            throws DataConversionException {
+        Optional<JsonApplicationManifest> manifest = JsonUtil.readJsonFile(filePath, JsonApplicationManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (manifest.get().isSharded()) {
+            return Optional.of(readShards(filePath, manifest.get()));
+        }
+
+        // Data files written before each module was saved in a file of its own have every module inline.
+        // Relies on @JsonCreator of JsonSerializableApplication class.
+        return JsonUtil.readJsonFile(filePath, JsonSerializableApplication.class);
+    }
+
+    /**
+     * Reads the module files listed in the given manifest in parallel, keeping the order of the manifest.
+     */
+    private static JsonSerializableApplication readShards(Path filePath, JsonApplicationManifest manifest)
+            throws DataConversionException {
+        Path shardFolder = ShardedApplicationWriter.getShardFolder(filePath);
+        try {
+            List<JsonAdaptedModule> modules = manifest.getShards().values().parallelStream()
+                    .map(shard -> readShard(shardFolder.resolve(shard)))
+                    .collect(Collectors.toList());
+            return new JsonSerializableApplication(modules);
+        } catch (UncheckedIOException e) {
+            logger.warning("Error reading module files of " + filePath + ": " + e.getCause());
+            throw new DataConversionException(e.getCause());
+        }
+    }
+
+    private static JsonAdaptedModule readShard(Path shardPath) {
+        try {
+            return JsonUtil.fromJsonString(FileUtil.readFromFile(shardPath), JsonAdaptedModule.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the application that results from applying the given records, in order, on the given checkpoint.
+     */
+    private static JsonSerializableApplication replay(Optional<JsonSerializableApplication> checkpoint,
+            List<JsonAdaptedMutationRecord> records) {
+        LinkedHashMap<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+        if (checkpoint.isPresent()) {
+            for (JsonAdaptedModule module : checkpoint.get().getJsonAdaptedModules()) {
+                modules.put(module.getModuleCode(), module);
+            }
+        }
+        for (JsonAdaptedMutationRecord record : records) {
+            modules = record.apply(modules);
+        }
+        return new JsonSerializableApplication(new ArrayList<>(modules.values()));
+    }
+
     @Override
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         saveApplication(application, filePath);
@@ -76,10 +152,9 @@ public class JsonApplicationStorage implements ApplicationStorage {
         requireNonNull(application);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-
-        // Saving of application file
-        JsonUtil.saveJsonFile(new JsonSerializableApplication(application), filePath);
+        // Saving of application file, with every module in a file of its own
+        new ShardedApplicationWriter(filePath).write(new JsonSerializableApplication(application)
+                .getJsonAdaptedModules());
     }
 
 }
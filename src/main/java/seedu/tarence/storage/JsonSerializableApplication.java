@@ -1,13 +1,16 @@
 package seedu.tarence.storage;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.tarence.commons.core.LogsCenter;
 import seedu.tarence.commons.exceptions.IllegalValueException;
 import seedu.tarence.model.Application;
 import seedu.tarence.model.ReadOnlyApplication;
@@ -26,14 +29,40 @@ public class JsonSerializableApplication {
     public static final String MESSAGE_DUPLICATE_TUTORIAL = "Tutorial list contains duplicate tutorial(s).";
     public static final String MESSAGE_DUPLICATE_STUDENT = "Student list contains duplicate student(s).";
 
+    /**
+     * Version of the format that modules are saved in.
+     * Version 1, which has no version field, encodes every nested field of a tutorial as a string.
+     * Version 2 writes tutorials as nested Json, with every student written in full wherever it appears.
+     * Version 3 writes each student once, and attendance and scores refer to students by their position in the roster.
+     */
+    public static final int STORAGE_FORMAT_VERSION = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableApplication.class);
+
+    private final int version;
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableApplication} with the given persons.
+     * Constructs a {@code JsonSerializableApplication} with the given modules, in the current format.
+     */
+    public JsonSerializableApplication(List<JsonAdaptedModule> modules) {
+        this.version = STORAGE_FORMAT_VERSION;
+        this.modules.addAll(modules);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableApplication} with the given modules.
      * Reads the Json file and converts to model.
+     * Files in an older format are converted when read, and saved in the current format on the next save.
      */
     @JsonCreator
-    public JsonSerializableApplication(@JsonProperty("modules") List<JsonAdaptedModule> modules) {
+    public JsonSerializableApplication(@JsonProperty("version") Integer version,
+                                       @JsonProperty("modules") List<JsonAdaptedModule> modules) {
+        this.version = version == null ? 1 : version;
+        if (this.version < STORAGE_FORMAT_VERSION) {
+            logger.info("Migrating data file from format version " + this.version + " to version "
+                    + STORAGE_FORMAT_VERSION);
+        }
         this.modules.addAll(modules);
     }
 
@@ -43,24 +72,46 @@ public class JsonSerializableApplication {
      * @param source future changes to this will not affect the created {@code JsonSerializableApplication}.
      */
     public JsonSerializableApplication(ReadOnlyApplication source) {
+        version = STORAGE_FORMAT_VERSION;
         // A JsonAdaptedModule is created for each module in the list.
         modules.addAll(source.getModuleList().stream().map(JsonAdaptedModule::new).collect(Collectors.toList()));
     }
 
     /**
      * Converts this application into the model's {@code Application} object.
-     * Converts Json to models.
-     *
+     * Converts Json to models. The modules are converted in parallel on the common fork-join pool, then merged into
+     * the application in the order they were saved, so that the application and the error reported for an invalid
+     * file do not depend on the order in which the conversions finish.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Application toModelType() throws IllegalValueException {
+        List<ConvertedModule> convertedModules = modules.parallelStream()
+                .map(ConvertedModule::convert)
+                .collect(Collectors.toList());
+
+        List<Module> models = new ArrayList<>();
+        for (ConvertedModule convertedModule : convertedModules) {
+            models.add(convertedModule.getModule());
+        }
+        Application application = toApplication(models);
+        // Every module is saved with the same semester start date, of which the last one read is kept
+        if (!convertedModules.isEmpty()) {
+            Module.setSemStart(convertedModules.get(convertedModules.size() - 1).semesterStart);
+        }
+        return application;
+    }
+
+    /**
+     * Returns an application of the given modules, with their tutorials and students.
+     *
+     * @throws IllegalValueException if there are duplicate modules, tutorials or students.
+     */
+    static Application toApplication(List<Module> modules) throws IllegalValueException {
         Application application = new Application();
-        Application bypassApp = new Application();
 
-        // Reads the saved module from file and populates application with it.
-        for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
+        // Populates application with the saved modules.
+        for (Module module : modules) {
             if (application.hasModule(module)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
             }
@@ -75,11 +126,7 @@ public class JsonSerializableApplication {
                 }
                 application.addTutorial(t);
                 for (Student s : t.getStudents()) {
-                    boolean hasDuplicates = new ArrayList<>(application.getStudentList())
-                            .stream()
-                            .filter(stud -> !s.isSameStudent(stud))
-                            .anyMatch(stud -> s.isSamePerson(stud));
-                    if (hasDuplicates) {
+                    if (application.hasDuplicateStudent(s)) {
                         throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
                     }
                     application.addStudentIgnoreDuplicates(s);
@@ -89,8 +136,48 @@ public class JsonSerializableApplication {
         return application;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     public List<JsonAdaptedModule> getJsonAdaptedModules() {
         return this.modules;
     }
 
+    /**
+     * A module converted from Json on a worker thread, or the error found in converting it.
+     */
+    private static class ConvertedModule {
+        private final Module module;
+        private final Date semesterStart;
+        private final IllegalValueException error;
+
+        private ConvertedModule(Module module, Date semesterStart, IllegalValueException error) {
+            this.module = module;
+            this.semesterStart = semesterStart;
+            this.error = error;
+        }
+
+        private static ConvertedModule convert(JsonAdaptedModule jsonAdaptedModule) {
+            try {
+                Module module = jsonAdaptedModule.toModelTypeWithoutSemesterStart();
+                return new ConvertedModule(module, jsonAdaptedModule.readSemesterStart(), null);
+            } catch (IllegalValueException e) {
+                return new ConvertedModule(null, null, e);
+            }
+        }
+
+        /**
+         * Returns the converted module.
+         *
+         * @throws IllegalValueException if the module could not be converted.
+         */
+        private Module getModule() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return module;
+        }
+    }
+
 }
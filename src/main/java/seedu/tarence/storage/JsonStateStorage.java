@@ -4,12 +4,23 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Date;
-import java.util.NoSuchElementException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.tarence.commons.core.LogsCenter;
@@ -17,21 +28,51 @@ import seedu.tarence.commons.exceptions.DataConversionException;
 import seedu.tarence.commons.exceptions.IllegalValueException;
 import seedu.tarence.commons.util.FileUtil;
 import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.logic.parser.ParserUtil;
 import seedu.tarence.model.ReadOnlyApplication;
 import seedu.tarence.model.module.Module;
 
 /**
- * A class to access the application states stored as json files on the hard disk.
+ * A class to access the application states stored on the hard disk.
+ * The most recent states are kept in an {@code ApplicationStateCache}, so that undoing to any of them does not touch
+ * the disk. States that no longer fit in the cache are spilled to the disk on a background thread: every change in
+ * state is appended to a journal as a delta of the modules that changed, and a full snapshot of the application is
+ * only written every {@code SNAPSHOT_INTERVAL} states. Earlier states are rebuilt by replaying the inverse of the
+ * journal entries from the nearest snapshot. Snapshots are written in the binary format of
+ * {@code BinaryApplicationCodec} by default, or as Json.
  */
 public class JsonStateStorage implements ApplicationStateStorage {
-    private static final Logger logger = LogsCenter.getLogger(JsonApplicationStorage.class);
+    public static final int SNAPSHOT_INTERVAL = 10;
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonStateStorage.class);
     private static final String STATE_FILE_PREFIX = "state";
-    private static final String STATE_FILE_SUFFIX = ".json";
+    private static final String JSON_STATE_FILE_SUFFIX = ".json";
+    private static final String BINARY_STATE_FILE_SUFFIX = ".bin";
+    private static final String JOURNAL_FILE_NAME = "journal.json";
+    private static final int BYTES_PER_CHAR = 2;
     private String dataFolderName;
     private String stateFolderName;
 
     private Stack<Integer> stateStack;
 
+    private final ApplicationStateCache stateCache;
+    private final boolean useBinarySnapshots;
+    private final ThreadPoolExecutor spillExecutor;
+    private volatile boolean hasSpillFailed;
+
+    // The application and module instances of the latest state, together with the modification stamp at the time it
+    // was saved, used to skip the modules that have not been modified since.
+    private ReadOnlyApplication latestApplication;
+    private Map<String, Module> latestModuleInstances = new HashMap<>();
+    private long latestModificationStamp;
+
+    // Only accessed from the spill thread, or after waiting for all pending spills to finish.
+    private int latestSpilledStateIndex;
+    // Byte offset of the journal entry that leads to each state, starting from state 2.
+    private List<Long> journalOffsets;
+    private long journalSize;
+
     /**
      * Constructor will be initialised with the folder names.
      *
@@ -39,12 +80,47 @@ public class JsonStateStorage implements ApplicationStateStorage {
      * @param stateFolderName Folder name of the state folder.
      */
     public JsonStateStorage(String dataFolderName, String stateFolderName) {
+        this(dataFolderName, stateFolderName, DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * Constructor will be initialised with the folder names and the memory limit of the in-memory states.
+     *
+     * @param dataFolderName Folder name of the data folder used.
+     * @param stateFolderName Folder name of the state folder.
+     * @param memoryLimit Estimated number of bytes the states kept in memory may take up.
+     */
+    public JsonStateStorage(String dataFolderName, String stateFolderName, long memoryLimit) {
+        this(dataFolderName, stateFolderName, memoryLimit, true);
+    }
+
+    /**
+     * Constructor will be initialised with the folder names, the memory limit of the in-memory states, and the format
+     * of the snapshots.
+     *
+     * @param dataFolderName Folder name of the data folder used.
+     * @param stateFolderName Folder name of the state folder.
+     * @param memoryLimit Estimated number of bytes the states kept in memory may take up.
+     * @param useBinarySnapshots Whether snapshots are written in the binary format rather than as Json.
+     */
+    public JsonStateStorage(String dataFolderName, String stateFolderName, long memoryLimit,
+            boolean useBinarySnapshots) {
 
         this.dataFolderName = dataFolderName;
         this.stateFolderName = stateFolderName;
+        this.useBinarySnapshots = useBinarySnapshots;
 
         stateStack = new Stack<Integer>();
         stateStack.add(0);
+        stateCache = new ApplicationStateCache(memoryLimit);
+        journalOffsets = new ArrayList<>();
+
+        spillExecutor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "state-spill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        spillExecutor.allowCoreThreadTimeOut(true);
 
         try {
             clearStateFolder();
@@ -61,6 +137,8 @@ public class JsonStateStorage implements ApplicationStateStorage {
      * @throws IOException if got error in accessing the file directory.
      */
     public void clearStateFolder() throws IOException {
+        waitForPendingSpills();
+
         Path filePath = Paths.get(dataFolderName, stateFolderName);
         File folderDirectory = filePath.toFile();
 
@@ -79,46 +157,96 @@ public class JsonStateStorage implements ApplicationStateStorage {
 
     }
 
+    /**
+     * Blocks until all states evicted from memory have been written to the disk.
+     */
+    public void waitForPendingSpills() {
+        try {
+            spillExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.info("Error in waiting for states to be written to disk: " + e.getMessage());
+        }
+    }
 
     /**
      * Saves the application state whenever there is a change in state.
+     * Only the modules that differ from the latest state are recorded, and the modules that did not change are shared
+     * with the latest state.
+     *
      * @param application Contains TArence's model.
-     * @throws IOException thrown when there is an error in saving.
      */
     public void saveApplicationState(ReadOnlyApplication application) {
         requireNonNull(application);
 
-        // Get the next filePath eg "data\states\state5.json".
-        Path filePath = getNextFilePath();
+        if (stateCache.isEmpty() || hasSpillFailed) {
+            String loggerMessage = "Unable to save state as state-storage-structure has been altered."
+                    + "\nWill be resetting to new state ie start from state 0";
 
-        try {
-            Optional<Date> currSemStart = Optional.ofNullable(Module.getSemStart());
-            // Only save the state if the incoming application is different from the latest application
-            ReadOnlyApplication latestApplication = getLatestState();
-            Optional<Date> prevSemStart = Optional.ofNullable(Module.getSemStart());
-            Module.setSemStart(currSemStart.orElse(null));
+            logger.info(loggerMessage);
 
-            // Only saves the state when there is a change with the current state
-            if (!latestApplication.equalsUsingStringComparison(application)
-                    || !prevSemStart.equals(currSemStart)) {
+            resetStateStorage(application);
+            return;
+        }
+
+        // Nothing in the model has been modified since the latest state was saved
+        if (application == latestApplication && application.getLastModified() == latestModificationStamp) {
+            return;
+        }
 
-                // Save the application state
-                FileUtil.createIfMissing(filePath);
-                JsonUtil.saveJsonFile(new JsonSerializableApplication(application), filePath);
+        ApplicationStateCache.CachedState latestState = stateCache.getLatest();
+        LinkedHashMap<String, JsonAdaptedModule> latestModules = latestState.getModules();
+        String currSemStart = String.valueOf(Module.getSemStart());
 
-                // Increment the stack counter
-                stateStack.push(stateStack.peek() + 1);
+        LinkedHashMap<String, JsonAdaptedModule> currModules = new LinkedHashMap<>();
+        LinkedHashMap<String, JsonAdaptedModule> modulesBefore = new LinkedHashMap<>();
+        LinkedHashMap<String, JsonAdaptedModule> modulesAfter = new LinkedHashMap<>();
+        long estimatedSize = 0;
 
+        for (Module m : application.getModuleList()) {
+            String moduleCode = m.getModCode().toString();
+            if (latestModuleInstances.get(moduleCode) == m && m.getLastModified() <= latestModificationStamp) {
+                currModules.put(moduleCode, latestModules.get(moduleCode));
+                continue;
             }
-        } catch (NoSuchElementException | IOException e) {
-            String loggerMessage = "Unable to save state as state-storage-structure has been altered."
-                    + "\nWill be resetting to new state ie start from state 0";
 
-            logger.info(loggerMessage);
+            // The module may have been modified, so its serialised form is compared with the latest state
+            JsonAdaptedModule adaptedModule = new JsonAdaptedModule(m);
+            String moduleString = adaptedModule.getTutorialsJson();
+            if (latestModules.containsKey(moduleCode)
+                    && moduleString.equals(latestModules.get(moduleCode).getTutorialsJson())) {
+                currModules.put(moduleCode, latestModules.get(moduleCode));
+            } else {
+                currModules.put(moduleCode, adaptedModule);
+                if (latestModules.containsKey(moduleCode)) {
+                    modulesBefore.put(moduleCode, latestModules.get(moduleCode));
+                }
+                modulesAfter.put(moduleCode, adaptedModule);
+                estimatedSize += (long) moduleString.length() * BYTES_PER_CHAR;
+            }
+        }
+        for (String moduleCode : latestModules.keySet()) {
+            if (!currModules.containsKey(moduleCode)) {
+                modulesBefore.put(moduleCode, latestModules.get(moduleCode));
+            }
+        }
 
-            resetStateStorage(application);
+        JsonAdaptedStateDelta delta = new JsonAdaptedStateDelta(getNextStateIndex(),
+                latestState.getSemesterStart(), currSemStart,
+                new ArrayList<>(latestModules.keySet()), new ArrayList<>(currModules.keySet()),
+                modulesBefore, modulesAfter);
+
+        // Only saves the state when there is a change with the current state
+        if (!delta.isEmpty()) {
+            // Increment the stack counter
+            stateStack.push(stateStack.peek() + 1);
+            stateCache.add(new ApplicationStateCache.CachedState(getLatestStateIndex(), currModules, currSemStart,
+                    delta, estimatedSize, false));
 
+            spillEvictedStates();
         }
+        trackLatestApplication(application);
     }
 
     /**
@@ -130,9 +258,6 @@ public class JsonStateStorage implements ApplicationStateStorage {
 
         try {
             clearStateFolder();
-            this.stateStack = new Stack<>();
-            stateStack.add(0);
-
             saveFirstState(application);
 
         } catch (IOException e) {
@@ -142,33 +267,15 @@ public class JsonStateStorage implements ApplicationStateStorage {
     }
 
     public String getSemesterStartDateOfLatestState() throws IOException {
-        String latestSemStartDate = "";
-
-        try {
-            // Read the previous semester start date from the latest state.
-            Path filePath = getFilePathFromIndex(getLatestStateIndex());
-            Optional<JsonSerializableApplication> jsonApplication = JsonUtil.readJsonFile(
-                    filePath, JsonSerializableApplication.class);
-
-            if (jsonApplication.isPresent()) {
-                // Iterate through all as all modules will have the same semester start date since it is a class atrbute
-                for (JsonAdaptedModule m : jsonApplication.get().getJsonAdaptedModules()) {
-                    latestSemStartDate = m.getSemesterStartString();
-                }
-            } else {
-                throw new IOException("Unable to undo as there is a problem with the state file");
-            }
-
-        } catch (DataConversionException | IOException e) {
+        if (stateCache.isEmpty()) {
             throw new IOException("Unable to undo as there is a problem with the state file");
         }
-
-        return latestSemStartDate;
+        return stateCache.getLatest().getSemesterStart();
     }
 
 
     /**
-     * Checks if the semester start date has been changed by comparing with the previously saved-state file.
+     * Checks if the semester start date has been changed by comparing with the latest saved state.
      * @return
      * @throws IOException
      */
@@ -177,56 +284,41 @@ public class JsonStateStorage implements ApplicationStateStorage {
         // Semester start is assigned a class level attribute.
         String currentStartDate = String.valueOf(Module.getSemStart());
 
-        String latestSavedStartDate = "";
-        try {
-            // Read the previous semester start date from the latest state.
-            Path filePath = getFilePathFromIndex(getLatestStateIndex());
-            Optional<JsonSerializableApplication> jsonApplication = JsonUtil.readJsonFile(
-                    filePath, JsonSerializableApplication.class);
-
-            if (jsonApplication.isPresent()) {
-                // Iterate through all as all modules will have the same semester start date since it is a class atrbute
-                for (JsonAdaptedModule m : jsonApplication.get().getJsonAdaptedModules()) {
-                    latestSavedStartDate = m.getSemesterStartString();
-                }
-            } else {
-                throw new IOException("Unable to undo as there is a problem with the state file");
-            }
-
-        } catch (DataConversionException e) {
-            throw new IOException("Unable to undo as there is a problem with the state file");
-        }
-
-
-
-        System.out.println("Saved app state start date: " + String.valueOf(latestSavedStartDate));
-
-        if (latestSavedStartDate.equals(currentStartDate)) {
-            return false;
-        } else {
-            return true;
-        }
-
+        return !getSemesterStartDateOfLatestState().equals(currentStartDate);
     }
 
     /**
      * Saves the first state. Has to be handled seperately as in the normal saving, saving is only done when there is
      * a change with the previous state, which does not exist for the first state.
+     * The first state discards all earlier states, and is always spilled to the disk as a full snapshot.
      *
      * @param application
-     * @throws IOException thrown when error in saving first state.
+     * @throws IOException thrown when error in clearing the earlier states.
      */
     public void saveFirstState(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        Path filePath = getNextFilePath();
+        clearStateFolder();
+        journalOffsets = new ArrayList<>();
+        journalSize = 0;
+        latestSpilledStateIndex = 0;
+        hasSpillFailed = false;
 
-        // Save the application state
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableApplication(application), filePath);
+        stateStack = new Stack<>();
+        stateStack.add(0);
+        stateStack.push(1);
+
+        LinkedHashMap<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+        for (Module m : application.getModuleList()) {
+            JsonAdaptedModule adaptedModule = new JsonAdaptedModule(m);
+            modules.put(adaptedModule.getModuleCode(), adaptedModule);
+        }
 
-        // Increment the stack counter
-        stateStack.push(stateStack.peek() + 1);
+        stateCache.clear();
+        stateCache.add(new ApplicationStateCache.CachedState(getLatestStateIndex(), modules,
+                String.valueOf(Module.getSemStart()), null, estimateSize(modules), false));
+        spillEvictedStates();
+        trackLatestApplication(application);
     }
 
     /**
@@ -241,13 +333,11 @@ public class JsonStateStorage implements ApplicationStateStorage {
     }
 
     /**
-     * Returns the file path that will be used to save the next application state.
+     * Returns the file path that will be used to save the next application state snapshot.
      * @return Path.
      */
     public Path getNextFilePath() {
-        String fileName = STATE_FILE_PREFIX + getNextStateIndex().toString()
-                + STATE_FILE_SUFFIX;
-        return Paths.get(dataFolderName, stateFolderName, fileName);
+        return getFilePathFromIndex(getNextStateIndex());
     }
 
     /**
@@ -267,57 +357,79 @@ public class JsonStateStorage implements ApplicationStateStorage {
     }
 
     /**
-     * Returns the filepath representing the file of the state, indexed by the stack.
+     * Returns the filepath representing the snapshot file of the state, indexed by the stack.
+     * Only states where {@link #isSnapshotIndex(int)} is true have a snapshot file.
      *
      * @param index Index of said state.
-     * @return File Path eg "//data//states//state5.json"
+     * @return File Path eg "//data//states//state10.bin"
      */
     public Path getFilePathFromIndex(Integer index) {
-        String fileName = STATE_FILE_PREFIX + index.toString() + STATE_FILE_SUFFIX;
+        String fileName = STATE_FILE_PREFIX + index.toString()
+                + (useBinarySnapshots ? BINARY_STATE_FILE_SUFFIX : JSON_STATE_FILE_SUFFIX);
         return Paths.get(dataFolderName, stateFolderName, fileName);
     }
 
+    /**
+     * Returns the filepath of the journal of state changes.
+     */
+    public Path getJournalFilePath() {
+        return Paths.get(dataFolderName, stateFolderName, JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * Returns true if a full snapshot is kept for the state of the given index.
+     */
+    public static boolean isSnapshotIndex(int index) {
+        return index == 1 || index % SNAPSHOT_INTERVAL == 0;
+    }
+
     /**
      * Get the latest application state.
      *
      * @return ReadOnlyApplication
-     * @throws IOException thrown when there is an error in reading of the file.
+     * @throws IOException thrown when there is an error in rebuilding the state.
      */
     public ReadOnlyApplication getLatestState() throws IOException {
-        try {
-            Path filePath = getFilePathFromIndex(getLatestStateIndex());
-            Optional<ReadOnlyApplication> applicationOptional = readApplication(filePath);
-            return applicationOptional.get();
-        } catch (DataConversionException e) {
+        if (stateCache.isEmpty()) {
             throw new IOException("Unable to undo as there is a problem with the state file");
         }
-
+        return toApplication(stateCache.getLatest().getModules(), stateCache.getLatest().getSemesterStart());
     }
 
     /**
-     * Returns the ReadOnlyApplication of a specified index.
+     * Returns the ReadOnlyApplication of a specified index, and discards all states after it.
+     * States that are still in memory are returned without reading the disk. Older states are rebuilt by replaying the
+     * inverse of the journal entries, starting from the nearest later snapshot or from the oldest state in memory,
+     * whichever is closer.
      * Pre-condition: Index supplied is valid ie handled by UndoCommand
      *
      * @param index of the state that you want to retrieve.
-     * @return ReadOnlyApplication from state json file.
+     * @return ReadOnlyApplication rebuilt from the states in memory or on disk.
      * @throws IOException thrown when got error in reading the state.
      */
     public ReadOnlyApplication getSpecifiedState(Integer index) throws IOException {
+        if (stateCache.isEmpty() || index < 1 || index > getLatestStateIndex()) {
+            throw new IOException("Unable to undo as there is a problem with the state file");
+        }
 
-        try {
-            Path filePath = getFilePathFromIndex(index);
-            Optional<ReadOnlyApplication> applicationOptional = readApplication(filePath);
+        Optional<ApplicationStateCache.CachedState> cachedState = stateCache.get(index);
+        if (cachedState.isPresent()) {
+            stateCache.discardAfter(index);
+        } else {
+            rebuildStateFromDisk(index);
+        }
 
-            int numOfStatesToPop = getLatestStateIndex() - index;
+        // Discard the states after the specified state.
+        while (getLatestStateIndex() > index) {
+            stateStack.pop();
+        }
 
-            for (int i = 0; i < numOfStatesToPop; i++) {
-                stateStack.pop();
-            }
+        ApplicationStateCache.CachedState state = stateCache.getLatest();
+        ReadOnlyApplication application = toApplication(state.getModules(), state.getSemesterStart());
 
-            return applicationOptional.get();
-        } catch (DataConversionException e) {
-            throw new IOException("Unable to undo as there is a problem with the state file");
-        }
+        // The model is reset with the modules of the returned application, so they are tracked as the latest state
+        trackLatestApplication(application);
+        return application;
     }
 
     /**
@@ -356,7 +468,246 @@ public class JsonStateStorage implements ApplicationStateStorage {
         return stateStack.peek() - 1;
     }
 
+    //============================== Journal and snapshot helpers ======================================================
+
+    /**
+     * Evicts the oldest states from memory until it is within its limit, and writes them to the disk in the
+     * background.
+     */
+    private void spillEvictedStates() {
+        for (ApplicationStateCache.CachedState evictedState : stateCache.evictOverflow()) {
+            if (!evictedState.isPersisted()) {
+                spillExecutor.execute(() -> spill(evictedState));
+            }
+        }
+    }
+
+    /**
+     * Writes the journal entry that leads to the given state, and its snapshot if one is kept.
+     * Runs on the spill thread. Once a spill fails, the remaining states are not written, and the state storage is
+     * reset on the next save.
+     */
+    private void spill(ApplicationStateCache.CachedState state) {
+        if (hasSpillFailed) {
+            return;
+        }
+
+        try {
+            if (state.getDelta() == null) {
+                // Start a fresh journal
+                Path journalPath = getJournalFilePath();
+                FileUtil.createIfMissing(journalPath);
+                FileUtil.writeToFile(journalPath, "");
+            } else {
+                appendToJournal(state.getDelta());
+            }
+
+            if (isSnapshotIndex(state.getIndex())) {
+                saveSnapshot(state.getIndex(), state.getModules(), state.getSemesterStart());
+            }
+            latestSpilledStateIndex = state.getIndex();
+        } catch (IOException e) {
+            logger.info("Unable to write state " + state.getIndex() + " to disk: " + e.getMessage());
+            hasSpillFailed = true;
+        }
+    }
+
+    /**
+     * Rebuilds the state of the given index, which is older than every state in memory, from the disk, and makes it
+     * the only state in memory.
+     */
+    private void rebuildStateFromDisk(int index) throws IOException {
+        waitForPendingSpills();
+        if (hasSpillFailed) {
+            throw new IOException("Unable to undo as there is a problem with the state file");
+        }
+
+        ApplicationStateCache.CachedState oldestState = stateCache.getOldest();
+        int startIndex = oldestState.getIndex();
+        LinkedHashMap<String, JsonAdaptedModule> modules = oldestState.getModules();
+        String semesterStart = oldestState.getSemesterStart();
+
+        int nearestSnapshotIndex = index == 1 ? 1 : ((index + SNAPSHOT_INTERVAL - 1) / SNAPSHOT_INTERVAL)
+                * SNAPSHOT_INTERVAL;
+        if (nearestSnapshotIndex < startIndex) {
+            startIndex = nearestSnapshotIndex;
+            modules = readSnapshot(nearestSnapshotIndex);
+            // Snapshots do not keep the semester start, so it is taken from the entry that follows the snapshot.
+            semesterStart = getJournalEntry(nearestSnapshotIndex + 1).getSemesterStartBefore();
+        }
+
+        for (int i = startIndex; i > index; i--) {
+            JsonAdaptedStateDelta delta = getJournalEntry(i);
+            modules = delta.applyInverse(modules);
+            semesterStart = delta.getSemesterStartBefore();
+        }
+
+        // Discard the states after the specified state from the disk.
+        for (int i = latestSpilledStateIndex; i > index; i--) {
+            if (isSnapshotIndex(i)) {
+                Files.deleteIfExists(getFilePathFromIndex(i));
+            }
+        }
+        if (index - 1 < journalOffsets.size()) {
+            journalSize = index >= 2 ? journalOffsets.get(index - 1) : 0;
+            journalOffsets = new ArrayList<>(journalOffsets.subList(0, Math.max(index - 1, 0)));
+        }
+        try (RandomAccessFile journal = new RandomAccessFile(getJournalFilePath().toFile(), "rw")) {
+            journal.setLength(journalSize);
+        }
+        latestSpilledStateIndex = index;
+
+        stateCache.clear();
+        stateCache.add(new ApplicationStateCache.CachedState(index, modules, semesterStart, null,
+                estimateSize(modules), true));
+    }
+
+    /**
+     * Returns the journal entry that leads to the state of the given index, from memory if it has not been spilled.
+     */
+    private JsonAdaptedStateDelta getJournalEntry(int index) throws IOException {
+        Optional<ApplicationStateCache.CachedState> cachedState = stateCache.get(index);
+        if (cachedState.isPresent() && cachedState.get().getDelta() != null) {
+            return cachedState.get().getDelta();
+        }
+        return readJournalEntry(index);
+    }
+
+    /**
+     * Appends a single entry to the end of the journal.
+     */
+    private void appendToJournal(JsonAdaptedStateDelta delta) throws IOException {
+        Path journalPath = getJournalFilePath();
+        if (!Files.exists(journalPath)) {
+            throw new IOException("Journal file " + journalPath + " is missing");
+        }
+
+        byte[] entry = (JsonUtil.toCompactJsonString(delta) + "\n").getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPath, entry, StandardOpenOption.APPEND);
+
+        journalOffsets.add(journalSize);
+        journalSize += entry.length;
+    }
+
+    /**
+     * Reads the journal entry that leads to the state of the given index.
+     */
+    private JsonAdaptedStateDelta readJournalEntry(int index) throws IOException {
+        long start = journalOffsets.get(index - 2);
+        long end = index - 1 < journalOffsets.size() ? journalOffsets.get(index - 1) : journalSize;
+
+        byte[] entry = new byte[(int) (end - start)];
+        try (RandomAccessFile journal = new RandomAccessFile(getJournalFilePath().toFile(), "r")) {
+            journal.seek(start);
+            journal.readFully(entry);
+        }
+
+        return JsonUtil.fromJsonString(new String(entry, StandardCharsets.UTF_8), JsonAdaptedStateDelta.class);
+    }
+
+    /**
+     * Saves the given modules as the full snapshot of the state of the given index.
+     */
+    private void saveSnapshot(int index, LinkedHashMap<String, JsonAdaptedModule> modules, String semesterStart)
+            throws IOException {
+        Path filePath = getFilePathFromIndex(index);
+        FileUtil.createIfMissing(filePath);
+        if (!useBinarySnapshots) {
+            JsonUtil.saveJsonFile(new JsonSerializableApplication(new ArrayList<>(modules.values())), filePath);
+            return;
+        }
+
+        List<Module> models = new ArrayList<>();
+        try {
+            for (JsonAdaptedModule module : modules.values()) {
+                models.add(module.toModelTypeWithoutSemesterStart());
+            }
+        } catch (IllegalValueException e) {
+            throw new IOException("Unable to convert state " + index + " into a snapshot: " + e.getMessage(), e);
+        }
+        Files.write(filePath, BinaryApplicationCodec.writeModules(models, semesterStart));
+    }
+
+    /**
+     * Reads the snapshot of the given index as a module code to JsonAdaptedModule mapping.
+     */
+    private LinkedHashMap<String, JsonAdaptedModule> readSnapshot(int index) throws IOException {
+        if (useBinarySnapshots) {
+            return readBinarySnapshot(index);
+        }
+        try {
+            Optional<JsonSerializableApplication> snapshot = JsonUtil.readJsonFile(
+                    getFilePathFromIndex(index), JsonSerializableApplication.class);
+            if (!snapshot.isPresent()) {
+                throw new IOException("Unable to undo as state snapshot " + index + " is missing");
+            }
+
+            LinkedHashMap<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+            for (JsonAdaptedModule m : snapshot.get().getJsonAdaptedModules()) {
+                modules.put(m.getModuleCode(), m);
+            }
+            return modules;
+        } catch (DataConversionException e) {
+            throw new IOException("Unable to undo as there is a problem with the state file");
+        }
+    }
+
+    /**
+     * Reads the snapshot of the given index, written in the binary format, as a module code to JsonAdaptedModule
+     * mapping.
+     */
+    private LinkedHashMap<String, JsonAdaptedModule> readBinarySnapshot(int index) throws IOException {
+        Path filePath = getFilePathFromIndex(index);
+        if (!Files.exists(filePath)) {
+            throw new IOException("Unable to undo as state snapshot " + index + " is missing");
+        }
+        try {
+            BinaryApplicationCodec.Contents snapshot = BinaryApplicationCodec.read(Files.readAllBytes(filePath));
+            LinkedHashMap<String, JsonAdaptedModule> modules = new LinkedHashMap<>();
+            for (Module m : snapshot.getModules()) {
+                modules.put(m.getModCode().toString(), new JsonAdaptedModule(m, snapshot.getSemesterStart()));
+            }
+            return modules;
+        } catch (IllegalValueException e) {
+            throw new IOException("Unable to undo as there is a problem with the state file");
+        }
+    }
 
+    /**
+     * Converts the given modules and semester start into an application.
+     */
+    private ReadOnlyApplication toApplication(LinkedHashMap<String, JsonAdaptedModule> modules, String semesterStart)
+            throws IOException {
+        try {
+            ReadOnlyApplication application = new JsonSerializableApplication(new ArrayList<>(modules.values()))
+                    .toModelType();
+            Module.setSemStart(ParserUtil.parseSemesterStartDateFromJson(String.valueOf(semesterStart)));
+            return application;
+        } catch (IllegalValueException e) {
+            throw new IOException("Unable to undo as there is a problem with the state file");
+        }
+    }
 
+    /**
+     * Records the given application and its modules as those of the latest state.
+     */
+    private void trackLatestApplication(ReadOnlyApplication application) {
+        latestApplication = application;
+        latestModuleInstances = new HashMap<>();
+        for (Module m : application.getModuleList()) {
+            latestModuleInstances.put(m.getModCode().toString(), m);
+        }
+        latestModificationStamp = application.getLastModified();
+    }
 
+    /**
+     * Returns the estimated number of bytes taken up by the given modules.
+     */
+    private static long estimateSize(LinkedHashMap<String, JsonAdaptedModule> modules) {
+        long estimatedSize = 0;
+        for (JsonAdaptedModule module : modules.values()) {
+            estimatedSize += (long) module.getTutorialsJson().length() * BYTES_PER_CHAR;
+        }
+        return estimatedSize;
+    }
 }
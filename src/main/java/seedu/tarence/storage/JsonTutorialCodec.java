@@ -0,0 +1,596 @@
+package seedu.tarence.storage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Email;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.MatricNum;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.Event;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+/**
+ * Writes and reads the tutorials of a module as nested Json, one token at a time, using Jackson's streaming API.
+ * Each student is stored once, in the roster of its tutorial, and attendance and scores refer to students by their
+ * position in the roster. Dates are stored as milliseconds since the epoch, and optional fields that are empty are
+ * stored as null.
+ */
+public class JsonTutorialCodec {
+
+    public static final String ATTENDANCE_WEEK = "week";
+    public static final String ATTENDANCE_PRESENT_STUDENTS = "present";
+    public static final String ASSIGNMENT_SCORES = "assignmentScores";
+    // Lists of full student objects, written by format version 2 in place of the two lists above.
+    public static final String ATTENDANCE_STUDENT_LIST = "students";
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    //============================== Writing ===========================================================================
+
+    /**
+     * Returns the given tutorials as a compact Json array.
+     */
+    public static String writeTutorials(List<Tutorial> tutorials) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            writeTutorials(generator, tutorials);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a string should not fail", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the given tutorials as a Json array with the given generator.
+     */
+    public static void writeTutorials(JsonGenerator generator, List<Tutorial> tutorials) throws IOException {
+        generator.writeStartArray();
+        for (Tutorial tutorial : tutorials) {
+            writeTutorial(generator, tutorial);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeTutorial(JsonGenerator generator, Tutorial tutorial) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(JsonAdaptedModule.TUTORIAL_NAME, tutorial.getTutName().toString());
+        generator.writeStringField(JsonAdaptedModule.TUTORIAL_DAY, tutorial.getTimeTable().getDay().toString());
+        generator.writeStringField(JsonAdaptedModule.TUTORIAL_START_TIME,
+                tutorial.getTimeTable().getStartTime().toString());
+        generator.writeArrayFieldStart(JsonAdaptedModule.TUTORIAL_WEEKS);
+        for (Week week : tutorial.getTimeTable().getWeeks()) {
+            generator.writeNumber(week.week);
+        }
+        generator.writeEndArray();
+        generator.writeStringField(JsonAdaptedModule.TUTORIAL_DURATION,
+                tutorial.getTimeTable().getDuration().toString());
+        generator.writeStringField(JsonAdaptedModule.TUTORIAL_MODULE_CODE, tutorial.getModCode().toString());
+
+        // Each student is written once, in the roster. Attendance and scores refer to students by their position in it.
+        List<Student> students = tutorial.getStudents();
+        generator.writeArrayFieldStart(JsonAdaptedModule.TUTORIAL_STUDENT_LIST);
+        for (Student student : students) {
+            generator.writeStartObject();
+            writeStudentFields(generator, student, tutorial);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        // The present students of each week are read from the week bits of each student of the roster
+        Attendance attendance = tutorial.getAttendance();
+        long[] presentWeeks = attendance.getPresentWeeks(students);
+        generator.writeArrayFieldStart(JsonAdaptedModule.TUTORIAL_ATTENDANCE_LIST);
+        for (Week week : attendance.getWeeks()) {
+            long weekBit = 1L << week.week;
+            generator.writeStartObject();
+            generator.writeNumberField(ATTENDANCE_WEEK, week.week);
+            generator.writeArrayFieldStart(ATTENDANCE_PRESENT_STUDENTS);
+            for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+                if ((presentWeeks[ordinal] & weekBit) != 0) {
+                    generator.writeNumber(ordinal);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(JsonAdaptedModule.TUTORIAL_ASSIGNMENT_LIST);
+        for (Map.Entry<Assignment, Map<Student, Integer>> assignment
+                : tutorial.getAssignmentsForSaving().entrySet()) {
+            generator.writeStartObject();
+            generator.writeStringField(JsonAdaptedModule.ASSIGNMENT_NAME, assignment.getKey().getAssignmentName());
+            generator.writeNumberField(JsonAdaptedModule.ASSIGNMENT_MAX_SCORE, assignment.getKey().getMaxScore());
+            generator.writeNumberField(JsonAdaptedModule.ASSIGNMENT_START_DATE,
+                    assignment.getKey().getStartDate().getTime());
+            generator.writeNumberField(JsonAdaptedModule.ASSIGNMENT_END_DATE,
+                    assignment.getKey().getEndDate().getTime());
+            // Scores are listed in the order of the roster, with null for students without a score.
+            generator.writeArrayFieldStart(ASSIGNMENT_SCORES);
+            for (Student student : students) {
+                Integer score = assignment.getValue().get(student);
+                if (score == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(score);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(JsonAdaptedModule.TUTORIAL_EVENT_LIST);
+        for (Event event : tutorial.getEventListForSaving()) {
+            generator.writeStartObject();
+            generator.writeStringField(JsonAdaptedModule.EVENT_NAME, event.eventName);
+            generator.writeNumberField(JsonAdaptedModule.EVENT_START_DATE, event.startTime.getTime());
+            generator.writeNumberField(JsonAdaptedModule.EVENT_END_DATE, event.endTime.getTime());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the fields of a student. The module code and tutorial name are left out if they are the same as those of
+     * the student's tutorial.
+     */
+    private static void writeStudentFields(JsonGenerator generator, Student student, Tutorial tutorial)
+            throws IOException {
+        generator.writeStringField(JsonAdaptedModule.STUDENT_NAME, student.getName().toString());
+        generator.writeStringField(JsonAdaptedModule.STUDENT_EMAIL, student.getEmail().toString());
+        generator.writeStringField(JsonAdaptedModule.STUDENT_MATRIC_NUMBER,
+                student.getMatricNum().map(MatricNum::toString).orElse(null));
+        generator.writeStringField(JsonAdaptedModule.STUDENT_NUSNET_ID,
+                student.getNusnetId().map(NusnetId::toString).orElse(null));
+        if (!student.getModCode().equals(tutorial.getModCode())) {
+            generator.writeStringField(JsonAdaptedModule.STUDENT_MODULE_CODE, student.getModCode().toString());
+        }
+        if (!student.getTutName().equals(tutorial.getTutName())) {
+            generator.writeStringField(JsonAdaptedModule.STUDENT_TUTORIAL_NAME, student.getTutName().toString());
+        }
+    }
+
+    //============================== Reading ===========================================================================
+
+    /**
+     * Returns the tutorials in the given Json array.
+     *
+     * @throws IllegalValueException if the Json is malformed, or any of the fields is missing or invalid.
+     */
+    public static List<Tutorial> readTutorials(String json) throws IllegalValueException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            parser.nextToken();
+            return readTutorials(parser);
+        } catch (IOException e) {
+            throw new IllegalValueException(JsonAdaptedModule.MISSING_GENERIC_FIELD + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Thrown by the constructors of the model objects when a field is invalid.
+            throw new IllegalValueException(JsonAdaptedModule.MISSING_GENERIC_FIELD + e.getMessage());
+        } catch (DateTimeParseException e) {
+            // Thrown by either Duration or LocalTime objects.
+            String errorMessage = String.format(JsonAdaptedModule.INVALID_FIELD_MESSAGE_FORMAT,
+                    Duration.class.getSimpleName())
+                    + " Or " + String.format(JsonAdaptedModule.INVALID_FIELD_MESSAGE_FORMAT,
+                    LocalTime.class.getSimpleName());
+            throw new IllegalValueException(errorMessage);
+        }
+    }
+
+    /**
+     * Reads the Json array of tutorials at the current token of the given parser.
+     */
+    private static List<Tutorial> readTutorials(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        List<Tutorial> tutorials = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tutorials.add(readTutorial(parser));
+        }
+        return tutorials;
+    }
+
+    private static Tutorial readTutorial(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_OBJECT);
+        String tutorialName = null;
+        String day = null;
+        String startTime = null;
+        Set<Week> weeks = null;
+        String duration = null;
+        String moduleCode = null;
+        List<Student> students = null;
+        Map<Week, Map<Student, Boolean>> attendance = null;
+        Map<Assignment, Map<Student, Integer>> assignments = new TreeMap<>();
+        List<Event> events = new ArrayList<>();
+        Roster roster = new Roster();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case JsonAdaptedModule.TUTORIAL_NAME:
+                tutorialName = readString(parser);
+                roster.tutorialName = tutorialName;
+                break;
+            case JsonAdaptedModule.TUTORIAL_DAY:
+                day = readString(parser);
+                break;
+            case JsonAdaptedModule.TUTORIAL_START_TIME:
+                startTime = readString(parser);
+                break;
+            case JsonAdaptedModule.TUTORIAL_WEEKS:
+                weeks = readWeeks(parser);
+                break;
+            case JsonAdaptedModule.TUTORIAL_DURATION:
+                duration = readString(parser);
+                break;
+            case JsonAdaptedModule.TUTORIAL_MODULE_CODE:
+                moduleCode = readString(parser);
+                roster.moduleCode = moduleCode;
+                break;
+            case JsonAdaptedModule.TUTORIAL_STUDENT_LIST:
+                students = readStudents(parser, roster);
+                break;
+            case JsonAdaptedModule.TUTORIAL_ATTENDANCE_LIST:
+                attendance = readAttendance(parser, roster);
+                break;
+            case JsonAdaptedModule.TUTORIAL_ASSIGNMENT_LIST:
+                assignments = readAssignments(parser, roster);
+                break;
+            case JsonAdaptedModule.TUTORIAL_EVENT_LIST:
+                events = readEvents(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        requireField(tutorialName, JsonAdaptedModule.TUTORIAL_NAME);
+        requireField(day, JsonAdaptedModule.TUTORIAL_DAY);
+        requireField(startTime, JsonAdaptedModule.TUTORIAL_START_TIME);
+        requireField(weeks, JsonAdaptedModule.TUTORIAL_WEEKS);
+        requireField(duration, JsonAdaptedModule.TUTORIAL_DURATION);
+        requireField(moduleCode, JsonAdaptedModule.TUTORIAL_MODULE_CODE);
+        requireField(students, JsonAdaptedModule.TUTORIAL_STUDENT_LIST);
+        requireField(attendance, JsonAdaptedModule.TUTORIAL_ATTENDANCE_LIST);
+
+        Tutorial tutorial = new Tutorial(new TutName(tutorialName), DayOfWeek.valueOf(day),
+                LocalTime.parse(startTime, DateTimeFormatter.ISO_TIME), weeks, Duration.parse(duration), students,
+                new ModCode(moduleCode), new Attendance(attendance), assignments);
+        tutorial.setEventList(events);
+        return tutorial;
+    }
+
+    private static Set<Week> readWeeks(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        Set<Week> weeks = new TreeSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            weeks.add(new Week(parser.getIntValue()));
+        }
+        return weeks;
+    }
+
+    private static List<Student> readStudents(JsonParser parser, Roster roster)
+            throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        List<Student> students = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            students.add(readStudentEntry(parser, roster).student);
+        }
+        roster.students = students;
+        return students;
+    }
+
+    private static Map<Week, Map<Student, Boolean>> readAttendance(JsonParser parser, Roster roster)
+            throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        Map<Week, Map<Student, Boolean>> attendance = new TreeMap<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expectToken(parser, JsonToken.START_OBJECT);
+            Week week = null;
+            Map<Student, Boolean> studentAttendance = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(ATTENDANCE_WEEK)) {
+                    week = new Week(parser.getIntValue());
+                } else if (fieldName.equals(ATTENDANCE_PRESENT_STUDENTS)) {
+                    expectToken(parser, JsonToken.START_ARRAY);
+                    for (Student student : roster.getStudents()) {
+                        studentAttendance.put(student, false);
+                    }
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        studentAttendance.put(roster.getStudent(parser.getIntValue()), true);
+                    }
+                } else if (fieldName.equals(ATTENDANCE_STUDENT_LIST)) {
+                    expectToken(parser, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        StudentEntry entry = readStudentEntry(parser, roster);
+                        requireField(entry.isPresent, JsonAdaptedModule.STUDENT_ATTENDANCE_STATUS);
+                        studentAttendance.put(entry.student, entry.isPresent);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            requireField(week, ATTENDANCE_WEEK);
+            attendance.put(week, studentAttendance);
+        }
+        return attendance;
+    }
+
+    private static Map<Assignment, Map<Student, Integer>> readAssignments(JsonParser parser, Roster roster)
+            throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        Map<Assignment, Map<Student, Integer>> assignments = new TreeMap<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expectToken(parser, JsonToken.START_OBJECT);
+            String assignmentName = null;
+            Integer maxScore = null;
+            Long startDate = null;
+            Long endDate = null;
+            Map<Student, Integer> scores = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case JsonAdaptedModule.ASSIGNMENT_NAME:
+                    assignmentName = readString(parser);
+                    break;
+                case JsonAdaptedModule.ASSIGNMENT_MAX_SCORE:
+                    maxScore = parser.getIntValue();
+                    break;
+                case JsonAdaptedModule.ASSIGNMENT_START_DATE:
+                    startDate = parser.getLongValue();
+                    break;
+                case JsonAdaptedModule.ASSIGNMENT_END_DATE:
+                    endDate = parser.getLongValue();
+                    break;
+                case ASSIGNMENT_SCORES:
+                    expectToken(parser, JsonToken.START_ARRAY);
+                    for (int ordinal = 0; parser.nextToken() != JsonToken.END_ARRAY; ordinal++) {
+                        if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                            scores.put(roster.getStudent(ordinal), parser.getIntValue());
+                        }
+                    }
+                    break;
+                case JsonAdaptedModule.ASSIGNMENT_STUDENT_LIST:
+                    expectToken(parser, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        StudentEntry entry = readStudentEntry(parser, roster);
+                        requireField(entry.score, JsonAdaptedModule.STUDENT_ASSIGNMENT_SCORE);
+                        scores.put(entry.student, entry.score);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            requireField(assignmentName, JsonAdaptedModule.ASSIGNMENT_NAME);
+            requireField(maxScore, JsonAdaptedModule.ASSIGNMENT_MAX_SCORE);
+            requireField(startDate, JsonAdaptedModule.ASSIGNMENT_START_DATE);
+            requireField(endDate, JsonAdaptedModule.ASSIGNMENT_END_DATE);
+            assignments.put(new Assignment(assignmentName, maxScore, new Date(startDate), new Date(endDate)), scores);
+        }
+        return assignments;
+    }
+
+    private static List<Event> readEvents(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_ARRAY);
+        List<Event> events = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expectToken(parser, JsonToken.START_OBJECT);
+            String eventName = null;
+            Long startDate = null;
+            Long endDate = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case JsonAdaptedModule.EVENT_NAME:
+                    eventName = readString(parser);
+                    break;
+                case JsonAdaptedModule.EVENT_START_DATE:
+                    startDate = parser.getLongValue();
+                    break;
+                case JsonAdaptedModule.EVENT_END_DATE:
+                    endDate = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            requireField(eventName, JsonAdaptedModule.EVENT_NAME);
+            requireField(startDate, JsonAdaptedModule.EVENT_START_DATE);
+            requireField(endDate, JsonAdaptedModule.EVENT_END_DATE);
+            events.add(new Event(eventName, new Date(startDate), new Date(endDate)));
+        }
+        return events;
+    }
+
+    /**
+     * Reads a student object, together with its attendance status or assignment score if present.
+     * A student with the same fields as a student read before it in the same tutorial shares that instance.
+     */
+    private static StudentEntry readStudentEntry(JsonParser parser, Roster roster)
+            throws IOException, IllegalValueException {
+        expectToken(parser, JsonToken.START_OBJECT);
+        String name = null;
+        String email = null;
+        String matricNum = null;
+        String nusnetId = null;
+        String moduleCode = roster.moduleCode;
+        String tutorialName = roster.tutorialName;
+        StudentEntry entry = new StudentEntry();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case JsonAdaptedModule.STUDENT_NAME:
+                name = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_EMAIL:
+                email = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_MATRIC_NUMBER:
+                matricNum = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_NUSNET_ID:
+                nusnetId = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_MODULE_CODE:
+                moduleCode = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_TUTORIAL_NAME:
+                tutorialName = readString(parser);
+                break;
+            case JsonAdaptedModule.STUDENT_ATTENDANCE_STATUS:
+                entry.isPresent = parser.getBooleanValue();
+                break;
+            case JsonAdaptedModule.STUDENT_ASSIGNMENT_SCORE:
+                entry.score = parser.getIntValue();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        requireField(name, JsonAdaptedModule.STUDENT_NAME);
+        requireField(email, JsonAdaptedModule.STUDENT_EMAIL);
+        requireField(moduleCode, JsonAdaptedModule.STUDENT_MODULE_CODE);
+        requireField(tutorialName, JsonAdaptedModule.STUDENT_TUTORIAL_NAME);
+
+        List<String> key = Arrays.asList(name, email, matricNum, nusnetId, moduleCode, tutorialName);
+        entry.student = roster.studentCache.get(key);
+        if (entry.student == null) {
+            entry.student = new Student(new Name(name), new Email(email),
+                    Optional.ofNullable(matricNum).map(MatricNum::new),
+                    Optional.ofNullable(nusnetId).map(NusnetId::new), new ModCode(moduleCode),
+                    new TutName(tutorialName));
+            roster.studentCache.put(key, entry.student);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the current string value of the parser, or null if the value is a Json null.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken expectedToken) throws IllegalValueException {
+        if (parser.getCurrentToken() != expectedToken) {
+            throw new IllegalValueException("Expected " + expectedToken + " in Json data but found "
+                    + parser.getCurrentToken());
+        }
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedModule.MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+    /**
+     * The students of the tutorial being read, which attendance and scores refer to by position.
+     */
+    private static class Roster {
+        private final Map<List<String>, Student> studentCache = new HashMap<>();
+        private List<Student> students;
+        private String moduleCode;
+        private String tutorialName;
+
+        private List<Student> getStudents() throws IllegalValueException {
+            requireField(students, JsonAdaptedModule.TUTORIAL_STUDENT_LIST);
+            return students;
+        }
+
+        private Student getStudent(int ordinal) throws IllegalValueException {
+            if (ordinal < 0 || ordinal >= getStudents().size()) {
+                throw new IllegalValueException(String.format(JsonAdaptedModule.INVALID_FIELD,
+                        JsonAdaptedModule.TUTORIAL_STUDENT_LIST) + ": no student at position " + ordinal);
+            }
+            return students.get(ordinal);
+        }
+    }
+
+    /**
+     * A student read from Json, with the attendance status or assignment score stored alongside it.
+     */
+    private static class StudentEntry {
+        private Student student;
+        private Boolean isPresent;
+        private Integer score;
+    }
+
+    /**
+     * Writes a string of Json as nested Json in the enclosing file, instead of as an escaped string.
+     */
+    public static class RawJsonSerializer extends StdSerializer<String> {
+
+        public RawJsonSerializer() {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(String json, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            try (JsonParser parser = jsonFactory.createParser(json)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Reads nested Json from the enclosing file as a compact string of Json, without converting it to the model.
+     */
+    public static class RawJsonDeserializer extends StdDeserializer<String> {
+
+        public RawJsonDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return writer.toString();
+        }
+    }
+}
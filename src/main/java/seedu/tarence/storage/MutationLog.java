@@ -0,0 +1,144 @@
+package seedu.tarence.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.commons.util.JsonUtil;
+
+/**
+ * The append-only log of the changes made to a data file since it was last written in full.
+ * Each record takes up one line, made up of the CRC-32 checksum of the record, a space and the record as compact Json.
+ * The log is read up to the first record that is incomplete, corrupted or out of sequence, as such a record can only
+ * have been left behind by a write that did not finish.
+ */
+public class MutationLog {
+    public static final String LOG_FILE_SUFFIX = ".log";
+
+    private static final Logger logger = LogsCenter.getLogger(MutationLog.class);
+
+    private final Path logPath;
+
+    /**
+     * Creates the log of the data file at the given path.
+     */
+    public MutationLog(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.logPath = getLogPath(dataFilePath);
+    }
+
+    /**
+     * Returns the path of the log of the data file at the given path, which is kept beside the data file.
+     */
+    public static Path getLogPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    public Path getLogPath() {
+        return logPath;
+    }
+
+    /**
+     * Appends the given records to the log, and forces them to the disk together.
+     *
+     * @return the size of the log in bytes after appending.
+     */
+    public long append(List<JsonAdaptedMutationRecord> records) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (JsonAdaptedMutationRecord record : records) {
+            lines.write(toLine(record));
+        }
+
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return channel.size();
+        }
+    }
+
+    /**
+     * Returns the records in the log, up to the first record that cannot be read, or an empty list if there is no log.
+     */
+    public List<JsonAdaptedMutationRecord> readRecords() throws IOException {
+        List<JsonAdaptedMutationRecord> records = new ArrayList<>();
+        if (!Files.exists(logPath)) {
+            return records;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedMutationRecord record = fromLine(line);
+                if (record == null || (!records.isEmpty()
+                        && record.getSequenceNumber() != records.get(records.size() - 1).getSequenceNumber() + 1)) {
+                    logger.warning("Ignoring the rest of " + logPath + " after record " + records.size());
+                    break;
+                }
+                records.add(record);
+            }
+        } catch (IOException e) {
+            // A torn write may leave bytes that are not valid UTF-8
+            logger.warning("Ignoring the rest of " + logPath + " after record " + records.size() + ": " + e);
+        }
+        return records;
+    }
+
+    /**
+     * Deletes the log, once every record in it is contained in the data file.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(logPath);
+    }
+
+    private static byte[] toLine(JsonAdaptedMutationRecord record) throws IOException {
+        byte[] json = JsonUtil.toCompactJsonString(record).getBytes(StandardCharsets.UTF_8);
+        String checksum = String.format("%08x ", checksum(json));
+        ByteArrayOutputStream line = new ByteArrayOutputStream(checksum.length() + json.length + 1);
+        line.write(checksum.getBytes(StandardCharsets.US_ASCII));
+        line.write(json);
+        line.write('\n');
+        return line.toByteArray();
+    }
+
+    /**
+     * Returns the record in the given line, or null if the line is incomplete or corrupted.
+     */
+    private static JsonAdaptedMutationRecord fromLine(String line) {
+        int separator = line.indexOf(' ');
+        if (separator < 0) {
+            return null;
+        }
+        byte[] json = line.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (Long.parseLong(line.substring(0, separator), 16) != checksum(json)) {
+                return null;
+            }
+            return JsonUtil.fromJsonString(new String(json, StandardCharsets.UTF_8), JsonAdaptedMutationRecord.class);
+        } catch (NumberFormatException | IOException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
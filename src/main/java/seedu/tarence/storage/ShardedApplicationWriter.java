@@ -0,0 +1,154 @@
+package seedu.tarence.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.commons.util.FileUtil;
+import seedu.tarence.commons.util.JsonUtil;
+
+/**
+ * Writes checkpoints of an application with each module in a file of its own, in a folder beside the data file, and
+ * a {@code JsonApplicationManifest} of the module files as the data file.
+ * Module files are never overwritten: a module that changed is written to a new file named after the module code and
+ * a generation number, and the manifest is only replaced once every module file it lists is on the disk. The files of
+ * earlier checkpoints are deleted afterwards, so that a crash at any point leaves a complete checkpoint behind.
+ * Only the modules that changed since the previous checkpoint written by the same writer are written again.
+ */
+public class ShardedApplicationWriter {
+    public static final String SHARD_FOLDER_SUFFIX = ".modules";
+    public static final String SHARD_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedApplicationWriter.class);
+
+    private final Path filePath;
+    private final Path shardFolder;
+
+    // The module written to each module file in the previous checkpoint, by module code
+    private Map<String, JsonAdaptedModule> writtenModules = new HashMap<>();
+    private Map<String, String> writtenShards = new HashMap<>();
+    private long nextGeneration = -1;
+
+    /**
+     * Creates a writer of checkpoints to the data file at the given path.
+     */
+    public ShardedApplicationWriter(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.shardFolder = getShardFolder(filePath);
+    }
+
+    /**
+     * Returns the folder of the module files of the data file at the given path.
+     */
+    public static Path getShardFolder(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Writes the given modules as a checkpoint, and deletes the mutation log of the data file, as the checkpoint
+     * contains every change in it.
+     *
+     * @return the number of module files written.
+     */
+    public int write(List<JsonAdaptedModule> modules) throws IOException {
+        Files.createDirectories(shardFolder);
+        long generation = getNextGeneration();
+
+        Map<String, JsonAdaptedModule> modulesByCode = new HashMap<>();
+        LinkedHashMap<String, String> shards = new LinkedHashMap<>();
+        int writtenCount = 0;
+        for (JsonAdaptedModule module : modules) {
+            String moduleCode = module.getModuleCode();
+            String shard = writtenShards.get(moduleCode);
+            if (shard == null || writtenModules.get(moduleCode) != module) {
+                shard = moduleCode + "." + generation + SHARD_FILE_SUFFIX;
+                writeDurably(module, shardFolder.resolve(shard));
+                writtenCount++;
+            }
+            modulesByCode.put(moduleCode, module);
+            shards.put(moduleCode, shard);
+        }
+
+        writeDurably(new JsonApplicationManifest(shards), filePath);
+        new MutationLog(filePath).delete();
+        nextGeneration = generation + 1;
+        writtenModules = modulesByCode;
+        writtenShards = shards;
+        deleteUnlistedShards(new HashSet<>(shards.values()));
+        return writtenCount;
+    }
+
+    /**
+     * Returns the generation of the module files of the next checkpoint, which is later than that of every module
+     * file in the folder, including those of earlier sessions.
+     */
+    private long getNextGeneration() throws IOException {
+        if (nextGeneration >= 0) {
+            return nextGeneration;
+        }
+        long generation = 0;
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardFolder, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path shardFile : shardFiles) {
+                generation = Math.max(generation, getGeneration(shardFile.getFileName().toString()) + 1);
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Returns the generation in the name of the given module file, or -1 if it has none.
+     */
+    private static long getGeneration(String shard) {
+        String name = shard.substring(0, shard.length() - SHARD_FILE_SUFFIX.length());
+        try {
+            return Long.parseLong(name.substring(name.lastIndexOf('.') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Deletes the module files that are not listed in the latest manifest, which were left by earlier checkpoints.
+     */
+    private void deleteUnlistedShards(Set<String> listedShards) {
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardFolder, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path shardFile : shardFiles) {
+                if (!listedShards.contains(shardFile.getFileName().toString())) {
+                    Files.deleteIfExists(shardFile);
+                }
+            }
+        } catch (IOException e) {
+            // The checkpoint is complete, so the files are only left to be deleted after the next checkpoint
+            logger.info("Unable to delete module files of earlier checkpoints: " + e);
+        }
+    }
+
+    /**
+     * Writes the given object as Json to a temporary file, forces it to the disk and moves it to the given path, so
+     * that the file at the given path is never left partly written.
+     */
+    private static void writeDurably(Object jsonObject, Path path) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempPath);
+        JsonUtil.saveJsonFile(jsonObject, tempPath);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -22,6 +22,11 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private JsonStateStorage jsonStateStorage;
 
+    // The application last written to the data file, used to skip writing it again when it has not been modified.
+    private ReadOnlyApplication lastSavedApplication;
+    private Path lastSavedFilePath;
+    private long lastSavedModificationStamp;
+
     public StorageManager(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage,
                           JsonStateStorage jsonStateStorage) {
         super();
@@ -80,8 +85,16 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveApplication(ReadOnlyApplication application, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        applicationStorage.saveApplication(application, filePath);
+        if (application == lastSavedApplication && filePath.equals(lastSavedFilePath)
+                && application.getLastModified() == lastSavedModificationStamp) {
+            logger.fine("Skipping write to unmodified data file: " + filePath);
+        } else {
+            logger.fine("Attempting to write to data file: " + filePath);
+            applicationStorage.saveApplication(application, filePath);
+            lastSavedApplication = application;
+            lastSavedFilePath = filePath;
+            lastSavedModificationStamp = application.getLastModified();
+        }
 
         // Save the states whenever a command changes the model.
         jsonStateStorage.saveApplicationState(application);
@@ -114,6 +127,16 @@ public class StorageManager implements Storage {
         jsonStateStorage.clearStateFolder();
     }
 
+    @Override
+    public void saveFirstState(ReadOnlyApplication application) throws IOException {
+        jsonStateStorage.saveFirstState(application);
+    }
+
+    @Override
+    public void saveApplicationState(ReadOnlyApplication application) {
+        jsonStateStorage.saveApplicationState(application);
+    }
+
 
 
 }
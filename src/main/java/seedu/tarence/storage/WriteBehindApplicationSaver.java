@@ -0,0 +1,249 @@
+package seedu.tarence.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.tarence.commons.core.LogsCenter;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.module.Module;
+
+/**
+ * Saves the application to the data file on a single background thread, so that commands do not wait for the disk.
+ * Each save records the modules that changed since the previous save on the calling thread. The records are appended
+ * to the {@code MutationLog} of the data file together, and forced to the disk once, when no other save has been
+ * requested for the debounce delay. Once the log holds {@code checkpointRecords} records or {@code checkpointBytes}
+ * bytes, the modules that changed since the previous checkpoint are written to the data file as a checkpoint, and
+ * the log is deleted. The first write is always a checkpoint, so that the log left by an earlier session is never
+ * appended to.
+ * Failed writes are passed to the failure handler and followed by a checkpoint on the next write, and {@code flush}
+ * rethrows the failure if the latest write failed.
+ */
+public class WriteBehindApplicationSaver {
+    public static final int DEFAULT_CHECKPOINT_RECORDS = 100;
+    public static final long DEFAULT_CHECKPOINT_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindApplicationSaver.class);
+
+    private final Path filePath;
+    private final MutationLog mutationLog;
+    private final ShardedApplicationWriter checkpointWriter;
+    private final long debounceMillis;
+    private final int checkpointRecords;
+    private final long checkpointBytes;
+    private final ScheduledThreadPoolExecutor writeExecutor;
+    private volatile Consumer<IOException> failureHandler = failure -> { };
+
+    // Guarded by this
+    private List<JsonAdaptedMutationRecord> pendingRecords = new ArrayList<>();
+    private List<JsonAdaptedModule> pendingModules;
+    private ScheduledFuture<?> scheduledWrite;
+
+    // Only accessed from the write thread, or after waiting for it in flush
+    private IOException lastFailure;
+    private boolean needsCheckpoint = true;
+    private int recordsSinceCheckpoint;
+    private long logSize;
+
+    // The serialised form of each module in the latest save, used to reuse those of the modules that have not been
+    // modified since. Only accessed from the thread that requests saves.
+    private ReadOnlyApplication latestApplication;
+    private Map<Module, JsonAdaptedModule> latestAdaptedModules = new IdentityHashMap<>();
+    private long latestModificationStamp;
+    private String latestSemStart;
+    private long nextSequenceNumber;
+
+    /**
+     * Creates a saver that writes to the given data file once no save has been requested for the given delay, and
+     * checkpoints after the default number of records or bytes.
+     */
+    public WriteBehindApplicationSaver(Path filePath, long debounceMillis) {
+        this(filePath, debounceMillis, DEFAULT_CHECKPOINT_RECORDS, DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    /**
+     * Creates a saver that writes to the given data file once no save has been requested for the given delay, and
+     * checkpoints once the log holds the given number of records or bytes.
+     */
+    public WriteBehindApplicationSaver(Path filePath, long debounceMillis, int checkpointRecords,
+            long checkpointBytes) {
+        requireNonNull(filePath);
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce delay cannot be negative");
+        }
+        this.filePath = filePath;
+        this.mutationLog = new MutationLog(filePath);
+        this.checkpointWriter = new ShardedApplicationWriter(filePath);
+        this.debounceMillis = debounceMillis;
+        this.checkpointRecords = checkpointRecords;
+        this.checkpointBytes = checkpointBytes;
+
+        writeExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "application-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writeExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Sets the handler that is called on the write thread whenever a write fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Records the modules of the application that changed since the previous save, and schedules the record to be
+     * written. Nothing is recorded if the application has not been modified since the previous save.
+     */
+    public void save(ReadOnlyApplication application) {
+        requireNonNull(application);
+        if (application == latestApplication && application.getLastModified() == latestModificationStamp
+                && String.valueOf(Module.getSemStart()).equals(latestSemStart)) {
+            return;
+        }
+
+        // Every module is saved with the semester start, so none can be reused if it has changed
+        String semStart = String.valueOf(Module.getSemStart());
+        boolean canReuseModules = semStart.equals(latestSemStart);
+
+        Map<Module, JsonAdaptedModule> adaptedModules = new IdentityHashMap<>();
+        List<JsonAdaptedModule> modules = new ArrayList<>();
+        List<String> moduleOrder = new ArrayList<>();
+        LinkedHashMap<String, JsonAdaptedModule> changedModules = new LinkedHashMap<>();
+        for (Module module : application.getModuleList()) {
+            JsonAdaptedModule adaptedModule = latestAdaptedModules.get(module);
+            if (!canReuseModules || adaptedModule == null || module.getLastModified() > latestModificationStamp) {
+                adaptedModule = new JsonAdaptedModule(module);
+                changedModules.put(adaptedModule.getModuleCode(), adaptedModule);
+            }
+            adaptedModules.put(module, adaptedModule);
+            modules.add(adaptedModule);
+            moduleOrder.add(adaptedModule.getModuleCode());
+        }
+        JsonAdaptedMutationRecord record = new JsonAdaptedMutationRecord(nextSequenceNumber++, moduleOrder,
+                changedModules);
+
+        latestApplication = application;
+        latestAdaptedModules = adaptedModules;
+        latestModificationStamp = application.getLastModified();
+        latestSemStart = semStart;
+
+        synchronized (this) {
+            pendingRecords.add(record);
+            pendingModules = modules;
+            if (scheduledWrite == null) {
+                scheduledWrite = writeExecutor.schedule(this::writePendingRecords, debounceMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending records immediately, and blocks until they and every earlier record are on the disk.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void flush() throws IOException {
+        ScheduledFuture<?> flushed;
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+            flushed = writeExecutor.schedule(this::writePendingRecords, 0, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data file to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to save the data file", e.getCause());
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Flushes the pending records and stops the write thread.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writeExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Appends the pending records to the log, or writes a checkpoint instead if one is due. Runs on the write thread.
+     */
+    private void writePendingRecords() {
+        List<JsonAdaptedMutationRecord> records;
+        List<JsonAdaptedModule> modules;
+        synchronized (this) {
+            records = pendingRecords;
+            modules = pendingModules;
+            pendingRecords = new ArrayList<>();
+            pendingModules = null;
+            scheduledWrite = null;
+        }
+        if (modules == null) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            if (!needsCheckpoint) {
+                logSize = mutationLog.append(records);
+                recordsSinceCheckpoint += records.size();
+            }
+            if (needsCheckpoint || recordsSinceCheckpoint >= checkpointRecords || logSize >= checkpointBytes) {
+                int writtenCount = checkpointWriter.write(modules);
+                needsCheckpoint = false;
+                recordsSinceCheckpoint = 0;
+                logSize = 0;
+                logger.fine(String.format("Checkpointed data file %s, writing %d of %d modules, in %d ms", filePath,
+                        writtenCount, modules.size(), (System.nanoTime() - start) / 1_000_000));
+            } else {
+                logger.fine(String.format("Logged %d changes to data file %s in %d ms", records.size(), filePath,
+                        (System.nanoTime() - start) / 1_000_000));
+            }
+            lastFailure = null;
+        } catch (IOException e) {
+            logger.warning("Unable to save data file " + filePath + ": " + e);
+            lastFailure = e;
+            // The log may be incomplete, so the next write is a checkpoint, of a later state if there is one
+            needsCheckpoint = true;
+            synchronized (this) {
+                if (pendingModules == null) {
+                    pendingModules = modules;
+                }
+            }
+            failureHandler.accept(e);
+        }
+    }
+}
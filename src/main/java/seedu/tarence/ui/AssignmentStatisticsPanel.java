@@ -2,13 +2,11 @@ package seedu.tarence.ui;
 
 import static seedu.tarence.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
@@ -22,6 +20,7 @@ import javafx.scene.layout.VBox;
 import seedu.tarence.commons.core.LogsCenter;
 import seedu.tarence.model.student.Student;
 import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.ScoreTable;
 
 /**
  * Panel containing statistics display for assignments.
@@ -31,7 +30,7 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
     private static final int NUM_OF_COLS = 5;
     private final Logger logger = LogsCenter.getLogger(AssignmentStatisticsPanel.class);
     private Assignment assignment;
-    private List<Integer> scores;
+    private int[] scores;
     private HashMap<Integer, Integer> distribution;
     private int[] histogramData;
     private int columnRange;
@@ -75,8 +74,8 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
         this.assignment = assignment;
         scores = getScores(resultInfo);
         cardPane = new VBox();
-        if (!scores.isEmpty()) {
-            Collections.sort(scores);
+        if (scores.length > 0) {
+            Arrays.sort(scores);
             setStatistics(assignment);
             createHistogram();
             cardPane.getChildren().addAll(scoreBarChart, maxScore, median, upperPercentile, lowerPercentile);
@@ -100,9 +99,9 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
             String upperBoundString;
             String lowerBoundString;
 
-            int upperBound = i * columnRange + scores.get(0) - 1;
+            int upperBound = i * columnRange + scores[0] - 1;
             upperBoundString = String.valueOf(upperBound);
-            int lowerBound = (((i - 1) * columnRange) + scores.get(0));
+            int lowerBound = (((i - 1) * columnRange) + scores[0]);
             lowerBoundString = String.valueOf(lowerBound);
             if (upperBound > assignment.getMaxScore()) {
                 upperBoundString = "";
@@ -151,8 +150,8 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
      * @param percentile - percentile to calculate.
      */
     private long calcPercentile(double percentile) {
-        int index = (int) Math.ceil((percentile / 100) * scores.size());
-        return scores.get(index - 1);
+        int index = (int) Math.ceil((percentile / 100) * scores.length);
+        return scores[index - 1];
     }
 
     /**
@@ -160,17 +159,17 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
      */
     private void groupData() {
         distribution = new HashMap<>();
-        for (int i = 0; i < scores.size(); i++) {
-            if (distribution.containsKey(scores.get(i))) {
-                distribution.put(scores.get(i), distribution.get(scores.get(i)) + 1);
+        for (int i = 0; i < scores.length; i++) {
+            if (distribution.containsKey(scores[i])) {
+                distribution.put(scores[i], distribution.get(scores[i]) + 1);
             } else {
-                distribution.put(scores.get(i), 1);
+                distribution.put(scores[i], 1);
             }
         }
     }
 
-    private List<Integer> getScores(Map<Student, Integer> resultInfo) {
-        return resultInfo.values().stream().filter(i -> i != -1).collect(Collectors.toList());
+    private int[] getScores(Map<Student, Integer> resultInfo) {
+        return ScoreTable.getSubmittedScores(resultInfo);
     }
 
     private void setDefaultPlaceHolderLabel() {
@@ -185,18 +184,18 @@ public class AssignmentStatisticsPanel extends UiPart<Region> {
      */
     private void groupHistogramData() {
         logger.info("Histogram range: " + columnRange);
-        logger.info("Lower range: " + scores.get(0));
-        logger.info("Upper range: " + scores.get(scores.size() - 1));
+        logger.info("Lower range: " + scores[0]);
+        logger.info("Upper range: " + scores[scores.length - 1]);
         histogramData = new int[5];
 
-        columnRange = (int) Math.ceil((double) (scores.get(scores.size() - 1) - scores.get(0) + 1)
+        columnRange = (int) Math.ceil((double) (scores[scores.length - 1] - scores[0] + 1)
                 / (double) NUM_OF_COLS);
 
         Iterator it;
         for (int i = 1; i <= NUM_OF_COLS; i++) {
             it = distribution.entrySet().iterator();
             while (it.hasNext()) {
-                int lowerRange = ((i - 1) * columnRange) + scores.get(0);
+                int lowerRange = ((i - 1) * columnRange) + scores[0];
                 int higherRange = columnRange + lowerRange - 1;
                 Map.Entry pair = (Map.Entry) it.next();
                 if (((int) pair.getKey() >= lowerRange) && ((int) pair.getKey() <= higherRange)) {
@@ -2,12 +2,10 @@ package seedu.tarence.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +18,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.tarence.commons.core.LogsCenter;
 import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.ScoreTable;
 
 /**
  * Panel containing table display for assignments.
@@ -49,9 +48,10 @@ public class AssignmentTablePanel extends UiPart<Region> {
      */
     public void generateTable(Map<Student, Integer> scores) {
         requireNonNull(scores);
-        if (!isEmpty(scores)) {
+        int[] submittedScores = ScoreTable.getSubmittedScores(scores);
+        if (!isEmpty(submittedScores)) {
             assignmentScoreListView = new ListView<>();
-            setStatistics(scores);
+            setStatistics(submittedScores);
             ObservableList<ScoreCard> scoreList = getScoreList(scores);
             assignmentScoreListView.setItems(scoreList);
             assignmentScoreListView.setCellFactory(listView -> new ScoreListViewCell());
@@ -65,6 +65,11 @@ public class AssignmentTablePanel extends UiPart<Region> {
 
     private ObservableList<ScoreCard> getScoreList(Map<Student, Integer> scores) {
         ObservableList<ScoreCard> scoreList = FXCollections.observableArrayList();
+        if (scores instanceof ScoreTable.AssignmentScores) {
+            ((ScoreTable.AssignmentScores) scores).forEachScore((student, score) ->
+                    scoreList.add(new ScoreCard(student, score, lowerPercentile, upperPercentile)));
+            return scoreList;
+        }
         Iterator<Map.Entry<Student, Integer>> iterator = scores.entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<Student, Integer> entry = iterator.next();
@@ -111,36 +116,33 @@ public class AssignmentTablePanel extends UiPart<Region> {
 
     /**
      * sets the 75th and 25th percentile scores.
-     * @param namesAndScores - hashmap containing the names and scores of the students.
+     * @param submittedScores - scores of the students who have submitted the assignment.
      */
-    private void setStatistics(Map<Student, Integer> namesAndScores) {
-        this.upperPercentile = calcPercentile(namesAndScores, 75);
-        this.lowerPercentile = calcPercentile(namesAndScores, 25);
+    private void setStatistics(int[] submittedScores) {
+        int[] sortedScores = submittedScores.clone();
+        Arrays.sort(sortedScores);
+        this.upperPercentile = calcPercentile(sortedScores, 75);
+        this.lowerPercentile = calcPercentile(sortedScores, 25);
         logger.info("Upper percentile: " + upperPercentile);
         logger.info("Lower percentile: " + lowerPercentile);
     }
 
     /**
-     * calculates the given percentile from the hashmap values.
-     * @param map - hashmap containing the names and scores of the students.
+     * calculates the given percentile from the sorted scores.
+     * @param sortedScores - scores of the students, in ascending order.
      * @param percentile - percentile to calculate.
      */
-    private long calcPercentile(Map<Student, Integer> map, double percentile) {
-        ArrayList<Integer> scores = (ArrayList<Integer>) map.values()
-                .stream().filter(i -> i != -1).collect(Collectors.toList());
-        Collections.sort(scores);
-        int index = (int) Math.ceil((percentile / 100) * scores.size());
-        return scores.get(index - 1);
+    private long calcPercentile(int[] sortedScores, double percentile) {
+        int index = (int) Math.ceil((percentile / 100) * sortedScores.length);
+        return sortedScores[index - 1];
     }
 
     /**
-     * Checks if the given hashmap is empty.
-     * scores of -1 are considered as empty scores.
+     * Checks if there are no submitted scores.
      */
-    private boolean isEmpty(Map<Student, Integer> scores) {
-        long numScores = scores.values().stream().filter(i -> i != -1).count();
-        logger.info("Number of students in assignment: " + numScores);
-        return (numScores == 0);
+    private boolean isEmpty(int[] submittedScores) {
+        logger.info("Number of students in assignment: " + submittedScores.length);
+        return (submittedScores.length == 0);
     }
 
     /**
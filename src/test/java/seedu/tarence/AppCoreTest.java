@@ -0,0 +1,98 @@
+package seedu.tarence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.MATRIC_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.MODULE_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.NUSNET_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.TUTORIAL_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODULE_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME_AMY;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Config;
+import seedu.tarence.commons.util.ConfigUtil;
+import seedu.tarence.logic.Logic;
+import seedu.tarence.logic.commands.AddStudentCommand;
+import seedu.tarence.logic.commands.UndoCommand;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.UserPrefs;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.storage.BinaryApplicationCache;
+import seedu.tarence.storage.JsonApplicationStorage;
+import seedu.tarence.storage.JsonUserPrefsStorage;
+
+public class AppCoreTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_firstInputAfterStartingFromCache_rolledBackAndUndoable() throws Exception {
+        Path configFilePath = writeDataFiles();
+
+        // The first session reads the data file, and caches it when stopped
+        new AppCore(configFilePath, true).stop();
+        assertTrue(new BinaryApplicationCache(temporaryFolder.resolve("application.json")).read().isPresent());
+
+        AppCore core = new AppCore(configFilePath, true);
+        try {
+            Logic logic = core.getLogic();
+            Model model = core.getModel();
+            String addAmy = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_DESC_AMY
+                    + TUTORIAL_DESC_AMY + MATRIC_DESC_AMY + NUSNET_DESC_AMY;
+
+            assertThrows(CommandException.class, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT, () ->
+                    logic.execute(addAmy + " +" + addAmy));
+            assertTrue(model.getFilteredStudentList().isEmpty());
+
+            logic.execute(addAmy);
+            assertEquals(1, model.getFilteredStudentList().size());
+            logic.execute(UndoCommand.COMMAND_WORD + " u/1");
+            assertTrue(model.getFilteredStudentList().isEmpty());
+        } finally {
+            core.stop();
+        }
+    }
+
+    /**
+     * Writes a config file, user prefs and a data file with a module and tutorial for Amy to be added to, all in the
+     * temporary folder, and returns the path of the config file.
+     */
+    private Path writeDataFiles() throws Exception {
+        Path applicationFilePath = temporaryFolder.resolve("application.json");
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        Path configFilePath = temporaryFolder.resolve("config.json");
+
+        Model model = new ModelManager();
+        Module module = new ModuleBuilder().withModCode(VALID_MODULE_AMY).withTutorials(new ArrayList<>()).build();
+        Tutorial tutorial = new TutorialBuilder().withTutName(VALID_TUTORIAL_NAME_AMY).withModCode(VALID_MODULE_AMY)
+                .withStudents(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        model.addModule(module);
+        model.addTutorial(tutorial);
+        new JsonApplicationStorage(applicationFilePath).saveApplication(model.getApplication());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setApplicationFilePath(applicationFilePath);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        return configFilePath;
+    }
+}
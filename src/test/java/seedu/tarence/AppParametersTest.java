@@ -11,6 +11,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Application;
+import seedu.tarence.model.util.SyntheticDataGenerator;
 
 public class AppParametersTest {
 
@@ -37,6 +38,29 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_generateDataArguments_success() {
+        expected.setGeneratedDataPath(Paths.get("load.json"));
+        expected.setGeneratedDataSeed(7);
+        expected.setGeneratedDataSizes(40, 12, SyntheticDataGenerator.DEFAULT_STUDENTS_PER_TUTORIAL);
+        assertEquals(expected, AppParameters.parse(new String[] {"--generate-data=load.json", "--seed=7",
+            "--modules=40", "--tutorials=12", "unnamed"}));
+    }
+
+    @Test
+    public void parse_invalidGeneratedDataSizes_defaultSizes() {
+        expected.setGeneratedDataPath(Paths.get("load.json"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--generate-data=load.json", "--modules=-1",
+            "--students=many"}));
+    }
+
+    @Test
+    public void parse_scriptArguments_success() {
+        expected.setScriptPath(Paths.get("-"));
+        expected.setCheckpointInterval(500);
+        assertEquals(expected, AppParameters.parse(new String[] {"--script=-", "--checkpoint=500"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -1,12 +1,16 @@
 package seedu.tarence.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.tarence.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.tarence.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.tarence.logic.commands.CommandTestUtil.MATRIC_DESC_AMY;
 import static seedu.tarence.logic.commands.CommandTestUtil.MODULE_DESC_AMY;
 import static seedu.tarence.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.tarence.logic.commands.CommandTestUtil.NUSNET_DESC_AMY;
 import static seedu.tarence.logic.commands.CommandTestUtil.TUTORIAL_DESC_AMY;
 import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODULE_AMY;
@@ -15,7 +19,9 @@ import static seedu.tarence.testutil.Assert.assertThrows;
 import static seedu.tarence.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +29,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.tarence.logic.commands.AddStudentCommand;
 import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.ExitCommand;
+import seedu.tarence.logic.commands.UndoCommand;
 import seedu.tarence.logic.commands.exceptions.CommandException;
 import seedu.tarence.logic.parser.exceptions.ParseException;
 import seedu.tarence.model.Model;
@@ -39,6 +47,7 @@ import seedu.tarence.storage.JsonApplicationStorage;
 import seedu.tarence.storage.JsonStateStorage;
 import seedu.tarence.storage.JsonUserPrefsStorage;
 import seedu.tarence.storage.StorageManager;
+import seedu.tarence.storage.WriteBehindApplicationSaver;
 
 // import seedu.tarence.logic.commands.ListCommand;
 
@@ -111,6 +120,65 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_writeBehindSaver_savedWhenExiting() throws Exception {
+        Path filePath = temporaryFolder.resolve("writeBehindApplication.json");
+        setUpWriteBehindLogic(filePath);
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_DESC_AMY
+                + TUTORIAL_DESC_AMY + MATRIC_DESC_AMY + NUSNET_DESC_AMY);
+        assertFalse(Files.exists(filePath));
+
+        assertTrue(logic.execute(ExitCommand.COMMAND_WORD).isExit());
+        ReadOnlyApplication savedApplication = new JsonApplicationStorage(filePath).readApplication().get();
+        assertEquals(model.getApplication().getStudentList(), savedApplication.getStudentList());
+    }
+
+    @Test
+    public void execute_writeBehindSaverFailsWhenExiting_throwsCommandException() throws Exception {
+        // The data file cannot be written while a file is in the place of its folder
+        Path filePath = Files.createFile(temporaryFolder.resolve("data")).resolve("writeBehindApplication.json");
+        setUpWriteBehindLogic(filePath);
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_DESC_AMY
+                + TUTORIAL_DESC_AMY + MATRIC_DESC_AMY + NUSNET_DESC_AMY);
+        assertThrows(CommandException.class, () -> logic.execute(ExitCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_chainedCommandFails_earlierCommandsRolledBack() throws Exception {
+        Path filePath = temporaryFolder.resolve("chainedApplication.json");
+        setUpChainedLogic(filePath);
+        String addAmy = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_DESC_AMY
+                + TUTORIAL_DESC_AMY + MATRIC_DESC_AMY + NUSNET_DESC_AMY;
+        String addBob = AddStudentCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB + MODULE_DESC_AMY
+                + TUTORIAL_DESC_AMY;
+
+        assertThrows(CommandException.class, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT, () ->
+                logic.execute(addAmy + " +" + addAmy + " +" + addBob));
+        assertTrue(model.getFilteredStudentList().isEmpty());
+        assertTrue(model.getFilteredTutorialList().get(0).getStudents().isEmpty());
+        assertFalse(model.hasPendingCommand());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_chainedCommands_undoneTogether() throws Exception {
+        Path filePath = temporaryFolder.resolve("chainedApplication.json");
+        StorageManager storage = setUpChainedLogic(filePath);
+        int stateIndex = storage.getLatestStateIndex();
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_DESC_AMY
+                + TUTORIAL_DESC_AMY + " +" + AddStudentCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB
+                + MODULE_DESC_AMY + TUTORIAL_DESC_AMY);
+        assertEquals(2, model.getFilteredStudentList().size());
+        assertEquals(stateIndex + 1, storage.getLatestStateIndex().intValue());
+        assertEquals(2, new JsonApplicationStorage(filePath).readApplication().get().getStudentList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD + " u/1");
+        assertTrue(model.getFilteredStudentList().isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -179,6 +247,48 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Sets up a {@code LogicManager} that only saves to {@code filePath} when exiting, and a module and tutorial for
+     * Amy to be added to.
+     */
+    private void setUpWriteBehindLogic(Path filePath) {
+        JsonApplicationStorage applicationStorage = new JsonApplicationStorage(filePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonStateStorage jsonStateStorage = new JsonStateStorage("data", "states");
+        StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage, jsonStateStorage);
+        logic = new LogicManager(model, storage, new WriteBehindApplicationSaver(filePath, 60 * 60 * 1000));
+
+        Module validModule = new ModuleBuilder().withModCode(VALID_MODULE_AMY).withTutorials(new ArrayList<>())
+                .build();
+        Tutorial validTutorial = new TutorialBuilder().withTutName(VALID_TUTORIAL_NAME_AMY)
+                .withModCode(VALID_MODULE_AMY).withStudents(new ArrayList<>()).build();
+        validModule.addTutorial(validTutorial);
+        model.addModule(validModule);
+        model.addTutorial(validTutorial);
+    }
+
+    /**
+     * Sets up a {@code LogicManager} that saves to {@code filePath}, with a module and tutorial for Amy and Bob to be
+     * added to recorded as the first undo state.
+     */
+    private StorageManager setUpChainedLogic(Path filePath) throws IOException {
+        JsonApplicationStorage applicationStorage = new JsonApplicationStorage(filePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(temporaryFolder.toString(), "states");
+        StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage, jsonStateStorage);
+        logic = new LogicManager(model, storage);
+
+        Module validModule = new ModuleBuilder().withModCode(VALID_MODULE_AMY).withTutorials(new ArrayList<>())
+                .build();
+        Tutorial validTutorial = new TutorialBuilder().withTutName(VALID_TUTORIAL_NAME_AMY)
+                .withModCode(VALID_MODULE_AMY).withStudents(new ArrayList<>()).build();
+        validModule.addTutorial(validTutorial);
+        model.addModule(validModule);
+        model.addTutorial(validTutorial);
+        jsonStateStorage.saveFirstState(model.getApplication());
+        return storage;
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
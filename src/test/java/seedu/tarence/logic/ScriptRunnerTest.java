@@ -0,0 +1,156 @@
+package seedu.tarence.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.logic.commands.AddModuleCommand;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.ExitCommand;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.logic.parser.exceptions.ParseException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.storage.JsonApplicationStorage;
+import seedu.tarence.storage.JsonStateStorage;
+import seedu.tarence.storage.JsonUserPrefsStorage;
+import seedu.tarence.storage.StorageManager;
+import seedu.tarence.storage.WriteBehindApplicationSaver;
+
+public class ScriptRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Path filePath;
+    private StorageManager storage;
+    private Logic logic;
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = temporaryFolder.resolve("scriptApplication.json");
+        JsonApplicationStorage applicationStorage = new JsonApplicationStorage(filePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonStateStorage jsonStateStorage = new JsonStateStorage("data", "states");
+        storage = new StorageManager(applicationStorage, userPrefsStorage, jsonStateStorage);
+        logic = new LogicManager(model, storage, new WriteBehindApplicationSaver(filePath, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(logic, -1));
+    }
+
+    @Test
+    public void run_validScript_allInputsRun() throws Exception {
+        ScriptRunner scriptRunner = new ScriptRunner(logic, 0);
+        assertTrue(scriptRunner.run(script("# modules", "", AddModuleCommand.COMMAND_WORD + " m/CS1010S",
+                "  " + AddModuleCommand.COMMAND_WORD + " m/CS2103 + " + AddModuleCommand.COMMAND_WORD + " m/CS2101"),
+                new PrintStream(output)));
+
+        assertEquals(2, scriptRunner.getInputCount());
+        assertEquals(0, scriptRunner.getFailureCount());
+        assertEquals(3, model.getApplication().getModuleList().size());
+        // Saving is left to the logic, which has not been flushed
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void run_failingInput_reportedAndScriptContinues() throws Exception {
+        ScriptRunner scriptRunner = new ScriptRunner(logic, 0);
+        assertFalse(scriptRunner.run(script("unknownCommand", AddModuleCommand.COMMAND_WORD + " m/CS1010S"),
+                new PrintStream(output)));
+
+        assertEquals(2, scriptRunner.getInputCount());
+        assertEquals(1, scriptRunner.getFailureCount());
+        assertEquals(1, model.getApplication().getModuleList().size());
+        assertTrue(output.toString().startsWith("Line 1: "));
+    }
+
+    @Test
+    public void run_unexpectedError_reportedAndScriptContinues() throws Exception {
+        Logic crashingLogic = new LogicManager(model, storage, new WriteBehindApplicationSaver(filePath,
+                Long.MAX_VALUE)) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals("crash")) {
+                    throw new IllegalStateException("crashed");
+                }
+                return super.execute(commandText);
+            }
+        };
+        ScriptRunner scriptRunner = new ScriptRunner(crashingLogic, 0);
+        assertFalse(scriptRunner.run(script("crash", AddModuleCommand.COMMAND_WORD + " m/CS1010S"),
+                new PrintStream(output)));
+
+        assertEquals(2, scriptRunner.getInputCount());
+        assertEquals(1, scriptRunner.getFailureCount());
+        assertEquals(1, model.getApplication().getModuleList().size());
+        assertTrue(output.toString().startsWith("Line 1: Unexpected error: "));
+        assertTrue(scriptRunner.getLatencySummary().split(System.lineSeparator())[1].matches("crash +1 +1 .*"));
+    }
+
+    @Test
+    public void run_exitInput_scriptEnds() throws Exception {
+        ScriptRunner scriptRunner = new ScriptRunner(logic, 0);
+        assertTrue(scriptRunner.run(script(AddModuleCommand.COMMAND_WORD + " m/CS1010S", ExitCommand.COMMAND_WORD,
+                AddModuleCommand.COMMAND_WORD + " m/CS2103"), new PrintStream(output)));
+
+        assertEquals(2, scriptRunner.getInputCount());
+        assertEquals(1, model.getApplication().getModuleList().size());
+        // Exiting waits for the data file to be saved
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void run_checkpointInterval_dataFileSaved() throws Exception {
+        ScriptRunner scriptRunner = new ScriptRunner(logic, 1);
+        assertTrue(scriptRunner.run(script(AddModuleCommand.COMMAND_WORD + " m/CS1010S"), new PrintStream(output)));
+
+        ReadOnlyApplication savedApplication = new JsonApplicationStorage(filePath).readApplication().get();
+        assertEquals(model.getApplication().getModuleList(), savedApplication.getModuleList());
+    }
+
+    @Test
+    public void getLatencySummary_rowPerCommandWord() throws Exception {
+        ScriptRunner scriptRunner = new ScriptRunner(logic, 0);
+        scriptRunner.run(script(AddModuleCommand.COMMAND_WORD + " m/CS1010S", "unknownCommand",
+                AddModuleCommand.COMMAND_WORD + " m/CS2103"), new PrintStream(output));
+
+        String[] rows = scriptRunner.getLatencySummary().split(System.lineSeparator());
+        assertEquals(4, rows.length);
+        assertTrue(rows[1].matches(AddModuleCommand.COMMAND_WORD.toLowerCase() + " +2 +0 .*"));
+        assertTrue(rows[2].matches("unknowncommand +1 +1 .*"));
+        assertTrue(rows[3].matches("\\(all\\) +3 +1 .*"));
+    }
+
+    @Test
+    public void getPercentile() {
+        assertEquals(0, ScriptRunner.getPercentile(List.of(), 50));
+        assertEquals(5, ScriptRunner.getPercentile(List.of(5L), 95));
+        List<Long> sortedLatencies = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertEquals(5, ScriptRunner.getPercentile(sortedLatencies, 50));
+        assertEquals(10, ScriptRunner.getPercentile(sortedLatencies, 95));
+        assertEquals(10, ScriptRunner.getPercentile(sortedLatencies, 100));
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
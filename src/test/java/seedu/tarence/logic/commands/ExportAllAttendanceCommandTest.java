@@ -0,0 +1,164 @@
+package seedu.tarence.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.ExportAllAttendanceCommand.MESSAGE_EXPORT_ALL_ATTENDANCE_SUCCESS;
+import static seedu.tarence.logic.commands.ExportAllAttendanceCommand.MESSAGE_EXPORT_ATTENDANCE_FAILED;
+import static seedu.tarence.logic.commands.ExportAllAttendanceCommand.MESSAGE_EXPORT_COMBINED_ATTENDANCE_FAILED;
+import static seedu.tarence.logic.commands.ExportAllAttendanceCommand.MESSAGE_EXPORT_COMBINED_ATTENDANCE_SUCCESS;
+import static seedu.tarence.logic.commands.ExportAllAttendanceCommand.MESSAGE_NO_TUTORIALS;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class ExportAllAttendanceCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final String OTHER_MOD_CODE = "CS1010";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Student alice;
+    private Student bob;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new StudentBuilder().withName("Alice Tan").withModCode(VALID_MOD_CODE).withTutName("T01").build();
+        bob = new StudentBuilder().withName("Bob Lim").withModCode(OTHER_MOD_CODE).withTutName("T01").build();
+        addTutorial(new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName("T01")
+                .withStudents(new ArrayList<>(List.of(alice))).build());
+        addTutorial(new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName("T02")
+                .withStudents(new ArrayList<>()).build());
+        addTutorial(new TutorialBuilder().withModCode(OTHER_MOD_CODE).withTutName("T01")
+                .withStudents(new ArrayList<>(List.of(bob))).build());
+        model.getFilteredTutorialList().get(0).setAttendance(new Week(4), alice, true);
+    }
+
+    @Test
+    public void execute_allTutorials_fileForEachTutorial() throws Exception {
+        CommandResult commandResult = new ExportAllAttendanceCommand(null, null, temporaryFolder).execute(model);
+        ExportAllAttendanceCommand.waitForPendingExports();
+
+        assertEquals(String.format(MESSAGE_EXPORT_ALL_ATTENDANCE_SUCCESS, 3), commandResult.getFeedbackToUser());
+        // the tutorials have the default weeks 3 to 13
+        String header = "Name,Week 3,Week 4,Week 5,Week 6,Week 7,Week 8,Week 9,Week 10,Week 11,Week 12,Week 13";
+        assertEquals(List.of(header, "Alice Tan,false,true,false,false,false,false,false,false,false,false,false"),
+                Files.readAllLines(temporaryFolder.resolve("Attendance_T01_" + VALID_MOD_CODE + ".csv")));
+        assertEquals(List.of(header),
+                Files.readAllLines(temporaryFolder.resolve("Attendance_T02_" + VALID_MOD_CODE + ".csv")));
+        assertEquals(List.of(header, "Bob Lim,false,false,false,false,false,false,false,false,false,false,false"),
+                Files.readAllLines(temporaryFolder.resolve("Attendance_T01_" + OTHER_MOD_CODE + ".csv")));
+    }
+
+    @Test
+    public void execute_moduleToSingleFile_rowForEachStudentAndWeek() throws Exception {
+        Path exportDirectory = temporaryFolder.resolve("exports");
+        CommandResult commandResult = new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), "all",
+                exportDirectory).execute(model);
+        ExportAllAttendanceCommand.waitForPendingExports();
+
+        assertEquals(String.format(MESSAGE_EXPORT_COMBINED_ATTENDANCE_SUCCESS, 2, "all"),
+                commandResult.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(exportDirectory.resolve("all.csv"));
+        assertEquals(1 + 11, lines.size());
+        assertEquals(List.of("\"Module\",\"Tutorial\",\"Name\",\"Week\",\"Present\"",
+                "\"ES1601\",\"T01\",\"Alice Tan\",\"3\",\"false\"",
+                "\"ES1601\",\"T01\",\"Alice Tan\",\"4\",\"true\""), lines.subList(0, 3));
+        assertFalse(Files.exists(exportDirectory.resolve("Attendance_T01_" + VALID_MOD_CODE + ".csv")));
+    }
+
+    @Test
+    public void execute_attendanceChangedAfterExecution_attendanceAtExecutionExported() throws Exception {
+        Tutorial tutorial = model.getFilteredTutorialList().get(0);
+        new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), null, temporaryFolder).execute(model);
+        tutorial.setAttendance(new Week(3), alice, true);
+        tutorial.deleteStudent(alice);
+        ExportAllAttendanceCommand.waitForPendingExports();
+
+        assertEquals("Alice Tan,false,true,false,false,false,false,false,false,false,false,false",
+                Files.readAllLines(temporaryFolder.resolve("Attendance_T01_" + VALID_MOD_CODE + ".csv")).get(1));
+    }
+
+    @Test
+    public void execute_unwritableFiles_failuresReported() throws Exception {
+        Files.createDirectories(temporaryFolder.resolve("Attendance_T02_" + VALID_MOD_CODE + ".csv"));
+        List<String> failures = new ArrayList<>();
+        ExportAllAttendanceCommand command = new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), null,
+                temporaryFolder);
+        command.setBackgroundFailureHandler(failures::add);
+
+        CommandResult commandResult = command.execute(model);
+        ExportAllAttendanceCommand.waitForPendingExports();
+
+        assertEquals(String.format(MESSAGE_EXPORT_ALL_ATTENDANCE_SUCCESS, 2), commandResult.getFeedbackToUser());
+        assertEquals(List.of(String.format(MESSAGE_EXPORT_ATTENDANCE_FAILED, "T02 (" + VALID_MOD_CODE + ")")),
+                failures);
+        // the other tutorials are still exported
+        assertTrue(Files.exists(temporaryFolder.resolve("Attendance_T01_" + VALID_MOD_CODE + ".csv")));
+    }
+
+    @Test
+    public void execute_unwritableCombinedFile_failureReported() throws Exception {
+        Files.createDirectories(temporaryFolder.resolve("all.csv"));
+        List<String> failures = new ArrayList<>();
+        ExportAllAttendanceCommand command = new ExportAllAttendanceCommand(null, "all", temporaryFolder);
+        command.setBackgroundFailureHandler(failures::add);
+
+        command.execute(model);
+        ExportAllAttendanceCommand.waitForPendingExports();
+
+        assertEquals(List.of(String.format(MESSAGE_EXPORT_COMBINED_ATTENDANCE_FAILED, "all")), failures);
+    }
+
+    @Test
+    public void execute_noTutorials_throwsCommandException() {
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_MODULE_IN_APPLICATION, () ->
+                new ExportAllAttendanceCommand(new ModCode("CS2040"), null, temporaryFolder).execute(model));
+        assertThrows(CommandException.class, MESSAGE_NO_TUTORIALS, () ->
+                new ExportAllAttendanceCommand(null, null, temporaryFolder).execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        ExportAllAttendanceCommand command = new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), null);
+
+        assertEquals(command, command);
+        assertEquals(command, new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), null));
+        assertNotEquals(command, new ExportAllAttendanceCommand(null, null));
+        assertNotEquals(command, new ExportAllAttendanceCommand(new ModCode(VALID_MOD_CODE), "all"));
+        assertNotEquals(command, null);
+    }
+
+    private void addTutorial(Tutorial tutorial) {
+        if (!model.hasModuleOfCode(tutorial.getModCode())) {
+            model.addModule(new ModuleBuilder().withModCode(tutorial.getModCode().toString())
+                    .withTutorials(new ArrayList<>()).build());
+        }
+        model.addTutorial(tutorial);
+        model.addTutorialToModule(tutorial);
+    }
+}
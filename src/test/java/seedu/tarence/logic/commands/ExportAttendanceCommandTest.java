@@ -299,6 +299,11 @@ public class ExportAttendanceCommandTest {
             return false;
         }
 
+        @Override
+        public boolean hasDuplicateStudent(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudent(Student target, Student editedStudent) {
             throw new AssertionError("This method should not be called.");
@@ -324,6 +329,11 @@ public class ExportAttendanceCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudentsToTutorials(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudentInTutorialAndModule(Name studName, TutName tutName, ModCode modCode) {
             return false;
@@ -0,0 +1,216 @@
+package seedu.tarence.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROWS_SKIPPED;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_CONFLICTING_ATTENDANCE;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_CONFLICTS;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_IMPORT_ATTENDANCE_SUCCESS;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_INVALID_ATTENDANCE;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_PRESENT_STUDENT_MARKED_ABSENT;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_STUDENT_IN_EARLIER_ROW;
+import static seedu.tarence.logic.commands.ImportAttendanceCommand.MESSAGE_UNKNOWN_WEEKS;
+import static seedu.tarence.logic.commands.StudentLookup.MESSAGE_STUDENT_NOT_IN_TUTORIAL;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Attendance;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class ImportAttendanceCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final String VALID_TUT_NAME = "T02";
+    private static final Index FIRST_TUTORIAL = Index.fromOneBased(1);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Tutorial tutorial;
+    private List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        String[] names = {"Alice Tan", "Bob Lim", "Carol Ng"};
+        for (int i = 0; i < names.length; i++) {
+            students.add(new StudentBuilder().withName(names[i]).withEmail("e000000" + i + "@u.nus.edu")
+                    .withMatricNum("A000000" + i + "X").withNusnetId("e000000" + i).withModCode(VALID_MOD_CODE)
+                    .withTutName(VALID_TUT_NAME).build());
+        }
+        // the tutorial has the default weeks 3 to 13
+        tutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .withStudents(new ArrayList<>(students)).build();
+        Module module = new ModuleBuilder().withModCode(VALID_MOD_CODE).withTutorials(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        model.addModule(module);
+        model.addTutorial(tutorial);
+    }
+
+    @Test
+    public void execute_exportedAttendance_attendanceRestored() throws Exception {
+        tutorial.setAttendance(new Week(3), students.get(0), true);
+        tutorial.setAttendance(new Week(13), students.get(2), true);
+        Path sheet = temporaryFolder.resolve("attendance.csv");
+        ExportAttendanceCommand.writeAttendance(tutorial, sheet);
+        Attendance exportedAttendance = new Attendance(tutorial.getAttendance().getAttendance());
+        tutorial.setAttendance(new Week(3), students.get(0), false);
+        tutorial.setAttendance(new Week(5), students.get(1), true);
+
+        CommandResult commandResult = new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_ATTENDANCE_SUCCESS, 33, 3, VALID_TUT_NAME, sheet.getFileName())
+                + String.format(MESSAGE_CONFLICTS, 1, String.format(MESSAGE_ROW_ERROR, 3,
+                String.format(MESSAGE_PRESENT_STUDENT_MARKED_ABSENT, "Bob Lim", 5))),
+                commandResult.getFeedbackToUser());
+        assertEquals(exportedAttendance, tutorial.getAttendance());
+    }
+
+    @Test
+    public void execute_attendanceOfEachWeek_blankAttendanceUnchanged() throws Exception {
+        tutorial.setAttendance(new Week(4), students.get(1), true);
+        Path sheet = writeSheet("Week 4,NUSNET,week 3", "yes,e0000000,", "0,e0000002,present");
+
+        CommandResult commandResult = new ImportAttendanceCommand(new ModCode(VALID_MOD_CODE),
+                new TutName(VALID_TUT_NAME), null, sheet).execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_ATTENDANCE_SUCCESS, 3, 2, VALID_TUT_NAME, sheet.getFileName()),
+                commandResult.getFeedbackToUser());
+        Attendance attendance = tutorial.getAttendance();
+        assertTrue(attendance.isPresent(new Week(4), students.get(0)));
+        assertFalse(attendance.isPresent(new Week(3), students.get(0)));
+        assertTrue(attendance.isPresent(new Week(4), students.get(1)));
+        assertFalse(attendance.isPresent(new Week(4), students.get(2)));
+        assertTrue(attendance.isPresent(new Week(3), students.get(2)));
+    }
+
+    @Test
+    public void execute_rowForEachStudentAndWeek_attendanceSet() throws Exception {
+        Path sheet = writeSheet("name,week,present",
+                "Alice Tan,3,true",
+                "Alice Tan,Week 4,y",
+                "Alice Tan,3,true",
+                "Bob Lim,5,p",
+                "Alice Tan,3,false",
+                "Bob Lim,14,true",
+                "Bob Lim,1,true",
+                "Bob Lim,6,maybe",
+                "Dan Goh,3,true",
+                "Carol Ng,,true",
+                "Carol Ng,7,");
+
+        CommandResult commandResult = new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        String expectedErrors = String.join("\n",
+                String.format(MESSAGE_ROW_ERROR, 6, String.format(MESSAGE_CONFLICTING_ATTENDANCE, "Alice Tan", 3,
+                        2)),
+                String.format(MESSAGE_ROW_ERROR, 7, Messages.MESSAGE_INVALID_WEEK_IN_TUTORIAL),
+                String.format(MESSAGE_ROW_ERROR, 8, Messages.MESSAGE_INVALID_WEEK_IN_TUTORIAL),
+                String.format(MESSAGE_ROW_ERROR, 9, String.format(MESSAGE_INVALID_ATTENDANCE, "maybe")),
+                String.format(MESSAGE_ROW_ERROR, 10, String.format(MESSAGE_STUDENT_NOT_IN_TUTORIAL, "Dan Goh")),
+                String.format(MESSAGE_ROW_ERROR, 11, String.format(MESSAGE_MISSING_VALUE, "week")),
+                String.format(MESSAGE_ROW_ERROR, 12, String.format(MESSAGE_MISSING_VALUE, "present")));
+        // the same attendance given again is counted once
+        assertEquals(String.format(MESSAGE_IMPORT_ATTENDANCE_SUCCESS, 3, 2, VALID_TUT_NAME, sheet.getFileName())
+                + String.format(MESSAGE_ROWS_SKIPPED, 7, expectedErrors), commandResult.getFeedbackToUser());
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), students.get(0)));
+        assertTrue(tutorial.getAttendance().isPresent(new Week(4), students.get(0)));
+        assertTrue(tutorial.getAttendance().isPresent(new Week(5), students.get(1)));
+    }
+
+    @Test
+    public void execute_noPresentColumn_studentsMarkedPresent() throws Exception {
+        Path sheet = writeSheet("matric,week", "A0000001X,3", "a0000002x,Week 9");
+
+        new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), students.get(1)));
+        assertTrue(tutorial.getAttendance().isPresent(new Week(9), students.get(2)));
+    }
+
+    @Test
+    public void execute_studentInEarlierRow_rowSkipped() throws Exception {
+        Path sheet = writeSheet("email,Week 3", "e0000000@u.nus.edu,true", "e0000000@u.nus.edu,false");
+
+        CommandResult commandResult = new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_ATTENDANCE_SUCCESS, 1, 1, VALID_TUT_NAME, sheet.getFileName())
+                + String.format(MESSAGE_ROWS_SKIPPED, 1, String.format(MESSAGE_ROW_ERROR, 3,
+                String.format(MESSAGE_STUDENT_IN_EARLIER_ROW, "Alice Tan", 2))),
+                commandResult.getFeedbackToUser());
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), students.get(0)));
+    }
+
+    @Test
+    public void execute_invalidColumns_throwsCommandExceptionWithoutSettingAttendance() throws Exception {
+        Path unknownWeeks = writeSheet("name,Week 3,Week 1,Week 14", "Alice Tan,true,true,true");
+        assertThrows(CommandException.class, String.format(MESSAGE_UNKNOWN_WEEKS, "week 1, week 14"), () ->
+                new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, unknownWeeks).execute(model));
+        assertFalse(tutorial.getAttendance().isPresent(new Week(3), students.get(0)));
+
+        Path noStudentColumn = writeSheet("student,Week 3", "Alice Tan,true");
+        assertThrows(CommandException.class, () ->
+                new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, noStudentColumn).execute(model));
+
+        Path noWeekColumn = writeSheet("name,present", "Alice Tan,true");
+        assertThrows(CommandException.class, () ->
+                new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, noWeekColumn).execute(model));
+    }
+
+    @Test
+    public void execute_invalidTutorialOrFile_throwsCommandException() throws Exception {
+        Path sheet = writeSheet("name,Week 3", "Alice Tan,true");
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE, () ->
+                new ImportAttendanceCommand(new ModCode(VALID_MOD_CODE), new TutName("T99"), null, sheet)
+                        .execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX, () ->
+                new ImportAttendanceCommand(null, null, Index.fromOneBased(2), sheet).execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_FILE, () ->
+                new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, temporaryFolder.resolve("missing.csv"))
+                        .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportAttendanceCommand command = new ImportAttendanceCommand(null, null, FIRST_TUTORIAL,
+                Path.of("attendance.csv"));
+
+        assertEquals(command, command);
+        assertEquals(command, new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, Path.of("attendance.csv")));
+        assertNotEquals(command, new ImportAttendanceCommand(null, null, FIRST_TUTORIAL, Path.of("other.csv")));
+        assertNotEquals(command, new ImportAttendanceCommand(new ModCode(VALID_MOD_CODE),
+                new TutName(VALID_TUT_NAME), null, Path.of("attendance.csv")));
+        assertNotEquals(command, null);
+    }
+
+    private Path writeSheet(String... lines) throws Exception {
+        Path sheet = temporaryFolder.resolve("attendance.csv");
+        Files.write(sheet, List.of(lines));
+        return sheet;
+    }
+}
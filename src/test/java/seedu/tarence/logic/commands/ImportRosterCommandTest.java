@@ -0,0 +1,169 @@
+package seedu.tarence.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.CsvImportUtil.MAX_REPORTED_ROWS;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MORE_ROWS_SKIPPED;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROWS_SKIPPED;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.ImportRosterCommand.MESSAGE_IMPORT_ROSTER_SUCCESS;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.person.Email;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class ImportRosterCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final String VALID_TUT_NAME = "T02";
+    private static final String OTHER_TUT_NAME = "T03";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Tutorial tutorial;
+    private Tutorial otherTutorial;
+
+    @BeforeEach
+    public void setUp() {
+        Module module = new ModuleBuilder().withModCode(VALID_MOD_CODE).withTutorials(new ArrayList<>()).build();
+        model.addModule(module);
+        tutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .withStudents(new ArrayList<>()).build();
+        otherTutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName(OTHER_TUT_NAME)
+                .withStudents(new ArrayList<>()).build();
+        for (Tutorial newTutorial : List.of(tutorial, otherTutorial)) {
+            module.addTutorial(newTutorial);
+            model.addTutorial(newTutorial);
+        }
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportRosterCommand(null));
+    }
+
+    @Test
+    public void execute_validRoster_studentsAddedToTutorials() throws Exception {
+        // columns may come in any order and case, after a byte order mark
+        Path roster = writeRoster("\uFEFFTutorial,Name,NUSNET,Email,Module",
+                VALID_TUT_NAME + ",Alice Tan,e0000001,e0000001@u.nus.edu," + VALID_MOD_CODE,
+                "",
+                OTHER_TUT_NAME + ",\"Bob Lim\",,e0000002@u.nus.edu," + VALID_MOD_CODE);
+
+        CommandResult commandResult = new ImportRosterCommand(roster).execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_ROSTER_SUCCESS, 2, roster.getFileName()),
+                commandResult.getFeedbackToUser());
+        assertEquals(2, model.getFilteredStudentList().size());
+        Student alice = new StudentBuilder().withName("Alice Tan").withEmail("e0000001@u.nus.edu")
+                .withoutMatricNum().withNusnetId("e0000001").withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .build();
+        assertEquals(List.of(alice), tutorial.getStudents());
+        assertFalse(tutorial.getAttendance().isPresent(new Week(3), alice));
+        assertEquals("Bob Lim", otherTutorial.getStudents().get(0).getName().toString());
+        assertTrue(otherTutorial.getStudents().get(0).getNusnetId().isEmpty());
+    }
+
+    @Test
+    public void execute_invalidRows_skippedAndReported() throws Exception {
+        Student existing = new StudentBuilder().withName("Carol Ng").withEmail("e0000003@u.nus.edu")
+                .withoutMatricNum().withoutNusnetId().withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .build();
+        model.addStudent(existing);
+        model.addStudentToTutorial(existing);
+        Path roster = writeRoster("name,email,module,tutorial",
+                "Alice Tan,e0000001@u.nus.edu," + VALID_MOD_CODE + "," + VALID_TUT_NAME,
+                "Bob Lim,not an email," + VALID_MOD_CODE + "," + VALID_TUT_NAME,
+                "Bob Lim,e0000002@u.nus.edu," + VALID_MOD_CODE + ",T99",
+                "Alice Tan,e0000001@u.nus.edu," + VALID_MOD_CODE + "," + VALID_TUT_NAME,
+                "Carol Ng,e0000003@u.nus.edu," + VALID_MOD_CODE + "," + VALID_TUT_NAME,
+                ",e0000004@u.nus.edu," + VALID_MOD_CODE + "," + VALID_TUT_NAME,
+                "Carol Ng,e0000003@u.nus.edu," + VALID_MOD_CODE + "," + OTHER_TUT_NAME);
+
+        CommandResult commandResult = new ImportRosterCommand(roster).execute(model);
+
+        String expectedErrors = String.join("\n",
+                String.format(MESSAGE_ROW_ERROR, 3, Email.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_ROW_ERROR, 4, AddStudentCommand.MESSAGE_INVALID_CLASS),
+                String.format(MESSAGE_ROW_ERROR, 5, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT),
+                String.format(MESSAGE_ROW_ERROR, 6, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT),
+                String.format(MESSAGE_ROW_ERROR, 7, String.format(MESSAGE_MISSING_VALUE, "name")));
+        assertEquals(String.format(MESSAGE_IMPORT_ROSTER_SUCCESS, 2, roster.getFileName())
+                + String.format(MESSAGE_ROWS_SKIPPED, 5, expectedErrors), commandResult.getFeedbackToUser());
+        // the same student may be enrolled in another class
+        assertEquals(2, tutorial.getStudents().size());
+        assertEquals(1, otherTutorial.getStudents().size());
+        assertEquals(3, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportTruncated() throws Exception {
+        List<String> lines = new ArrayList<>(List.of("name,email,module,tutorial"));
+        for (int i = 0; i < MAX_REPORTED_ROWS + 5; i++) {
+            lines.add("Student " + i + ",e" + i + "@u.nus.edu," + VALID_MOD_CODE + ",T99");
+        }
+        Path roster = writeRoster(lines.toArray(new String[0]));
+
+        String feedback = new ImportRosterCommand(roster).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(MESSAGE_MORE_ROWS_SKIPPED, 5)));
+        assertEquals(1 + 1 + MAX_REPORTED_ROWS + 1, feedback.split("\n").length);
+        assertTrue(model.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path roster = writeRoster("name,email,tutorial",
+                "Alice Tan,e0000001@u.nus.edu," + VALID_TUT_NAME);
+        assertThrows(CommandException.class, () -> new ImportRosterCommand(roster).execute(model));
+
+        Path emptyRoster = writeRoster();
+        assertThrows(CommandException.class, () -> new ImportRosterCommand(emptyRoster).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportRosterCommand command = new ImportRosterCommand(temporaryFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_FILE, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportRosterCommand command = new ImportRosterCommand(Path.of("roster.csv"));
+
+        assertEquals(command, command);
+        assertEquals(command, new ImportRosterCommand(Path.of("roster.csv")));
+        assertNotEquals(command, new ImportRosterCommand(Path.of("other.csv")));
+        assertNotEquals(command, null);
+    }
+
+    private Path writeRoster(String... lines) throws Exception {
+        Path roster = temporaryFolder.resolve("roster.csv");
+        Files.write(roster, List.of(lines));
+        return roster;
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.tarence.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.MarkAllAttendanceCommand.MESSAGE_MARK_ALL_ATTENDANCE_SUCCESS;
+import static seedu.tarence.logic.commands.MarkAllAttendanceCommand.MESSAGE_MULTIPLE_STUDENTS_OF_NAME;
+import static seedu.tarence.logic.commands.MarkAllAttendanceCommand.MESSAGE_STUDENTS_NOT_IN_TUTORIAL;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class MarkAllAttendanceCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final String VALID_TUT_NAME = "T02";
+    private static final Week VALID_WEEK = new Week(3);
+    private static final Index FIRST_TUTORIAL = Index.fromOneBased(1);
+
+    private Model model = new ModelManager();
+    private Tutorial tutorial;
+    private List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        String[] names = {"Alice Tan", "Bob Lim", "Carol Ng", "Dan Goh"};
+        for (int i = 0; i < names.length; i++) {
+            students.add(new StudentBuilder().withName(names[i]).withEmail("e000000" + i + "@u.nus.edu")
+                    .withNusnetId("e000000" + i).withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME).build());
+        }
+        tutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .withStudents(new ArrayList<>(students)).build();
+        Module module = new ModuleBuilder().withModCode(VALID_MOD_CODE).withTutorials(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        model.addModule(module);
+        model.addTutorial(tutorial);
+    }
+
+    @Test
+    public void execute_listedStudents_listedPresentRestAbsent() throws Exception {
+        tutorial.setAttendance(VALID_WEEK, students.get(3), true);
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(new ModCode(VALID_MOD_CODE),
+                new TutName(VALID_TUT_NAME), null, VALID_WEEK, List.of(new Name("alice tan")),
+                List.of(new NusnetId("E0000001")), List.of(Index.fromOneBased(3)), false);
+
+        CommandResult commandResult = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_MARK_ALL_ATTENDANCE_SUCCESS, VALID_TUT_NAME, VALID_WEEK, 3, 1),
+                commandResult.getFeedbackToUser());
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(0)));
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(1)));
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(2)));
+        assertFalse(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(3)));
+        // the attendance is displayed once, for the whole tutorial
+        assertTrue(model.getPendingCommand() instanceof DisplayAttendanceCommand);
+        assertFalse(model.hasPendingCommand());
+    }
+
+    @Test
+    public void execute_exceptListedStudents_listedAbsentRestPresent() throws Exception {
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(), List.of(), List.of(Index.fromOneBased(2)), true);
+
+        CommandResult commandResult = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_MARK_ALL_ATTENDANCE_SUCCESS, VALID_TUT_NAME, VALID_WEEK, 3, 1),
+                commandResult.getFeedbackToUser());
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(0)));
+        assertFalse(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(1)));
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(2)));
+        assertTrue(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(3)));
+        // other weeks are left as they were
+        assertFalse(tutorial.getAttendance().isPresent(new Week(4), students.get(0)));
+    }
+
+    @Test
+    public void execute_noStudentsListed_allPresentOrAllAbsent() throws Exception {
+        new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK, List.of(), List.of(), List.of(), true)
+                .execute(model);
+        assertTrue(students.stream().allMatch(student -> tutorial.getAttendance().isPresent(VALID_WEEK, student)));
+
+        new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK, List.of(), List.of(), List.of(), false)
+                .execute(model);
+        assertTrue(students.stream().noneMatch(student -> tutorial.getAttendance().isPresent(VALID_WEEK, student)));
+    }
+
+    @Test
+    public void execute_studentsNotInTutorial_throwsCommandExceptionWithoutMarking() {
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(new Name("Alice Tan"), new Name("Zed Lee")), List.of(new NusnetId("E0999999")),
+                List.of(Index.fromOneBased(5)), false);
+
+        assertThrows(CommandException.class, String.format(MESSAGE_STUDENTS_NOT_IN_TUTORIAL,
+                "Zed Lee, E0999999, si/5"), () -> command.execute(model));
+        assertFalse(tutorial.getAttendance().isPresent(VALID_WEEK, students.get(0)));
+    }
+
+    @Test
+    public void execute_nameOfSeveralStudents_throwsCommandException() {
+        Student namesake = new StudentBuilder().withName("Alice Tan").withEmail("e0000009@u.nus.edu")
+                .withNusnetId("e0000009").withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME).build();
+        tutorial.addStudent(namesake);
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(new Name("Alice Tan")), List.of(), List.of(), false);
+
+        assertThrows(CommandException.class, String.format(MESSAGE_MULTIPLE_STUDENTS_OF_NAME, "Alice Tan"), () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void execute_invalidTutorialOrWeek_throwsCommandException() {
+        MarkAllAttendanceCommand unknownTutorial = new MarkAllAttendanceCommand(new ModCode(VALID_MOD_CODE),
+                new TutName("T99"), null, VALID_WEEK, List.of(), List.of(), List.of(), false);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE, () ->
+                unknownTutorial.execute(model));
+
+        MarkAllAttendanceCommand invalidIndex = new MarkAllAttendanceCommand(null, null, Index.fromOneBased(2),
+                VALID_WEEK, List.of(), List.of(), List.of(), false);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX, () ->
+                invalidIndex.execute(model));
+
+        MarkAllAttendanceCommand invalidWeek = new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL,
+                new Week(1), List.of(), List.of(), List.of(), false);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_WEEK_IN_TUTORIAL, () ->
+                invalidWeek.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(new Name("Alice Tan")), List.of(), List.of(), false);
+
+        assertEquals(command, command);
+        assertEquals(command, new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(new Name("Alice Tan")), List.of(), List.of(), false));
+        assertNotEquals(command, new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(new Name("Alice Tan")), List.of(), List.of(), true));
+        assertNotEquals(command, new MarkAllAttendanceCommand(null, null, FIRST_TUTORIAL, VALID_WEEK,
+                List.of(), List.of(), List.of(Index.fromOneBased(1)), false));
+        assertNotEquals(command, null);
+    }
+}
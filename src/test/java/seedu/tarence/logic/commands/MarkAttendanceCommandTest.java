@@ -472,6 +472,11 @@ public class MarkAttendanceCommandTest {
             return false;
         }
 
+        @Override
+        public boolean hasDuplicateStudent(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudent(Student target, Student editedStudent) {
             throw new AssertionError("This method should not be called.");
@@ -497,6 +502,11 @@ public class MarkAttendanceCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudentsToTutorials(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudentInTutorialAndModule(Name studName, TutName tutName, ModCode modCode) {
             throw new AssertionError("This method should not be called.");
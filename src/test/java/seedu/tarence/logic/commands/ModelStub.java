@@ -134,6 +134,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean hasDuplicateStudent(Student student) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addStudent(Student student) {
         throw new AssertionError("This method should not be called.");
@@ -144,6 +149,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudentsToTutorials(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         throw new AssertionError("This method should not be called.");
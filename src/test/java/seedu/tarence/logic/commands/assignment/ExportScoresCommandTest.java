@@ -0,0 +1,142 @@
+package seedu.tarence.logic.commands.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.tarence.logic.commands.assignment.ExportScoresCommand.MESSAGE_EXPORT_SCORES_SUCCESS;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+
+public class ExportScoresCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final Assignment LAB_1 = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+    private static final Assignment LAB_2 = new Assignment("Lab 2", 20, new Date(3000000L), new Date(4000000L));
+    private static final Assignment QUIZ = new Assignment("Quiz", 5, new Date(1000000L), new Date(3000000L));
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Tutorial firstTutorial;
+    private Tutorial secondTutorial;
+    private Student alice;
+    private Student bob;
+    private Student carol;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new StudentBuilder().withName("Alice Tan").withEmail("e0000001@u.nus.edu").withMatricNum("A0000001X")
+                .withNusnetId("e0000001").withModCode(VALID_MOD_CODE).withTutName("T01").build();
+        bob = new StudentBuilder().withName("Bob Lim").withEmail("e0000002@u.nus.edu").withoutMatricNum()
+                .withoutNusnetId().withModCode(VALID_MOD_CODE).withTutName("T01").build();
+        carol = new StudentBuilder().withName("Carol Ng").withEmail("e0000003@u.nus.edu").withMatricNum("A0000003X")
+                .withNusnetId("e0000003").withModCode(VALID_MOD_CODE).withTutName("T02").build();
+        firstTutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName("T01")
+                .withStudents(new ArrayList<>(List.of(alice, bob))).withAssignments(new ArrayList<>()).build();
+        secondTutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName("T02")
+                .withStudents(new ArrayList<>(List.of(carol))).withAssignments(new ArrayList<>()).build();
+
+        firstTutorial.addAssignment(LAB_1);
+        firstTutorial.addAssignment(LAB_2);
+        secondTutorial.addAssignment(LAB_2);
+        secondTutorial.addAssignment(QUIZ);
+        firstTutorial.setScore(LAB_1, alice, 7);
+        firstTutorial.setScore(LAB_2, bob, 0);
+        secondTutorial.setScore(QUIZ, carol, 5);
+
+        Module module = new ModuleBuilder().withModCode(VALID_MOD_CODE).withTutorials(new ArrayList<>()).build();
+        model.addModule(module);
+        for (Tutorial tutorial : List.of(firstTutorial, secondTutorial)) {
+            module.addTutorial(tutorial);
+            model.addTutorial(tutorial);
+        }
+    }
+
+    @Test
+    public void execute_tutorial_gradebookExported() throws Exception {
+        CommandResult commandResult = new ExportScoresCommand(new ModCode(VALID_MOD_CODE), new TutName("T01"), null,
+                "scores", temporaryFolder).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_SCORES_SUCCESS, "T01", "scores"),
+                commandResult.getFeedbackToUser());
+        // scores that are not submitted are left blank
+        assertEquals(List.of("name,nusnet,matric,email,Lab 1,Lab 2",
+                "Alice Tan,e0000001,A0000001X,e0000001@u.nus.edu,7,",
+                "Bob Lim,,,e0000002@u.nus.edu,,0"),
+                Files.readAllLines(temporaryFolder.resolve("scores.csv")));
+    }
+
+    @Test
+    public void execute_module_assignmentsOfAllTutorialsExported() throws Exception {
+        Path exportDirectory = temporaryFolder.resolve("exports");
+        CommandResult commandResult = new ExportScoresCommand(new ModCode(VALID_MOD_CODE), null, null, null,
+                exportDirectory).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_SCORES_SUCCESS, VALID_MOD_CODE, "Scores_" + VALID_MOD_CODE),
+                commandResult.getFeedbackToUser());
+        // the columns of every tutorial are in order of the assignments, and a shared assignment has a single column
+        assertEquals(List.of("tutorial,name,nusnet,matric,email,Lab 1,Quiz,Lab 2",
+                "T01,Alice Tan,e0000001,A0000001X,e0000001@u.nus.edu,7,,",
+                "T01,Bob Lim,,,e0000002@u.nus.edu,,,0",
+                "T02,Carol Ng,e0000003,A0000003X,e0000003@u.nus.edu,,5,"),
+                Files.readAllLines(exportDirectory.resolve("Scores_" + VALID_MOD_CODE + ".csv")));
+    }
+
+    @Test
+    public void execute_exportedTutorial_canBeImported() throws Exception {
+        new ExportScoresCommand(null, null, Index.fromOneBased(1), "scores", temporaryFolder).execute(model);
+        firstTutorial.setScore(LAB_1, alice, 1);
+
+        new ImportScoresCommand(null, null, Index.fromOneBased(1), temporaryFolder.resolve("scores.csv"))
+                .execute(model);
+
+        assertEquals(7, (int) firstTutorial.getAssignmentScore(LAB_1, alice));
+    }
+
+    @Test
+    public void execute_invalidTarget_throwsCommandException() {
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE, () ->
+                new ExportScoresCommand(new ModCode(VALID_MOD_CODE), new TutName("T99"), null, null, temporaryFolder)
+                        .execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX, () ->
+                new ExportScoresCommand(null, null, Index.fromOneBased(3), null, temporaryFolder).execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_MODULE_IN_APPLICATION, () ->
+                new ExportScoresCommand(new ModCode("CS2040"), null, null, null, temporaryFolder).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportScoresCommand command = new ExportScoresCommand(new ModCode(VALID_MOD_CODE), null, null, null);
+
+        assertEquals(command, command);
+        assertEquals(command, new ExportScoresCommand(new ModCode(VALID_MOD_CODE), null, null, null));
+        assertNotEquals(command, new ExportScoresCommand(new ModCode(VALID_MOD_CODE), null, null, "scores"));
+        assertNotEquals(command, new ExportScoresCommand(null, null, Index.fromOneBased(1), null));
+        assertNotEquals(command, null);
+    }
+}
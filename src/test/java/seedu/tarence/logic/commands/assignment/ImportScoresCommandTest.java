@@ -0,0 +1,194 @@
+package seedu.tarence.logic.commands.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_MISSING_VALUE;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROWS_SKIPPED;
+import static seedu.tarence.logic.commands.CsvImportUtil.MESSAGE_ROW_ERROR;
+import static seedu.tarence.logic.commands.StudentLookup.MESSAGE_MULTIPLE_STUDENTS_OF_NAME;
+import static seedu.tarence.logic.commands.StudentLookup.MESSAGE_STUDENT_NOT_IN_TUTORIAL;
+import static seedu.tarence.logic.commands.assignment.ImportScoresCommand.MESSAGE_IMPORT_SCORES_SUCCESS;
+import static seedu.tarence.logic.commands.assignment.ImportScoresCommand.MESSAGE_INVALID_SCORE;
+import static seedu.tarence.logic.commands.assignment.ImportScoresCommand.MESSAGE_STUDENT_IN_EARLIER_ROW;
+import static seedu.tarence.logic.commands.assignment.ImportScoresCommand.MESSAGE_UNKNOWN_ASSIGNMENTS;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.core.Messages;
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.CommandResult;
+import seedu.tarence.logic.commands.exceptions.CommandException;
+import seedu.tarence.model.Model;
+import seedu.tarence.model.ModelManager;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Tutorial;
+
+public class ImportScoresCommandTest {
+
+    private static final String VALID_MOD_CODE = "ES1601";
+    private static final String VALID_TUT_NAME = "T02";
+    private static final Index FIRST_TUTORIAL = Index.fromOneBased(1);
+    private static final Assignment LAB_1 = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+    private static final Assignment LAB_2 = new Assignment("Lab 2", 20, new Date(3000000L), new Date(4000000L));
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Tutorial tutorial;
+    private List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        String[] names = {"Alice Tan", "Bob Lim", "Carol Ng", "Dan Goh"};
+        for (int i = 0; i < names.length; i++) {
+            students.add(new StudentBuilder().withName(names[i]).withEmail("e000000" + i + "@u.nus.edu")
+                    .withMatricNum("A000000" + i + "X").withNusnetId("e000000" + i).withModCode(VALID_MOD_CODE)
+                    .withTutName(VALID_TUT_NAME).build());
+        }
+        tutorial = new TutorialBuilder().withModCode(VALID_MOD_CODE).withTutName(VALID_TUT_NAME)
+                .withStudents(new ArrayList<>(students)).withAssignments(new ArrayList<>()).build();
+        tutorial.addAssignment(LAB_1);
+        tutorial.addAssignment(LAB_2);
+        Module module = new ModuleBuilder().withModCode(VALID_MOD_CODE).withTutorials(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        model.addModule(module);
+        model.addTutorial(tutorial);
+    }
+
+    @Test
+    public void execute_gradebook_scoresSet() throws Exception {
+        // students may be identified by any student column, tried in turn, and matched ignoring case
+        Path sheet = writeSheet("Name,NUSNET,Matric,lab 2,Email,Lab 1",
+                ",E0000000,,15,,7",
+                "Bob Lim,,a0000001x,20,,",
+                "Carol Ng,,,,e0000002@u.nus.edu,0",
+                "dan goh,,,3,,4");
+
+        CommandResult commandResult = new ImportScoresCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_SCORES_SUCCESS, 6, 4, VALID_TUT_NAME, sheet.getFileName()),
+                commandResult.getFeedbackToUser());
+        assertFalse(commandResult.isAssignmentDisplay());
+        assertEquals(7, (int) tutorial.getAssignmentScore(LAB_1, students.get(0)));
+        assertEquals(15, (int) tutorial.getAssignmentScore(LAB_2, students.get(0)));
+        // blank scores are left unchanged
+        assertEquals(Tutorial.NOT_SUBMITTED, (int) tutorial.getAssignmentScore(LAB_1, students.get(1)));
+        assertEquals(20, (int) tutorial.getAssignmentScore(LAB_2, students.get(1)));
+        assertEquals(0, (int) tutorial.getAssignmentScore(LAB_1, students.get(2)));
+        assertEquals(Tutorial.NOT_SUBMITTED, (int) tutorial.getAssignmentScore(LAB_2, students.get(2)));
+        assertEquals(4, (int) tutorial.getAssignmentScore(LAB_1, students.get(3)));
+        assertEquals(3, (int) tutorial.getAssignmentScore(LAB_2, students.get(3)));
+    }
+
+    @Test
+    public void execute_singleAssignment_scoresDisplayed() throws Exception {
+        Path sheet = writeSheet("nusnet,Lab 2", "e0000000,12", "e0000003,8");
+
+        CommandResult commandResult = new ImportScoresCommand(new ModCode(VALID_MOD_CODE),
+                new TutName(VALID_TUT_NAME), null, sheet).execute(model);
+
+        assertTrue(commandResult.isAssignmentDisplay());
+        assertEquals(LAB_2, commandResult.getAssignmentToDisplay());
+        assertEquals(12, (int) commandResult.getStudentScores().get(students.get(0)));
+        assertEquals(8, (int) tutorial.getAssignmentScore(LAB_2, students.get(3)));
+    }
+
+    @Test
+    public void execute_invalidRows_skippedAndReported() throws Exception {
+        Student namesake = new StudentBuilder().withName("Alice Tan").withEmail("e0000009@u.nus.edu")
+                .withMatricNum("A0000009X").withNusnetId("e0000009").withModCode(VALID_MOD_CODE)
+                .withTutName(VALID_TUT_NAME).build();
+        tutorial.addStudent(namesake);
+        Path sheet = writeSheet("nusnet,name,Lab 1,Lab 2",
+                "e0000001,,5,5",
+                "e0000099,,5,5",
+                ",Alice Tan,5,5",
+                "e0000002,,11,5",
+                "e0000002,,five,5",
+                "e0000001,,6,6",
+                ",,5,5",
+                "e0000002,,-1,5",
+                "e0000003,,3,");
+
+        CommandResult commandResult = new ImportScoresCommand(null, null, FIRST_TUTORIAL, sheet).execute(model);
+
+        String expectedErrors = String.join("\n",
+                String.format(MESSAGE_ROW_ERROR, 3, String.format(MESSAGE_STUDENT_NOT_IN_TUTORIAL, "e0000099")),
+                String.format(MESSAGE_ROW_ERROR, 4, String.format(MESSAGE_MULTIPLE_STUDENTS_OF_NAME, "Alice Tan")),
+                String.format(MESSAGE_ROW_ERROR, 5, String.format(MESSAGE_INVALID_SCORE, "Lab 1")),
+                String.format(MESSAGE_ROW_ERROR, 6, String.format(MESSAGE_INVALID_SCORE, "Lab 1")),
+                String.format(MESSAGE_ROW_ERROR, 7, String.format(MESSAGE_STUDENT_IN_EARLIER_ROW, "Bob Lim", 2)),
+                String.format(MESSAGE_ROW_ERROR, 8, String.format(MESSAGE_MISSING_VALUE, "student")),
+                String.format(MESSAGE_ROW_ERROR, 9, String.format(MESSAGE_INVALID_SCORE, "Lab 1")));
+        assertEquals(String.format(MESSAGE_IMPORT_SCORES_SUCCESS, 3, 2, VALID_TUT_NAME, sheet.getFileName())
+                + String.format(MESSAGE_ROWS_SKIPPED, 7, expectedErrors), commandResult.getFeedbackToUser());
+        assertEquals(5, (int) tutorial.getAssignmentScore(LAB_1, students.get(1)));
+        assertEquals(Tutorial.NOT_SUBMITTED, (int) tutorial.getAssignmentScore(LAB_1, students.get(2)));
+        assertEquals(3, (int) tutorial.getAssignmentScore(LAB_1, students.get(3)));
+    }
+
+    @Test
+    public void execute_invalidColumns_throwsCommandExceptionWithoutSettingScores() throws Exception {
+        Path unknownAssignment = writeSheet("nusnet,Lab 1,Lab 3", "e0000000,5,5");
+        assertThrows(CommandException.class, String.format(MESSAGE_UNKNOWN_ASSIGNMENTS, "lab 3"), () ->
+                new ImportScoresCommand(null, null, FIRST_TUTORIAL, unknownAssignment).execute(model));
+        assertEquals(Tutorial.NOT_SUBMITTED, (int) tutorial.getAssignmentScore(LAB_1, students.get(0)));
+
+        Path noStudentColumn = writeSheet("student,Lab 1", "e0000000,5");
+        assertThrows(CommandException.class, () ->
+                new ImportScoresCommand(null, null, FIRST_TUTORIAL, noStudentColumn).execute(model));
+
+        Path noAssignmentColumn = writeSheet("nusnet", "e0000000");
+        assertThrows(CommandException.class, () ->
+                new ImportScoresCommand(null, null, FIRST_TUTORIAL, noAssignmentColumn).execute(model));
+    }
+
+    @Test
+    public void execute_invalidTutorialOrFile_throwsCommandException() throws Exception {
+        Path sheet = writeSheet("nusnet,Lab 1", "e0000000,5");
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_IN_MODULE, () ->
+                new ImportScoresCommand(new ModCode(VALID_MOD_CODE), new TutName("T99"), null, sheet).execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX, () ->
+                new ImportScoresCommand(null, null, Index.fromOneBased(2), sheet).execute(model));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_FILE, () ->
+                new ImportScoresCommand(null, null, FIRST_TUTORIAL, temporaryFolder.resolve("missing.csv"))
+                        .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportScoresCommand command = new ImportScoresCommand(null, null, FIRST_TUTORIAL, Path.of("scores.csv"));
+
+        assertEquals(command, command);
+        assertEquals(command, new ImportScoresCommand(null, null, FIRST_TUTORIAL, Path.of("scores.csv")));
+        assertNotEquals(command, new ImportScoresCommand(null, null, FIRST_TUTORIAL, Path.of("other.csv")));
+        assertNotEquals(command, new ImportScoresCommand(new ModCode(VALID_MOD_CODE), new TutName(VALID_TUT_NAME),
+                null, Path.of("scores.csv")));
+        assertNotEquals(command, null);
+    }
+
+    private Path writeSheet(String... lines) throws Exception {
+        Path sheet = temporaryFolder.resolve("scores.csv");
+        Files.write(sheet, List.of(lines));
+        return sheet;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE_DESC;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.logic.commands.ExportAllAttendanceCommand;
+import seedu.tarence.model.module.ModCode;
+
+public class ExportAllAttendanceCommandParserTest {
+
+    private ExportAllAttendanceCommandParser parser = new ExportAllAttendanceCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, "", new ExportAllAttendanceCommand(null, null));
+        assertParseSuccess(parser, VALID_MODCODE_DESC,
+                new ExportAllAttendanceCommand(new ModCode(VALID_MODCODE), null));
+        assertParseSuccess(parser, VALID_MODCODE_DESC + " " + PREFIX_FILE + "all",
+                new ExportAllAttendanceCommand(new ModCode(VALID_MODCODE), "all"));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportAllAttendanceCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, " all", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE, expectedMessage);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME_DESC;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.ImportAttendanceCommand;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+public class ImportAttendanceCommandParserTest {
+    private static final String FILE_DESC = " " + PREFIX_FILE + "data/attendance.csv";
+    private static final String TUTORIAL_INDEX_DESC = " " + PREFIX_INDEX + "1";
+
+    private ImportAttendanceCommandParser parser = new ImportAttendanceCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + FILE_DESC,
+                new ImportAttendanceCommand(new ModCode(VALID_MODCODE), new TutName(VALID_TUTORIAL_NAME), null,
+                Paths.get("data/attendance.csv")));
+
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC + FILE_DESC,
+                new ImportAttendanceCommand(null, null, Index.fromOneBased(1), Paths.get("data/attendance.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAttendanceCommand.MESSAGE_USAGE);
+
+        // missing file
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC, expectedMessage);
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + " " + PREFIX_FILE, expectedMessage);
+
+        // missing or both tutorial formats
+        assertParseFailure(parser, FILE_DESC, expectedMessage);
+        assertParseFailure(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + TUTORIAL_INDEX_DESC + FILE_DESC,
+                expectedMessage);
+    }
+}
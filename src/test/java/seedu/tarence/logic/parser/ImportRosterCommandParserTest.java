@@ -0,0 +1,38 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.logic.commands.ImportRosterCommand;
+
+public class ImportRosterCommandParserTest {
+
+    private ImportRosterCommandParser parser = new ImportRosterCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "data/roster.csv",
+                new ImportRosterCommand(Paths.get("data/roster.csv")));
+
+        // path with spaces
+        assertParseSuccess(parser, " " + PREFIX_FILE + "my rosters/CS1010 roster.csv",
+                new ImportRosterCommand(Paths.get("my rosters/CS1010 roster.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportRosterCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE, expectedMessage);
+        assertParseFailure(parser, " roster.csv", expectedMessage);
+        assertParseFailure(parser, " roster " + PREFIX_FILE + "roster.csv", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE + "roster\u0000.csv", expectedMessage);
+    }
+}
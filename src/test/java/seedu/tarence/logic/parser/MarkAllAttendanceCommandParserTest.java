@@ -0,0 +1,98 @@
+package seedu.tarence.logic.parser;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_NUSNET_AMY;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_WEEK;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_WEEK_DESC;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_NUSID;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.MarkAllAttendanceCommand;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.student.NusnetId;
+import seedu.tarence.model.tutorial.TutName;
+import seedu.tarence.model.tutorial.Week;
+
+public class MarkAllAttendanceCommandParserTest {
+    private static final String EXCEPT_DESC = " " + PREFIX_EXCEPT;
+    private static final String NUSNET_DESC_AMY = " " + PREFIX_NUSID + VALID_NUSNET_AMY;
+    private static final String STUDENT_INDEX_DESC = " " + PREFIX_STUDENT_INDEX + "2";
+    private static final String TUTORIAL_INDEX_DESC = " " + PREFIX_INDEX + "1";
+
+    private MarkAllAttendanceCommandParser parser = new MarkAllAttendanceCommandParser();
+
+    @Test
+    public void parse_listedStudents_success() {
+        ModCode expectedModCode = new ModCode(VALID_MODCODE);
+        TutName expectedTutName = new TutName(VALID_TUTORIAL_NAME);
+        Week expectedWeek = new Week(VALID_WEEK);
+
+        // students of every kind, with names kept in order
+        assertParseSuccess(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + VALID_WEEK_DESC + NAME_DESC_AMY
+                + STUDENT_INDEX_DESC + NUSNET_DESC_AMY + NAME_DESC_BOB,
+                new MarkAllAttendanceCommand(expectedModCode, expectedTutName, null, expectedWeek,
+                List.of(new Name(VALID_NAME_AMY), new Name(VALID_NAME_BOB)), List.of(new NusnetId(VALID_NUSNET_AMY)),
+                List.of(Index.fromOneBased(2)), false));
+
+        // no students listed
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC,
+                new MarkAllAttendanceCommand(null, null, Index.fromOneBased(1), expectedWeek, List.of(), List.of(),
+                List.of(), false));
+    }
+
+    @Test
+    public void parse_except_success() {
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + EXCEPT_DESC + STUDENT_INDEX_DESC,
+                new MarkAllAttendanceCommand(null, null, Index.fromOneBased(1), new Week(VALID_WEEK), List.of(),
+                List.of(), List.of(Index.fromOneBased(2)), true));
+
+        // except/ may be given last
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + STUDENT_INDEX_DESC + EXCEPT_DESC,
+                new MarkAllAttendanceCommand(null, null, Index.fromOneBased(1), new Week(VALID_WEEK), List.of(),
+                List.of(), List.of(Index.fromOneBased(2)), true));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkAllAttendanceCommand.MESSAGE_USAGE);
+
+        // missing week
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + NAME_DESC_AMY, expectedMessage);
+
+        // both tutorial formats
+        assertParseFailure(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + TUTORIAL_INDEX_DESC
+                + VALID_WEEK_DESC, expectedMessage);
+
+        // except/ with a value
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + EXCEPT_DESC + VALID_NAME_AMY,
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + INVALID_NAME_DESC, Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + " " + PREFIX_NUSID + "A0123456",
+                NusnetId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + VALID_WEEK_DESC + " " + PREFIX_STUDENT_INDEX + "first",
+                ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.tarence.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class NusModsCatalogueTest {
+
+    @Test
+    public void indexModules_validJson_spansCoverModuleObjects() throws IOException {
+        String first = "{\"semesters\":[{\"semester\":1,\"timetable\":[{\"classNo\":\"é1\"}]}],"
+                + "\"moduleCode\":\"CS1010\"}";
+        String second = "{\"moduleCode\":\"CS2030\",\"semesters\":[]}";
+        byte[] json = ("[" + first + ",\n" + second + "]").getBytes(StandardCharsets.UTF_8);
+
+        Map<String, int[]> moduleSpans = NusModsCatalogue.indexModules(json);
+
+        assertEquals(2, moduleSpans.size());
+        int[] firstSpan = moduleSpans.get("CS1010");
+        assertEquals(first, new String(json, firstSpan[0], firstSpan[1] - firstSpan[0], StandardCharsets.UTF_8));
+        int firstLength = first.getBytes(StandardCharsets.UTF_8).length;
+        assertArrayEquals(new int[] {firstLength + 3, firstLength + 3 + second.length()}, moduleSpans.get("CS2030"));
+    }
+
+    @Test
+    public void indexModules_notArray_throwsIoException() {
+        assertThrows(IOException.class, () -> NusModsCatalogue.indexModules("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void getModuleJson_lessonsResource_returnsOnlyModule() {
+        NusModsCatalogue catalogue = new NusModsCatalogue("/nusmods/lessons.json");
+        String moduleJson = catalogue.getModuleJson("CS1101S").get();
+        assertTrue(moduleJson.startsWith("{\"moduleCode\":\"CS1101S\""));
+        assertTrue(moduleJson.endsWith("}"));
+        assertFalse(moduleJson.contains("\"moduleCode\":\"CS1231\""));
+        assertFalse(catalogue.getModuleJson("XX0000").isPresent());
+    }
+
+    @Test
+    public void getModuleJson_missingResource_returnsEmpty() {
+        assertFalse(new NusModsCatalogue("/nusmods/missing.json").getModuleJson("CS1101S").isPresent());
+    }
+}
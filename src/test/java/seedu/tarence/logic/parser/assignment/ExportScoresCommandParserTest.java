@@ -0,0 +1,46 @@
+package seedu.tarence.logic.parser.assignment;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME_DESC;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.assignment.ExportScoresCommand;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+public class ExportScoresCommandParserTest {
+    private static final String FILE_DESC = " " + PREFIX_FILE + "scores";
+    private static final String TUTORIAL_INDEX_DESC = " " + PREFIX_INDEX + "1";
+
+    private ExportScoresCommandParser parser = new ExportScoresCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + FILE_DESC,
+                new ExportScoresCommand(new ModCode(VALID_MODCODE), new TutName(VALID_TUTORIAL_NAME), null,
+                "scores"));
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC,
+                new ExportScoresCommand(null, null, Index.fromOneBased(1), null));
+        assertParseSuccess(parser, VALID_MODCODE_DESC,
+                new ExportScoresCommand(new ModCode(VALID_MODCODE), null, null, null));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScoresCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, FILE_DESC, expectedMessage);
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + " " + PREFIX_FILE, expectedMessage);
+        assertParseFailure(parser, VALID_TUTORIAL_NAME_DESC + FILE_DESC, expectedMessage);
+        assertParseFailure(parser, VALID_MODCODE_DESC + TUTORIAL_INDEX_DESC, expectedMessage);
+    }
+}
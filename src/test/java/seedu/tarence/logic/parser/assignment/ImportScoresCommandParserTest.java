@@ -0,0 +1,51 @@
+package seedu.tarence.logic.parser.assignment;
+
+import static seedu.tarence.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_MODCODE_DESC;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME;
+import static seedu.tarence.logic.commands.CommandTestUtil.VALID_TUTORIAL_NAME_DESC;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.tarence.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tarence.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.core.index.Index;
+import seedu.tarence.logic.commands.assignment.ImportScoresCommand;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.tutorial.TutName;
+
+public class ImportScoresCommandParserTest {
+    private static final String FILE_DESC = " " + PREFIX_FILE + "data/scores.csv";
+    private static final String TUTORIAL_INDEX_DESC = " " + PREFIX_INDEX + "1";
+
+    private ImportScoresCommandParser parser = new ImportScoresCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + FILE_DESC,
+                new ImportScoresCommand(new ModCode(VALID_MODCODE), new TutName(VALID_TUTORIAL_NAME), null,
+                Paths.get("data/scores.csv")));
+
+        assertParseSuccess(parser, TUTORIAL_INDEX_DESC + FILE_DESC,
+                new ImportScoresCommand(null, null, Index.fromOneBased(1), Paths.get("data/scores.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportScoresCommand.MESSAGE_USAGE);
+
+        // missing file
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC, expectedMessage);
+        assertParseFailure(parser, TUTORIAL_INDEX_DESC + " " + PREFIX_FILE, expectedMessage);
+
+        // missing or both tutorial formats
+        assertParseFailure(parser, FILE_DESC, expectedMessage);
+        assertParseFailure(parser, VALID_MODCODE_DESC + VALID_TUTORIAL_NAME_DESC + TUTORIAL_INDEX_DESC + FILE_DESC,
+                expectedMessage);
+    }
+}
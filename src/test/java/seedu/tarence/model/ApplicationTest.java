@@ -10,6 +10,7 @@ import static seedu.tarence.testutil.TypicalPersons.getTypicalApplication;
 import static seedu.tarence.testutil.TypicalStudents.AMY;
 import static seedu.tarence.testutil.TypicalTutorials.CS1101S_LAB04;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,7 +20,6 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.tarence.commons.util.JsonUtil;
 import seedu.tarence.model.builder.ModuleBuilder;
 import seedu.tarence.model.builder.PersonBuilder;
 import seedu.tarence.model.builder.StudentBuilder;
@@ -203,6 +203,35 @@ public class ApplicationTest {
         Tutorial editedCS1101SLab4 = new TutorialBuilder(CS1101S_LAB04).build();
         assertTrue(application.hasTutorial(editedCS1101SLab4));
     }
+
+    @Test
+    public void hasStudentInTutorialAndModule_afterStudentAndTutorialRemoved_returnsFalse() {
+        Tutorial tutorial = new TutorialBuilder().withModCode("CS1101S").withTutName("T01")
+                .withStudents(new ArrayList<>()).build();
+        application.addModule(new ModuleBuilder().withModCode("CS1101S").withTutorials(new ArrayList<>()).build());
+        application.addTutorial(tutorial);
+        application.addTutorialToModule(tutorial);
+        Student student = new StudentBuilder().withModCode("CS1101S").withTutName("T01").build();
+        Student classmate = new StudentBuilder().withName("Bob").withEmail("bob@example.com")
+                .withMatricNum("A0000001X").withNusnetId("e0000001").withModCode("CS1101S").withTutName("T01").build();
+        for (Student s : List.of(student, classmate)) {
+            application.addStudent(s);
+            application.addStudentToTutorial(s);
+        }
+
+        assertTrue(application.hasStudentInTutorialAndModule(student.getName(), tutorial.getTutName(),
+                tutorial.getModCode()));
+        application.removeStudent(student);
+        assertFalse(application.hasStudent(student));
+        assertFalse(application.hasStudentInTutorialAndModule(student.getName(), tutorial.getTutName(),
+                tutorial.getModCode()));
+
+        assertTrue(application.hasStudentInTutorialAndModule(classmate.getName(), tutorial.getTutName(),
+                tutorial.getModCode()));
+        application.removeTutorial(tutorial);
+        assertFalse(application.hasStudentInTutorialAndModule(classmate.getName(), tutorial.getTutName(),
+                tutorial.getModCode()));
+    }
     /**
      * A stub ReadOnlyApplication whose persons list can violate interface constraints.
      */
@@ -246,21 +275,8 @@ public class ApplicationTest {
         }
 
         @Override
-        public String toStringForComparison() {
-            String applicationString = "";
-
-            for (Module m : this.getModuleList()) {
-                applicationString += m.getModCode().toString() + ": " + JsonUtil.moduleToHashMap(m).toString() + "\n";
-            }
-
-            return applicationString;
-        }
-
-        @Override
-        public Boolean equalsUsingStringComparison(ReadOnlyApplication newApp) {
-
-            return newApp.toStringForComparison().equals(this.toStringForComparison());
-
+        public long getLastModified() {
+            return 0;
         }
     }
 
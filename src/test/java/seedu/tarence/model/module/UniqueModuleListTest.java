@@ -10,6 +10,7 @@ import static seedu.tarence.testutil.TypicalModules.CS2103;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -165,4 +166,16 @@ public class UniqueModuleListTest {
             -> uniqueModuleList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getModuleByCode_afterSetModuleAndRemove_followsList() {
+        uniqueModuleList.add(CS1101S);
+        uniqueModuleList.setModule(CS1101S, CS2103);
+        assertEquals(Optional.empty(), uniqueModuleList.getModuleByCode(CS1101S.getModCode()));
+        assertEquals(Optional.of(CS2103), uniqueModuleList.getModuleByCode(CS2103.getModCode()));
+        assertTrue(uniqueModuleList.containsModCode(CS2103.getModCode()));
+
+        uniqueModuleList.remove(CS2103);
+        assertFalse(uniqueModuleList.containsModCode(CS2103.getModCode()));
+        assertFalse(uniqueModuleList.contains(CS2103));
+    }
 }
@@ -0,0 +1,88 @@
+package seedu.tarence.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.person.Name;
+import seedu.tarence.model.tutorial.TutName;
+
+public class StudentIndexTest {
+
+    private final StudentIndex studentIndex = new StudentIndex();
+
+    @Test
+    public void hasSamePerson_nusnetIdInDifferentCase_returnsTrue() {
+        studentIndex.add(new StudentBuilder().withEmail("alice@example.com").withoutMatricNum()
+                .withNusnetId("e0123456").build());
+        assertTrue(studentIndex.hasSamePerson(new StudentBuilder().withEmail("bob@example.com").withoutMatricNum()
+                .withNusnetId("E0123456").build()));
+    }
+
+    @Test
+    public void hasDuplicate_studentInAnotherClass_onlyIfIdsDiffer() {
+        Student student = new StudentBuilder().build();
+        studentIndex.add(student);
+        assertFalse(studentIndex.hasDuplicate(new StudentBuilder(student).withTutName("T02").build()));
+
+        Student sameEmailInAnotherClass = new StudentBuilder(student).withTutName("T02")
+                .withMatricNum("A0000001X").build();
+        assertTrue(studentIndex.hasDuplicate(sameEmailInAnotherClass));
+    }
+
+    @Test
+    public void remove_oneOfEqualStudents_otherKept() {
+        Student student = new StudentBuilder().withName("Alice Pauline").build();
+        studentIndex.add(student);
+        studentIndex.add(new StudentBuilder(student).build());
+        Name lowerCaseName = new Name("alice pauline");
+
+        studentIndex.remove(student);
+        assertTrue(studentIndex.hasSamePerson(student));
+        assertTrue(studentIndex.hasStudentInTutorialAndModule(lowerCaseName, student.getTutName(),
+                student.getModCode()));
+
+        studentIndex.remove(student);
+        assertFalse(studentIndex.hasSamePerson(student));
+        assertFalse(studentIndex.hasStudentInTutorialAndModule(lowerCaseName, student.getTutName(),
+                student.getModCode()));
+    }
+
+    @Test
+    public void hasSamePersonAndHasDuplicate_manyStudents_sameAsComparingEveryStudent() {
+        // Few distinct values for each field, so that students share them in every combination
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            StudentBuilder builder = new StudentBuilder().withName("Student " + (i % 5))
+                    .withEmail("student" + (i % 7) + "@example.com")
+                    .withModCode("CS10" + (10 + i % 2)).withTutName("T0" + (i % 3));
+            builder = i % 4 == 0 ? builder.withoutMatricNum() : builder.withMatricNum("A000000" + (i % 6) + "X");
+            builder = i % 5 == 0 ? builder.withoutNusnetId() : builder.withNusnetId("e000000" + (i % 8));
+            students.add(builder.build());
+        }
+
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            List<Student> indexedStudents = students.subList(0, i);
+            assertEquals(indexedStudents.stream().anyMatch(student::isSamePerson),
+                    studentIndex.hasSamePerson(student));
+            assertEquals(indexedStudents.stream().anyMatch(other -> !student.isSameStudent(other)
+                    && student.isSamePerson(other)), studentIndex.hasDuplicate(student));
+            assertEquals(indexedStudents.stream().anyMatch(other -> other.getName().equals(student.getName())
+                    && other.getTutName().equals(student.getTutName())
+                    && other.getModCode().equals(student.getModCode())),
+                    studentIndex.hasStudentInTutorialAndModule(student.getName(), student.getTutName(),
+                            student.getModCode()));
+            studentIndex.add(student);
+        }
+        assertFalse(studentIndex.hasStudentInTutorialAndModule(new Name("Student 1"), new TutName("T09"),
+                new ModCode("CS1010")));
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.tarence.model.tutorial;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tarence.testutil.Assert.assertThrows;
 import static seedu.tarence.testutil.TypicalStudents.ALICE;
+import static seedu.tarence.testutil.TypicalStudents.BENSON;
+import static seedu.tarence.testutil.TypicalStudents.CARL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,6 +17,7 @@ import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tarence.model.builder.StudentBuilder;
 import seedu.tarence.model.student.Student;
 import seedu.tarence.model.tutorial.exceptions.StudentNotFoundException;
 import seedu.tarence.model.tutorial.exceptions.WeekNotFoundException;
@@ -43,6 +48,27 @@ public class AttendanceTest {
         assertThrows(WeekNotFoundException.class, () -> attendance.setAttendance(new Week(4), ALICE, true));
     }
 
+    @Test
+    public void getPresence() {
+        students.add(ALICE);
+        Attendance attendanceWithStudent = new Attendance(weeks, students);
+        attendanceWithStudent.setAttendance(new Week(2), ALICE, true);
+        assertArrayEquals(new boolean[] {false, true, false}, attendanceWithStudent.getPresence(ALICE));
+        assertThrows(StudentNotFoundException.class, () -> attendanceWithStudent.getPresence(BENSON));
+    }
+
+    @Test
+    public void getPresentWeeks() {
+        students.add(ALICE);
+        students.add(BENSON);
+        Attendance attendanceWithStudents = new Attendance(weeks, students);
+        attendanceWithStudents.setAttendance(new Week(1), ALICE, true);
+        attendanceWithStudents.setAttendance(new Week(3), ALICE, true);
+        attendanceWithStudents.setAttendance(new Week(2), BENSON, true);
+        assertArrayEquals(new long[] {0b100, 0, 0b1010},
+                attendanceWithStudents.getPresentWeeks(List.of(BENSON, CARL, ALICE)));
+    }
+
     @Test
     public void setAttendance() {
         students.add(ALICE);
@@ -59,6 +85,58 @@ public class AttendanceTest {
         assertFalse(attendance.isPresent(new Week(1), ALICE));
     }
 
+    @Test
+    public void addStudent_manyStudents_allAbsent() {
+        List<Student> addedStudents = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Student student = new StudentBuilder().withName("Student " + i).build();
+            attendance.addStudent(student);
+            addedStudents.add(student);
+        }
+        for (Student student : addedStudents) {
+            assertFalse(attendance.isPresent(new Week(1), student));
+        }
+    }
+
+    @Test
+    public void setAttendance_toggle_flipsAttendance() {
+        attendance.addStudent(ALICE);
+        attendance.setAttendance(new Week(2), ALICE);
+        assertTrue(attendance.isPresent(new Week(2), ALICE));
+        assertFalse(attendance.isPresent(new Week(1), ALICE));
+        attendance.setAttendance(new Week(2), ALICE);
+        assertFalse(attendance.isPresent(new Week(2), ALICE));
+    }
+
+    @Test
+    public void deleteStudent_otherStudentsKeepAttendance() {
+        attendance.addStudent(ALICE);
+        attendance.addStudent(BENSON);
+        attendance.addStudent(CARL);
+        attendance.setAttendance(new Week(1), CARL, true);
+        attendance.setAttendance(new Week(3), BENSON, true);
+
+        attendance.deleteStudent(ALICE);
+        assertThrows(StudentNotFoundException.class, () -> attendance.isPresent(new Week(1), ALICE));
+        assertTrue(attendance.isPresent(new Week(1), CARL));
+        assertFalse(attendance.isPresent(new Week(3), CARL));
+        assertTrue(attendance.isPresent(new Week(3), BENSON));
+        assertEquals(2, attendance.getWeek(new Week(1)).size());
+    }
+
+    @Test
+    public void constructor_fromMap_equalsAttendanceItWasReadFrom() {
+        attendance.addStudent(ALICE);
+        attendance.addStudent(BENSON);
+        attendance.setAttendance(new Week(2), BENSON, true);
+        Attendance copy = new Attendance(attendance.getAttendance());
+        assertEquals(attendance, copy);
+        assertEquals(attendance.hashCode(), copy.hashCode());
+
+        copy.setAttendance(new Week(2), BENSON, false);
+        assertFalse(attendance.equals(copy));
+    }
+
     @Test
     public void equals() {
         Attendance attendance1 = new Attendance(weeks, students);
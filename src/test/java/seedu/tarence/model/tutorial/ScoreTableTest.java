@@ -0,0 +1,116 @@
+package seedu.tarence.model.tutorial;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+import static seedu.tarence.testutil.TypicalStudents.ALICE;
+import static seedu.tarence.testutil.TypicalStudents.BENSON;
+import static seedu.tarence.testutil.TypicalStudents.CARL;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.exceptions.AssignmentNotFoundException;
+import seedu.tarence.model.tutorial.exceptions.StudentNotFoundException;
+
+public class ScoreTableTest {
+
+    private static final Assignment LAB_1 = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+    private static final Assignment LAB_2 = new Assignment("Lab 2", 10, new Date(3000000L), new Date(4000000L));
+
+    private final ScoreTable scoreTable = new ScoreTable(new ArrayList<>(List.of(ALICE, BENSON)));
+
+    @Test
+    public void addAssignment_existingStudents_notSubmitted() {
+        scoreTable.addAssignment(LAB_1);
+        assertEquals(Tutorial.NOT_SUBMITTED, scoreTable.getScore(LAB_1, ALICE));
+        assertEquals(Tutorial.NOT_SUBMITTED, scoreTable.getScore(LAB_1, BENSON));
+        assertThrows(StudentNotFoundException.class, () -> scoreTable.getScore(LAB_1, CARL));
+        assertThrows(AssignmentNotFoundException.class, () -> scoreTable.getScore(LAB_2, ALICE));
+    }
+
+    @Test
+    public void getScores_inOrderOfAssignments() {
+        scoreTable.addAssignment(LAB_2);
+        scoreTable.addAssignment(LAB_1);
+        scoreTable.setScore(LAB_2, BENSON, 7);
+        assertArrayEquals(new int[] {Tutorial.NOT_SUBMITTED, 7}, scoreTable.getScores(BENSON));
+        assertThrows(StudentNotFoundException.class, () -> scoreTable.getScores(CARL));
+    }
+
+    @Test
+    public void deleteStudent_otherStudentsKeepScores() {
+        scoreTable.addAssignment(LAB_1);
+        scoreTable.addStudent(CARL);
+        scoreTable.setScore(LAB_1, BENSON, 4);
+        scoreTable.setScore(LAB_1, CARL, 9);
+
+        scoreTable.deleteStudent(ALICE);
+        assertFalse(scoreTable.hasStudent(ALICE));
+        assertEquals(4, scoreTable.getScore(LAB_1, BENSON));
+        assertEquals(9, scoreTable.getScore(LAB_1, CARL));
+        assertEquals(2, scoreTable.getAssignmentScores(LAB_1).size());
+    }
+
+    @Test
+    public void addStudent_manyStudents_scoresKept() {
+        scoreTable.addAssignment(LAB_1);
+        for (int i = 0; i < 40; i++) {
+            Student student = new StudentBuilder().withName("Student " + i).build();
+            scoreTable.addStudent(student);
+            scoreTable.setScore(LAB_1, student, i % 10);
+        }
+        assertEquals(42, scoreTable.getAssignmentScores(LAB_1).size());
+        assertEquals(Tutorial.NOT_SUBMITTED, scoreTable.getScore(LAB_1, ALICE));
+    }
+
+    @Test
+    public void getAssignmentScores_isView() {
+        scoreTable.addAssignment(LAB_1);
+        Map<Student, Integer> scores = scoreTable.getAssignmentScores(LAB_1);
+        scoreTable.setScore(LAB_1, ALICE, 7);
+        assertEquals((int) 7, (int) scores.get(ALICE));
+
+        Map<Student, Integer> expectedScores = new HashMap<>();
+        expectedScores.put(ALICE, 7);
+        expectedScores.put(BENSON, Tutorial.NOT_SUBMITTED);
+        assertEquals(expectedScores, scores);
+        assertArrayEquals(new int[] {7}, ScoreTable.getSubmittedScores(scores));
+        assertArrayEquals(new int[] {7}, ScoreTable.getSubmittedScores(expectedScores));
+    }
+
+    @Test
+    public void getAssignments_cachedUntilAssignmentsChange() {
+        scoreTable.addAssignment(LAB_2);
+        List<Assignment> assignments = scoreTable.getAssignments();
+        assertSame(assignments, scoreTable.getAssignments());
+
+        scoreTable.addAssignment(LAB_1);
+        assertEquals(List.of(LAB_1, LAB_2), scoreTable.getAssignments());
+        assertTrue(scoreTable.deleteAssignment(LAB_2));
+        assertEquals(List.of(LAB_1), scoreTable.getAssignments());
+    }
+
+    @Test
+    public void constructor_scoresWithMissingStudent_studentHasNoScore() {
+        Map<Student, Integer> labScores = new HashMap<>();
+        labScores.put(ALICE, 5);
+        Map<Assignment, Map<Student, Integer>> scores = new HashMap<>();
+        scores.put(LAB_1, labScores);
+
+        ScoreTable tableFromMap = new ScoreTable(List.of(ALICE, BENSON), scores);
+        assertEquals(5, tableFromMap.getScore(LAB_1, ALICE));
+        assertThrows(StudentNotFoundException.class, () -> tableFromMap.getScore(LAB_1, BENSON));
+        assertEquals(labScores, tableFromMap.getAssignmentScores(LAB_1));
+    }
+}
@@ -1,22 +1,29 @@
 package seedu.tarence.model.tutorial;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tarence.testutil.Assert.assertThrows;
 import static seedu.tarence.testutil.TypicalStudents.ALICE;
+import static seedu.tarence.testutil.TypicalStudents.BENSON;
 import static seedu.tarence.testutil.TypicalTutorials.CS1020_LAB01;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tarence.model.builder.TutorialBuilder;
 import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.exceptions.InvalidScoreException;
+import seedu.tarence.model.tutorial.exceptions.WeekNotFoundException;
 
 public class TutorialTest {
 
@@ -76,4 +83,56 @@ public class TutorialTest {
         Tutorial diffModCode = new TutorialBuilder(CS1020_LAB01).withModCode("CS2040").build();
         assertFalse(CS1020_LAB01.equals(diffModCode));
     }
+
+    @Test
+    public void getLastModified_afterModification_increases() {
+        Tutorial tutorial = new TutorialBuilder(CS1020_LAB01).withStudents(new ArrayList<>()).build();
+        long lastModified = tutorial.getLastModified();
+
+        tutorial.addStudent(ALICE);
+        assertTrue(tutorial.getLastModified() > lastModified);
+        lastModified = tutorial.getLastModified();
+
+        tutorial.deleteStudent(ALICE);
+        assertTrue(tutorial.getLastModified() > lastModified);
+    }
+
+    @Test
+    public void setScores_invalidScore_noScoresSet() {
+        Assignment assignment = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+        Tutorial tutorial = new TutorialBuilder(CS1020_LAB01).withStudents(new ArrayList<>(List.of(ALICE, BENSON)))
+                .withAssignments(new ArrayList<>()).build();
+        tutorial.addAssignment(assignment);
+
+        Map<Student, Integer> scores = new HashMap<>(Map.of(ALICE, 7, BENSON, 11));
+        assertThrows(InvalidScoreException.class, () -> tutorial.setScores(Map.of(assignment, scores)));
+        assertEquals(Tutorial.NOT_SUBMITTED, (int) tutorial.getAssignmentScore(assignment, ALICE));
+
+        scores.put(BENSON, 10);
+        tutorial.setScores(Map.of(assignment, scores));
+        assertEquals(7, (int) tutorial.getAssignmentScore(assignment, ALICE));
+        assertEquals(10, (int) tutorial.getAssignmentScore(assignment, BENSON));
+    }
+
+    @Test
+    public void setAttendance_invalidWeek_noAttendanceSet() {
+        Tutorial tutorial = new TutorialBuilder(CS1020_LAB01).withStudents(new ArrayList<>(List.of(ALICE, BENSON)))
+                .build();
+
+        Map<Week, Map<Student, Boolean>> attendance = new HashMap<>();
+        attendance.put(new Week(3), Map.of(ALICE, true, BENSON, true));
+        attendance.put(new Week(1), Map.of(ALICE, true));
+        assertThrows(WeekNotFoundException.class, () -> tutorial.setAttendance(attendance));
+        assertFalse(tutorial.getAttendance().isPresent(new Week(3), ALICE));
+
+        attendance.remove(new Week(1));
+        attendance.put(new Week(4), Map.of(BENSON, true));
+        long lastModified = tutorial.getLastModified();
+        tutorial.setAttendance(attendance);
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), ALICE));
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), BENSON));
+        assertFalse(tutorial.getAttendance().isPresent(new Week(4), ALICE));
+        assertTrue(tutorial.getAttendance().isPresent(new Week(4), BENSON));
+        assertTrue(tutorial.getLastModified() > lastModified);
+    }
 }
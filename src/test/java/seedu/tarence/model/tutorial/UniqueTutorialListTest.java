@@ -7,13 +7,20 @@ import static seedu.tarence.testutil.Assert.assertThrows;
 import static seedu.tarence.testutil.TypicalTutorials.CS1020_LAB01;
 import static seedu.tarence.testutil.TypicalTutorials.CS1231_TUT10;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
 import seedu.tarence.model.tutorial.exceptions.DuplicateTutorialException;
 import seedu.tarence.model.tutorial.exceptions.TutorialNotFoundException;
 
@@ -165,4 +172,43 @@ public class UniqueTutorialListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueTutorialList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getTutorial_sameNameInDifferentModules_returnsTutorialOfModule() {
+        Tutorial cs1010Tutorial = new TutorialBuilder().withModCode("CS1010").withTutName("T01")
+                .withStudents(new ArrayList<>()).build();
+        Tutorial cs2030Tutorial = new TutorialBuilder().withModCode("CS2030").withTutName("T01")
+                .withStudents(new ArrayList<>()).build();
+        uniqueTutorialList.setTutorials(List.of(cs1010Tutorial, cs2030Tutorial));
+
+        assertEquals(Optional.of(cs2030Tutorial),
+                uniqueTutorialList.getTutorial(new ModCode("CS2030"), new TutName("T01")));
+        uniqueTutorialList.remove(cs2030Tutorial);
+        assertEquals(Optional.empty(), uniqueTutorialList.getTutorial(new ModCode("CS2030"), new TutName("T01")));
+        assertEquals(Optional.of(cs1010Tutorial),
+                uniqueTutorialList.getTutorial(new ModCode("CS1010"), new TutName("T01")));
+    }
+
+    @Test
+    public void contains_sameModuleAndNameWithDifferentTimeTable_returnsFalse() {
+        Tutorial mondayTutorial = new TutorialBuilder().withStudents(new ArrayList<>()).build();
+        Tutorial fridayTutorial = new TutorialBuilder().withStudents(new ArrayList<>())
+                .withTimeTable(new TimeTable(DayOfWeek.FRIDAY, LocalTime.NOON, Set.of(new Week(3)),
+                        Duration.ofHours(1))).build();
+        uniqueTutorialList.add(mondayTutorial);
+
+        assertFalse(uniqueTutorialList.contains(fridayTutorial));
+        uniqueTutorialList.add(fridayTutorial);
+        uniqueTutorialList.remove(mondayTutorial);
+        assertFalse(uniqueTutorialList.contains(mondayTutorial));
+        assertTrue(uniqueTutorialList.contains(fridayTutorial));
+    }
+
+    @Test
+    public void getTutorial_differentCase_returnsTutorial() {
+        uniqueTutorialList.add(CS1020_LAB01);
+        assertEquals(Optional.of(CS1020_LAB01), uniqueTutorialList.getTutorial(
+                new ModCode(CS1020_LAB01.getModCode().toString().toLowerCase()),
+                new TutName(CS1020_LAB01.getTutName().toString().toLowerCase())));
+    }
 }
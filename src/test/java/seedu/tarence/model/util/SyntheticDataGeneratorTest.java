@@ -0,0 +1,68 @@
+package seedu.tarence.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+import seedu.tarence.storage.JsonSerializableApplication;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generate_givenSizes_applicationOfThoseSizes() {
+        Application application = new SyntheticDataGenerator().withModules(3).withTutorialsPerModule(4)
+                .withStudentsPerTutorial(5).withAssignmentsPerTutorial(2).withEventsPerTutorial(1).generate();
+
+        assertEquals(3, application.getModuleList().size());
+        assertEquals(12, application.getTutorialList().size());
+        assertEquals(60, application.getStudentList().size());
+        for (Tutorial tutorial : application.getTutorialList()) {
+            assertEquals(5, tutorial.getStudents().size());
+            assertEquals(2, tutorial.getAssignments().size());
+            // Each assignment is also added as an event
+            assertEquals(3, tutorial.getEventListForSaving().size());
+        }
+    }
+
+    @Test
+    public void generate_sameSeed_sameApplication() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withModules(2).withSeed(42);
+        assertEquals(toJson(generator.generate()), toJson(generator.generate()));
+        assertNotEquals(toJson(generator.generate()), toJson(generator.withSeed(43).generate()));
+    }
+
+    @Test
+    public void generate_attendanceRate_attendanceCloseToRate() {
+        Application application = new SyntheticDataGenerator().withModules(2).withAttendanceRate(0.6).generate();
+
+        int present = 0;
+        int total = 0;
+        for (Tutorial tutorial : application.getTutorialList()) {
+            for (Week week : tutorial.getTimeTable().getWeeks()) {
+                for (Student student : tutorial.getStudents()) {
+                    present += tutorial.getAttendance().isPresent(week, student) ? 1 : 0;
+                    total++;
+                }
+            }
+        }
+        assertTrue(Math.abs((double) present / total - 0.6) < 0.05);
+    }
+
+    @Test
+    public void withModules_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withModules(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withAttendanceRate(1.5));
+    }
+
+    private static String toJson(Application application) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableApplication(application));
+    }
+}
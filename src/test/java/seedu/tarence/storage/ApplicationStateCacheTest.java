@@ -0,0 +1,58 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ApplicationStateCacheTest {
+
+    private static ApplicationStateCache.CachedState state(int index, long estimatedSize) {
+        return new ApplicationStateCache.CachedState(index, new LinkedHashMap<>(), "null", null, estimatedSize,
+                false);
+    }
+
+    @Test
+    public void evictOverflow_exceedsMemoryLimit_evictsOldestStates() {
+        ApplicationStateCache stateCache = new ApplicationStateCache(100);
+        stateCache.add(state(1, 40));
+        stateCache.add(state(2, 40));
+        assertTrue(stateCache.evictOverflow().isEmpty());
+
+        stateCache.add(state(3, 40));
+        List<ApplicationStateCache.CachedState> evictedStates = stateCache.evictOverflow();
+        assertEquals(1, evictedStates.size());
+        assertEquals(1, evictedStates.get(0).getIndex());
+        assertEquals(2, stateCache.getOldest().getIndex());
+        assertEquals(80, stateCache.getEstimatedSize());
+    }
+
+    @Test
+    public void evictOverflow_latestStateExceedsMemoryLimit_keepsLatestState() {
+        ApplicationStateCache stateCache = new ApplicationStateCache(0);
+        stateCache.add(state(1, 10));
+        stateCache.add(state(2, 10));
+
+        assertEquals(1, stateCache.evictOverflow().size());
+        assertEquals(2, stateCache.getLatest().getIndex());
+        assertEquals(2, stateCache.getOldest().getIndex());
+    }
+
+    @Test
+    public void discardAfter_validIndex_removesLaterStates() {
+        ApplicationStateCache stateCache = new ApplicationStateCache(100);
+        stateCache.add(state(1, 10));
+        stateCache.add(state(2, 10));
+        stateCache.add(state(3, 10));
+
+        stateCache.discardAfter(1);
+        assertEquals(1, stateCache.getLatest().getIndex());
+        assertEquals(10, stateCache.getEstimatedSize());
+        assertFalse(stateCache.get(2).isPresent());
+        assertTrue(stateCache.get(1).isPresent());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.model.Application;
+import seedu.tarence.model.builder.ModuleBuilder;
+
+public class BinaryApplicationCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_noCache_returnsEmpty() {
+        assertFalse(new BinaryApplicationCache(testFolder.resolve("application.json")).read().isPresent());
+    }
+
+    @Test
+    public void read_dataFileUnchanged_returnsCachedApplication() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        Application application = createApplication("CS1010");
+        new JsonApplicationStorage(filePath).saveApplication(application);
+
+        BinaryApplicationCache cache = new BinaryApplicationCache(filePath);
+        cache.write(application);
+        assertTrue(Files.exists(cache.getCachePath()));
+        assertEquals(application.getModuleList(), cache.read().get().getModuleList());
+    }
+
+    @Test
+    public void read_dataFileChangedAfterCaching_returnsEmpty() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        JsonApplicationStorage storage = new JsonApplicationStorage(filePath);
+        Application application = createApplication("CS1010");
+        storage.saveApplication(application);
+        BinaryApplicationCache cache = new BinaryApplicationCache(filePath);
+        cache.write(application);
+
+        storage.saveApplication(createApplication("CS2030"));
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_corruptedCache_returnsEmpty() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        Application application = createApplication("CS1010");
+        new JsonApplicationStorage(filePath).saveApplication(application);
+        BinaryApplicationCache cache = new BinaryApplicationCache(filePath);
+        cache.write(application);
+
+        byte[] data = Files.readAllBytes(cache.getCachePath());
+        data[data.length - 1] ^= 1;
+        Files.write(cache.getCachePath(), data);
+        assertFalse(cache.read().isPresent());
+    }
+
+    private static Application createApplication(String moduleCode) {
+        Application application = new Application();
+        application.addModule(new ModuleBuilder().withModCode(moduleCode).withTutorials(new ArrayList<>()).build());
+        return application;
+    }
+}
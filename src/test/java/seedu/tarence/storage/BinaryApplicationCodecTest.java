@@ -0,0 +1,118 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.ModCode;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Event;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class BinaryApplicationCodecTest {
+
+    @AfterEach
+    public void resetSemesterStart() {
+        Module.setSemStart(null);
+    }
+
+    @Test
+    public void readApplication_writtenApplication_sameApplication() throws Exception {
+        Module.setSemStart(new Date(1565539200000L));
+        Application application = createApplication();
+        String expectedJson = toJson(application);
+
+        byte[] data = BinaryApplicationCodec.writeApplication(application);
+        Module.setSemStart(null);
+        Application readBack = BinaryApplicationCodec.readApplication(data);
+
+        assertEquals(new Date(1565539200000L), Module.getSemStart());
+        assertEquals(expectedJson, toJson(readBack));
+        assertEquals(application.getStudentList().size(), readBack.getStudentList().size());
+        assertTrue(data.length < JsonUtil.toJsonString(new JsonSerializableApplication(application)).length());
+    }
+
+    @Test
+    public void read_modulesWithoutSemesterStart_semesterStartNotSet() throws Exception {
+        byte[] data = BinaryApplicationCodec.writeModules(createApplication().getModuleList(), "null");
+
+        BinaryApplicationCodec.Contents contents = BinaryApplicationCodec.read(data);
+        assertEquals("null", contents.getSemesterStart());
+        assertEquals(2, contents.getModules().size());
+        assertNull(Module.getSemStart());
+    }
+
+    @Test
+    public void read_corruptedData_throwsIllegalValueException() {
+        byte[] data = BinaryApplicationCodec.writeApplication(createApplication());
+
+        byte[] corrupted = data.clone();
+        corrupted[data.length / 2] ^= 1;
+        assertThrows(IllegalValueException.class, () -> BinaryApplicationCodec.read(corrupted));
+        assertThrows(IllegalValueException.class, () ->
+                BinaryApplicationCodec.read(Arrays.copyOf(data, data.length - 1)));
+        assertThrows(IllegalValueException.class, () -> BinaryApplicationCodec.read(new byte[0]));
+    }
+
+    /**
+     * Returns an application with attendance, scores and events, and a student without optional fields.
+     */
+    private static Application createApplication() {
+        Tutorial tutorial = new TutorialBuilder().withModCode("CS1010").withTutName("T01")
+                .withStudents(new ArrayList<>()).build();
+        for (int i = 0; i < 10; i++) {
+            StudentBuilder student = new StudentBuilder().withName("Student " + i)
+                    .withEmail("student" + i + "@example.com").withMatricNum(String.format("A%07dZ", i))
+                    .withNusnetId(String.format("e%07d", i)).withModCode("CS1010").withTutName("T01");
+            if (i == 9) {
+                student.withoutMatricNum().withoutNusnetId();
+            }
+            tutorial.addStudent(student.build());
+        }
+        List<Student> students = tutorial.getStudents();
+        for (Week week : tutorial.getTimeTable().getWeeks()) {
+            for (int i = 0; i < students.size(); i++) {
+                tutorial.setAttendance(week, students.get(i), (i + week.week) % 3 == 0);
+            }
+        }
+        Assignment assignment = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+        tutorial.addAssignment(assignment);
+        tutorial.setScore(assignment, students.get(0), 7);
+        tutorial.setScore(assignment, students.get(1), Tutorial.NOT_SUBMITTED);
+        tutorial.addEvent(new Event("Consultation", new Date(90000000L), new Date(90500000L)));
+
+        Tutorial emptyTutorial = new TutorialBuilder().withModCode("CS2030").withTutName("T02")
+                .withStudents(new ArrayList<>()).build();
+
+        Application application = new Application();
+        for (Tutorial t : List.of(tutorial, emptyTutorial)) {
+            application.addModule(new Module(t.getModCode(), new ArrayList<>(List.of(t))));
+            application.addTutorial(t);
+            t.getStudents().forEach(application::addStudentIgnoreDuplicates);
+        }
+        assertEquals(new ModCode("CS2030"), application.getModuleList().get(1).getModCode());
+        return application;
+    }
+
+    private static String toJson(ReadOnlyApplication application) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableApplication(application));
+    }
+}
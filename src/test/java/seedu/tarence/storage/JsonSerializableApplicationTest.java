@@ -1,10 +1,15 @@
 package seedu.tarence.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.tarence.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +18,7 @@ import seedu.tarence.commons.exceptions.DataConversionException;
 import seedu.tarence.commons.exceptions.IllegalValueException;
 import seedu.tarence.commons.util.JsonUtil;
 import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.module.ModCode;
 import seedu.tarence.model.module.Module;
 import seedu.tarence.model.tutorial.Tutorial;
 
@@ -78,4 +84,55 @@ public class JsonSerializableApplicationTest {
                 dataFromFileString.contains(classIdentifier));
     }
 
+    @Test
+    public void toModelType_legacyFileSavedInCurrentFormat_sameApplication() throws Exception {
+        JsonSerializableApplication dataFromFile = JsonUtil.readJsonFile(VALID_APPLICATION,
+                JsonSerializableApplication.class).get();
+        assertEquals(1, dataFromFile.getVersion());
+        ReadOnlyApplication applicationFromFile = dataFromFile.toModelType();
+
+        String migratedJson = JsonUtil.toJsonString(new JsonSerializableApplication(applicationFromFile));
+        assertFalse(migratedJson.contains("tutorialMap"));
+        JsonSerializableApplication migratedData = JsonUtil.fromJsonString(migratedJson,
+                JsonSerializableApplication.class);
+        assertEquals(JsonSerializableApplication.STORAGE_FORMAT_VERSION, migratedData.getVersion());
+
+        ReadOnlyApplication migratedApplication = migratedData.toModelType();
+        assertEquals(applicationFromFile.getModuleList(), migratedApplication.getModuleList());
+        assertEquals(applicationFromFile.getTutorialList(), migratedApplication.getTutorialList());
+    }
+
+    @Test
+    public void toModelType_manyModules_modulesInSavedOrder() throws Exception {
+        List<JsonAdaptedModule> modules = new ArrayList<>();
+        List<String> moduleCodes = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            String moduleCode = String.format("CS%04d", 9999 - i);
+            modules.add(new JsonAdaptedModule(moduleCode, new LinkedHashMap<>(), "null"));
+            moduleCodes.add(moduleCode);
+        }
+
+        ReadOnlyApplication application = new JsonSerializableApplication(modules).toModelType();
+        assertEquals(moduleCodes, application.getModuleList().stream()
+                .map(module -> module.getModCode().toString()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void toModelType_severalInvalidModules_firstSavedErrorThrown() {
+        List<JsonAdaptedModule> modules = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            modules.add(new JsonAdaptedModule(String.format("CS%04d", i), new LinkedHashMap<>(), "null"));
+        }
+        modules.set(10, new JsonAdaptedModule(JsonAdaptedModuleTest.INVALID_MODULE_CODE, new LinkedHashMap<>(),
+                "null"));
+        modules.set(50, new JsonAdaptedModule(JsonAdaptedModuleTest.VALID_MODULE_CODE, new LinkedHashMap<>(),
+                "Not a date"));
+        JsonSerializableApplication application = new JsonSerializableApplication(modules);
+
+        String expectedMessage = String.format(JsonAdaptedModule.INVALID_FIELD, Module.class.getSimpleName()) + " "
+                + JsonAdaptedModuleTest.INVALID_MODULE_CODE + " " + ModCode.MESSAGE_CONSTRAINTS;
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, expectedMessage, application::toModelType);
+        }
+    }
 }
@@ -1,18 +1,28 @@
 package seedu.tarence.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.tarence.commons.exceptions.DataConversionException;
 import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.model.Application;
 import seedu.tarence.model.Model;
 import seedu.tarence.model.ModelManager;
 import seedu.tarence.model.ReadOnlyApplication;
 import seedu.tarence.model.UserPrefs;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
 import seedu.tarence.model.module.ModCode;
 import seedu.tarence.model.module.Module;
 import seedu.tarence.model.tutorial.Tutorial;
@@ -23,6 +33,9 @@ public class JsonStateStorageTest {
             "JsonSerializableApplicationTest");
     private static final Path VALID_APPLICATION = TEST_DATA_FOLDER.resolve("validApplication.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void saveApplicationState_noChangeInState_successfulExecution() throws IllegalValueException,
             DataConversionException, IOException {
@@ -69,4 +82,111 @@ public class JsonStateStorageTest {
 
         jsonStateStorage.clearStateFolder();
     }
+
+    @Test
+    public void saveApplicationState_modifiedTutorial_savesNewState() throws IOException {
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(testFolder.toString(), "states");
+        Tutorial tutorial = new TutorialBuilder().withModCode("CS1010").withStudents(new ArrayList<>()).build();
+        Application application = new Application();
+        application.addModule(new Module(new ModCode("CS1010"), new ArrayList<>(List.of(tutorial))));
+        application.addModule(new Module(new ModCode("CS1020"), new ArrayList<>()));
+        jsonStateStorage.saveFirstState(application);
+
+        // An unmodified application does not create a new state
+        jsonStateStorage.saveApplicationState(application);
+        assertEquals(1, (int) jsonStateStorage.getLatestStateIndex());
+
+        // A change within a tutorial is detected without any change to the module list
+        tutorial.addStudent(new StudentBuilder().withModCode("CS1010").withTutName("T01").build());
+        jsonStateStorage.saveApplicationState(application);
+        assertEquals(2, (int) jsonStateStorage.getLatestStateIndex());
+
+        ReadOnlyApplication firstState = jsonStateStorage.getSpecifiedState(1);
+        assertEquals(0, firstState.getModuleList().get(0).getTutorials().get(0).getStudents().size());
+        assertEquals(2, firstState.getModuleList().size());
+    }
+
+    @Test
+    public void getSpecifiedState_stateInMemory_doesNotReadDisk() throws IOException {
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(testFolder.toString(), "states");
+        Application application = new Application();
+        jsonStateStorage.saveFirstState(application);
+
+        for (int i = 1; i <= JsonStateStorage.SNAPSHOT_INTERVAL + 2; i++) {
+            application.addModule(new Module(new ModCode("CS" + (1000 + i)), new ArrayList<>()));
+            jsonStateStorage.saveApplicationState(application);
+        }
+
+        // Nothing is spilled to disk while the states fit in memory
+        jsonStateStorage.waitForPendingSpills();
+        assertFalse(Files.exists(jsonStateStorage.getJournalFilePath()));
+        assertFalse(Files.exists(jsonStateStorage.getFilePathFromIndex(1)));
+
+        ReadOnlyApplication secondState = jsonStateStorage.getSpecifiedState(2);
+        assertEquals(1, secondState.getModuleList().size());
+        assertEquals(2, (int) jsonStateStorage.getLatestStateIndex());
+
+        ReadOnlyApplication firstState = jsonStateStorage.getSpecifiedState(1);
+        assertEquals(0, firstState.getModuleList().size());
+    }
+
+    @Test
+    public void getSpecifiedState_acrossSnapshot_rebuildsStateFromJournal() throws IOException {
+        // Only the latest state is kept in memory, so every other state is spilled to disk
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(testFolder.toString(), "states", 0);
+        Application application = new Application();
+        jsonStateStorage.saveFirstState(application);
+
+        int numOfModules = JsonStateStorage.SNAPSHOT_INTERVAL + 2;
+        for (int i = 1; i <= numOfModules; i++) {
+            application.addModule(new Module(new ModCode("CS" + (1000 + i)), new ArrayList<>()));
+            jsonStateStorage.saveApplicationState(application);
+        }
+
+        // Saving an unchanged application does not create a new state
+        jsonStateStorage.saveApplicationState(application);
+        assertEquals(numOfModules + 1, (int) jsonStateStorage.getLatestStateIndex());
+
+        // Only the first state and every SNAPSHOT_INTERVAL-th state are kept as full snapshots
+        jsonStateStorage.waitForPendingSpills();
+        assertTrue(Files.exists(jsonStateStorage.getFilePathFromIndex(1)));
+        assertTrue(Files.exists(jsonStateStorage.getFilePathFromIndex(JsonStateStorage.SNAPSHOT_INTERVAL)));
+        assertFalse(Files.exists(jsonStateStorage.getFilePathFromIndex(2)));
+        assertTrue(Files.exists(jsonStateStorage.getJournalFilePath()));
+
+        ReadOnlyApplication thirdState = jsonStateStorage.getSpecifiedState(3);
+        assertEquals(2, thirdState.getModuleList().size());
+        assertEquals(new ModCode("CS1002"), thirdState.getModuleList().get(1).getModCode());
+        assertEquals(3, (int) jsonStateStorage.getLatestStateIndex());
+        assertFalse(Files.exists(jsonStateStorage.getFilePathFromIndex(JsonStateStorage.SNAPSHOT_INTERVAL)));
+
+        // The journal continues from the restored state
+        application = new Application(thirdState);
+        application.removeModule(application.getModuleList().get(0));
+        jsonStateStorage.saveApplicationState(application);
+        assertEquals(4, (int) jsonStateStorage.getLatestStateIndex());
+
+        ReadOnlyApplication firstState = jsonStateStorage.getSpecifiedState(1);
+        assertEquals(0, firstState.getModuleList().size());
+    }
+
+    @Test
+    public void getSpecifiedState_jsonSnapshots_rebuildsStateFromSnapshot() throws IOException {
+        JsonStateStorage jsonStateStorage = new JsonStateStorage(testFolder.toString(), "states", 0, false);
+        Application application = new Application();
+        jsonStateStorage.saveFirstState(application);
+
+        for (int i = 1; i <= JsonStateStorage.SNAPSHOT_INTERVAL + 2; i++) {
+            application.addModule(new Module(new ModCode("CS" + (1000 + i)), new ArrayList<>()));
+            jsonStateStorage.saveApplicationState(application);
+        }
+
+        jsonStateStorage.waitForPendingSpills();
+        Path snapshotPath = jsonStateStorage.getFilePathFromIndex(JsonStateStorage.SNAPSHOT_INTERVAL);
+        assertTrue(snapshotPath.toString().endsWith(".json"));
+        assertTrue(Files.exists(snapshotPath));
+
+        ReadOnlyApplication state = jsonStateStorage.getSpecifiedState(JsonStateStorage.SNAPSHOT_INTERVAL - 1);
+        assertEquals(JsonStateStorage.SNAPSHOT_INTERVAL - 2, state.getModuleList().size());
+    }
 }
@@ -0,0 +1,117 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tarence.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tarence.commons.exceptions.IllegalValueException;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Assignment;
+import seedu.tarence.model.tutorial.Event;
+import seedu.tarence.model.tutorial.Tutorial;
+import seedu.tarence.model.tutorial.Week;
+
+public class JsonTutorialCodecTest {
+
+    @Test
+    public void readTutorials_writtenTutorials_returnsEqualTutorials() throws IllegalValueException {
+        Tutorial tutorial = new TutorialBuilder().withStudents(new ArrayList<>()).build();
+        Student student = new StudentBuilder().withModCode(TutorialBuilder.DEFAULT_MODCODE)
+                .withTutName(TutorialBuilder.DEFAULT_TUTNAME).build();
+        Student studentWithoutIds = new StudentBuilder().withName("Bob").withEmail("bob@example.com")
+                .withoutMatricNum().withoutNusnetId().withModCode(TutorialBuilder.DEFAULT_MODCODE)
+                .withTutName(TutorialBuilder.DEFAULT_TUTNAME).build();
+        tutorial.addStudent(student);
+        tutorial.addStudent(studentWithoutIds);
+        tutorial.setAttendance(new Week(3), student, true);
+
+        Assignment assignment = new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L));
+        tutorial.addAssignment(assignment);
+        tutorial.setScore(assignment, student, 7);
+        tutorial.addEvent(new Event("Consultation", new Date(3000000L), new Date(4000000L)));
+
+        List<Tutorial> tutorials = JsonTutorialCodec.readTutorials(
+                JsonTutorialCodec.writeTutorials(List.of(tutorial)));
+
+        assertEquals(1, tutorials.size());
+        Tutorial tutorialFromJson = tutorials.get(0);
+        assertEquals(tutorial, tutorialFromJson);
+        assertFalse(tutorialFromJson.getStudents().get(1).getMatricNum().isPresent());
+        assertTrue(tutorialFromJson.getAttendance().isPresent(new Week(3), student));
+        assertEquals(tutorial.getAssignmentsForSaving(), tutorialFromJson.getAssignmentsForSaving());
+        assertEquals((int) 7, (int) tutorialFromJson.getAssignmentScore(assignment, student));
+        assertEquals(tutorial.getEventListForSaving(), tutorialFromJson.getEventListForSaving());
+    }
+
+    @Test
+    public void writeTutorials_studentInAttendanceAndScores_studentWrittenOnce() throws IllegalValueException {
+        Tutorial tutorial = new TutorialBuilder().withStudents(new ArrayList<>()).build();
+        Student student = new StudentBuilder().withName("Unique Name").withModCode(TutorialBuilder.DEFAULT_MODCODE)
+                .withTutName(TutorialBuilder.DEFAULT_TUTNAME).build();
+        tutorial.addStudent(student);
+        tutorial.addAssignment(new Assignment("Lab 1", 10, new Date(1000000L), new Date(2000000L)));
+
+        String json = JsonTutorialCodec.writeTutorials(List.of(tutorial));
+        assertEquals(json.indexOf("Unique Name"), json.lastIndexOf("Unique Name"));
+
+        Tutorial tutorialFromJson = JsonTutorialCodec.readTutorials(json).get(0);
+        Student studentFromJson = tutorialFromJson.getStudents().get(0);
+        for (Map<Student, Boolean> week : tutorialFromJson.getAttendance().getAttendance().values()) {
+            assertSame(studentFromJson, week.keySet().iterator().next());
+        }
+        for (Map<Student, Integer> scores : tutorialFromJson.getAssignmentsForSaving().values()) {
+            assertSame(studentFromJson, scores.keySet().iterator().next());
+        }
+    }
+
+    @Test
+    public void readTutorials_studentsWrittenInFull_sharesStudentInstances() throws IllegalValueException {
+        String student = "{\"studentName\":\"Alice\",\"studentEmail\":\"alice@example.com\","
+                + "\"studentMatricNumber\":null,\"studentNusnetId\":null,"
+                + "\"studentModuleCode\":\"CS2100\",\"studentTutorialName\":\"T01\"";
+        String json = "[{\"tutorialName\":\"T01\",\"tutorialDayOfWeek\":\"MONDAY\","
+                + "\"tutorialStartTime\":\"12:00\",\"tutorialWeeks\":[3],\"tutorialDuration\":\"PT1H\","
+                + "\"tutorialModuleCode\":\"CS2100\",\"tutorialStudentList\":[" + student + "}],"
+                + "\"tutorialAttendanceList\":[{\"week\":3,\"students\":[" + student
+                + ",\"studentAttendance\":true}]}],"
+                + "\"tutorialAssignmentList\":[],\"tutorialEventList\":[]}]";
+
+        Tutorial tutorial = JsonTutorialCodec.readTutorials(json).get(0);
+        Student alice = tutorial.getStudents().get(0);
+        assertSame(alice, tutorial.getAttendance().getWeek(new Week(3)).keySet().iterator().next());
+        assertTrue(tutorial.getAttendance().isPresent(new Week(3), alice));
+    }
+
+    @Test
+    public void readTutorials_attendanceOfUnknownStudent_throwsIllegalValueException() {
+        String json = JsonTutorialCodec.writeTutorials(List.of(new TutorialBuilder().withStudents(new ArrayList<>())
+                .build())).replace("\"present\":[]", "\"present\":[0]");
+        assertThrows(IllegalValueException.class, () -> JsonTutorialCodec.readTutorials(json));
+    }
+
+    @Test
+    public void readTutorials_missingField_throwsIllegalValueException() {
+        String json = JsonTutorialCodec.writeTutorials(List.of(new TutorialBuilder().withStudents(new ArrayList<>())
+                .build())).replace(JsonAdaptedModule.TUTORIAL_NAME, "unknownField");
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedModule.MISSING_FIELD_MESSAGE_FORMAT, JsonAdaptedModule.TUTORIAL_NAME), () ->
+                JsonTutorialCodec.readTutorials(json));
+    }
+
+    @Test
+    public void readTutorials_malformedJson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonTutorialCodec.readTutorials("[{\"tutorialName\""));
+        assertThrows(IllegalValueException.class, () -> JsonTutorialCodec.readTutorials("{}"));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MutationLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readRecords_noLog_returnsNoRecords() throws Exception {
+        assertTrue(new MutationLog(testFolder.resolve("application.json")).readRecords().isEmpty());
+    }
+
+    @Test
+    public void readRecords_corruptedRecord_recordsBeforeItReturned() throws Exception {
+        MutationLog log = new MutationLog(testFolder.resolve("application.json"));
+        log.append(List.of(record(0, "CS1010"), record(1, "CS2030"), record(2, "CS2040")));
+
+        // Changes a module code in the second record, which no longer matches its checksum
+        String contents = Files.readString(log.getLogPath(), StandardCharsets.UTF_8);
+        Files.writeString(log.getLogPath(), contents.replace("CS2030", "CS2031"), StandardCharsets.UTF_8);
+
+        List<JsonAdaptedMutationRecord> records = log.readRecords();
+        assertEquals(1, records.size());
+        assertEquals(0, records.get(0).getSequenceNumber());
+    }
+
+    @Test
+    public void readRecords_recordOutOfSequence_recordsBeforeItReturned() throws Exception {
+        MutationLog log = new MutationLog(testFolder.resolve("application.json"));
+        log.append(List.of(record(4, "CS1010"), record(5, "CS2030")));
+        log.append(List.of(record(7, "CS2040")));
+
+        assertEquals(2, log.readRecords().size());
+    }
+
+    @Test
+    public void delete_logDeleted() throws Exception {
+        MutationLog log = new MutationLog(testFolder.resolve("application.json"));
+        log.append(List.of(record(0, "CS1010")));
+        assertEquals(testFolder.resolve("application.json.log"), log.getLogPath());
+
+        log.delete();
+        assertFalse(Files.exists(log.getLogPath()));
+    }
+
+    private static JsonAdaptedMutationRecord record(long sequenceNumber, String moduleCode) {
+        return new JsonAdaptedMutationRecord(sequenceNumber, List.of(moduleCode), new LinkedHashMap<>());
+    }
+}
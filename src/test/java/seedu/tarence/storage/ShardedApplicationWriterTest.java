@@ -0,0 +1,95 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.tutorial.Tutorial;
+
+public class ShardedApplicationWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_oneModuleChanged_onlyThatModuleWritten() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        ShardedApplicationWriter writer = new ShardedApplicationWriter(filePath);
+        List<JsonAdaptedModule> modules = new ArrayList<>();
+        for (String modCode : List.of("CS1010", "CS2030", "CS2040")) {
+            modules.add(new JsonAdaptedModule(new ModuleBuilder().withModCode(modCode)
+                    .withTutorials(new ArrayList<>()).build()));
+        }
+        assertEquals(3, writer.write(modules));
+
+        Module changedModule = new ModuleBuilder().withModCode("CS2030").withTutorials(new ArrayList<>()).build();
+        changedModule.addTutorial(new TutorialBuilder().withModCode("CS2030").withStudents(new ArrayList<>()).build());
+        modules.set(1, new JsonAdaptedModule(changedModule));
+        assertEquals(1, writer.write(modules));
+
+        assertEquals(List.of("CS1010.0.json", "CS2030.1.json", "CS2040.0.json"), listShards(filePath));
+        Application readBack = (Application) new JsonApplicationStorage(filePath).readApplication().get();
+        assertEquals(List.of("CS1010", "CS2030", "CS2040"), readBack.getModuleList().stream()
+                .map(module -> module.getModCode().toString()).collect(Collectors.toList()));
+        assertEquals(1, readBack.getModuleList().get(1).getTutorials().size());
+    }
+
+    @Test
+    public void write_shardsLeftByEarlierSession_laterGenerationWrittenAndEarlierDeleted() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        Path shardFolder = Files.createDirectory(ShardedApplicationWriter.getShardFolder(filePath));
+        // Written by a checkpoint that did not finish, so it is not listed in any manifest
+        Files.writeString(shardFolder.resolve("CS1010.4.json"), "{");
+
+        new ShardedApplicationWriter(filePath).write(List.of(new JsonAdaptedModule(new ModuleBuilder()
+                .withModCode("CS1010").withTutorials(new ArrayList<>()).build())));
+        assertEquals(List.of("CS1010.5.json"), listShards(filePath));
+    }
+
+    @Test
+    public void saveApplication_inlineDataFile_rewrittenAsManifest() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        Application application = new Application();
+        Module module = new ModuleBuilder().withModCode("CS1010").withTutorials(new ArrayList<>()).build();
+        Tutorial tutorial = new TutorialBuilder().withModCode("CS1010").withStudents(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        application.addModule(module);
+        application.addTutorial(tutorial);
+        JsonUtil.saveJsonFile(new JsonSerializableApplication(application), filePath);
+
+        JsonApplicationStorage storage = new JsonApplicationStorage(filePath);
+        ReadOnlyApplication readBack = storage.readApplication().get();
+        assertEquals(toJson(application), toJson(readBack));
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonApplicationManifest.class).get().isSharded());
+
+        storage.saveApplication(readBack);
+        assertTrue(JsonUtil.readJsonFile(filePath, JsonApplicationManifest.class).get().isSharded());
+        assertEquals(toJson(application), toJson(storage.readApplication().get()));
+    }
+
+    private static List<String> listShards(Path filePath) throws Exception {
+        try (Stream<Path> shards = Files.list(ShardedApplicationWriter.getShardFolder(filePath))) {
+            return shards.map(shard -> shard.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static String toJson(ReadOnlyApplication application) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableApplication(application));
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.tarence.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tarence.commons.util.FileUtil;
+import seedu.tarence.commons.util.JsonUtil;
+import seedu.tarence.model.Application;
+import seedu.tarence.model.ReadOnlyApplication;
+import seedu.tarence.model.builder.ModuleBuilder;
+import seedu.tarence.model.builder.StudentBuilder;
+import seedu.tarence.model.builder.TutorialBuilder;
+import seedu.tarence.model.module.Module;
+import seedu.tarence.model.student.Student;
+import seedu.tarence.model.tutorial.Tutorial;
+
+public class WriteBehindApplicationSaverTest {
+    // Long enough that nothing is written in the background while a test runs
+    private static final long NEVER = 60 * 60 * 1000;
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindApplicationSaver saver;
+
+    @AfterEach
+    public void tearDown() {
+        if (saver != null) {
+            try {
+                saver.close();
+            } catch (IOException e) {
+                // failures are expected by some tests
+            }
+        }
+    }
+
+    @Test
+    public void save_severalSaves_onlyLatestWrittenOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, NEVER);
+        Application application = new Application();
+        Tutorial tutorial = addTutorial(application, addModule(application, "CS1010"), "T01");
+
+        saver.save(application);
+        addStudent(application, tutorial, "Alice");
+        saver.save(application);
+        addStudent(application, tutorial, "Bob");
+        saver.save(application);
+        assertFalse(Files.exists(filePath));
+
+        saver.flush();
+        assertSavedAs(application, filePath);
+    }
+
+    @Test
+    public void save_moduleModifiedAfterEarlierSave_modifiedModuleWritten() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, 0);
+        Application application = new Application();
+        addTutorial(application, addModule(application, "CS1010"), "T01");
+        Tutorial tutorial = addTutorial(application, addModule(application, "CS2030"), "T01");
+        saver.save(application);
+        saver.flush();
+
+        addStudent(application, tutorial, "Alice");
+        saver.save(application);
+        saver.flush();
+        assertSavedAs(application, filePath);
+    }
+
+    @Test
+    public void save_afterCheckpoint_changesOnlyLogged() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, 0);
+        Application application = new Application();
+        Tutorial tutorial = addTutorial(application, addModule(application, "CS1010"), "T01");
+        addModule(application, "CS2030");
+        saver.save(application);
+        saver.flush();
+        String checkpoint = FileUtil.readFromFile(filePath);
+
+        addStudent(application, tutorial, "Alice");
+        saver.save(application);
+        saver.flush();
+        application.removeModule(application.getModuleList().get(1));
+        saver.save(application);
+        saver.flush();
+
+        assertEquals(checkpoint, FileUtil.readFromFile(filePath));
+        assertEquals(2, new MutationLog(filePath).readRecords().size());
+        assertSavedAs(application, filePath);
+    }
+
+    @Test
+    public void save_enoughRecordsLogged_checkpointWrittenAndLogDeleted() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, 0, 3, WriteBehindApplicationSaver.DEFAULT_CHECKPOINT_BYTES);
+        Application application = new Application();
+        Tutorial tutorial = addTutorial(application, addModule(application, "CS1010"), "T01");
+        saver.save(application);
+        saver.flush();
+
+        for (int i = 0; i < 3; i++) {
+            addStudent(application, tutorial, "Student" + i);
+            saver.save(application);
+            saver.flush();
+        }
+        assertFalse(Files.exists(MutationLog.getLogPath(filePath)));
+        assertSavedAs(application, filePath);
+    }
+
+    @Test
+    public void readApplication_logTruncatedAtRandomOffsets_recoversLatestCompleteRecord() throws Exception {
+        Path filePath = testFolder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, 0);
+        Application application = new Application();
+        Tutorial tutorial = addTutorial(application, addModule(application, "CS1010"), "T01");
+        saver.save(application);
+        saver.flush();
+
+        // The state after each record, and the offset of the end of each record in the log
+        List<String> states = new ArrayList<>(List.of(toJson(application)));
+        List<Long> recordEnds = new ArrayList<>();
+        Path logPath = MutationLog.getLogPath(filePath);
+        for (int i = 0; i < 6; i++) {
+            if (i % 3 == 2) {
+                addTutorial(application, addModule(application, "CS20" + (30 + i)), "T01");
+            } else {
+                addStudent(application, tutorial, "Student" + i);
+            }
+            saver.save(application);
+            saver.flush();
+            states.add(toJson(application));
+            recordEnds.add(Files.size(logPath));
+        }
+        byte[] log = Files.readAllBytes(logPath);
+        byte[] manifest = Files.readAllBytes(filePath);
+        Path shardFolder = ShardedApplicationWriter.getShardFolder(filePath);
+
+        Random random = new Random(12);
+        for (int trial = 0; trial < 30; trial++) {
+            int offset = trial == 0 ? log.length : random.nextInt(log.length);
+            Path crashedFolder = Files.createDirectory(testFolder.resolve("crash" + trial));
+            Path crashedFilePath = crashedFolder.resolve("application.json");
+            Files.write(crashedFilePath, manifest);
+            Path crashedShardFolder = Files.createDirectory(ShardedApplicationWriter.getShardFolder(crashedFilePath));
+            try (Stream<Path> shards = Files.list(shardFolder)) {
+                for (Path shard : shards.collect(Collectors.toList())) {
+                    Files.copy(shard, crashedShardFolder.resolve(shard.getFileName()));
+                }
+            }
+            Files.write(MutationLog.getLogPath(crashedFilePath), Arrays.copyOf(log, offset));
+
+            // A record is complete once everything but its line break has been written
+            int completeRecords = 0;
+            while (completeRecords < recordEnds.size() && recordEnds.get(completeRecords) - 1 <= offset) {
+                completeRecords++;
+            }
+            assertEquals(states.get(completeRecords),
+                    toJson(new JsonApplicationStorage(crashedFilePath).readApplication().get()));
+        }
+    }
+
+    @Test
+    public void flush_writeFails_failureReportedAndRetried() throws Exception {
+        // The data file cannot be written while a file is in the place of its folder
+        Path folder = Files.createFile(testFolder.resolve("data"));
+        Path filePath = folder.resolve("application.json");
+        saver = new WriteBehindApplicationSaver(filePath, 0);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+        Application application = new Application();
+        addTutorial(application, addModule(application, "CS1010"), "T01");
+
+        saver.save(application);
+        IOException failure = assertThrows(IOException.class, saver::flush);
+        assertSame(failures.get(failures.size() - 1), failure);
+
+        // The snapshot that failed to be written is written once the data file can be written
+        Files.delete(folder);
+        saver.flush();
+        assertSavedAs(application, filePath);
+    }
+
+    private static Module addModule(Application application, String modCode) {
+        Module module = new ModuleBuilder().withModCode(modCode).withTutorials(new ArrayList<>()).build();
+        application.addModule(module);
+        return module;
+    }
+
+    private static Tutorial addTutorial(Application application, Module module, String tutName) {
+        Tutorial tutorial = new TutorialBuilder().withModCode(module.getModCode()).withTutName(tutName)
+                .withStudents(new ArrayList<>()).build();
+        module.addTutorial(tutorial);
+        application.addTutorial(tutorial);
+        return tutorial;
+    }
+
+    private static void addStudent(Application application, Tutorial tutorial, String name) {
+        Student student = new StudentBuilder().withName(name).withEmail(name.toLowerCase() + "@example.com")
+                .withModCode(tutorial.getModCode().toString()).withTutName(tutorial.getTutName().toString())
+                .withoutMatricNum().withoutNusnetId().build();
+        application.addStudent(student);
+        application.addStudentToTutorial(student);
+    }
+
+    /**
+     * Asserts that reading the data file, together with its log, gives the given application.
+     */
+    private static void assertSavedAs(ReadOnlyApplication application, Path filePath) throws Exception {
+        assertEquals(toJson(application), toJson(new JsonApplicationStorage(filePath).readApplication().get()));
+    }
+
+    private static String toJson(ReadOnlyApplication application) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableApplication(application));
+    }
+}